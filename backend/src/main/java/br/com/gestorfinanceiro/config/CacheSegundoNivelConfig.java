@@ -0,0 +1,68 @@
+package br.com.gestorfinanceiro.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Cache de segundo nível do Hibernate para entidades lidas muito mais do que escritas
+ * (usuários, categorias e orçamentos), com TTL e tamanho máximo por região.
+ *
+ * O CacheManager é criado por este contexto, e não pego do provider global do JCache: dois contextos
+ * na mesma JVM (ex.: testes com propriedades diferentes) não compartilham nem fecham as regiões um do outro.
+ * As regiões são criadas aqui; com missing_cache_strategy=fail, uma região sem configuração derruba a inicialização.
+ */
+@Configuration
+public class CacheSegundoNivelConfig {
+
+    public static final String USUARIOS = "usuarios";
+    public static final String USUARIOS_POR_EMAIL = "usuarios-por-email";
+    public static final String CATEGORIAS = "categorias";
+    public static final String ORCAMENTOS = "orcamentos";
+
+    public static final List<String> REGIOES = List.of(USUARIOS, USUARIOS_POR_EMAIL, CATEGORIAS, ORCAMENTOS);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerSegundoNivel(
+            @Value("${cache.segundo-nivel.usuarios.ttl:PT30M}") Duration ttlUsuarios,
+            @Value("${cache.segundo-nivel.usuarios.tamanho-maximo:10000}") long tamanhoUsuarios,
+            @Value("${cache.segundo-nivel.categorias.ttl:PT30M}") Duration ttlCategorias,
+            @Value("${cache.segundo-nivel.categorias.tamanho-maximo:100000}") long tamanhoCategorias,
+            @Value("${cache.segundo-nivel.orcamentos.ttl:PT10M}") Duration ttlOrcamentos,
+            @Value("${cache.segundo-nivel.orcamentos.tamanho-maximo:50000}") long tamanhoOrcamentos) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        // O id do usuário por email segue a mesma validade da entidade
+        cacheManager.createCache(USUARIOS, configuracao(ttlUsuarios, tamanhoUsuarios));
+        cacheManager.createCache(USUARIOS_POR_EMAIL, configuracao(ttlUsuarios, tamanhoUsuarios));
+        cacheManager.createCache(CATEGORIAS, configuracao(ttlCategorias, tamanhoCategorias));
+        cacheManager.createCache(ORCAMENTOS, configuracao(ttlOrcamentos, tamanhoOrcamentos));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelHibernate(CacheManager cacheManagerSegundoNivel) {
+        return propriedades -> propriedades.put(ConfigSettings.CACHE_MANAGER, cacheManagerSegundoNivel);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuracao(Duration ttl, long tamanhoMaximo) {
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        configuracao.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuracao.setMaximumSize(OptionalLong.of(tamanhoMaximo));
+        // As entradas do Hibernate já são cópias desmontadas da entidade: sem serializar a cada get/put
+        configuracao.setStoreByValue(false);
+        // Evictions e tamanho por região em /admin/cache/segundo-nivel
+        configuracao.setNativeStatisticsEnabled(true);
+        return configuracao;
+    }
+}
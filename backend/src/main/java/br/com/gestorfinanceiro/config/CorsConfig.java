@@ -1,5 +1,6 @@
 package br.com.gestorfinanceiro.config;
 
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
@@ -17,6 +18,7 @@ public class CorsConfig {
         config.setAllowedOrigins(List.of("http://localhost:4200", "https://gestao-de-gastos-pessoais.onrender.com"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         config.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        config.setExposedHeaders(List.of(CursorUtils.HEADER_PROXIMO_CURSOR));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,67 @@
+package br.com.gestorfinanceiro.config;
+
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Envia as transações {@code readOnly} para a réplica; escritas e comandos fora de transação ficam no primário.
+ * A chave é decidida quando a conexão física é pedida, por isso este DataSource fica atrás de um
+ * LazyConnectionDataSourceProxy: a conexão só é buscada no primeiro comando, depois de o Spring marcar a transação.
+ *
+ * Leitura das próprias escritas: após o commit de uma escrita, o usuário autenticado lê do primário durante a janela
+ * configurada, tempo para a réplica alcançar o primário. A janela vale por instância da aplicação.
+ */
+public class DataSourceRoteado extends AbstractRoutingDataSource {
+
+    public enum Destino { PRIMARIO, REPLICA }
+
+    private final Cache<String, Boolean> presosAoPrimario;
+
+    public DataSourceRoteado(DataSource primario, DataSource replica, Duration janelaAposEscrita, long maximoUsuarios) {
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        this.presosAoPrimario = Caffeine.newBuilder()
+                .expireAfterWrite(janelaAposEscrita)
+                .maximumSize(maximoUsuarios)
+                .build();
+    }
+
+    @Override
+    protected Destino determineCurrentLookupKey() {
+        String userId = usuarioAutenticado();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return userId != null && presosAoPrimario.getIfPresent(userId) != null ? Destino.PRIMARIO : Destino.REPLICA;
+        }
+
+        // A janela começa no commit: antes dele a réplica não tem como ter recebido a escrita
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    presosAoPrimario.put(userId, Boolean.TRUE);
+                }
+            });
+        }
+        return Destino.PRIMARIO;
+    }
+
+    // Tarefas em segundo plano e o JwtFilter (antes da autenticação) não têm usuário: leem da réplica sem janela
+    private static String usuarioAutenticado() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser usuario) {
+            return usuario.userId();
+        }
+        return null;
+    }
+}
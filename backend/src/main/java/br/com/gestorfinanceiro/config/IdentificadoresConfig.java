@@ -0,0 +1,19 @@
+package br.com.gestorfinanceiro.config;
+
+import br.com.gestorfinanceiro.models.GeradorIdentificadorOrdenado;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Leva identificadores.ordenados até o gerador de ids, que é criado pelo Hibernate e não é um bean do Spring.
+ */
+@Configuration
+public class IdentificadoresConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer identificadoresOrdenados(@Value("${identificadores.ordenados:false}") boolean ordenados) {
+        return propriedades -> propriedades.put(GeradorIdentificadorOrdenado.PROPRIEDADE_ORDENADOS, ordenados);
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.gestorfinanceiro.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timer por método público dos *ServiceImpl e das consultas em repositories.custom.impl, com as tags
+ * class, method e exception. Os histogramas de percentis e os limites dos buckets ficam em
+ * management.metrics.distribution.* (application.properties), valendo para os dois timers pelo prefixo.
+ *
+ * Chamadas internas da própria classe (this.metodo()) não passam pelo proxy e não são medidas separadamente.
+ */
+@Aspect
+@Component
+public class MetricasAspect {
+
+    public static final String TIMER_SERVICOS = "gestorfinanceiro.servicos";
+    public static final String TIMER_CONSULTAS = "gestorfinanceiro.consultas";
+
+    private static final String SEM_EXCECAO = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * br.com.gestorfinanceiro.services.impl.*ServiceImpl.*(..))")
+    public Object medirServico(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir(TIMER_SERVICOS, joinPoint);
+    }
+
+    @Around("execution(public * br.com.gestorfinanceiro.repositories.custom.impl.*.*(..))")
+    public Object medirConsulta(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir(TIMER_CONSULTAS, joinPoint);
+    }
+
+    private Object medir(String nome, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        String excecao = SEM_EXCECAO;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            excecao = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            amostra.stop(Timer.builder(nome)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", excecao)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.gestorfinanceiro.config;
+
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
+import br.com.gestorfinanceiro.dto.common.TransacaoDTO;
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+import br.com.gestorfinanceiro.utils.CursorUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Tamanho das páginas das listagens por cursor.
+ * Sem tamanho na requisição vale o padrão; pedidos acima do máximo são limitados ao máximo.
+ */
+@Component
+public class Paginacao {
+
+    private final int tamanhoPadrao;
+    private final int tamanhoMaximo;
+
+    public Paginacao(@Value("${paginacao.tamanho-padrao:100}") int tamanhoPadrao,
+                     @Value("${paginacao.tamanho-maximo:500}") int tamanhoMaximo) {
+        this.tamanhoPadrao = tamanhoPadrao;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public int resolverTamanho(Integer solicitado) {
+        if (solicitado == null) {
+            return tamanhoPadrao;
+        }
+        if (solicitado < 1) {
+            throw new InvalidDataException("O tamanho da página deve ser maior que zero.");
+        }
+        return Math.min(solicitado, tamanhoMaximo);
+    }
+
+    // Recebe até limite + 1 itens: se o item extra veio, há próxima página e o cursor aponta para o último item entregue
+    public <T extends TransacaoDTO> PaginaDTO<T> montarPagina(List<T> itens, int limite) {
+        if (itens.size() <= limite) {
+            return new PaginaDTO<>(itens, null);
+        }
+
+        List<T> pagina = List.copyOf(itens.subList(0, limite));
+        T ultimo = pagina.get(limite - 1);
+        return new PaginaDTO<>(pagina, CursorUtils.codificar(ultimo.getData(), ultimo.getUuid()));
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.gestorfinanceiro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de leitura, ligada só quando datasource.replica.url está configurada; sem ela a aplicação segue
+ * com o DataSource único do Spring Boot.
+ *
+ * O primário continua em spring.datasource.* (pool em spring.datasource.hikari.*) e a réplica fica em
+ * datasource.replica.* (pool em datasource.replica.hikari.*). Os dois pools só são injetados por qualificador:
+ * o único DataSource visível para o JPA é o roteado. As métricas de cada pool saem com a tag pool=primario|replica.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.url")
+public class ReplicaLeituraConfig {
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("primario")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return pool(properties, "primario", meterRegistry);
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties dataSourceReplicaProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource dataSourceReplica(@Qualifier("replica") DataSourceProperties properties,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return pool(properties, "replica", meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primario") HikariDataSource primario,
+                                 @Qualifier("replica") HikariDataSource replica,
+                                 @Value("${datasource.replica.janela-leitura-apos-escrita:PT5S}") Duration janelaAposEscrita,
+                                 @Value("${datasource.replica.maximo-usuarios:10000}") long maximoUsuarios) {
+        DataSourceRoteado roteado = new DataSourceRoteado(primario, replica, janelaAposEscrita, maximoUsuarios);
+        roteado.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteado);
+    }
+
+    // Com o open-in-view a sessão dura a requisição inteira: se a conexão fosse mantida até o fim dela, uma escrita
+    // depois de uma leitura reaproveitaria a conexão da réplica. Devolvendo ao fim de cada transação, cada uma é roteada.
+    @Bean
+    public HibernatePropertiesCustomizer conexaoPorTransacao() {
+        return propriedades -> propriedades.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // Os pools não são candidatos padrão e o DataSource exposto é o proxy: o tracker é ligado aqui, antes de o pool iniciar
+    private static HikariDataSource pool(DataSourceProperties properties, String nome, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(nome);
+        meterRegistry.ifAvailable(registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.gestorfinanceiro.config.security;
+
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.Roles;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Principal imutável colocado no SecurityContext pelo {@link JwtFilter}.
+ * Os controllers recebem este objeto como argumento, sem precisar reler o token.
+ */
+public record AuthenticatedUser(String userId, String email, Roles role, boolean estaAtivo) {
+
+    public static AuthenticatedUser from(UserEntity user) {
+        return new AuthenticatedUser(
+                user.getUuid(),
+                user.getEmail(),
+                user.getRole(),
+                Boolean.TRUE.equals(user.getEstaAtivo()));
+    }
+
+    public static AuthenticatedUser from(Claims claims) {
+        String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+        return new AuthenticatedUser(
+                claims.get(JwtUtil.ID_CLAIM, String.class),
+                claims.get(JwtUtil.EMAIL_CLAIM, String.class),
+                role != null ? Roles.valueOf(role) : null,
+                Boolean.parseBoolean(claims.get(JwtUtil.ESTA_ATIVO_CLAIM, String.class)));
+    }
+
+    public String authority() {
+        return "ROLE_" + role;
+    }
+}
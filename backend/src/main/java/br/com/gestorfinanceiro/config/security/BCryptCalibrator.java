@@ -0,0 +1,49 @@
+package br.com.gestorfinanceiro.config.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Escolhe o custo (strength) do BCrypt medindo o tempo de hash nesta máquina.
+ * O tempo dobra a cada ponto de custo, então o maior custo dentro da latência alvo é o escolhido.
+ */
+public final class BCryptCalibrator {
+
+    // Custo mínimo aceito, mesmo que a máquina seja lenta demais para a latência alvo
+    public static final int STRENGTH_MINIMA = 10;
+    public static final int STRENGTH_MAXIMA = 16;
+
+    private static final String SENHA_DE_CALIBRACAO = "calibracao-bcrypt";
+
+    private BCryptCalibrator() {
+    }
+
+    public static int calibrar(Duration latenciaAlvo) {
+        long alvoNanos = latenciaAlvo.toNanos();
+
+        // Aquece o BCrypt/JIT antes de medir
+        new BCryptPasswordEncoder(STRENGTH_MINIMA).encode(SENHA_DE_CALIBRACAO);
+
+        int escolhida = STRENGTH_MINIMA;
+        for (int strength = STRENGTH_MINIMA; strength <= STRENGTH_MAXIMA; strength++) {
+            long duracao = medir(strength);
+            if (duracao > alvoNanos) {
+                break;
+            }
+            escolhida = strength;
+            // O próximo custo levaria o dobro do tempo: não vale medir se já passaria do alvo
+            if (duracao * 2 > alvoNanos) {
+                break;
+            }
+        }
+        return escolhida;
+    }
+
+    private static long medir(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long inicio = System.nanoTime();
+        encoder.encode(SENHA_DE_CALIBRACAO);
+        return System.nanoTime() - inicio;
+    }
+}
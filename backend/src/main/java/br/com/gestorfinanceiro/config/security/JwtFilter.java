@@ -1,7 +1,8 @@
 package br.com.gestorfinanceiro.config.security;
 
-import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,9 +25,12 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepository;
 
-    public JwtFilter(UserRepository userRepository, JwtUtil jwtUtil) {
+    private final PrincipalCache principalCache;
+
+    public JwtFilter(UserRepository userRepository, JwtUtil jwtUtil, PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -36,25 +40,43 @@ public class JwtFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         String token = recoverToken(request);
 
-        if (token != null) {
-            String role = jwtUtil.extractUserRole(token);
-            String email = jwtUtil.extractUserEmail(token);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser principal = authenticate(token);
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserEntity userEntity = userRepository.findByEmail(email).orElse(null);
-                if (jwtUtil.validateToken(token, email)) {
-                    List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+            if (principal != null) {
+                List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(principal.authority()));
 
-                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userEntity, null, authorities);
+                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(principal, null, authorities);
 
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+                SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    // Valida o token uma única vez (assinatura + expiração) e monta o principal da requisição
+    private AuthenticatedUser authenticate(String token) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        String userId = claims.get(JwtUtil.ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+
+        // Role e status do banco têm prioridade sobre os do token, que podem estar desatualizados.
+        // O resultado fica em cache para não consultar o banco a cada requisição.
+        // Usuário excluído: o token continua válido, mas a requisição segue sem autenticação.
+        return principalCache.get(userId, id -> userRepository.findByIdNoPrimario(id)
+                .map(AuthenticatedUser::from)
+                .orElse(null));
+    }
+
     private String recoverToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token == null || !token.startsWith("Bearer ")) {
@@ -62,4 +84,4 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         return token.replace("Bearer ", "");
     }
-}
\ No newline at end of file
+}
@@ -14,18 +14,29 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
+    static final String ESTA_ATIVO_CLAIM = "estaAtivo";
+    static final String ROLE_CLAIM = "role";
+    static final String ID_CLAIM = "id";
+    static final String EMAIL_CLAIM = "email";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtUtil(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
     public String generateToken(String userID, String username, String email, String role, String estaAtivo) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("estaAtivo", estaAtivo);
-        claims.put("role", role);
-        claims.put("id", userID);
-        claims.put("email", email);
+        claims.put(ESTA_ATIVO_CLAIM, estaAtivo);
+        claims.put(ROLE_CLAIM, role);
+        claims.put(ID_CLAIM, userID);
+        claims.put(EMAIL_CLAIM, email);
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(username)
@@ -40,15 +51,15 @@ public class JwtUtil {
     }
 
     public String extractUserRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+        return extractClaim(token, claims -> claims.get(ROLE_CLAIM, String.class));
     }
 
     public String extractUserEmail(String token) {
-        return extractClaim(token, claims -> claims.get("email", String.class));
+        return extractClaim(token, claims -> claims.get(EMAIL_CLAIM, String.class));
     }
 
     public String extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("id", String.class));
+        return extractClaim(token, claims -> claims.get(ID_CLAIM, String.class));
     }
 
     public boolean validateToken(String token, String email) {
@@ -62,11 +73,21 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration).before(new Date());
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parser()
+    // Verifica a assinatura uma única vez e devolve todas as claims.
+    // Tokens já verificados vêm do cache até expirarem, sem repetir o HMAC.
+    // Lança JwtException se o token for inválido ou estiver expirado.
+    public Claims parseClaims(String token) {
+        return verifiedTokenCache.get(token, this::verifyClaims);
+    }
+
+    private Claims verifyClaims(String token) {
+        return Jwts.parser()
                 .setSigningKey(secret)
                 .parseClaimsJws(token)
                 .getBody();
-        return claimsResolver.apply(claims);
     }
-}
\ No newline at end of file
+
+    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        return claimsResolver.apply(parseClaims(token));
+    }
+}
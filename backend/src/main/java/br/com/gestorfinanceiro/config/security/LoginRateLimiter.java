@@ -0,0 +1,176 @@
+package br.com.gestorfinanceiro.config.security;
+
+import br.com.gestorfinanceiro.dto.admin.LimiteLoginEstatisticasDTO;
+import br.com.gestorfinanceiro.exceptions.user.LoginThrottledException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita as tentativas de login por email e por IP com token buckets em memória.
+ * As chaves são distribuídas entre várias faixas (stripes), cada uma com o próprio lock e um LRU limitado,
+ * então não existe lock global e a memória usada não cresce com o número de chaves.
+ * A verificação acontece antes de qualquer consulta ao banco ou hash de senha.
+ * As rejeições também vão para o Micrometer (gestorfinanceiro.login.rejeicoes, tag limite=email|ip).
+ */
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    public static final String METRICA_REJEICOES = "gestorfinanceiro.login.rejeicoes";
+
+    private final Limite porEmail;
+    private final Limite porIp;
+
+    public LoginRateLimiter(@Value("${security.login-limiter.email.capacity:5}") int capacidadeEmail,
+                            @Value("${security.login-limiter.email.refill-per-minute:5}") int recargaEmail,
+                            @Value("${security.login-limiter.ip.capacity:20}") int capacidadeIp,
+                            @Value("${security.login-limiter.ip.refill-per-minute:20}") int recargaIp,
+                            @Value("${security.login-limiter.stripes:64}") int stripes,
+                            @Value("${security.login-limiter.maximum-keys:100000}") int maximoChaves) {
+        this.porEmail = new Limite(capacidadeEmail, recargaEmail, stripes, maximoChaves);
+        this.porIp = new Limite(capacidadeIp, recargaIp, stripes, maximoChaves);
+    }
+
+    // Consome uma tentativa do email e uma do IP só se os dois tiverem saldo; senão lança LoginThrottledException
+    // sem consumir nenhum, para um IP barrado não gastar as tentativas do email (e vice-versa)
+    public void verificar(String email, String ip) {
+        String chaveEmail = email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+        Stripe stripeEmail = chaveEmail != null ? porEmail.stripe(chaveEmail) : null;
+        Stripe stripeIp = ip != null ? porIp.stripe(ip) : null;
+        if (stripeEmail == null && stripeIp == null) {
+            return;
+        }
+
+        long agora = System.nanoTime();
+        boolean emailSemSaldo;
+        boolean ipSemSaldo;
+        // Sempre o stripe do email antes do stripe do IP: com a ordem fixa, dois logins não travam um ao outro
+        synchronized (stripeEmail != null ? stripeEmail : stripeIp) {
+            synchronized (stripeIp != null ? stripeIp : stripeEmail) {
+                Bucket bucketEmail = stripeEmail != null ? porEmail.recarregar(stripeEmail, chaveEmail, agora) : null;
+                Bucket bucketIp = stripeIp != null ? porIp.recarregar(stripeIp, ip, agora) : null;
+                emailSemSaldo = bucketEmail != null && !bucketEmail.temSaldo();
+                ipSemSaldo = bucketIp != null && !bucketIp.temSaldo();
+
+                if (!emailSemSaldo && !ipSemSaldo) {
+                    if (bucketEmail != null) {
+                        bucketEmail.consumir();
+                    }
+                    if (bucketIp != null) {
+                        bucketIp.consumir();
+                    }
+                    return;
+                }
+            }
+        }
+
+        if (emailSemSaldo) {
+            porEmail.rejeitados.increment();
+        }
+        if (ipSemSaldo) {
+            porIp.rejeitados.increment();
+        }
+        throw new LoginThrottledException();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(METRICA_REJEICOES, porEmail.rejeitados, LongAdder::sum)
+                .description("Tentativas de login rejeitadas pelo limite")
+                .tag("limite", "email")
+                .register(registry);
+        FunctionCounter.builder(METRICA_REJEICOES, porIp.rejeitados, LongAdder::sum)
+                .description("Tentativas de login rejeitadas pelo limite")
+                .tag("limite", "ip")
+                .register(registry);
+    }
+
+    public LimiteLoginEstatisticasDTO estatisticas() {
+        return new LimiteLoginEstatisticasDTO(porEmail.rejeitados.sum(), porIp.rejeitados.sum(),
+                porEmail.tamanho(), porIp.tamanho());
+    }
+
+    private static final class Limite {
+        private final double capacidade;
+        private final double tokensPorNano;
+        private final Stripe[] stripes;
+        private final LongAdder rejeitados = new LongAdder();
+
+        Limite(int capacidade, int recargaPorMinuto, int quantidadeStripes, int maximoChaves) {
+            this.capacidade = capacidade;
+            this.tokensPorNano = recargaPorMinuto / (double) TimeUnit.MINUTES.toNanos(1);
+            this.stripes = new Stripe[quantidadeStripes];
+            int chavesPorStripe = Math.max(1, maximoChaves / quantidadeStripes);
+            for (int i = 0; i < quantidadeStripes; i++) {
+                stripes[i] = new Stripe(chavesPorStripe);
+            }
+        }
+
+        Stripe stripe(String chave) {
+            return stripes[Math.floorMod(chave.hashCode(), stripes.length)];
+        }
+
+        // Chamar com o lock do stripe
+        Bucket recarregar(Stripe stripe, String chave, long agora) {
+            Bucket bucket = stripe.buckets.computeIfAbsent(chave, k -> new Bucket(capacidade, agora));
+            bucket.recarregar(agora, capacidade, tokensPorNano);
+            return bucket;
+        }
+
+        long tamanho() {
+            long total = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    total += stripe.buckets.size();
+                }
+            }
+            return total;
+        }
+    }
+
+    // LRU limitado: ao passar da capacidade a chave usada há mais tempo é descartada
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        Stripe(int capacidade) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > capacidade;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long ultimaRecarga;
+
+        Bucket(double tokens, long agora) {
+            this.tokens = tokens;
+            this.ultimaRecarga = agora;
+        }
+
+        void recarregar(long agora, double capacidade, double tokensPorNano) {
+            tokens = Math.min(capacidade, tokens + (agora - ultimaRecarga) * tokensPorNano);
+            ultimaRecarga = agora;
+        }
+
+        boolean temSaldo() {
+            return tokens >= 1;
+        }
+
+        void consumir() {
+            tokens -= 1;
+        }
+    }
+}
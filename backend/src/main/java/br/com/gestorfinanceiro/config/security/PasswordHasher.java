@@ -0,0 +1,157 @@
+package br.com.gestorfinanceiro.config.security;
+
+import br.com.gestorfinanceiro.dto.admin.HashingEstatisticasDTO;
+import br.com.gestorfinanceiro.exceptions.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Executa o BCrypt em um pool próprio e limitado: no máximo um hash por thread do pool consome CPU,
+ * por mais requisições de login que cheguem. A thread do Tomcat continua esperando o resultado
+ * (até security.bcrypt.timeout); o que o pool evita é a fila sem limite. Com a fila cheia, a requisição
+ * é rejeitada na hora com 503.
+ * O custo é calibrado na inicialização (ou fixado por security.bcrypt.strength).
+ * Fila, threads ativas e rejeições também vão para o Micrometer (executor.* com name=bcrypt).
+ */
+@Component
+public class PasswordHasher implements DisposableBean, MeterBinder {
+
+    public static final String METRICA_REJEICOES = "gestorfinanceiro.hashing.rejeicoes";
+    public static final String METRICA_CUSTO = "gestorfinanceiro.hashing.custo";
+
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final int capacidadeFila;
+    private final Duration timeout;
+    private final AtomicLong rejeitados = new AtomicLong();
+
+    public PasswordHasher(@Value("${security.bcrypt.strength:0}") int strengthFixa,
+                          @Value("${security.bcrypt.target-latency:250ms}") Duration latenciaAlvo,
+                          @Value("${security.bcrypt.threads:0}") int threads,
+                          @Value("${security.bcrypt.queue-capacity:64}") int capacidadeFila,
+                          @Value("${security.bcrypt.timeout:5s}") Duration timeout) {
+        this.strength = strengthFixa > 0 ? strengthFixa : BCryptCalibrator.calibrar(latenciaAlvo);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.capacidadeFila = capacidadeFila;
+        this.timeout = timeout;
+
+        int tamanhoPool = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(tamanhoPool, tamanhoPool, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila), new BCryptThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(CharSequence senha) {
+        return executar(() -> encoder.encode(senha));
+    }
+
+    public boolean matches(CharSequence senha, String hash) {
+        return executar(() -> encoder.matches(senha, hash));
+    }
+
+    // Hashes com custo diferente do atual (maior ou menor) devem ser refeitos no próximo login
+    public boolean precisaRehash(String hash) {
+        if (hash == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_STRENGTH.matcher(hash);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // Encoder síncrono com o mesmo custo, exposto como o PasswordEncoder da aplicação
+    public PasswordEncoder getEncoder() {
+        return encoder;
+    }
+
+    public HashingEstatisticasDTO estatisticas() {
+        return new HashingEstatisticasDTO(strength, executor.getPoolSize(), executor.getActiveCount(),
+                executor.getQueue().size(), capacidadeFila, executor.getCompletedTaskCount(), rejeitados.get());
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        // Só as métricas: o executor continua o mesmo (monitor() devolveria um wrapper com timers por tarefa)
+        new ExecutorServiceMetrics(executor, "bcrypt", Tags.empty()).bindTo(registry);
+        FunctionCounter.builder(METRICA_REJEICOES, rejeitados, AtomicLong::get)
+                .description("Hashes recusados por fila cheia ou timeout")
+                .register(registry);
+        Gauge.builder(METRICA_CUSTO, this, PasswordHasher::getStrength)
+                .description("Custo do BCrypt em uso")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        Future<T> future;
+        try {
+            future = executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            rejeitados.incrementAndGet();
+            throw new PasswordHashingBusyException(e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejeitados.incrementAndGet();
+            throw new PasswordHashingBusyException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(e);
+        } catch (ExecutionException e) {
+            // Repassa o erro original do BCrypt (ex.: senha nula)
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class BCryptThreadFactory implements ThreadFactory {
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bcrypt-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.gestorfinanceiro.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache limitado (tamanho + TTL) dos principais autenticados, indexado pelo id de usuário do token.
+ * Evita uma consulta ao banco em toda requisição autenticada no {@link JwtFilter}.
+ * A chave é o id, não o email: um usuário excluído e recriado com o mesmo email ganha outro uuid,
+ * e o token novo nunca reaproveita o principal da conta antiga.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, AuthenticatedUser> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+                          @Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    // Retorna o principal em cache ou carrega com o loader. Resultados nulos não são armazenados.
+    public AuthenticatedUser get(String userId, Function<String, AuthenticatedUser> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(String userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
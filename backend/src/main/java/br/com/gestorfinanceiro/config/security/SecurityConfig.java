@@ -6,7 +6,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -29,11 +28,16 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // A primeira regra que casa vence: estas precisam vir antes do permitAll em /**
+                        .requestMatchers("/admin/**").hasRole(ADMIN_ROLE)
+                        // Timers por método e internos do pool: só o coletor, com token de ADMIN (health segue público)
+                        .requestMatchers("/actuator/prometheus").hasRole(ADMIN_ROLE)
+                        .requestMatchers("/exportacao/**").hasAnyRole(ADMIN_ROLE, USER_ROLE)
+                        .requestMatchers("/importacao/**").hasAnyRole(ADMIN_ROLE, USER_ROLE)
                         .requestMatchers("/**")
                         .permitAll()
                         .requestMatchers("/auth/**").permitAll() // Rotas públicas
                         .requestMatchers("/users/admin/**").hasRole(ADMIN_ROLE)
-                        .requestMatchers("/admin/**").hasRole(ADMIN_ROLE)
                         .requestMatchers("/users/**").authenticated() // Rotas protegidas
                         .requestMatchers("/receitas/**").hasAnyRole(ADMIN_ROLE, USER_ROLE)
                         .requestMatchers("/despesas/**").hasAnyRole(ADMIN_ROLE, USER_ROLE)
@@ -47,8 +51,9 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Mesmo custo calibrado usado pelo PasswordHasher
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHasher passwordHasher) {
+        return passwordHasher.getEncoder();
     }
 }
@@ -0,0 +1,88 @@
+package br.com.gestorfinanceiro.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache das claims de tokens já verificados, indexado pelo SHA-256 do token.
+ * Cada entrada expira junto com a claim "exp" do próprio token e o total de entradas é limitado por tamanho.
+ * Com maximum-size igual a 0 o cache fica desativado e todo token é verificado novamente.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(@Value("${security.token-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = maximumSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new ExpiraComToken())
+                        .build()
+                : null;
+    }
+
+    // Retorna as claims em cache ou verifica o token com o verifier. Tokens inválidos não são armazenados.
+    public Claims get(String token, Function<String, Claims> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    public void evictAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public long size() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // A entrada vive até o "exp" do token; sem "exp" ela expira imediatamente
+    private static class ExpiraComToken implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long restanteMs = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(restanteMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
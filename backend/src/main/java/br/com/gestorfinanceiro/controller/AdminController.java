@@ -1,5 +1,9 @@
 package br.com.gestorfinanceiro.controller;
 
+import br.com.gestorfinanceiro.dto.admin.CacheEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
+import br.com.gestorfinanceiro.dto.admin.HashingEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.LimiteLoginEstatisticasDTO;
 import br.com.gestorfinanceiro.dto.user.UserAdminUpdateDTO;
 import br.com.gestorfinanceiro.dto.user.UserForAdminDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
@@ -10,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/admin")
@@ -41,4 +46,40 @@ public class AdminController {
         UserEntity user = adminService.atualizarUser(userID, userAdminUpdateDTO);
         return ResponseEntity.ok(userForAdminDTOMapper.mapTo(user));
     }
+
+    // Hits/misses do cache de principais do JwtFilter, usados para dimensionar o cache
+    @GetMapping("/cache/principais")
+    public ResponseEntity<CacheEstatisticasDTO> estatisticasCachePrincipais() {
+        return ResponseEntity.ok(adminService.estatisticasCachePrincipais());
+    }
+
+    // Hit rate, evictions e tamanho de cada região do cache de segundo nível do Hibernate
+    @GetMapping("/cache/segundo-nivel")
+    public ResponseEntity<Map<String, CacheEstatisticasDTO>> estatisticasCacheSegundoNivel() {
+        return ResponseEntity.ok(adminService.estatisticasCacheSegundoNivel());
+    }
+
+    // Custo do BCrypt, profundidade da fila e rejeições do pool de hashing de senhas
+    @GetMapping("/hashing")
+    public ResponseEntity<HashingEstatisticasDTO> estatisticasHashing() {
+        return ResponseEntity.ok(adminService.estatisticasHashing());
+    }
+
+    // Tentativas de login rejeitadas pelo limite por email e por IP
+    @GetMapping("/login-limiter")
+    public ResponseEntity<LimiteLoginEstatisticasDTO> estatisticasLimiteLogin() {
+        return ResponseEntity.ok(adminService.estatisticasLimiteLogin());
+    }
+
+    // Compara o resumo mensal com as tabelas de despesas/receitas, sem alterar nada
+    @GetMapping("/resumo-mensal/consistencia")
+    public ResponseEntity<ConsistenciaResumoDTO> verificarResumoMensal() {
+        return ResponseEntity.ok(adminService.verificarResumoMensal());
+    }
+
+    // Reconstrói o resumo mensal dos usuários divergentes (o mesmo reparo do job agendado)
+    @PostMapping("/resumo-mensal/reparo")
+    public ResponseEntity<ConsistenciaResumoDTO> repararResumoMensal() {
+        return ResponseEntity.ok(adminService.repararResumoMensal());
+    }
 }
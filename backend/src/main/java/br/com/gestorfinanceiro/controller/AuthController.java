@@ -1,15 +1,14 @@
 package br.com.gestorfinanceiro.controller;
 
 import br.com.gestorfinanceiro.config.security.JwtUtil;
-import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
+import br.com.gestorfinanceiro.config.security.LoginRateLimiter;
 import br.com.gestorfinanceiro.dto.user.LoginDTO;
 import br.com.gestorfinanceiro.dto.user.UserDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
 import br.com.gestorfinanceiro.models.UserEntity;
-import br.com.gestorfinanceiro.models.enums.DespesasCategorias;
-import br.com.gestorfinanceiro.models.enums.ReceitasCategorias;
 import br.com.gestorfinanceiro.services.AuthService;
 import br.com.gestorfinanceiro.services.CategoriaService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,11 +28,14 @@ public class AuthController {
 
     private final JwtUtil jwtUtil;
 
-    public AuthController(AuthService authService, CategoriaService categoriaService, Mapper<UserEntity, UserDTO> userMapper, JwtUtil jwtUtil) {
+    private final LoginRateLimiter loginRateLimiter;
+
+    public AuthController(AuthService authService, CategoriaService categoriaService, Mapper<UserEntity, UserDTO> userMapper, JwtUtil jwtUtil, LoginRateLimiter loginRateLimiter) {
         this.authService = authService;
         this.categoriaService = categoriaService;
         this.userMapper = userMapper;
         this.jwtUtil = jwtUtil;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/register")
@@ -41,32 +43,18 @@ public class AuthController {
         UserEntity userEntity = userMapper.mapFrom(userDTO);
         UserEntity registeredUser = this.authService.register(userEntity);
 
-        // Cria as categorias padrão para o usuário
-        // Despesas
-        for (DespesasCategorias categoria : DespesasCategorias.values()) {
-            CategoriaCreateDTO categoriaDespesa = new CategoriaCreateDTO(
-                    categoria.toNormalCase(), "DESPESAS");
-            categoriaService.criarCategoria(categoriaDespesa, registeredUser.getUuid());
-        }
-
-        // Receitas
-        for (ReceitasCategorias categoria : ReceitasCategorias.values()) {
-            CategoriaCreateDTO categoriaReceita = new CategoriaCreateDTO(
-                    categoria.toNormalCase(), "RECEITAS");
-            categoriaService.criarCategoria(categoriaReceita, registeredUser.getUuid());
-        }
-
-        // Sem categoria
-        categoriaService.criarSemCategoria(registeredUser.getUuid(), "DESPESAS");
-        categoriaService.criarSemCategoria(registeredUser.getUuid(), "RECEITAS");
-
+        // Cria as categorias padrão para o usuário (despesas, receitas e "Sem Categoria")
+        categoriaService.criarCategoriasPadrao(registeredUser.getUuid());
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(registeredUser);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, String>> login(@Valid @RequestBody LoginDTO loginDTO) {
+    public ResponseEntity<Map<String, String>> login(@Valid @RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        // Rejeita cedo, antes da consulta ao banco e do BCrypt, quem excedeu o limite de tentativas
+        loginRateLimiter.verificar(loginDTO.email(), request.getRemoteAddr());
+
         UserEntity userEntity = authService.login(loginDTO.email(), loginDTO.password());
 
         // Obtém a role do usuário autenticado
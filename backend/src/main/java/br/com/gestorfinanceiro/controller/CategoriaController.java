@@ -1,13 +1,13 @@
 package br.com.gestorfinanceiro.controller;
 
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.services.CategoriaService;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,22 +21,16 @@ import java.util.List;
 public class CategoriaController {
     private final CategoriaService categoriaService;
     private final Mapper<CategoriaEntity, CategoriaDTO> categoriaMapper;
-    private final JwtUtil jwtUtil;
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
 
 
-    public CategoriaController(CategoriaService categoriaService, Mapper<CategoriaEntity, CategoriaDTO> categoriaMapper, JwtUtil jwtUtil) {
+    public CategoriaController(CategoriaService categoriaService, Mapper<CategoriaEntity, CategoriaDTO> categoriaMapper) {
         this.categoriaService = categoriaService;
         this.categoriaMapper = categoriaMapper;
-        this.jwtUtil = jwtUtil;
     }
 
     @PostMapping
-    public ResponseEntity<CategoriaDTO> criarCategoria(@Valid @RequestBody CategoriaCreateDTO categoriaCreateDTO, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<CategoriaDTO> criarCategoria(@Valid @RequestBody CategoriaCreateDTO categoriaCreateDTO, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         CategoriaEntity novaCategoria = categoriaService.criarCategoria(categoriaCreateDTO, userId);
 
@@ -50,10 +44,8 @@ public class CategoriaController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoriaDTO>> listarCategorias(HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<List<CategoriaDTO>> listarCategorias(AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         List<CategoriaEntity> categorias = categoriaService.listarCategorias(userId);
         List<CategoriaDTO> response = categorias.stream()
@@ -63,10 +55,8 @@ public class CategoriaController {
     }
 
     @GetMapping("/despesas")
-    public ResponseEntity<List<CategoriaDTO>> listarCategoriasDespesas(HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<List<CategoriaDTO>> listarCategoriasDespesas(AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         List<CategoriaEntity> categorias = categoriaService.listarCategoriasDespesas(userId);
         List<CategoriaDTO> response = categorias.stream()
@@ -76,10 +66,8 @@ public class CategoriaController {
     }
 
     @GetMapping("/receitas")
-    public ResponseEntity<List<CategoriaDTO>> listarCategoriasReceitas(HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<List<CategoriaDTO>> listarCategoriasReceitas(AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         List<CategoriaEntity> categorias = categoriaService.listarCategoriasReceitas(userId);
         List<CategoriaDTO> response = categorias.stream()
@@ -89,10 +77,8 @@ public class CategoriaController {
     }
 
     @PatchMapping("/{categoriaId}")
-    public ResponseEntity<CategoriaDTO> atualizarCategoria(@PathVariable String categoriaId, @Valid @RequestBody CategoriaUpdateDTO categoriaUpdateDTO, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<CategoriaDTO> atualizarCategoria(@PathVariable String categoriaId, @Valid @RequestBody CategoriaUpdateDTO categoriaUpdateDTO, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         CategoriaEntity categoriaAtualizada = categoriaService.atualizarCategoria(categoriaId, categoriaUpdateDTO,
                 userId);
@@ -100,15 +86,34 @@ public class CategoriaController {
         return ResponseEntity.ok(categoriaMapper.mapTo(categoriaAtualizada));
     }
 
+    // segundoPlano=true: responde 202 com o id da exclusão, acompanhada em GET /categorias/exclusoes/{exclusaoId}
     @DeleteMapping("/{categoriaId}")
-    public ResponseEntity<Void> deletarCategoria(@PathVariable String categoriaId, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<ExclusaoCategoriaDTO> deletarCategoria(@PathVariable String categoriaId,
+                                                                 @RequestParam(defaultValue = "false") boolean segundoPlano,
+                                                                 AuthenticatedUser usuario) {
+        String userId = usuario.userId();
+
+        if (segundoPlano) {
+            ExclusaoCategoriaDTO exclusao = categoriaService.excluirCategoriaEmSegundoPlano(categoriaId, userId);
+
+            URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/categorias/exclusoes/{exclusaoId}")
+                    .buildAndExpand(exclusao.getUuid())
+                    .toUri();
+
+            return ResponseEntity.accepted()
+                    .location(location)
+                    .body(exclusao);
+        }
 
         categoriaService.excluirCategoria(categoriaId, userId);
 
         return ResponseEntity.noContent()
                 .build();
     }
+
+    @GetMapping("/exclusoes/{exclusaoId}")
+    public ResponseEntity<ExclusaoCategoriaDTO> consultarExclusao(@PathVariable String exclusaoId, AuthenticatedUser usuario) {
+        return ResponseEntity.ok(categoriaService.consultarExclusao(exclusaoId, usuario.userId()));
+    }
 }
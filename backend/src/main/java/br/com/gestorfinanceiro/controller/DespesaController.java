@@ -1,6 +1,7 @@
 package br.com.gestorfinanceiro.controller;
 
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
@@ -9,7 +10,7 @@ import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
 import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.services.DespesaService;
-import jakarta.servlet.http.HttpServletRequest;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import jakarta.validation.Valid;
 
 import org.springframework.http.HttpStatus;
@@ -30,20 +31,15 @@ import java.util.Objects;
 public class DespesaController {
     private final DespesaService despesaService;
     private final Mapper<DespesaEntity, DespesaDTO> despesaMapper;
-    private final JwtUtil jwtUtil;
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
 
-    public DespesaController(DespesaService despesaService, Mapper<DespesaEntity, DespesaDTO> despesaMapper, JwtUtil jwtUtil) {
+    public DespesaController(DespesaService despesaService, Mapper<DespesaEntity, DespesaDTO> despesaMapper) {
         this.despesaService = despesaService;
         this.despesaMapper = despesaMapper;
-        this.jwtUtil = jwtUtil;
     }
 
     @PostMapping
-    public ResponseEntity<DespesaDTO> criarDespesa(@Valid @RequestBody DespesaCreateDTO despesaCreateDTO, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<DespesaDTO> criarDespesa(@Valid @RequestBody DespesaCreateDTO despesaCreateDTO, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         DespesaEntity novaDespesa = despesaService.criarDespesa(despesaCreateDTO, userId);
 
@@ -54,22 +50,18 @@ public class DespesaController {
     }
 
     @GetMapping
-    public ResponseEntity<List<DespesaDTO>> listarDespesas(HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<List<DespesaDTO>> listarDespesas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
-        List<DespesaDTO> despesas = despesaService.listarDespesasUsuario(userId)
-                .stream()
-                .map(despesaMapper::mapTo)
-                .toList();
-
-        return ResponseEntity.ok(despesas);
+        return responderPagina(despesaService.listarDespesasUsuarioPaginado(userId, cursor, tamanho));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<DespesaDTO> buscarDespesaPorId(@PathVariable String id, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<DespesaDTO> buscarDespesaPorId(@PathVariable String id, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
         DespesaEntity despesa = despesaService.buscarDespesaPorId(id);
 
         // Checa se o usuário logado é o dono da despesa
@@ -81,9 +73,8 @@ public class DespesaController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<DespesaDTO> atualizarDespesa(@PathVariable String id, @Valid @RequestBody DespesaUpdateDTO despesaUpdateDTO, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<DespesaDTO> atualizarDespesa(@PathVariable String id, @Valid @RequestBody DespesaUpdateDTO despesaUpdateDTO, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
         DespesaEntity despesa = despesaService.buscarDespesaPorId(id);
     
         if (!Objects.equals(userId, despesa.getUser().getUuid())) {
@@ -94,9 +85,8 @@ public class DespesaController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> excluirDespesa(@PathVariable String id, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<Void> excluirDespesa(@PathVariable String id, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
         DespesaEntity despesa = despesaService.buscarDespesaPorId(id);
 
         if (!Objects.equals(userId, despesa.getUser().getUuid())) {
@@ -111,14 +101,8 @@ public class DespesaController {
     public ResponseEntity<GraficoBarraDTO> gerarGraficoBarrasDespesa(
             @RequestParam YearMonth inicio, 
             @RequestParam YearMonth fim, 
-            @RequestHeader(value = "Authorization", required = false) String authHeader) {
-        
-        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        String token = authHeader.substring(BEARER_PREFIX.length());
-        String userId = jwtUtil.extractUserId(token);
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         if (inicio.isAfter(fim)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
@@ -132,10 +116,8 @@ public class DespesaController {
     public ResponseEntity<GraficoPizzaDTO> gerarGraficoPizza(
             @RequestParam LocalDate inicio,
             @RequestParam LocalDate fim,
-            HttpServletRequest request) {
-
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         GraficoPizzaDTO graficoPizza = despesaService.gerarGraficoPizza(userId, inicio, fim);
 
@@ -146,38 +128,32 @@ public class DespesaController {
     public ResponseEntity<List<DespesaDTO>> buscarDespesasPorIntervaloDeDatas(
             @RequestParam LocalDate inicio,
             @RequestParam LocalDate fim,
-            HttpServletRequest request) {
-
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
-
-        List<DespesaEntity> despesas = despesaService.buscarDespesasPorIntervaloDeDatas(userId, inicio, fim);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
-        // Converte a lista de receitas para DTOs
-        List<DespesaDTO> despesaDTO = despesas.stream()
-                .map(despesaMapper::mapTo)
-                .toList();
-
-        return ResponseEntity.ok(despesaDTO);
+        return responderPagina(despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, inicio, fim, cursor, tamanho));
     }
 
     @GetMapping("/por-intervalo-de-valores")
     public ResponseEntity<List<DespesaDTO>> buscarReceitasPorIntervaloDeValores(
             @RequestParam BigDecimal min,
             @RequestParam BigDecimal max,
-            HttpServletRequest request) {
-
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
-
-        List<DespesaEntity> despesas = despesaService.buscarDespesasPorIntervaloDeValores(userId, min, max);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
-        // Converte a lista de receitas para DTOs
-        List<DespesaDTO> despesaDTO = despesas.stream()
-                .map(despesaMapper::mapTo)
-                .toList();
+        return responderPagina(despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, min, max, cursor, tamanho));
+    }
 
-        return ResponseEntity.ok(despesaDTO);
+    // O corpo continua sendo a lista; o cursor da próxima página vai no header e some na última página
+    private ResponseEntity<List<DespesaDTO>> responderPagina(PaginaDTO<DespesaDTO> pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.proximoCursor() != null) {
+            resposta.header(CursorUtils.HEADER_PROXIMO_CURSOR, pagina.proximoCursor());
+        }
+        return resposta.body(pagina.itens());
     }
 }
-
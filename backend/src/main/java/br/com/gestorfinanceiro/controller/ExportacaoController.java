@@ -0,0 +1,45 @@
+package br.com.gestorfinanceiro.controller;
+
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import br.com.gestorfinanceiro.models.enums.FormatoExportacao;
+import br.com.gestorfinanceiro.services.ExportacaoService;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/exportacao")
+public class ExportacaoController {
+
+    private final ExportacaoService exportacaoService;
+
+    public ExportacaoController(ExportacaoService exportacaoService) {
+        this.exportacaoService = exportacaoService;
+    }
+
+    // O corpo é escrito direto na resposta, fora da thread da requisição, enquanto as linhas saem do banco
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportarLancamentos(
+            @RequestParam(defaultValue = "csv") String formato,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
+        FormatoExportacao formatoExportacao = FormatoExportacao.deParametro(formato);
+
+        StreamingResponseBody corpo = saida -> exportacaoService.exportar(userId, formatoExportacao, saida);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("lancamentos." + formatoExportacao.getExtensao())
+                        .build()
+                        .toString())
+                .body(corpo);
+    }
+}
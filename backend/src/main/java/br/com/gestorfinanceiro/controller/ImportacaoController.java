@@ -0,0 +1,47 @@
+package br.com.gestorfinanceiro.controller;
+
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import br.com.gestorfinanceiro.dto.importacao.ResultadoImportacaoDTO;
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+import br.com.gestorfinanceiro.models.enums.FormatoImportacao;
+import br.com.gestorfinanceiro.services.ImportacaoService;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/importacao")
+public class ImportacaoController {
+
+    private final ImportacaoService importacaoService;
+
+    public ImportacaoController(ImportacaoService importacaoService) {
+        this.importacaoService = importacaoService;
+    }
+
+    // formato: csv ou ofx; sem ele, vale a extensão do arquivo
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResultadoImportacaoDTO> importarLancamentos(
+            @RequestParam("arquivo") MultipartFile arquivo,
+            @RequestParam(required = false) String formato,
+            AuthenticatedUser usuario) throws IOException {
+        if (arquivo.isEmpty()) {
+            throw new InvalidDataException("O arquivo enviado está vazio.");
+        }
+
+        FormatoImportacao formatoImportacao = FormatoImportacao.deParametroOuArquivo(formato, arquivo.getOriginalFilename());
+
+        try (InputStream entrada = arquivo.getInputStream()) {
+            ResultadoImportacaoDTO resultado = importacaoService.importar(usuario.userId(), formatoImportacao, entrada);
+            return ResponseEntity.ok(resultado);
+        }
+    }
+}
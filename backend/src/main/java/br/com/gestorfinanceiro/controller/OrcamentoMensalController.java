@@ -1,11 +1,10 @@
 package br.com.gestorfinanceiro.controller;
 
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
 import br.com.gestorfinanceiro.dto.orcamentomensal.OrcamentoMensalDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
 import br.com.gestorfinanceiro.models.OrcamentoMensalEntity;
 import br.com.gestorfinanceiro.services.OrcamentoMensalService;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -25,44 +24,38 @@ public class OrcamentoMensalController {
 
     private final OrcamentoMensalService orcamentoMensalService;
     private final Mapper<OrcamentoMensalEntity, OrcamentoMensalDTO> orcamentoMensalMapper;
-    private final JwtUtil jwtUtil;
-
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
 
     public OrcamentoMensalController(OrcamentoMensalService orcamentoMensalService,
-                                     Mapper<OrcamentoMensalEntity, OrcamentoMensalDTO> orcamentoMensalMapper,
-                                     JwtUtil jwtUtil) {
+                                     Mapper<OrcamentoMensalEntity, OrcamentoMensalDTO> orcamentoMensalMapper) {
         this.orcamentoMensalService = orcamentoMensalService;
         this.orcamentoMensalMapper = orcamentoMensalMapper;
-        this.jwtUtil = jwtUtil;
     }
 
     @GetMapping
-    public ResponseEntity<List<OrcamentoMensalDTO>> findAll(HttpServletRequest request) {
+    public ResponseEntity<List<OrcamentoMensalDTO>> findAll(AuthenticatedUser usuario) {
         return ResponseEntity.ok(mapToDTOs(
-                orcamentoMensalService.listarTodosPorUsuario(getUserId(request))
+                orcamentoMensalService.listarTodosPorUsuario(usuario.userId())
         ));
     }
 
     @GetMapping("/{uuid}")
-    public ResponseEntity<OrcamentoMensalDTO> findById(HttpServletRequest request, @PathVariable String uuid) {
+    public ResponseEntity<OrcamentoMensalDTO> findById(AuthenticatedUser usuario, @PathVariable String uuid) {
         return ResponseEntity.ok(mapToDTO(
-                orcamentoMensalService.buscarPorId(getUserId(request), uuid)
+                orcamentoMensalService.buscarPorId(usuario.userId(), uuid)
         ));
     }
 
     @GetMapping("/periodo/{periodo}")
-    public ResponseEntity<List<OrcamentoMensalDTO>> findByPeriodo(HttpServletRequest request, @PathVariable YearMonth periodo) {
+    public ResponseEntity<List<OrcamentoMensalDTO>> findByPeriodo(AuthenticatedUser usuario, @PathVariable YearMonth periodo) {
         return ResponseEntity.ok(mapToDTOs(
-                orcamentoMensalService.listarPorPeriodo(getUserId(request), periodo)
+                orcamentoMensalService.listarPorPeriodo(usuario.userId(), periodo)
         ));
     }
 
     @PostMapping
-    public ResponseEntity<OrcamentoMensalDTO> create(HttpServletRequest request, @RequestBody @Valid OrcamentoMensalDTO dto) {
+    public ResponseEntity<OrcamentoMensalDTO> create(AuthenticatedUser usuario, @RequestBody @Valid OrcamentoMensalDTO dto) {
         OrcamentoMensalEntity orcamento = orcamentoMensalService.criarOrcamentoMensal(
-                getUserId(request), dto.getCategoria(), dto.getValorLimite(), dto.getPeriodo()
+                usuario.userId(), dto.getCategoria(), dto.getValorLimite(), dto.getPeriodo()
         );
 
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
@@ -74,29 +67,21 @@ public class OrcamentoMensalController {
     }
 
     @PutMapping("/{uuid}")
-    public ResponseEntity<OrcamentoMensalDTO> update(HttpServletRequest request, @PathVariable String uuid,
+    public ResponseEntity<OrcamentoMensalDTO> update(AuthenticatedUser usuario, @PathVariable String uuid,
                                                      @RequestBody @Valid OrcamentoMensalRequest requestBody) {
         return ResponseEntity.ok(mapToDTO(
                 orcamentoMensalService.atualizarOrcamentoMensal(
-                        getUserId(request), uuid, requestBody.categoria(), requestBody.valorLimite(), requestBody.periodo()
+                        usuario.userId(), uuid, requestBody.categoria(), requestBody.valorLimite(), requestBody.periodo()
                 )
         ));
     }
 
     @DeleteMapping("/{uuid}")
-    public ResponseEntity<Void> delete(HttpServletRequest request, @PathVariable String uuid) {
-        orcamentoMensalService.excluirOrcamentoMensal(getUserId(request), uuid);
+    public ResponseEntity<Void> delete(AuthenticatedUser usuario, @PathVariable String uuid) {
+        orcamentoMensalService.excluirOrcamentoMensal(usuario.userId(), uuid);
         return ResponseEntity.noContent().build();
     }
 
-    private String getUserId(HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER);
-        if (token == null || !token.startsWith(BEARER_PREFIX)) {
-            throw new IllegalArgumentException("Token JWT inválido ou ausente");
-        }
-        return jwtUtil.extractUserId(token.replace(BEARER_PREFIX, ""));
-    }
-
     private List<OrcamentoMensalDTO> mapToDTOs(List<OrcamentoMensalEntity> orcamentos) {
         return orcamentos.stream().map(orcamentoMensalMapper::mapTo).toList();
     }
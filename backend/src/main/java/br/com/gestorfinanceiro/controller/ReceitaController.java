@@ -1,6 +1,7 @@
 package br.com.gestorfinanceiro.controller;
 
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
@@ -9,7 +10,7 @@ import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.services.ReceitaService;
-import jakarta.servlet.http.HttpServletRequest;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import jakarta.validation.Valid;
 
 import org.springframework.http.HttpStatus;
@@ -30,21 +31,15 @@ import java.util.Objects;
 public class ReceitaController {
     private final ReceitaService receitaService;
     private final Mapper<ReceitaEntity, ReceitaDTO> receitaMapper;
-    private final JwtUtil jwtUtil;
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
 
-    public ReceitaController(ReceitaService receitaService, Mapper<ReceitaEntity, ReceitaDTO> receitaMapper, JwtUtil jwtUtil) {
+    public ReceitaController(ReceitaService receitaService, Mapper<ReceitaEntity, ReceitaDTO> receitaMapper) {
         this.receitaService = receitaService;
         this.receitaMapper = receitaMapper;
-        this.jwtUtil = jwtUtil;
     }
 
     @PostMapping
-    public ResponseEntity<ReceitaDTO> criarReceita(@Valid @RequestBody ReceitaCreateDTO receitaCreateDTO, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<ReceitaDTO> criarReceita(@Valid @RequestBody ReceitaCreateDTO receitaCreateDTO, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         ReceitaEntity novaReceita = receitaService.criarReceita(receitaCreateDTO, userId);
 
@@ -58,24 +53,18 @@ public class ReceitaController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ReceitaDTO>> listarReceitas(HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<List<ReceitaDTO>> listarReceitas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
-        List<ReceitaDTO> receitas = receitaService.listarReceitasUsuario(userId)
-                .stream()
-                .map(receitaMapper::mapTo)
-                .toList();
-
-        return ResponseEntity.ok(receitas);
+        return responderPagina(receitaService.listarReceitasUsuarioPaginado(userId, cursor, tamanho));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ReceitaDTO> buscarReceitaPorId(@PathVariable String id, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<ReceitaDTO> buscarReceitaPorId(@PathVariable String id, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
         ReceitaEntity receita = receitaService.buscarReceitaPorId(id);
 
         // Checa se o usuário logado é o dono da receita
@@ -89,9 +78,8 @@ public class ReceitaController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ReceitaDTO> atualizarReceita(@PathVariable String id, @Valid @RequestBody ReceitaUpdateDTO receitaUpdateDTO, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<ReceitaDTO> atualizarReceita(@PathVariable String id, @Valid @RequestBody ReceitaUpdateDTO receitaUpdateDTO, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
         ReceitaEntity receita = receitaService.buscarReceitaPorId(id);
 
         if (!Objects.equals(userId, receita.getUser().getUuid())) {
@@ -102,9 +90,8 @@ public class ReceitaController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> excluirReceita(@PathVariable String id, HttpServletRequest request) {
-        String token = request.getHeader(AUTHORIZATION_HEADER).replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<Void> excluirReceita(@PathVariable String id, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         ReceitaEntity receita = receitaService.buscarReceitaPorId(id);
 
@@ -119,11 +106,8 @@ public class ReceitaController {
     public ResponseEntity<GraficoPizzaDTO> gerarGraficoPizza(
             @RequestParam LocalDate inicio,
             @RequestParam LocalDate fim,
-            HttpServletRequest request) {
-
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
         GraficoPizzaDTO graficoPizza = receitaService.gerarGraficoPizza(userId, inicio, fim);
 
@@ -131,14 +115,8 @@ public class ReceitaController {
     }
 
     @GetMapping("/grafico-barras")
-    public ResponseEntity<GraficoBarraDTO> gerarGraficoBarrasReceita(@RequestParam YearMonth inicio, @RequestParam YearMonth fim, @RequestHeader(value = "Authorization", required = false) String authHeader) {
-        
-        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-    
-        String token = authHeader.substring(BEARER_PREFIX.length());
-        String userId = jwtUtil.extractUserId(token);
+    public ResponseEntity<GraficoBarraDTO> gerarGraficoBarrasReceita(@RequestParam YearMonth inicio, @RequestParam YearMonth fim, AuthenticatedUser usuario) {
+        String userId = usuario.userId();
     
         if (inicio.isAfter(fim)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
@@ -152,41 +130,32 @@ public class ReceitaController {
     public ResponseEntity<List<ReceitaDTO>> buscarReceitasPorIntervaloDeDatas(
             @RequestParam LocalDate inicio,
             @RequestParam LocalDate fim,
-            HttpServletRequest request) {
-
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
-
-        List<ReceitaEntity> receitas = receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, fim);
-
-        // Converte a lista de receitas para DTOs
-        List<ReceitaDTO> receitasDTO = receitas.stream()
-                .map(receitaMapper::mapTo)
-                .toList();
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
-        return ResponseEntity.ok(receitasDTO);
+        return responderPagina(receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim, cursor, tamanho));
     }
 
     @GetMapping("/por-intervalo-de-valores")
     public ResponseEntity<List<ReceitaDTO>> buscarReceitasPorIntervaloDeValores(
             @RequestParam BigDecimal min,
             @RequestParam BigDecimal max,
-            HttpServletRequest request) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            AuthenticatedUser usuario) {
+        String userId = usuario.userId();
 
-        String token = request.getHeader(AUTHORIZATION_HEADER)
-                .replace(BEARER_PREFIX, "");
-        String userId = jwtUtil.extractUserId(token);
-
-        List<ReceitaEntity> receitas = receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max);
-
-        // Converte a lista de receitas para DTOs
-        List<ReceitaDTO> receitasDTO = receitas.stream()
-                .map(receitaMapper::mapTo)
-                .toList();
-
-        return ResponseEntity.ok(receitasDTO);
+        return responderPagina(receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max, cursor, tamanho));
     }
 
+    // O corpo continua sendo a lista; o cursor da próxima página vai no header e some na última página
+    private ResponseEntity<List<ReceitaDTO>> responderPagina(PaginaDTO<ReceitaDTO> pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.proximoCursor() != null) {
+            resposta.header(CursorUtils.HEADER_PROXIMO_CURSOR, pagina.proximoCursor());
+        }
+        return resposta.body(pagina.itens());
+    }
 }
-
@@ -0,0 +1,58 @@
+package br.com.gestorfinanceiro.dto.admin;
+
+public class CacheEstatisticasDTO {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long tamanho;
+
+    public CacheEstatisticasDTO(long hits, long misses, double hitRate, long evictions, long tamanho) {
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.evictions = evictions;
+        this.tamanho = tamanho;
+    }
+
+    // Getters e Setters (necessários para serialização JSON)
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(long tamanho) {
+        this.tamanho = tamanho;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.gestorfinanceiro.dto.admin;
+
+import java.util.List;
+
+public class ConsistenciaResumoDTO {
+    private int usuariosVerificados;
+    private int usuariosDivergentes;
+    private int usuariosReconstruidos;
+    private List<String> divergencias;
+
+    public ConsistenciaResumoDTO(int usuariosVerificados, int usuariosDivergentes, int usuariosReconstruidos, List<String> divergencias) {
+        this.usuariosVerificados = usuariosVerificados;
+        this.usuariosDivergentes = usuariosDivergentes;
+        this.usuariosReconstruidos = usuariosReconstruidos;
+        this.divergencias = divergencias;
+    }
+
+    // Getters e Setters (necessários para serialização JSON)
+    public int getUsuariosVerificados() {
+        return usuariosVerificados;
+    }
+
+    public void setUsuariosVerificados(int usuariosVerificados) {
+        this.usuariosVerificados = usuariosVerificados;
+    }
+
+    public int getUsuariosDivergentes() {
+        return usuariosDivergentes;
+    }
+
+    public void setUsuariosDivergentes(int usuariosDivergentes) {
+        this.usuariosDivergentes = usuariosDivergentes;
+    }
+
+    public int getUsuariosReconstruidos() {
+        return usuariosReconstruidos;
+    }
+
+    public void setUsuariosReconstruidos(int usuariosReconstruidos) {
+        this.usuariosReconstruidos = usuariosReconstruidos;
+    }
+
+    public List<String> getDivergencias() {
+        return divergencias;
+    }
+
+    public void setDivergencias(List<String> divergencias) {
+        this.divergencias = divergencias;
+    }
+}
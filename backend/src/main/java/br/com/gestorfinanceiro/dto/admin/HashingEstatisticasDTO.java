@@ -0,0 +1,79 @@
+package br.com.gestorfinanceiro.dto.admin;
+
+public class HashingEstatisticasDTO {
+    private int strength;
+    private int threads;
+    private int ativos;
+    private int fila;
+    private int capacidadeFila;
+    private long concluidos;
+    private long rejeitados;
+
+    public HashingEstatisticasDTO(int strength, int threads, int ativos, int fila, int capacidadeFila,
+                                  long concluidos, long rejeitados) {
+        this.strength = strength;
+        this.threads = threads;
+        this.ativos = ativos;
+        this.fila = fila;
+        this.capacidadeFila = capacidadeFila;
+        this.concluidos = concluidos;
+        this.rejeitados = rejeitados;
+    }
+
+    // Getters e Setters (necessários para serialização JSON)
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getAtivos() {
+        return ativos;
+    }
+
+    public void setAtivos(int ativos) {
+        this.ativos = ativos;
+    }
+
+    public int getFila() {
+        return fila;
+    }
+
+    public void setFila(int fila) {
+        this.fila = fila;
+    }
+
+    public int getCapacidadeFila() {
+        return capacidadeFila;
+    }
+
+    public void setCapacidadeFila(int capacidadeFila) {
+        this.capacidadeFila = capacidadeFila;
+    }
+
+    public long getConcluidos() {
+        return concluidos;
+    }
+
+    public void setConcluidos(long concluidos) {
+        this.concluidos = concluidos;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.gestorfinanceiro.dto.admin;
+
+public class LimiteLoginEstatisticasDTO {
+    private long rejeitadosPorEmail;
+    private long rejeitadosPorIp;
+    private long emailsMonitorados;
+    private long ipsMonitorados;
+
+    public LimiteLoginEstatisticasDTO(long rejeitadosPorEmail, long rejeitadosPorIp, long emailsMonitorados, long ipsMonitorados) {
+        this.rejeitadosPorEmail = rejeitadosPorEmail;
+        this.rejeitadosPorIp = rejeitadosPorIp;
+        this.emailsMonitorados = emailsMonitorados;
+        this.ipsMonitorados = ipsMonitorados;
+    }
+
+    // Getters e Setters (necessários para serialização JSON)
+    public long getRejeitadosPorEmail() {
+        return rejeitadosPorEmail;
+    }
+
+    public void setRejeitadosPorEmail(long rejeitadosPorEmail) {
+        this.rejeitadosPorEmail = rejeitadosPorEmail;
+    }
+
+    public long getRejeitadosPorIp() {
+        return rejeitadosPorIp;
+    }
+
+    public void setRejeitadosPorIp(long rejeitadosPorIp) {
+        this.rejeitadosPorIp = rejeitadosPorIp;
+    }
+
+    public long getEmailsMonitorados() {
+        return emailsMonitorados;
+    }
+
+    public void setEmailsMonitorados(long emailsMonitorados) {
+        this.emailsMonitorados = emailsMonitorados;
+    }
+
+    public long getIpsMonitorados() {
+        return ipsMonitorados;
+    }
+
+    public void setIpsMonitorados(long ipsMonitorados) {
+        this.ipsMonitorados = ipsMonitorados;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.gestorfinanceiro.dto.categoria;
+
+import br.com.gestorfinanceiro.models.enums.StatusExclusaoCategoria;
+
+public class ExclusaoCategoriaDTO {
+    private String uuid;
+    private String categoriaUuid;
+    private StatusExclusaoCategoria status;
+    private Integer lancamentosReatribuidos;
+    private String erro;
+
+    // Construtores
+    public ExclusaoCategoriaDTO() {
+    }
+
+    public ExclusaoCategoriaDTO(String uuid, String categoriaUuid, StatusExclusaoCategoria status,
+                                Integer lancamentosReatribuidos, String erro) {
+        this.uuid = uuid;
+        this.categoriaUuid = categoriaUuid;
+        this.status = status;
+        this.lancamentosReatribuidos = lancamentosReatribuidos;
+        this.erro = erro;
+    }
+
+    // Getters and Setters
+    public String getUuid() {
+        return uuid;
+    }
+
+    public void setUuid(String uuid) {
+        this.uuid = uuid;
+    }
+
+    public String getCategoriaUuid() {
+        return categoriaUuid;
+    }
+
+    public void setCategoriaUuid(String categoriaUuid) {
+        this.categoriaUuid = categoriaUuid;
+    }
+
+    public StatusExclusaoCategoria getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusExclusaoCategoria status) {
+        this.status = status;
+    }
+
+    public Integer getLancamentosReatribuidos() {
+        return lancamentosReatribuidos;
+    }
+
+    public void setLancamentosReatribuidos(Integer lancamentosReatribuidos) {
+        this.lancamentosReatribuidos = lancamentosReatribuidos;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.gestorfinanceiro.dto.common;
+
+import java.util.List;
+
+// proximoCursor é nulo na última página
+public record PaginaDTO<T>(List<T> itens, String proximoCursor) {}
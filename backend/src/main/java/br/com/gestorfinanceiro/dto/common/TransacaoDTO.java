@@ -23,6 +23,17 @@ public abstract class TransacaoDTO {
 
     protected String uuid;
 
+    protected TransacaoDTO() {
+    }
+
+    protected TransacaoDTO(String uuid, LocalDate data, BigDecimal valor, String categoria, String observacoes) {
+        this.uuid = uuid;
+        this.data = data;
+        this.valor = valor;
+        this.categoria = categoria;
+        this.observacoes = observacoes;
+    }
+
     // Getters and Setters
     public String getCategoria() {
         return categoria;
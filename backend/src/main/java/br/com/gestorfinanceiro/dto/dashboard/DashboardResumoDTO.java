@@ -0,0 +1,90 @@
+package br.com.gestorfinanceiro.dto.dashboard;
+
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Map;
+
+public class DashboardResumoDTO {
+    private YearMonth periodo;
+    private BigDecimal saldoTotal = BigDecimal.ZERO;
+    private BigDecimal despesaTotal = BigDecimal.ZERO;
+    private BigDecimal receitaTotal = BigDecimal.ZERO;
+    private DespesaDTO maiorDespesa;
+    private ReceitaDTO maiorReceita;
+    private Map<String, BigDecimal> categoriaMaiorDespesa = Collections.emptyMap();
+    private Map<String, BigDecimal> categoriaMaiorReceita = Collections.emptyMap();
+
+    // Construtor
+    public DashboardResumoDTO(YearMonth periodo) {
+        this.periodo = periodo;
+    }
+
+    // Getters e Setters (necessários para serialização JSON)
+    public YearMonth getPeriodo() {
+        return periodo;
+    }
+
+    public void setPeriodo(YearMonth periodo) {
+        this.periodo = periodo;
+    }
+
+    public BigDecimal getSaldoTotal() {
+        return saldoTotal;
+    }
+
+    public void setSaldoTotal(BigDecimal saldoTotal) {
+        this.saldoTotal = saldoTotal;
+    }
+
+    public BigDecimal getDespesaTotal() {
+        return despesaTotal;
+    }
+
+    public void setDespesaTotal(BigDecimal despesaTotal) {
+        this.despesaTotal = despesaTotal;
+    }
+
+    public BigDecimal getReceitaTotal() {
+        return receitaTotal;
+    }
+
+    public void setReceitaTotal(BigDecimal receitaTotal) {
+        this.receitaTotal = receitaTotal;
+    }
+
+    public DespesaDTO getMaiorDespesa() {
+        return maiorDespesa;
+    }
+
+    public void setMaiorDespesa(DespesaDTO maiorDespesa) {
+        this.maiorDespesa = maiorDespesa;
+    }
+
+    public ReceitaDTO getMaiorReceita() {
+        return maiorReceita;
+    }
+
+    public void setMaiorReceita(ReceitaDTO maiorReceita) {
+        this.maiorReceita = maiorReceita;
+    }
+
+    public Map<String, BigDecimal> getCategoriaMaiorDespesa() {
+        return categoriaMaiorDespesa;
+    }
+
+    public void setCategoriaMaiorDespesa(Map<String, BigDecimal> categoriaMaiorDespesa) {
+        this.categoriaMaiorDespesa = categoriaMaiorDespesa;
+    }
+
+    public Map<String, BigDecimal> getCategoriaMaiorReceita() {
+        return categoriaMaiorReceita;
+    }
+
+    public void setCategoriaMaiorReceita(Map<String, BigDecimal> categoriaMaiorReceita) {
+        this.categoriaMaiorReceita = categoriaMaiorReceita;
+    }
+}
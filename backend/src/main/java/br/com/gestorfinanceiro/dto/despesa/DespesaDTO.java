@@ -3,10 +3,22 @@ package br.com.gestorfinanceiro.dto.despesa;
 import br.com.gestorfinanceiro.dto.common.TransacaoDTO;
 import jakarta.validation.constraints.NotBlank;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 public class DespesaDTO extends TransacaoDTO {
     @NotBlank(message = "O destino do pagamento é obrigatório.")
     private String destinoPagamento;
 
+    public DespesaDTO() {
+    }
+
+    // Usado nas consultas que projetam direto no DTO (SELECT new ...), sem carregar a entidade
+    public DespesaDTO(String uuid, LocalDate data, BigDecimal valor, String categoria, String destinoPagamento, String observacoes) {
+        super(uuid, data, valor, categoria, observacoes);
+        this.destinoPagamento = destinoPagamento;
+    }
+
     // Getters and Setters
     public String getDestinoPagamento() {
         return destinoPagamento;
@@ -0,0 +1,7 @@
+package br.com.gestorfinanceiro.dto.exportacao;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Uma linha da exportação; contraparte é o destino da despesa ou a origem da receita
+public record LancamentoExportacaoDTO(LocalDate data, BigDecimal valor, String categoria, String contraparte, String observacoes) {}
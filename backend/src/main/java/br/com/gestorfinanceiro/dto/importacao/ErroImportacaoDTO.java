@@ -0,0 +1,4 @@
+package br.com.gestorfinanceiro.dto.importacao;
+
+// registro: número da linha de dados no CSV (sem o cabeçalho) ou da transação no OFX
+public record ErroImportacaoDTO(long registro, String mensagem) {}
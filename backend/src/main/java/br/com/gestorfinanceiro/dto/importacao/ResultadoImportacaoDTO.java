@@ -0,0 +1,40 @@
+package br.com.gestorfinanceiro.dto.importacao;
+
+import java.util.List;
+
+public class ResultadoImportacaoDTO {
+    private long importados;
+    private long rejeitados;
+    private List<ErroImportacaoDTO> erros;
+
+    public ResultadoImportacaoDTO(long importados, long rejeitados, List<ErroImportacaoDTO> erros) {
+        this.importados = importados;
+        this.rejeitados = rejeitados;
+        this.erros = erros;
+    }
+
+    // Getters e Setters (necessários para serialização JSON)
+    public long getImportados() {
+        return importados;
+    }
+
+    public void setImportados(long importados) {
+        this.importados = importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+
+    public List<ErroImportacaoDTO> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<ErroImportacaoDTO> erros) {
+        this.erros = erros;
+    }
+}
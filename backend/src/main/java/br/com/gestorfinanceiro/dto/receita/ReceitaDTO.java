@@ -3,10 +3,22 @@ package br.com.gestorfinanceiro.dto.receita;
 import br.com.gestorfinanceiro.dto.common.TransacaoDTO;
 import jakarta.validation.constraints.NotBlank;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 public class ReceitaDTO extends TransacaoDTO {
     @NotBlank(message = "A origem do pagamento é obrigatória.")
     private String origemDoPagamento;
 
+    public ReceitaDTO() {
+    }
+
+    // Usado nas consultas que projetam direto no DTO (SELECT new ...), sem carregar a entidade
+    public ReceitaDTO(String uuid, LocalDate data, BigDecimal valor, String categoria, String origemDoPagamento, String observacoes) {
+        super(uuid, data, valor, categoria, observacoes);
+        this.origemDoPagamento = origemDoPagamento;
+    }
+
     // Getters and Setters
 
     public String getOrigemDoPagamento() {
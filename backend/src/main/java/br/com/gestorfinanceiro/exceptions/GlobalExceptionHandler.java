@@ -60,6 +60,36 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return this.handleExceptionInternal(ex, problema, new HttpHeaders(), status, webRequest);
     }
 
+    // Handler para requisições sem um token JWT válido
+    @ExceptionHandler(UserNotAuthenticatedException.class)
+    public ResponseEntity<Object> handleUserNotAuthenticatedException(RuntimeException ex, WebRequest webRequest) {
+        HttpStatus status = HttpStatus.UNAUTHORIZED;
+        ProblemaType problemaType = ProblemaType.ERRO_DE_AUTENTICACAO;
+        String detail = "Token JWT inválido ou ausente";
+        Problema problema = createProblemaBuilder(status, problemaType, detail).build();
+        return this.handleExceptionInternal(ex, problema, new HttpHeaders(), status, webRequest);
+    }
+
+    // Handler para logins bloqueados pelo limite de tentativas por email/IP
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Object> handleLoginThrottledException(RuntimeException ex, WebRequest webRequest) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ProblemaType problemaType = ProblemaType.MUITAS_TENTATIVAS;
+        String detail = ex.getMessage();
+        Problema problema = createProblemaBuilder(status, problemaType, detail).build();
+        return this.handleExceptionInternal(ex, problema, new HttpHeaders(), status, webRequest);
+    }
+
+    // Handler para quando o pool de hashing de senhas está cheio
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Object> handlePasswordHashingBusyException(RuntimeException ex, WebRequest webRequest) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ProblemaType problemaType = ProblemaType.SERVICO_INDISPONIVEL;
+        String detail = ex.getMessage();
+        Problema problema = createProblemaBuilder(status, problemaType, detail).build();
+        return this.handleExceptionInternal(ex, problema, new HttpHeaders(), status, webRequest);
+    }
+
     // Handler para EmailAlreadyExistsException
     @ExceptionHandler(EmailAlreadyExistsException.class)
     public ResponseEntity<Object> handleEmailDuplicadoException(RuntimeException ex, WebRequest webRequest) {
@@ -241,6 +271,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return this.handleExceptionInternal(ex, problema, new HttpHeaders(), status, webRequest);
     }
 
+    @ExceptionHandler(ExclusaoCategoriaNotFoundException.class)
+    public ResponseEntity<Object> handleExclusaoCategoriaNotFoundException(RuntimeException ex, WebRequest webRequest) {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        ProblemaType problemaType = ProblemaType.RECURSO_NAO_ENCONTRADO;
+
+        Problema problema = createProblemaBuilder(status, problemaType, ex.getMessage())
+                .mensagem("Exclusão de categoria não encontrada")
+                .build();
+
+        return this.handleExceptionInternal(ex, problema, new HttpHeaders(), status, webRequest);
+    }
+
     @ExceptionHandler(CategoriaOperationException.class)
     public ResponseEntity<Object> handleCategoriaOperationException(RuntimeException ex, WebRequest webRequest) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -10,7 +10,9 @@ public enum ProblemaType {
     ACESSO_NEGADO("Acesso negado", "/acesso-negado"),
     RECURSO_NAO_ENCONTRADO("Recurso não encontrado", "/recurso-nao-encontrado"),
     OPERACAO_INVALIDA("Operação inválida", "/operacao-invalida"),
-    CONFLITO_DE_DADOS("Conflito de dados", "/conflito-de-dados");
+    CONFLITO_DE_DADOS("Conflito de dados", "/conflito-de-dados"),
+    SERVICO_INDISPONIVEL("Serviço indisponível", "/servico-indisponivel"),
+    MUITAS_TENTATIVAS("Muitas tentativas", "/muitas-tentativas");
 
 
     private final String title;
@@ -0,0 +1,7 @@
+package br.com.gestorfinanceiro.exceptions.categoria;
+
+public class ExclusaoCategoriaNotFoundException extends RuntimeException {
+    public ExclusaoCategoriaNotFoundException(String exclusaoId) {
+        super("Exclusão de categoria com id " + exclusaoId + " não encontrada.");
+    }
+}
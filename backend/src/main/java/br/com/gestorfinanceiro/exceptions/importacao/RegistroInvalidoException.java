@@ -0,0 +1,15 @@
+package br.com.gestorfinanceiro.exceptions.importacao;
+
+// Registro do arquivo importado que não pôde ser lido; a importação segue para o próximo
+public class RegistroInvalidoException extends RuntimeException {
+    private final long registro;
+
+    public RegistroInvalidoException(long registro, String message) {
+        super(message);
+        this.registro = registro;
+    }
+
+    public long getRegistro() {
+        return registro;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.gestorfinanceiro.exceptions.user;
+
+public class LoginThrottledException extends RuntimeException {
+    public LoginThrottledException() {
+        super("Muitas tentativas de login. Aguarde alguns instantes e tente novamente");
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.gestorfinanceiro.exceptions.user;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(Throwable cause) {
+        super("Serviço de autenticação sobrecarregado. Tente novamente em instantes", cause);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.gestorfinanceiro.exceptions.user;
+
+public class UserNotAuthenticatedException extends RuntimeException {
+    public UserNotAuthenticatedException() {
+        super("Token JWT inválido ou ausente");
+    }
+}
@@ -1,13 +1,18 @@
 package br.com.gestorfinanceiro.models;
 
+import br.com.gestorfinanceiro.config.CacheSegundoNivelConfig;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheSegundoNivelConfig.CATEGORIAS)
 @Table(name = "categorias")
 public class CategoriaEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @IdentificadorOrdenado
     private String uuid;
 
     @Column(nullable = false)
@@ -17,7 +22,7 @@ public class CategoriaEntity {
     @Enumerated(EnumType.STRING)
     private CategoriaType tipo;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
@@ -6,17 +6,23 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "despesas")
+// (user_id, data, valor) atende os filtros por usuário + intervalo de datas do dashboard
+// e cobre o SUM(valor) sem ler a tabela; consultas só por (user_id, data) usam o prefixo do índice
+@Table(name = "despesas", indexes = {
+        @Index(name = "idx_despesas_user_data_valor", columnList = "user_id, data, valor"),
+        // Ordem das listagens paginadas: o cursor (data, uuid) vira um range scan neste índice
+        @Index(name = "idx_despesas_user_data_uuid", columnList = "user_id, data, uuid")
+})
 public class DespesaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @IdentificadorOrdenado
     private String uuid;
 
     @Column(nullable = false)
     private LocalDate data;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "categoria_id")
     private CategoriaEntity categoria;
 
@@ -29,7 +35,7 @@ public class DespesaEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String observacoes;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
@@ -0,0 +1,41 @@
+package br.com.gestorfinanceiro.models;
+
+import br.com.gestorfinanceiro.utils.UuidUtils;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+
+public class GeradorIdentificadorOrdenado implements BeforeExecutionGenerator, AnnotationBasedGenerator<IdentificadorOrdenado> {
+
+    // Propriedade do Hibernate preenchida a partir de identificadores.ordenados (ver IdentificadoresConfig)
+    public static final String PROPRIEDADE_ORDENADOS = "gestorfinanceiro.identificadores.ordenados";
+
+    private boolean ordenados;
+
+    // Chamado pelo Hibernate depois de instanciar o gerador (que passa pelo bean container do Spring)
+    @Override
+    public void initialize(IdentificadorOrdenado anotacao, Member membro, GeneratorCreationContext contexto) {
+        ordenados = contexto.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(PROPRIEDADE_ORDENADOS, StandardConverters.BOOLEAN, false);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return (ordenados ? UuidUtils.gerarUuidV7() : UUID.randomUUID()).toString();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
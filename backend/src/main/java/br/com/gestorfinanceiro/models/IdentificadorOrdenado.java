@@ -0,0 +1,19 @@
+package br.com.gestorfinanceiro.models;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Id gerado na aplicação, antes do INSERT (os INSERTs continuam indo em batch), no formato de texto do UUID.
+ * Com identificadores.ordenados=true é um UUID versão 7, ordenado pelo instante de criação; por padrão
+ * segue o UUID aleatório (versão 4), já que o versão 7 expõe no próprio id quando o registro foi criado.
+ */
+@IdGeneratorType(GeradorIdentificadorOrdenado.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface IdentificadorOrdenado {
+}
@@ -1,23 +1,28 @@
 package br.com.gestorfinanceiro.models;
 
+import br.com.gestorfinanceiro.config.CacheSegundoNivelConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheSegundoNivelConfig.ORCAMENTOS)
 @Table(name = "orcamento_mensal")
 public class OrcamentoMensalEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @IdentificadorOrdenado
     private String uuid;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
-    @ManyToOne(cascade = {})
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {})
     @JoinColumn(name = "categoria_id", nullable = false)
     private CategoriaEntity categoria;
 
@@ -0,0 +1,71 @@
+package br.com.gestorfinanceiro.models;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+@Entity
+// Totais mensais por (usuário, categoria, mês, tipo), mantidos junto com as escritas em despesas e receitas.
+// É uma tabela derivada: não tem FKs e pode ser reconstruída a partir das tabelas de origem a qualquer momento.
+// O índice (user_id, mes) atende os filtros por usuário + intervalo de meses do dashboard e dos gráficos.
+@Table(name = "resumo_mensal", indexes = {
+        @Index(name = "idx_resumo_mensal_user_mes", columnList = "user_id, mes")
+})
+public class ResumoMensalEntity {
+
+    @EmbeddedId
+    private ResumoMensalId id;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private long quantidade;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal maiorValor;
+
+    // Construtores
+    public ResumoMensalEntity() {
+    }
+
+    public ResumoMensalEntity(ResumoMensalId id, BigDecimal total, long quantidade, BigDecimal maiorValor) {
+        this.id = id;
+        this.total = total;
+        this.quantidade = quantidade;
+        this.maiorValor = maiorValor;
+    }
+
+    // Getters and Setters
+    public ResumoMensalId getId() {
+        return id;
+    }
+
+    public void setId(ResumoMensalId id) {
+        this.id = id;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public BigDecimal getMaiorValor() {
+        return maiorValor;
+    }
+
+    public void setMaiorValor(BigDecimal maiorValor) {
+        this.maiorValor = maiorValor;
+    }
+}
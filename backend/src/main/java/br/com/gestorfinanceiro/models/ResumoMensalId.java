@@ -0,0 +1,101 @@
+package br.com.gestorfinanceiro.models;
+
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+
+@Embeddable
+public class ResumoMensalId implements Serializable {
+
+    // Balde dos lançamentos sem categoria: a chave não aceita nulo e o UUID nulo vale em varchar e em uuid nativo
+    public static final String SEM_CATEGORIA = "00000000-0000-0000-0000-000000000000";
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "categoria_id", nullable = false)
+    private String categoriaId;
+
+    // Primeiro dia do mês, para filtrar com o mesmo intervalo semiaberto das tabelas de origem
+    @Column(name = "mes", nullable = false)
+    private LocalDate mes;
+
+    @Column(name = "tipo", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private CategoriaType tipo;
+
+    // Construtores
+    public ResumoMensalId() {
+    }
+
+    public ResumoMensalId(String userId, String categoriaId, YearMonth mes, CategoriaType tipo) {
+        this.userId = userId;
+        this.categoriaId = categoriaId != null ? categoriaId : SEM_CATEGORIA;
+        this.mes = mes.atDay(1);
+        this.tipo = tipo;
+    }
+
+    // Getters and Setters
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getCategoriaId() {
+        return categoriaId;
+    }
+
+    public void setCategoriaId(String categoriaId) {
+        this.categoriaId = categoriaId;
+    }
+
+    public LocalDate getMes() {
+        return mes;
+    }
+
+    public void setMes(LocalDate mes) {
+        this.mes = mes;
+    }
+
+    public CategoriaType getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(CategoriaType tipo) {
+        this.tipo = tipo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResumoMensalId that)) {
+            return false;
+        }
+        return Objects.equals(userId, that.userId)
+                && Objects.equals(categoriaId, that.categoriaId)
+                && Objects.equals(mes, that.mes)
+                && tipo == that.tipo;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, categoriaId, mes, tipo);
+    }
+
+    @Override
+    public String toString() {
+        return tipo + "/" + userId + "/" + categoriaId + "/" + YearMonth.from(mes);
+    }
+}
@@ -1,7 +1,12 @@
 package br.com.gestorfinanceiro.models;
 
+import br.com.gestorfinanceiro.config.CacheSegundoNivelConfig;
 import br.com.gestorfinanceiro.models.enums.Roles;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +16,9 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheSegundoNivelConfig.USUARIOS)
+@NaturalIdCache(region = CacheSegundoNivelConfig.USUARIOS_POR_EMAIL)
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
@@ -18,12 +26,14 @@ import java.util.Objects;
 public class UserEntity implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @IdentificadorOrdenado
     private String uuid;
 
     @Column(nullable = false, unique = true)
     private String username;
 
+    // Chave do login e do JwtFilter: findByEmail resolve o id pelo cache de natural id, sem SELECT
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
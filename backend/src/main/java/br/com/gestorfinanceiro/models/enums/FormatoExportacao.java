@@ -0,0 +1,33 @@
+package br.com.gestorfinanceiro.models.enums;
+
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+
+public enum FormatoExportacao {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public static FormatoExportacao deParametro(String formato) {
+        for (FormatoExportacao valor : values()) {
+            if (valor.extensao.equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new InvalidDataException("Formato de exportação inválido: " + formato + ". Use csv ou ndjson.");
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.gestorfinanceiro.models.enums;
+
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+
+public enum FormatoImportacao {
+    CSV,
+    OFX;
+
+    // Formato informado na requisição ou, na falta dele, a extensão do arquivo
+    public static FormatoImportacao deParametroOuArquivo(String formato, String nomeArquivo) {
+        String escolhido = formato;
+        if ((escolhido == null || escolhido.isBlank()) && nomeArquivo != null && nomeArquivo.contains(".")) {
+            escolhido = nomeArquivo.substring(nomeArquivo.lastIndexOf('.') + 1);
+        }
+
+        for (FormatoImportacao valor : values()) {
+            if (valor.name().equalsIgnoreCase(escolhido)) {
+                return valor;
+            }
+        }
+        throw new InvalidDataException("Formato de importação inválido: " + escolhido + ". Use csv ou ofx.");
+    }
+}
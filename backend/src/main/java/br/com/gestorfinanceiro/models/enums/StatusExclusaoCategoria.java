@@ -0,0 +1,8 @@
+package br.com.gestorfinanceiro.models.enums;
+
+public enum StatusExclusaoCategoria {
+    PENDENTE,
+    EM_ANDAMENTO,
+    CONCLUIDA,
+    FALHOU
+}
@@ -3,14 +3,28 @@ package br.com.gestorfinanceiro.repositories;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.repositories.custom.DespesaRepositoryCustom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DespesaRepository extends JpaRepository<DespesaEntity, String>, DespesaRepositoryCustom {
+    // Listagens e buscas por id são convertidas em DTO com o nome da categoria: a categoria vem no mesmo SELECT
+    @EntityGraph(attributePaths = "categoria")
     List<DespesaEntity> findAllByUserUuid(String userId);
 
-    List<DespesaEntity> findAllByCategoria(CategoriaEntity categoria);
+    @Override
+    @EntityGraph(attributePaths = "categoria")
+    Optional<DespesaEntity> findById(String uuid);
+
+    // Move os lançamentos de uma categoria para outra em um único UPDATE, sem carregar as entidades
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DespesaEntity d SET d.categoria = :destino WHERE d.categoria = :origem")
+    int reatribuirCategoria(@Param("origem") CategoriaEntity origem, @Param("destino") CategoriaEntity destino);
 }
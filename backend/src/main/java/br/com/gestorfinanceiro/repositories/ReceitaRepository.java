@@ -3,12 +3,26 @@ package br.com.gestorfinanceiro.repositories;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.repositories.custom.ReceitaRepositoryCustom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ReceitaRepository extends JpaRepository<ReceitaEntity, String>, ReceitaRepositoryCustom {
+    // Listagens e buscas por id são convertidas em DTO com o nome da categoria: a categoria vem no mesmo SELECT
+    @EntityGraph(attributePaths = "categoria")
     List<ReceitaEntity> findAllByUserUuid(String userId);
 
-    List<ReceitaEntity> findAllByCategoria(CategoriaEntity categoria);
+    @Override
+    @EntityGraph(attributePaths = "categoria")
+    Optional<ReceitaEntity> findById(String uuid);
+
+    // Move os lançamentos de uma categoria para outra em um único UPDATE, sem carregar as entidades
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReceitaEntity r SET r.categoria = :destino WHERE r.categoria = :origem")
+    int reatribuirCategoria(@Param("origem") CategoriaEntity origem, @Param("destino") CategoriaEntity destino);
 }
@@ -0,0 +1,14 @@
+package br.com.gestorfinanceiro.repositories;
+
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.repositories.custom.ResumoMensalRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumoMensalRepository extends JpaRepository<ResumoMensalEntity, ResumoMensalId>, ResumoMensalRepositoryCustom {
+    List<ResumoMensalEntity> findAllByIdUserId(String userId);
+}
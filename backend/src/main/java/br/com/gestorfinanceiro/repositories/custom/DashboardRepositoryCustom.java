@@ -0,0 +1,11 @@
+package br.com.gestorfinanceiro.repositories.custom;
+
+import br.com.gestorfinanceiro.dto.dashboard.DashboardResumoDTO;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+
+@Repository
+public interface DashboardRepositoryCustom {
+    DashboardResumoDTO findResumoByUserIdAndYearMonth(String userId, YearMonth periodo);
+}
@@ -1,21 +1,23 @@
 package br.com.gestorfinanceiro.repositories.custom;
 
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO;
 import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public interface DespesaRepositoryCustom {
-    List<DespesaEntity>findByUserAndYearMonthRange (String userId, YearMonth inicio, YearMonth fim);
-    List<DespesaEntity> findByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim);
-    List<DespesaEntity> findByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max);
-    BigDecimal sumDespesasByUserIdAndYearMonth(String userId, int year, int month);
     DespesaEntity findTopByUserIdAndYearMonthOrderByValorDesc(String userId, int year, int month);
-    Map<String, BigDecimal> findCategoriaWithHighestDespesaByUserIdAndYearMonth(String userId, int year, int month);
-    BigDecimal sumDespesasByUserIdAndYearMonth(String userId, YearMonth yearMonth);
+    Map<String, BigDecimal> sumValorPorCategoriaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim);
+    List<DespesaDTO> findPaginaByUserId(String userId, CursorUtils.Posicao depois, int limite);
+    List<DespesaDTO> findPaginaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim, CursorUtils.Posicao depois, int limite);
+    List<DespesaDTO> findPaginaByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max, CursorUtils.Posicao depois, int limite);
+    Stream<LancamentoExportacaoDTO> streamExportacaoByUserId(String userId, int fetchSize);
 }
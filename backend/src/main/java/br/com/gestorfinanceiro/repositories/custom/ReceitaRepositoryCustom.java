@@ -1,21 +1,23 @@
 package br.com.gestorfinanceiro.repositories.custom;
 
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+import br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReceitaRepositoryCustom {
-    List<ReceitaEntity> findByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim);
-    List<ReceitaEntity> findByUserAndYearMonthRange (String userId, YearMonth inicio, YearMonth fim);
-    List<ReceitaEntity> findByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max);
-    BigDecimal sumReceitasByUserIdAndYearMonth(String userId, int year, int month);
     ReceitaEntity findTopByUserIdAndYearMonthOrderByValorDesc(String userId, int year, int month);
-    Map<String, BigDecimal> findCategoriaWithHighestReceitaByUserIdAndYearMonth(String userId, int year, int month);
-    BigDecimal sumReceitasByUserIdAndYearMonth(String userId, YearMonth yearMonth);
+    Map<String, BigDecimal> sumValorPorCategoriaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim);
+    List<ReceitaDTO> findPaginaByUserId(String userId, CursorUtils.Posicao depois, int limite);
+    List<ReceitaDTO> findPaginaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim, CursorUtils.Posicao depois, int limite);
+    List<ReceitaDTO> findPaginaByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max, CursorUtils.Posicao depois, int limite);
+    Stream<LancamentoExportacaoDTO> streamExportacaoByUserId(String userId, int fetchSize);
 }
@@ -0,0 +1,27 @@
+package br.com.gestorfinanceiro.repositories.custom;
+
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public interface ResumoMensalRepositoryCustom {
+    ResumoMensalEntity findByIdParaAtualizacao(ResumoMensalId id);
+    void inserir(ResumoMensalEntity resumo);
+    void somar(ResumoMensalEntity parcial);
+    int moverCategoria(String userId, String categoriaOrigem, String categoriaDestino);
+    BigDecimal findMaiorValorNosLancamentos(ResumoMensalId id);
+    List<ResumoMensalEntity> agregarLancamentosByUserId(String userId, CategoriaType tipo);
+    int deleteAllByUserId(String userId);
+    List<String> findAllUserIds();
+    BigDecimal sumTotalByUserIdAndYearMonth(String userId, CategoriaType tipo, YearMonth mes);
+    Map<String, BigDecimal> findCategoriaWithHighestTotalByUserIdAndYearMonth(String userId, CategoriaType tipo, YearMonth mes);
+    Map<YearMonth, BigDecimal> sumTotalPorMesByUserIdAndYearMonthRange(String userId, CategoriaType tipo, YearMonth inicio, YearMonth fim);
+    Map<String, BigDecimal> sumTotalPorCategoriaByUserIdAndYearMonthRange(String userId, CategoriaType tipo, YearMonth inicio, YearMonth fim);
+}
@@ -0,0 +1,13 @@
+package br.com.gestorfinanceiro.repositories.custom;
+
+import br.com.gestorfinanceiro.models.UserEntity;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserRepositoryCustom {
+    Optional<UserEntity> findByEmail(String email);
+
+    Optional<UserEntity> findByIdNoPrimario(String id);
+}
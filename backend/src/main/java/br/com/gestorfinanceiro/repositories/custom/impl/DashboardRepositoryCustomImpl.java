@@ -0,0 +1,134 @@
+package br.com.gestorfinanceiro.repositories.custom.impl;
+
+import br.com.gestorfinanceiro.dto.common.TransacaoDTO;
+import br.com.gestorfinanceiro.dto.dashboard.DashboardResumoDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.custom.DashboardRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resumo do dashboard de um mês em duas consultas set-based (resumo mensal + despesas e receitas),
+ * no lugar de uma consulta por card (cada uma precedida de um existsById).
+ */
+@Repository
+public class DashboardRepositoryCustomImpl implements DashboardRepositoryCustom {
+
+    private static final String USER_ID = "userId";
+    private static final String INICIO_PARAM = "inicio";
+    private static final String FIM_PARAM = "fim";
+
+    // Lançamentos do mês dos dois tipos, com o filtro semiaberto que usa o índice (user_id, data, valor)
+    private static final String LANCAMENTOS_DO_MES =
+            "SELECT 'DESPESAS' AS tipo, d.uuid, d.data, d.valor, d.destino_pagamento AS origem_destino, " +
+            "       d.observacoes, d.categoria_id " +
+            "FROM despesas d WHERE d.user_id = :userId AND d.data >= :inicio AND d.data < :fim " +
+            "UNION ALL " +
+            "SELECT 'RECEITAS' AS tipo, r.uuid, r.data, r.valor, r.origem_do_pagamento AS origem_destino, " +
+            "       r.observacoes, r.categoria_id " +
+            "FROM receitas r WHERE r.user_id = :userId AND r.data >= :inicio AND r.data < :fim";
+
+    // Uma linha por tipo, lida do resumo mensal: a categoria com maior total, o total do tipo e o saldo
+    // (agregação condicional). O resumo já está agrupado por categoria, então são poucas linhas por mês.
+    // LEFT JOIN para o balde sem categoria entrar nos totais; ele só vira a "maior categoria" se for o único.
+    private static final String TOTAIS_E_CATEGORIAS =
+            "SELECT tipo, categoria, total_categoria, total_tipo, saldo FROM ( " +
+            "  SELECT r.tipo AS tipo, c.nome AS categoria, SUM(r.total) AS total_categoria, " +
+            "         SUM(SUM(r.total)) OVER (PARTITION BY r.tipo) AS total_tipo, " +
+            "         SUM(SUM(CASE WHEN r.tipo = 'RECEITAS' THEN r.total ELSE -r.total END)) OVER () AS saldo, " +
+            "         ROW_NUMBER() OVER (PARTITION BY r.tipo " +
+            "                            ORDER BY CASE WHEN c.nome IS NULL THEN 1 ELSE 0 END, SUM(r.total) DESC) AS posicao " +
+            "  FROM resumo_mensal r " +
+            "  LEFT JOIN categorias c ON c.uuid = r.categoria_id " +
+            "  WHERE r.user_id = :userId AND r.mes >= :inicio AND r.mes < :fim " +
+            "  GROUP BY r.tipo, c.nome " +
+            ") t WHERE posicao = 1";
+
+    // Uma linha por tipo com o lançamento de maior valor do mês
+    private static final String MAIORES_LANCAMENTOS =
+            "SELECT tipo, uuid, data, valor, origem_destino, observacoes, categoria FROM ( " +
+            "  SELECT l.tipo AS tipo, l.uuid AS uuid, l.data AS data, l.valor AS valor, " +
+            "         l.origem_destino AS origem_destino, l.observacoes AS observacoes, c.nome AS categoria, " +
+            "         ROW_NUMBER() OVER (PARTITION BY l.tipo ORDER BY l.valor DESC) AS posicao " +
+            "  FROM (" + LANCAMENTOS_DO_MES + ") l " +
+            "  LEFT JOIN categorias c ON c.uuid = l.categoria_id " +
+            ") t WHERE posicao = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public DashboardResumoDTO findResumoByUserIdAndYearMonth(String userId, YearMonth periodo) {
+        DashboardResumoDTO resumo = new DashboardResumoDTO(periodo);
+
+        for (Object[] linha : consultar(TOTAIS_E_CATEGORIAS, userId, periodo)) {
+            boolean despesa = isDespesa(linha[0]);
+            String categoria = (String) linha[1];
+            Map<String, BigDecimal> categoriaComMaiorTotal = categoria != null
+                    ? Map.of(categoria, (BigDecimal) linha[2])
+                    : Map.of();
+
+            if (despesa) {
+                resumo.setDespesaTotal((BigDecimal) linha[3]);
+                resumo.setCategoriaMaiorDespesa(categoriaComMaiorTotal);
+            } else {
+                resumo.setReceitaTotal((BigDecimal) linha[3]);
+                resumo.setCategoriaMaiorReceita(categoriaComMaiorTotal);
+            }
+            resumo.setSaldoTotal((BigDecimal) linha[4]);
+        }
+
+        for (Object[] linha : consultar(MAIORES_LANCAMENTOS, userId, periodo)) {
+            if (isDespesa(linha[0])) {
+                DespesaDTO maiorDespesa = new DespesaDTO();
+                preencherTransacao(maiorDespesa, linha);
+                maiorDespesa.setDestinoPagamento((String) linha[4]);
+                resumo.setMaiorDespesa(maiorDespesa);
+            } else {
+                ReceitaDTO maiorReceita = new ReceitaDTO();
+                preencherTransacao(maiorReceita, linha);
+                maiorReceita.setOrigemDoPagamento((String) linha[4]);
+                resumo.setMaiorReceita(maiorReceita);
+            }
+        }
+
+        return resumo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> consultar(String sql, String userId, YearMonth periodo) {
+        return entityManager.createNativeQuery(sql)
+                .setParameter(USER_ID, userId)
+                .setParameter(INICIO_PARAM, periodo.atDay(1))
+                .setParameter(FIM_PARAM, periodo.plusMonths(1).atDay(1))
+                .getResultList();
+    }
+
+    private static void preencherTransacao(TransacaoDTO dto, Object[] linha) {
+        // Com os ids em uuid nativo (PostgreSQL) o driver devolve java.util.UUID, não String
+        dto.setUuid(Objects.toString(linha[1], null));
+        dto.setData(toLocalDate(linha[2]));
+        dto.setValor((BigDecimal) linha[3]);
+        dto.setObservacoes((String) linha[5]);
+        dto.setCategoria((String) linha[6]);
+    }
+
+    private static boolean isDespesa(Object tipo) {
+        return CategoriaType.DESPESAS.name().equals(String.valueOf(tipo).trim());
+    }
+
+    private static LocalDate toLocalDate(Object data) {
+        return data instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) data;
+    }
+}
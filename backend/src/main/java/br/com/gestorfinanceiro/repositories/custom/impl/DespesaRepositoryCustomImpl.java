@@ -1,129 +1,125 @@
 package br.com.gestorfinanceiro.repositories.custom.impl;
 
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO;
 import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.repositories.custom.DespesaRepositoryCustom;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.YearMonth;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Repository
 public class DespesaRepositoryCustomImpl implements DespesaRepositoryCustom {
 
     private static final String USER_ID = "userId";
-    private static final String YEAR_PARAM = "year";
-    private static final String MONTH_PARAM = "month";
+    private static final String INICIO_PARAM = "inicio";
+    private static final String FIM_PARAM = "fim";
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
-    public List<DespesaEntity> findByUserAndYearMonthRange(String userId, YearMonth inicio, YearMonth fim) {
-        String jpql = "SELECT d FROM DespesaEntity d WHERE d.user.uuid = :userId AND d.data BETWEEN :inicio AND :fim ORDER BY d.data";
+    public DespesaEntity findTopByUserIdAndYearMonthOrderByValorDesc(String userId, int year, int month) {
+        String jpql = "SELECT d FROM DespesaEntity d LEFT JOIN FETCH d.categoria WHERE d.user.uuid = :userId AND d.data >= :inicio AND d.data < :fim ORDER BY d.valor DESC";
 
-        return entityManager.createQuery(jpql, DespesaEntity.class)
+        List<DespesaEntity> result = entityManager.createQuery(jpql, DespesaEntity.class)
                 .setParameter(USER_ID, userId)
-                .setParameter("inicio", inicio.atDay(1))
-                .setParameter("fim", fim.atEndOfMonth())
+                .setParameter(INICIO_PARAM, inicioDoMes(year, month))
+                .setParameter(FIM_PARAM, inicioDoMes(year, month).plusMonths(1))
+                .setMaxResults(1)
                 .getResultList();
-    }
 
-    @Override
-    public List<DespesaEntity> findByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim) {
-        String jpql = "SELECT d FROM DespesaEntity d WHERE d.user.uuid = :userId AND d.data BETWEEN :inicio AND :fim";
-
-        TypedQuery<DespesaEntity> query = entityManager.createQuery(jpql, DespesaEntity.class);
-        query.setParameter(USER_ID, userId);
-        query.setParameter("inicio", inicio);
-        query.setParameter("fim", fim);
+        return result.isEmpty() ? null : result.get(0);
+    }
 
-        return query.getResultList();
+    // Intervalo semiaberto [primeiro dia do mês, primeiro dia do mês seguinte): sem funções sobre a coluna
+    // "data", o filtro pode usar o índice (user_id, data, valor) com um range scan
+    static LocalDate inicioDoMes(int year, int month) {
+        return LocalDate.of(year, month, 1);
     }
 
+    // Soma por categoria direto no banco: volta uma linha (nome, soma) por categoria, sem carregar entidades
     @Override
-    public List<DespesaEntity> findByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max) {
-        String jpql = "SELECT r FROM DespesaEntity r WHERE r.user.uuid = :userId AND r.valor BETWEEN :min AND :max";
+    public Map<String, BigDecimal> sumValorPorCategoriaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim) {
+        String jpql = "SELECT c.nome, SUM(d.valor) AS total FROM DespesaEntity d JOIN d.categoria c " +
+                "WHERE d.user.uuid = :userId AND d.data >= :inicio AND d.data < :fim " +
+                "GROUP BY c.nome " +
+                "ORDER BY total DESC";
 
-        return entityManager.createQuery(jpql, DespesaEntity.class)
+        Map<String, BigDecimal> totais = new LinkedHashMap<>();
+        entityManager.createQuery(jpql, Object[].class)
                 .setParameter(USER_ID, userId)
-                .setParameter("min", min)
-                .setParameter("max", max)
-                .getResultList();
+                .setParameter(INICIO_PARAM, inicio)
+                .setParameter(FIM_PARAM, fim.plusDays(1))
+                .getResultList()
+                .forEach(linha -> totais.put((String) linha[0], (BigDecimal) linha[1]));
+        return totais;
     }
 
     @Override
-    public BigDecimal sumDespesasByUserIdAndYearMonth(String userId, int year, int month) {
-        String jpql = "SELECT SUM(d.valor) FROM DespesaEntity d WHERE d.user.uuid = :userId AND YEAR(d.data) = :year AND MONTH(d.data) = :month";
-
-        BigDecimal result = entityManager.createQuery(jpql, BigDecimal.class)
-                .setParameter(USER_ID, userId)
-                .setParameter(YEAR_PARAM, year)
-                .setParameter(MONTH_PARAM, month)
-                .getSingleResult();
-
-        return result != null ? result : BigDecimal.ZERO;
+    public List<DespesaDTO> findPaginaByUserId(String userId, CursorUtils.Posicao depois, int limite) {
+        return buscarPagina("d.user.uuid = :userId", Map.of(USER_ID, userId), depois, limite);
     }
 
     @Override
-    public DespesaEntity findTopByUserIdAndYearMonthOrderByValorDesc(String userId, int year, int month) {
-        String jpql = "SELECT d FROM DespesaEntity d WHERE d.user.uuid = :userId AND YEAR(d.data) = :year AND MONTH(d.data) = :month ORDER BY d.valor DESC";
-
-        List<DespesaEntity> result = entityManager.createQuery(jpql, DespesaEntity.class)
-                .setParameter(USER_ID, userId)
-                .setParameter(YEAR_PARAM, year)
-                .setParameter(MONTH_PARAM, month)
-                .setMaxResults(1)
-                .getResultList();
-
-        return result.isEmpty() ? null : result.get(0);
+    public List<DespesaDTO> findPaginaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim, CursorUtils.Posicao depois, int limite) {
+        return buscarPagina("d.user.uuid = :userId AND d.data BETWEEN :inicio AND :fim",
+                Map.of(USER_ID, userId, INICIO_PARAM, inicio, FIM_PARAM, fim), depois, limite);
     }
 
     @Override
-    public Map<String, BigDecimal> findCategoriaWithHighestDespesaByUserIdAndYearMonth(String userId, int year, int month) {
-        String jpql = "SELECT d.categoria.nome AS categoria, SUM(d.valor) AS total " +
-                "FROM DespesaEntity d " +
-                "WHERE d.user.uuid = :userId AND YEAR(d.data) = :year AND MONTH(d.data) = :month " +
-                "GROUP BY d.categoria.nome " +
-                "ORDER BY total DESC";
-
-        return getStringBigDecimalMap(userId, year, month, jpql, entityManager, USER_ID);
+    public List<DespesaDTO> findPaginaByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max, CursorUtils.Posicao depois, int limite) {
+        return buscarPagina("d.user.uuid = :userId AND d.valor BETWEEN :min AND :max",
+                Map.of(USER_ID, userId, "min", min, "max", max), depois, limite);
     }
 
-    static Map<String, BigDecimal> getStringBigDecimalMap(String userId, int year, int month, String jpql, EntityManager entityManager, String userId2) {
-        List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
-                .setParameter(userId2, userId)
-                .setParameter(YEAR_PARAM, year)
-                .setParameter(MONTH_PARAM, month)
-                .setMaxResults(1)
-                .getResultList();
-
-        if (results.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        Object[] result = results.get(0);
-        return Map.of((String) result[0], (BigDecimal) result[1]);
+    // Cursor forward-only sobre o banco (ScrollableResults por baixo do stream), buscando fetchSize linhas por vez.
+    // Projeção sem entidades: nada se acumula no contexto de persistência. Quem chama deve fechar o stream.
+    @Override
+    public Stream<LancamentoExportacaoDTO> streamExportacaoByUserId(String userId, int fetchSize) {
+        String jpql = "SELECT new br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO(" +
+                "d.data, d.valor, c.nome, d.destinoPagamento, d.observacoes) " +
+                "FROM DespesaEntity d LEFT JOIN d.categoria c " +
+                "WHERE d.user.uuid = :userId " +
+                "ORDER BY d.data, d.uuid";
+
+        return entityManager.createQuery(jpql, LancamentoExportacaoDTO.class)
+                .setParameter(USER_ID, userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
     }
 
-    @Override
-    public BigDecimal sumDespesasByUserIdAndYearMonth(String userId, YearMonth yearMonth) {
-        String jpql = String.format("SELECT SUM(d.valor) FROM DespesaEntity d WHERE d.user.uuid = :%s " +
-                        "AND YEAR(d.data) = :%s AND MONTH(d.data) = :%s",
-                USER_ID, YEAR_PARAM, MONTH_PARAM);
+    // Keyset: continua depois do último (data, uuid) visto em vez de usar OFFSET, então uma página funda
+    // custa o mesmo que a primeira (range scan em idx_despesas_user_data_uuid). Projeta direto no DTO, sem entidades.
+    private List<DespesaDTO> buscarPagina(String filtro, Map<String, Object> parametros, CursorUtils.Posicao depois, int limite) {
+        StringBuilder jpql = new StringBuilder("SELECT new br.com.gestorfinanceiro.dto.despesa.DespesaDTO(" +
+                "d.uuid, d.data, d.valor, c.nome, d.destinoPagamento, d.observacoes) " +
+                "FROM DespesaEntity d LEFT JOIN d.categoria c WHERE ").append(filtro);
 
-        BigDecimal result = entityManager.createQuery(jpql, BigDecimal.class)
-                .setParameter(USER_ID, userId)
-                .setParameter(YEAR_PARAM, yearMonth.getYear())
-                .setParameter(MONTH_PARAM, yearMonth.getMonthValue())
-                .getSingleResult();
+        if (depois != null) {
+            jpql.append(" AND (d.data > :cursorData OR (d.data = :cursorData AND d.uuid > :cursorUuid))");
+        }
+        jpql.append(" ORDER BY d.data, d.uuid");
+
+        TypedQuery<DespesaDTO> query = entityManager.createQuery(jpql.toString(), DespesaDTO.class)
+                .setMaxResults(limite);
+        parametros.forEach(query::setParameter);
+        if (depois != null) {
+            query.setParameter("cursorData", depois.data());
+            query.setParameter("cursorUuid", depois.uuid());
+        }
 
-        return result != null ? result : BigDecimal.ZERO;
+        return query.getResultList();
     }
 }
@@ -19,7 +19,7 @@ public class OrcamentoMensalRepositoryCustomImpl implements OrcamentoMensalRepos
 
     @Override
     public Optional<OrcamentoMensalEntity> findByCategoriaAndPeriodoAndUserUuid(CategoriaEntity categoria, YearMonth periodo, String userId) {
-        String jpql = "SELECT o FROM OrcamentoMensalEntity o WHERE o.user.uuid = :userId AND o.categoria = :categoria AND o.periodo = :periodo";
+        String jpql = "SELECT o FROM OrcamentoMensalEntity o JOIN FETCH o.categoria WHERE o.user.uuid = :userId AND o.categoria = :categoria AND o.periodo = :periodo";
 
         return entityManager.createQuery(jpql, OrcamentoMensalEntity.class)
                 .setParameter(USER_ID, userId)
@@ -32,7 +32,7 @@ public class OrcamentoMensalRepositoryCustomImpl implements OrcamentoMensalRepos
 
     @Override
     public Optional<OrcamentoMensalEntity> findByUuidAndUserUuid(String uuid, String userId) {
-        String jpql = "SELECT o FROM OrcamentoMensalEntity o WHERE o.uuid = :uuid AND o.user.uuid = :userId";
+        String jpql = "SELECT o FROM OrcamentoMensalEntity o JOIN FETCH o.categoria WHERE o.uuid = :uuid AND o.user.uuid = :userId";
 
         return entityManager.createQuery(jpql, OrcamentoMensalEntity.class)
                 .setParameter("uuid", uuid)
@@ -44,7 +44,7 @@ public class OrcamentoMensalRepositoryCustomImpl implements OrcamentoMensalRepos
 
     @Override
     public List<OrcamentoMensalEntity> findByUserId(String userId) {
-        String jpql = "SELECT o FROM OrcamentoMensalEntity o WHERE o.user.uuid = :userId";
+        String jpql = "SELECT o FROM OrcamentoMensalEntity o JOIN FETCH o.categoria WHERE o.user.uuid = :userId";
 
         return entityManager.createQuery(jpql, OrcamentoMensalEntity.class)
                 .setParameter(USER_ID, userId)
@@ -53,7 +53,7 @@ public class OrcamentoMensalRepositoryCustomImpl implements OrcamentoMensalRepos
 
     @Override
     public List<OrcamentoMensalEntity> findByPeriodo(YearMonth periodo) {
-        String jpql = "SELECT o FROM OrcamentoMensalEntity o WHERE o.periodo = :periodo";
+        String jpql = "SELECT o FROM OrcamentoMensalEntity o JOIN FETCH o.categoria WHERE o.periodo = :periodo";
 
         return entityManager.createQuery(jpql, OrcamentoMensalEntity.class)
                 .setParameter("periodo", periodo)
@@ -1,115 +1,121 @@
 package br.com.gestorfinanceiro.repositories.custom.impl;
 
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+import br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.repositories.custom.ReceitaRepositoryCustom;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.YearMonth;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
-import static br.com.gestorfinanceiro.repositories.custom.impl.DespesaRepositoryCustomImpl.getStringBigDecimalMap;
+import static br.com.gestorfinanceiro.repositories.custom.impl.DespesaRepositoryCustomImpl.inicioDoMes;
 
 @Repository
 public class ReceitaRepositoryCustomImpl implements ReceitaRepositoryCustom {
 
     private static final String USER_ID = "userId";
-    private static final String YEAR_PARAM = "year";
-    private static final String MONTH_PARAM = "month";
+    private static final String INICIO_PARAM = "inicio";
+    private static final String FIM_PARAM = "fim";
 
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
-    public List<ReceitaEntity> findByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim) {
-        String jpql = "SELECT r FROM ReceitaEntity r WHERE r.user.uuid = :userId AND r.data BETWEEN :inicio AND :fim";
-
-        TypedQuery<ReceitaEntity> query = entityManager.createQuery(jpql, ReceitaEntity.class);
-        query.setParameter(USER_ID, userId);
-        query.setParameter("inicio", inicio);
-        query.setParameter("fim", fim);
-
-        return query.getResultList();
-    }
-
-    @Override
-    public List<ReceitaEntity> findByUserAndYearMonthRange(String userId, YearMonth inicio, YearMonth fim) {
-        String jpql = "SELECT r FROM ReceitaEntity r WHERE r.user.uuid = :userId AND r.data BETWEEN :inicio AND :fim ORDER BY r.data";
+    public ReceitaEntity findTopByUserIdAndYearMonthOrderByValorDesc(String userId, int year, int month) {
+        String jpql = "SELECT r FROM ReceitaEntity r LEFT JOIN FETCH r.categoria WHERE r.user.uuid = :userId AND r.data >= :inicio AND r.data < :fim ORDER BY r.valor DESC";
 
-        return entityManager.createQuery(jpql, ReceitaEntity.class)
+        List<ReceitaEntity> result = entityManager.createQuery(jpql, ReceitaEntity.class)
                 .setParameter(USER_ID, userId)
-                .setParameter("inicio", inicio.atDay(1))
-                .setParameter("fim", fim.atEndOfMonth())
+                .setParameter(INICIO_PARAM, inicioDoMes(year, month))
+                .setParameter(FIM_PARAM, inicioDoMes(year, month).plusMonths(1))
+                .setMaxResults(1)
                 .getResultList();
+
+        return result.isEmpty() ? null : result.get(0);
     }
 
+    // Soma por categoria direto no banco: volta uma linha (nome, soma) por categoria, sem carregar entidades
     @Override
-    public List<ReceitaEntity> findByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max) {
-        String jpql = "SELECT r FROM ReceitaEntity r WHERE r.user.uuid = :userId AND r.valor BETWEEN :min AND :max";
+    public Map<String, BigDecimal> sumValorPorCategoriaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim) {
+        String jpql = "SELECT c.nome, SUM(r.valor) AS total FROM ReceitaEntity r JOIN r.categoria c " +
+                "WHERE r.user.uuid = :userId AND r.data >= :inicio AND r.data < :fim " +
+                "GROUP BY c.nome " +
+                "ORDER BY total DESC";
 
-        return entityManager.createQuery(jpql, ReceitaEntity.class)
+        Map<String, BigDecimal> totais = new LinkedHashMap<>();
+        entityManager.createQuery(jpql, Object[].class)
                 .setParameter(USER_ID, userId)
-                .setParameter("min", min)
-                .setParameter("max", max)
-                .getResultList();
+                .setParameter(INICIO_PARAM, inicio)
+                .setParameter(FIM_PARAM, fim.plusDays(1))
+                .getResultList()
+                .forEach(linha -> totais.put((String) linha[0], (BigDecimal) linha[1]));
+        return totais;
     }
 
     @Override
-    public BigDecimal sumReceitasByUserIdAndYearMonth(String userId, int year, int month) {
-        String jpql = "SELECT SUM(r.valor) FROM ReceitaEntity r WHERE r.user.uuid = :userId AND YEAR(r.data) = :year AND MONTH(r.data) = :month";
-
-        BigDecimal result = entityManager.createQuery(jpql, BigDecimal.class)
-                .setParameter(USER_ID, userId)
-                .setParameter(YEAR_PARAM, year)
-                .setParameter(MONTH_PARAM, month)
-                .getSingleResult();
-
-        return result != null ? result : BigDecimal.ZERO;
+    public List<ReceitaDTO> findPaginaByUserId(String userId, CursorUtils.Posicao depois, int limite) {
+        return buscarPagina("r.user.uuid = :userId", Map.of(USER_ID, userId), depois, limite);
     }
 
     @Override
-    public ReceitaEntity findTopByUserIdAndYearMonthOrderByValorDesc(String userId, int year, int month) {
-        String jpql = "SELECT r FROM ReceitaEntity r WHERE r.user.uuid = :userId AND YEAR(r.data) = :year AND MONTH(r.data) = :month ORDER BY r.valor DESC";
-
-        List<ReceitaEntity> result = entityManager.createQuery(jpql, ReceitaEntity.class)
-                .setParameter(USER_ID, userId)
-                .setParameter(YEAR_PARAM, year)
-                .setParameter(MONTH_PARAM, month)
-                .setMaxResults(1)
-                .getResultList();
-
-        return result.isEmpty() ? null : result.get(0);
+    public List<ReceitaDTO> findPaginaByUserAndDateRange(String userId, LocalDate inicio, LocalDate fim, CursorUtils.Posicao depois, int limite) {
+        return buscarPagina("r.user.uuid = :userId AND r.data BETWEEN :inicio AND :fim",
+                Map.of(USER_ID, userId, INICIO_PARAM, inicio, FIM_PARAM, fim), depois, limite);
     }
 
     @Override
-    public Map<String, BigDecimal> findCategoriaWithHighestReceitaByUserIdAndYearMonth(String userId, int year, int month) {
-        String jpql = "SELECT r.categoria.nome AS categoria, SUM(r.valor) AS total " +
-                "FROM ReceitaEntity r " +
-                "WHERE r.user.uuid = :userId AND YEAR(r.data) = :year AND MONTH(r.data) = :month " +
-                "GROUP BY r.categoria.nome " +
-                "ORDER BY total DESC";
-
-        return getStringBigDecimalMap(userId, year, month, jpql, entityManager, USER_ID);
+    public List<ReceitaDTO> findPaginaByUserAndValueBetween(String userId, BigDecimal min, BigDecimal max, CursorUtils.Posicao depois, int limite) {
+        return buscarPagina("r.user.uuid = :userId AND r.valor BETWEEN :min AND :max",
+                Map.of(USER_ID, userId, "min", min, "max", max), depois, limite);
     }
 
+    // Cursor forward-only sobre o banco (ScrollableResults por baixo do stream), buscando fetchSize linhas por vez.
+    // Projeção sem entidades: nada se acumula no contexto de persistência. Quem chama deve fechar o stream.
     @Override
-    public BigDecimal sumReceitasByUserIdAndYearMonth(String userId, YearMonth yearMonth) {
-        String jpql = String.format("SELECT SUM(r.valor) FROM ReceitaEntity r WHERE r.user.uuid = :%s " +
-                        "AND YEAR(r.data) = :%s AND MONTH(r.data) = :%s",
-                USER_ID, YEAR_PARAM, MONTH_PARAM);
-
-        BigDecimal result = entityManager.createQuery(jpql, BigDecimal.class)
+    public Stream<LancamentoExportacaoDTO> streamExportacaoByUserId(String userId, int fetchSize) {
+        String jpql = "SELECT new br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO(" +
+                "r.data, r.valor, c.nome, r.origemDoPagamento, r.observacoes) " +
+                "FROM ReceitaEntity r LEFT JOIN r.categoria c " +
+                "WHERE r.user.uuid = :userId " +
+                "ORDER BY r.data, r.uuid";
+
+        return entityManager.createQuery(jpql, LancamentoExportacaoDTO.class)
                 .setParameter(USER_ID, userId)
-                .setParameter(YEAR_PARAM, yearMonth.getYear())
-                .setParameter(MONTH_PARAM, yearMonth.getMonthValue())
-                .getSingleResult();
-
-        return result != null ? result : BigDecimal.ZERO;
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
     }
 
+    // Keyset: continua depois do último (data, uuid) visto em vez de usar OFFSET, então uma página funda
+    // custa o mesmo que a primeira (range scan em idx_receitas_user_data_uuid). Projeta direto no DTO, sem entidades.
+    private List<ReceitaDTO> buscarPagina(String filtro, Map<String, Object> parametros, CursorUtils.Posicao depois, int limite) {
+        StringBuilder jpql = new StringBuilder("SELECT new br.com.gestorfinanceiro.dto.receita.ReceitaDTO(" +
+                "r.uuid, r.data, r.valor, c.nome, r.origemDoPagamento, r.observacoes) " +
+                "FROM ReceitaEntity r LEFT JOIN r.categoria c WHERE ").append(filtro);
+
+        if (depois != null) {
+            jpql.append(" AND (r.data > :cursorData OR (r.data = :cursorData AND r.uuid > :cursorUuid))");
+        }
+        jpql.append(" ORDER BY r.data, r.uuid");
+
+        TypedQuery<ReceitaDTO> query = entityManager.createQuery(jpql.toString(), ReceitaDTO.class)
+                .setMaxResults(limite);
+        parametros.forEach(query::setParameter);
+        if (depois != null) {
+            query.setParameter("cursorData", depois.data());
+            query.setParameter("cursorUuid", depois.uuid());
+        }
+
+        return query.getResultList();
+    }
 }
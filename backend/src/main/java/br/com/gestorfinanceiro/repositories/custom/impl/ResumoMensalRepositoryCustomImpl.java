@@ -0,0 +1,271 @@
+package br.com.gestorfinanceiro.repositories.custom.impl;
+
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.custom.ResumoMensalRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class ResumoMensalRepositoryCustomImpl implements ResumoMensalRepositoryCustom {
+
+    private static final String USER_ID = "userId";
+    private static final String TIPO = "tipo";
+    private static final String INICIO_PARAM = "inicio";
+    private static final String FIM_PARAM = "fim";
+
+    // Insere ou soma numa única instrução: duas transações criando o mesmo resumo ao mesmo tempo não violam a chave
+    private static final String SOMAR_POSTGRES =
+            "INSERT INTO resumo_mensal (user_id, categoria_id, mes, tipo, total, quantidade, maior_valor) " +
+            "VALUES (:userId, :categoriaId, :mes, :tipo, :total, :quantidade, :maiorValor) " +
+            "ON CONFLICT (user_id, categoria_id, mes, tipo) DO UPDATE SET " +
+            "  total = resumo_mensal.total + EXCLUDED.total, " +
+            "  quantidade = resumo_mensal.quantidade + EXCLUDED.quantidade, " +
+            "  maior_valor = GREATEST(resumo_mensal.maior_valor, EXCLUDED.maior_valor)";
+
+    // Mesmo efeito em SQL padrão, para o H2 dos testes (que não tem ON CONFLICT ... DO UPDATE)
+    private static final String SOMAR_MERGE =
+            "MERGE INTO resumo_mensal r " +
+            "USING (SELECT CAST(:userId AS VARCHAR(255)) AS user_id, CAST(:categoriaId AS VARCHAR(255)) AS categoria_id, " +
+            "              CAST(:mes AS DATE) AS mes, CAST(:tipo AS VARCHAR(255)) AS tipo, " +
+            "              CAST(:total AS NUMERIC(19, 4)) AS total, CAST(:quantidade AS BIGINT) AS quantidade, " +
+            "              CAST(:maiorValor AS NUMERIC(19, 4)) AS maior_valor) n " +
+            "ON r.user_id = n.user_id AND r.categoria_id = n.categoria_id AND r.mes = n.mes AND r.tipo = n.tipo " +
+            "WHEN MATCHED THEN UPDATE SET total = r.total + n.total, quantidade = r.quantidade + n.quantidade, " +
+            "  maior_valor = GREATEST(r.maior_valor, n.maior_valor) " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, categoria_id, mes, tipo, total, quantidade, maior_valor) " +
+            "  VALUES (n.user_id, n.categoria_id, n.mes, n.tipo, n.total, n.quantidade, n.maior_valor)";
+
+    // Copia os resumos da categoria de origem para a de destino, somando onde o mês já existe no destino.
+    // O id do destino vem do JOIN em categorias para ter o tipo da coluna (varchar ou uuid nativo).
+    private static final String MOVER_CATEGORIA_POSTGRES =
+            "INSERT INTO resumo_mensal (user_id, categoria_id, mes, tipo, total, quantidade, maior_valor) " +
+            "SELECT r.user_id, c.uuid, r.mes, r.tipo, r.total, r.quantidade, r.maior_valor " +
+            "FROM resumo_mensal r JOIN categorias c ON c.uuid = :destino " +
+            "WHERE r.user_id = :userId AND r.categoria_id = :origem " +
+            "ON CONFLICT (user_id, categoria_id, mes, tipo) DO UPDATE SET " +
+            "  total = resumo_mensal.total + EXCLUDED.total, " +
+            "  quantidade = resumo_mensal.quantidade + EXCLUDED.quantidade, " +
+            "  maior_valor = GREATEST(resumo_mensal.maior_valor, EXCLUDED.maior_valor)";
+
+    private static final String MOVER_CATEGORIA_MERGE =
+            "MERGE INTO resumo_mensal r " +
+            "USING (SELECT o.user_id, c.uuid AS categoria_id, o.mes, o.tipo, o.total, o.quantidade, o.maior_valor " +
+            "       FROM resumo_mensal o JOIN categorias c ON c.uuid = :destino " +
+            "       WHERE o.user_id = :userId AND o.categoria_id = :origem) n " +
+            "ON r.user_id = n.user_id AND r.categoria_id = n.categoria_id AND r.mes = n.mes AND r.tipo = n.tipo " +
+            "WHEN MATCHED THEN UPDATE SET total = r.total + n.total, quantidade = r.quantidade + n.quantidade, " +
+            "  maior_valor = GREATEST(r.maior_valor, n.maior_valor) " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, categoria_id, mes, tipo, total, quantidade, maior_valor) " +
+            "  VALUES (n.user_id, n.categoria_id, n.mes, n.tipo, n.total, n.quantidade, n.maior_valor)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    // Bloqueia a linha do resumo até o fim da transação: escritas concorrentes no mesmo mês/categoria ficam em fila
+    @Override
+    public ResumoMensalEntity findByIdParaAtualizacao(ResumoMensalId id) {
+        return entityManager.find(ResumoMensalEntity.class, id, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    // persist em vez de save/merge: a chave é atribuída, então merge faria um SELECT antes de cada INSERT
+    @Override
+    public void inserir(ResumoMensalEntity resumo) {
+        entityManager.persist(resumo);
+    }
+
+    // Cria o resumo ou soma o parcial ao existente; a entidade não entra no contexto de persistência
+    @Override
+    public void somar(ResumoMensalEntity parcial) {
+        ResumoMensalId id = parcial.getId();
+        mutacaoNativa(isPostgres() ? SOMAR_POSTGRES : SOMAR_MERGE)
+                .setParameter(USER_ID, id.getUserId())
+                .setParameter("categoriaId", id.getCategoriaId())
+                .setParameter("mes", id.getMes())
+                .setParameter(TIPO, id.getTipo().name())
+                .setParameter("total", parcial.getTotal())
+                .setParameter("quantidade", parcial.getQuantidade())
+                .setParameter("maiorValor", parcial.getMaiorValor())
+                .executeUpdate();
+    }
+
+    // Dois comandos: o upsert dos resumos no destino e o DELETE dos da origem. Retorna quantos meses foram movidos.
+    @Override
+    public int moverCategoria(String userId, String categoriaOrigem, String categoriaDestino) {
+        int movidos = mutacaoNativa(isPostgres() ? MOVER_CATEGORIA_POSTGRES : MOVER_CATEGORIA_MERGE)
+                .setParameter(USER_ID, userId)
+                .setParameter("origem", categoriaOrigem)
+                .setParameter("destino", categoriaDestino)
+                .executeUpdate();
+
+        entityManager.createQuery("DELETE FROM ResumoMensalEntity r " +
+                        "WHERE r.id.userId = :userId AND r.id.categoriaId = :origem")
+                .setParameter(USER_ID, userId)
+                .setParameter("origem", categoriaOrigem)
+                .executeUpdate();
+        return movidos;
+    }
+
+    @Override
+    public BigDecimal findMaiorValorNosLancamentos(ResumoMensalId id) {
+        boolean semCategoria = ResumoMensalId.SEM_CATEGORIA.equals(id.getCategoriaId());
+        String jpql = "SELECT MAX(l.valor) FROM " + entidadeDe(id.getTipo()) + " l " +
+                "WHERE l.user.uuid = :userId " +
+                (semCategoria ? "AND l.categoria IS NULL " : "AND l.categoria.uuid = :categoriaId ") +
+                "AND l.data >= :inicio AND l.data < :fim";
+
+        var query = entityManager.createQuery(jpql, BigDecimal.class)
+                .setParameter(USER_ID, id.getUserId())
+                .setParameter(INICIO_PARAM, id.getMes())
+                .setParameter(FIM_PARAM, id.getMes().plusMonths(1));
+        if (!semCategoria) {
+            query.setParameter("categoriaId", id.getCategoriaId());
+        }
+        return query.getSingleResult();
+    }
+
+    // Agrega as linhas de origem do usuário no mesmo formato do resumo (entidades ainda não persistidas).
+    // Lançamentos sem categoria vão para o balde SEM_CATEGORIA, para os totais e o saldo baterem com as origens.
+    @Override
+    public List<ResumoMensalEntity> agregarLancamentosByUserId(String userId, CategoriaType tipo) {
+        String jpql = "SELECT c.uuid, YEAR(l.data), MONTH(l.data), SUM(l.valor), COUNT(l), MAX(l.valor) " +
+                "FROM " + entidadeDe(tipo) + " l LEFT JOIN l.categoria c " +
+                "WHERE l.user.uuid = :userId " +
+                "GROUP BY c.uuid, YEAR(l.data), MONTH(l.data)";
+
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter(USER_ID, userId)
+                .getResultList()
+                .stream()
+                .map(linha -> new ResumoMensalEntity(
+                        new ResumoMensalId(userId, (String) linha[0],
+                                YearMonth.of(((Number) linha[1]).intValue(), ((Number) linha[2]).intValue()), tipo),
+                        (BigDecimal) linha[3],
+                        ((Number) linha[4]).longValue(),
+                        (BigDecimal) linha[5]))
+                .toList();
+    }
+
+    @Override
+    public int deleteAllByUserId(String userId) {
+        return entityManager.createQuery("DELETE FROM ResumoMensalEntity r WHERE r.id.userId = :userId")
+                .setParameter(USER_ID, userId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<String> findAllUserIds() {
+        return entityManager.createQuery("SELECT u.uuid FROM UserEntity u ORDER BY u.uuid", String.class)
+                .getResultList();
+    }
+
+    @Override
+    public BigDecimal sumTotalByUserIdAndYearMonth(String userId, CategoriaType tipo, YearMonth mes) {
+        String jpql = "SELECT SUM(r.total) FROM ResumoMensalEntity r " +
+                "WHERE r.id.userId = :userId AND r.id.tipo = :tipo AND r.id.mes = :inicio";
+
+        BigDecimal result = entityManager.createQuery(jpql, BigDecimal.class)
+                .setParameter(USER_ID, userId)
+                .setParameter(TIPO, tipo)
+                .setParameter(INICIO_PARAM, mes.atDay(1))
+                .getSingleResult();
+
+        return result != null ? result : BigDecimal.ZERO;
+    }
+
+    @Override
+    public Map<String, BigDecimal> findCategoriaWithHighestTotalByUserIdAndYearMonth(String userId, CategoriaType tipo, YearMonth mes) {
+        String jpql = "SELECT c.nome, SUM(r.total) AS total FROM ResumoMensalEntity r " +
+                "JOIN CategoriaEntity c ON c.uuid = r.id.categoriaId " +
+                "WHERE r.id.userId = :userId AND r.id.tipo = :tipo AND r.id.mes = :inicio " +
+                "GROUP BY c.nome " +
+                "ORDER BY total DESC";
+
+        List<Object[]> results = entityManager.createQuery(jpql, Object[].class)
+                .setParameter(USER_ID, userId)
+                .setParameter(TIPO, tipo)
+                .setParameter(INICIO_PARAM, mes.atDay(1))
+                .setMaxResults(1)
+                .getResultList();
+
+        if (results.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Object[] result = results.get(0);
+        return Map.of((String) result[0], (BigDecimal) result[1]);
+    }
+
+    @Override
+    public Map<YearMonth, BigDecimal> sumTotalPorMesByUserIdAndYearMonthRange(String userId, CategoriaType tipo, YearMonth inicio, YearMonth fim) {
+        String jpql = "SELECT r.id.mes, SUM(r.total) FROM ResumoMensalEntity r " +
+                "WHERE r.id.userId = :userId AND r.id.tipo = :tipo AND r.id.mes >= :inicio AND r.id.mes < :fim " +
+                "GROUP BY r.id.mes " +
+                "ORDER BY r.id.mes";
+
+        Map<YearMonth, BigDecimal> totais = new LinkedHashMap<>();
+        consultarIntervalo(jpql, userId, tipo, inicio, fim)
+                .forEach(linha -> totais.put(YearMonth.from((LocalDate) linha[0]), (BigDecimal) linha[1]));
+        return totais;
+    }
+
+    @Override
+    public Map<String, BigDecimal> sumTotalPorCategoriaByUserIdAndYearMonthRange(String userId, CategoriaType tipo, YearMonth inicio, YearMonth fim) {
+        String jpql = "SELECT c.nome, SUM(r.total) AS total FROM ResumoMensalEntity r " +
+                "JOIN CategoriaEntity c ON c.uuid = r.id.categoriaId " +
+                "WHERE r.id.userId = :userId AND r.id.tipo = :tipo AND r.id.mes >= :inicio AND r.id.mes < :fim " +
+                "GROUP BY c.nome " +
+                "ORDER BY total DESC";
+
+        Map<String, BigDecimal> totais = new LinkedHashMap<>();
+        consultarIntervalo(jpql, userId, tipo, inicio, fim)
+                .forEach(linha -> totais.put((String) linha[0], (BigDecimal) linha[1]));
+        return totais;
+    }
+
+    // Meses de inicio a fim (inclusive), no intervalo semiaberto [inicio, fim + 1)
+    private List<Object[]> consultarIntervalo(String jpql, String userId, CategoriaType tipo, YearMonth inicio, YearMonth fim) {
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter(USER_ID, userId)
+                .setParameter(TIPO, tipo)
+                .setParameter(INICIO_PARAM, inicio.atDay(1))
+                .setParameter(FIM_PARAM, fim.plusMonths(1).atDay(1))
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object> mutacaoNativa(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                // Sem isso o Hibernate invalidaria todo o cache de segundo nível a cada escrita
+                .addSynchronizedEntityClass(ResumoMensalEntity.class);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+
+    private static String entidadeDe(CategoriaType tipo) {
+        return tipo == CategoriaType.DESPESAS ? "DespesaEntity" : "ReceitaEntity";
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.gestorfinanceiro.repositories.custom.impl;
+
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.repositories.custom.UserRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Pelo natural id (email): com o cache de segundo nível, email -> id e id -> usuário não vão ao banco.
+    // Transacional porque o unwrap precisa de uma sessão aberta. Não é readOnly de propósito: login e cadastro
+    // não têm usuário autenticado, logo nem janela de leitura das próprias escritas, e na réplica um cadastro
+    // recém-confirmado ainda poderia não existir. Sem readOnly a consulta vai ao primário.
+    @Override
+    @Transactional
+    public Optional<UserEntity> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(UserEntity.class)
+                .loadOptional(email);
+    }
+
+    // Para o JwtFilter, que roda antes da autenticação: no primário pelo mesmo motivo do findByEmail,
+    // para um papel ou status alterado pelo admin valer já na próxima requisição
+    @Override
+    @Transactional
+    public Optional<UserEntity> findByIdNoPrimario(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(entityManager.find(UserEntity.class, id));
+    }
+}
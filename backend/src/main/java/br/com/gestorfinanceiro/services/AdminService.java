@@ -1,12 +1,29 @@
 package br.com.gestorfinanceiro.services;
 
+import br.com.gestorfinanceiro.dto.admin.CacheEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
+import br.com.gestorfinanceiro.dto.admin.HashingEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.LimiteLoginEstatisticasDTO;
 import br.com.gestorfinanceiro.dto.user.UserAdminUpdateDTO;
 import br.com.gestorfinanceiro.models.UserEntity;
 
 import java.util.List;
+import java.util.Map;
 
 public interface AdminService {
     List<UserEntity> listUsers();
 
     UserEntity atualizarUser(String userID, UserAdminUpdateDTO userAdminUpdateDTO);
+
+    CacheEstatisticasDTO estatisticasCachePrincipais();
+
+    Map<String, CacheEstatisticasDTO> estatisticasCacheSegundoNivel();
+
+    HashingEstatisticasDTO estatisticasHashing();
+
+    LimiteLoginEstatisticasDTO estatisticasLimiteLogin();
+
+    ConsistenciaResumoDTO verificarResumoMensal();
+
+    ConsistenciaResumoDTO repararResumoMensal();
 }
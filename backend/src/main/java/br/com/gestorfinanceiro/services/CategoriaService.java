@@ -2,6 +2,7 @@ package br.com.gestorfinanceiro.services;
 
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 
 import java.util.List;
@@ -19,5 +20,11 @@ public interface CategoriaService {
 
     void excluirCategoria(String uuid, String userId);
 
+    ExclusaoCategoriaDTO excluirCategoriaEmSegundoPlano(String uuid, String userId);
+
+    ExclusaoCategoriaDTO consultarExclusao(String exclusaoId, String userId);
+
     CategoriaEntity criarSemCategoria(String userId, String tipo);
+
+    List<CategoriaEntity> criarCategoriasPadrao(String userId);
 }
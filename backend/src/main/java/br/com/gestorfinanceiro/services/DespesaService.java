@@ -1,6 +1,8 @@
 package br.com.gestorfinanceiro.services;
 
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
@@ -9,13 +11,12 @@ import br.com.gestorfinanceiro.models.DespesaEntity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.List;
 
 public interface DespesaService {
 
     DespesaEntity criarDespesa(DespesaCreateDTO despesaCreateDTO, String userId);
 
-    List<DespesaEntity> listarDespesasUsuario(String userId);
+    PaginaDTO<DespesaDTO> listarDespesasUsuarioPaginado(String userId, String cursor, Integer tamanho);
 
     DespesaEntity buscarDespesaPorId(String uuid);
 
@@ -27,7 +28,7 @@ public interface DespesaService {
 
     GraficoPizzaDTO gerarGraficoPizza(String userId, LocalDate inicio, LocalDate fim);
 
-    List<DespesaEntity> buscarDespesasPorIntervaloDeDatas(String userId, LocalDate inicio, LocalDate fim);
+    PaginaDTO<DespesaDTO> buscarDespesasPorIntervaloDeDatasPaginado(String userId, LocalDate inicio, LocalDate fim, String cursor, Integer tamanho);
 
-    List<DespesaEntity> buscarDespesasPorIntervaloDeValores(String userId, BigDecimal min, BigDecimal max);
+    PaginaDTO<DespesaDTO> buscarDespesasPorIntervaloDeValoresPaginado(String userId, BigDecimal min, BigDecimal max, String cursor, Integer tamanho);
 }
@@ -0,0 +1,11 @@
+package br.com.gestorfinanceiro.services;
+
+import br.com.gestorfinanceiro.models.enums.FormatoExportacao;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportacaoService {
+
+    void exportar(String userId, FormatoExportacao formato, OutputStream saida) throws IOException;
+}
@@ -0,0 +1,12 @@
+package br.com.gestorfinanceiro.services;
+
+import br.com.gestorfinanceiro.dto.importacao.ResultadoImportacaoDTO;
+import br.com.gestorfinanceiro.models.enums.FormatoImportacao;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ImportacaoService {
+
+    ResultadoImportacaoDTO importar(String userId, FormatoImportacao formato, InputStream entrada) throws IOException;
+}
@@ -1,20 +1,21 @@
 package br.com.gestorfinanceiro.services;
 
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.List;
 
 public interface ReceitaService {
     ReceitaEntity criarReceita(ReceitaCreateDTO receitaCreateDTO, String userId);
 
-    List<ReceitaEntity> listarReceitasUsuario(String userId);
+    PaginaDTO<ReceitaDTO> listarReceitasUsuarioPaginado(String userId, String cursor, Integer tamanho);
 
     ReceitaEntity buscarReceitaPorId(String uuid);
 
@@ -26,7 +27,7 @@ public interface ReceitaService {
 
     GraficoBarraDTO gerarGraficoBarras(String userId, YearMonth inicio, YearMonth fim);
 
-    List<ReceitaEntity> buscarReceitasPorIntervaloDeDatas(String userId, LocalDate inicio, LocalDate fim);
+    PaginaDTO<ReceitaDTO> buscarReceitasPorIntervaloDeDatasPaginado(String userId, LocalDate inicio, LocalDate fim, String cursor, Integer tamanho);
 
-    List<ReceitaEntity> buscarReceitasPorIntervaloDeValores(String userId, BigDecimal min, BigDecimal max);
+    PaginaDTO<ReceitaDTO> buscarReceitasPorIntervaloDeValoresPaginado(String userId, BigDecimal min, BigDecimal max, String cursor, Integer tamanho);
 }
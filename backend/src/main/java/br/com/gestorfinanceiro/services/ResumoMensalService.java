@@ -0,0 +1,32 @@
+package br.com.gestorfinanceiro.services;
+
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ResumoMensalService {
+    void adicionar(CategoriaType tipo, String userId, String categoriaId, LocalDate data, BigDecimal valor);
+
+    void acumular(ResumoMensalEntity parcial);
+
+    void remover(CategoriaType tipo, String userId, String categoriaId, LocalDate data, BigDecimal valor);
+
+    void substituir(CategoriaType tipo, String userId,
+                    String categoriaAntiga, LocalDate dataAntiga, BigDecimal valorAntigo,
+                    String categoriaNova, LocalDate dataNova, BigDecimal valorNovo);
+
+    int moverCategoria(String userId, String categoriaOrigem, String categoriaDestino);
+
+    int reconstruir(String userId);
+
+    List<ResumoMensalId> verificar(String userId);
+
+    ConsistenciaResumoDTO verificarConsistencia();
+
+    ConsistenciaResumoDTO reparar();
+}
@@ -1,5 +1,13 @@
 package br.com.gestorfinanceiro.services.impl;
 
+import br.com.gestorfinanceiro.config.CacheSegundoNivelConfig;
+import br.com.gestorfinanceiro.config.security.LoginRateLimiter;
+import br.com.gestorfinanceiro.config.security.PasswordHasher;
+import br.com.gestorfinanceiro.config.security.PrincipalCache;
+import br.com.gestorfinanceiro.dto.admin.CacheEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
+import br.com.gestorfinanceiro.dto.admin.HashingEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.LimiteLoginEstatisticasDTO;
 import br.com.gestorfinanceiro.dto.user.UserAdminUpdateDTO;
 import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
 import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
@@ -7,17 +15,48 @@ import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.Roles;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.AdminService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.stereotype.Service;
 
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class AdminServiceImpl implements AdminService {
 
     private final UserRepository userRepository;
 
-    public AdminServiceImpl(UserRepository userRepository) {
+    private final PrincipalCache principalCache;
+
+    private final PasswordHasher passwordHasher;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final ResumoMensalService resumoMensalService;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final CacheManager cacheManagerSegundoNivel;
+
+    public AdminServiceImpl(UserRepository userRepository, PrincipalCache principalCache, PasswordHasher passwordHasher,
+                            LoginRateLimiter loginRateLimiter, ResumoMensalService resumoMensalService,
+                            EntityManagerFactory entityManagerFactory, CacheManager cacheManagerSegundoNivel) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.passwordHasher = passwordHasher;
+        this.loginRateLimiter = loginRateLimiter;
+        this.resumoMensalService = resumoMensalService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManagerSegundoNivel = cacheManagerSegundoNivel;
     }
 
     @Override
@@ -37,10 +76,67 @@ public class AdminServiceImpl implements AdminService {
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com o ID: " + userID));
 
         // Atualizar os campos do usuário com base no DTO
+        Roles novaRole = Roles.valueOf(userAdminUpdateDTO.getRole());
+        boolean mudouAcesso = user.getRole() != novaRole
+                || !Objects.equals(user.getEstaAtivo(), userAdminUpdateDTO.getEstaAtivo());
+
         user.setEstaAtivo(userAdminUpdateDTO.getEstaAtivo());
-        user.setRole(Roles.valueOf(userAdminUpdateDTO.getRole()));
+        user.setRole(novaRole);
+
+        // Salvar o usuário atualizado
+        UserEntity userAtualizado = userRepository.save(user);
 
-        // Salvar e retornar o usuário atualizado
-        return userRepository.save(user);
+        // Role ou status mudaram: remove o principal em cache para que a próxima requisição já use os novos valores
+        if (mudouAcesso) {
+            principalCache.evict(user.getUuid());
+        }
+
+        return userAtualizado;
+    }
+
+    @Override
+    public CacheEstatisticasDTO estatisticasCachePrincipais() {
+        CacheStats stats = principalCache.stats();
+        return new CacheEstatisticasDTO(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), principalCache.size());
+    }
+
+    // Hits/misses vêm das estatísticas do Hibernate (hibernate.generate_statistics); evictions e tamanho, do Caffeine
+    @Override
+    public Map<String, CacheEstatisticasDTO> estatisticasCacheSegundoNivel() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, CacheEstatisticasDTO> regioes = new LinkedHashMap<>();
+        for (String regiao : CacheSegundoNivelConfig.REGIOES) {
+            CacheRegionStatistics hibernate = statistics.getDomainDataRegionStatistics(regiao);
+            Cache<?, ?> caffeine = cacheManagerSegundoNivel.getCache(regiao).unwrap(Cache.class);
+
+            long hits = hibernate.getHitCount();
+            long misses = hibernate.getMissCount();
+            double hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+            regioes.put(regiao, new CacheEstatisticasDTO(hits, misses, hitRate,
+                    caffeine.stats().evictionCount(), caffeine.estimatedSize()));
+        }
+        return regioes;
+    }
+
+    @Override
+    public HashingEstatisticasDTO estatisticasHashing() {
+        return passwordHasher.estatisticas();
+    }
+
+    @Override
+    public LimiteLoginEstatisticasDTO estatisticasLimiteLogin() {
+        return loginRateLimiter.estatisticas();
+    }
+
+    @Override
+    public ConsistenciaResumoDTO verificarResumoMensal() {
+        return resumoMensalService.verificarConsistencia();
+    }
+
+    @Override
+    public ConsistenciaResumoDTO repararResumoMensal() {
+        return resumoMensalService.reparar();
     }
 }
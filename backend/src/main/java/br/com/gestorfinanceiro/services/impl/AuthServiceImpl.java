@@ -1,22 +1,25 @@
 package br.com.gestorfinanceiro.services.impl;
 
+import br.com.gestorfinanceiro.config.security.PasswordHasher;
+import br.com.gestorfinanceiro.config.security.PrincipalCache;
 import br.com.gestorfinanceiro.exceptions.user.*;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.AuthService;
 import jakarta.validation.Valid;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthServiceImpl(UserRepository userRepository, PasswordHasher passwordHasher, PrincipalCache principalCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -31,8 +34,14 @@ public class AuthServiceImpl implements AuthService {
         }
 
         try {
-            userEntity.setPassword(passwordEncoder.encode(userEntity.getPassword()));
-            return userRepository.save(userEntity);
+            userEntity.setPassword(passwordHasher.encode(userEntity.getPassword()));
+            UserEntity registrado = userRepository.save(userEntity);
+
+            // Nenhum principal antigo pode responder pelo id recém-cadastrado
+            principalCache.evict(registrado.getUuid());
+            return registrado;
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             throw new UserOperationException("Erro ao registrar usuario. Por favor, tente novamente", e);
         }
@@ -45,7 +54,8 @@ public class AuthServiceImpl implements AuthService {
             UserEntity userFoundByEmail = userRepository.findByEmail(email).orElseThrow(() -> new EmailNotFoundException(email));
 
             // Verifica se a senha informada é a mesma que a senha cadastrada
-            if (passwordEncoder.matches(password, userFoundByEmail.getPassword())) {
+            if (passwordHasher.matches(password, userFoundByEmail.getPassword())) {
+                rehashSeNecessario(userFoundByEmail, password);
                 return userFoundByEmail;
             }
             // Senão encontrar a senha é inválida
@@ -55,6 +65,8 @@ public class AuthServiceImpl implements AuthService {
             throw new EmailNotFoundException("Email não encontrado. Por favor, verifique se o email está correto.");
         } catch (InvalidPasswordException e) {
             throw new InvalidPasswordException();
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             throw new UserOperationException("Erro ao logar usuario. Por favor, tente novamente", e);
         }
@@ -64,4 +76,18 @@ public class AuthServiceImpl implements AuthService {
     public UserEntity findUserByEmail(String email) {
         return userRepository.findByEmail(email).orElseThrow(() -> new EmailNotFoundException(email));
     }
-}
\ No newline at end of file
+
+    // Se o custo do hash salvo for diferente do custo calibrado, regrava a senha com o custo atual.
+    // Com o hashing sobrecarregado o login segue normalmente e o rehash fica para o próximo login.
+    private void rehashSeNecessario(UserEntity user, String password) {
+        if (!passwordHasher.precisaRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHasher.encode(password));
+            userRepository.save(user);
+        } catch (PasswordHashingBusyException e) {
+            // ignora: o hash antigo continua válido
+        }
+    }
+}
@@ -2,6 +2,7 @@ package br.com.gestorfinanceiro.services.impl;
 
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaAcessDeniedException;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaAlreadyExistsException;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaIdNotFoundException;
@@ -11,13 +12,20 @@ import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.DespesasCategorias;
+import br.com.gestorfinanceiro.models.enums.ReceitasCategorias;
 import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.CategoriaService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -27,13 +35,23 @@ public class CategoriaServiceImpl implements CategoriaService {
     private final UserRepository userRepository;
     private final DespesaRepository despesaRepository;
     private final ReceitaRepository receitaRepository;
+    private final ResumoMensalService resumoMensalService;
+    private final ExclusaoCategoriaJobs exclusaoCategoriaJobs;
+    private final IndiceCategorias indiceCategorias;
+    private final TransactionTemplate transactionTemplate;
 
 
-    public CategoriaServiceImpl(CategoriaRepository categoriaRepository, UserRepository userRepository, DespesaRepository despesaRepository, ReceitaRepository receitaRepository) {
+    public CategoriaServiceImpl(CategoriaRepository categoriaRepository, UserRepository userRepository, DespesaRepository despesaRepository, ReceitaRepository receitaRepository,
+                                ResumoMensalService resumoMensalService, ExclusaoCategoriaJobs exclusaoCategoriaJobs,
+                                IndiceCategorias indiceCategorias, PlatformTransactionManager transactionManager) {
         this.categoriaRepository = categoriaRepository;
         this.userRepository = userRepository;
         this.despesaRepository = despesaRepository;
         this.receitaRepository = receitaRepository;
+        this.resumoMensalService = resumoMensalService;
+        this.exclusaoCategoriaJobs = exclusaoCategoriaJobs;
+        this.indiceCategorias = indiceCategorias;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -75,7 +93,9 @@ public class CategoriaServiceImpl implements CategoriaService {
                     categoriaCreateDTO.getTipoEnum(),
                     user
             );
-            return categoriaRepository.save(novaCategoria);
+            CategoriaEntity categoriaCriada = categoriaRepository.save(novaCategoria);
+            indiceCategorias.invalidar(userId);
+            return categoriaCriada;
         } catch (Exception e) {
             throw new CategoriaOperationException();
         }
@@ -144,14 +164,42 @@ public class CategoriaServiceImpl implements CategoriaService {
         // Atualiza a categoria
         try {
             categoria.setNome(novaCategoria.getNome());
-            return categoriaRepository.save(categoria);
+            CategoriaEntity categoriaAtualizada = categoriaRepository.save(categoria);
+            indiceCategorias.invalidar(userId);
+            return categoriaAtualizada;
         } catch (Exception e) {
             throw new CategoriaOperationException();
         }
     }
 
     @Override
+    @Transactional
     public void excluirCategoria(String categoriaId, String userId) {
+        CategoriaEntity categoria = validarExclusao(categoriaId, userId);
+
+        try {
+            reatribuirEExcluir(categoria, userId);
+        } catch (Exception e) {
+            throw new CategoriaOperationException("Erro ao excluir categoria: " + e.getMessage());
+        }
+    }
+
+    // Para categorias com muitos lançamentos: valida agora e faz a reatribuição em segundo plano
+    @Override
+    public ExclusaoCategoriaDTO excluirCategoriaEmSegundoPlano(String categoriaId, String userId) {
+        CategoriaEntity categoria = validarExclusao(categoriaId, userId);
+
+        return exclusaoCategoriaJobs.agendar(userId, categoria.getUuid(), () -> transactionTemplate.execute(status ->
+                reatribuirEExcluir(categoriaRepository.findById(categoriaId)
+                        .orElseThrow(() -> new CategoriaIdNotFoundException(categoriaId)), userId)));
+    }
+
+    @Override
+    public ExclusaoCategoriaDTO consultarExclusao(String exclusaoId, String userId) {
+        return exclusaoCategoriaJobs.consultar(exclusaoId, userId);
+    }
+
+    private CategoriaEntity validarExclusao(String categoriaId, String userId) {
         // Verifica se o categoriaId é valido
         if (categoriaId == null || categoriaId.isBlank()) {
             throw new InvalidDataException("O id da categoria é obrigatório.");
@@ -173,33 +221,30 @@ public class CategoriaServiceImpl implements CategoriaService {
             throw new CategoriaOperationException("A categoria 'sem categoria' não pode ser excluída.");
         }
 
-        try {
-            // Buscar a categoria "Sem Categoria" correspondente
-            CategoriaEntity semCategoria = categoriaRepository
-                    .findByIsSemCategoriaAndTipoAndUserUuid(true, categoria.getTipo(), userId)
-                    .orElseGet(() -> criarSemCategoria(userId, categoria.getTipo()
-                            .name()));
-
-            // Atualizar todas as referências dependendo do tipo da categoria
-            if (categoria.getTipo() == CategoriaType.DESPESAS) {
-                despesaRepository.findAllByCategoria(categoria)
-                        .forEach(despesa -> {
-                            despesa.setCategoria(semCategoria);
-                            despesaRepository.save(despesa);
-                        });
-            } else if (categoria.getTipo() == CategoriaType.RECEITAS) {
-                receitaRepository.findAllByCategoria(categoria)
-                        .forEach(receita -> {
-                            receita.setCategoria(semCategoria);
-                            receitaRepository.save(receita);
-                        });
-            }
-
-            // Exclui a categoria após atualizar todas as referências
-            categoriaRepository.delete(categoria);
-        } catch (Exception e) {
-            throw new CategoriaOperationException("Erro ao excluir categoria: " + e.getMessage());
-        }
+        return categoria;
+    }
+
+    // Deve rodar em uma transação: o UPDATE em massa, a exclusão e o resumo mensal são confirmados juntos.
+    // Retorna quantos lançamentos foram para a "Sem Categoria".
+    private int reatribuirEExcluir(CategoriaEntity categoria, String userId) {
+        // Buscar a categoria "Sem Categoria" correspondente
+        CategoriaEntity semCategoria = categoriaRepository
+                .findByIsSemCategoriaAndTipoAndUserUuid(true, categoria.getTipo(), userId)
+                .orElseGet(() -> criarSemCategoria(userId, categoria.getTipo()
+                        .name()));
+
+        // Um único UPDATE na tabela do tipo da categoria, sem carregar os lançamentos
+        int reatribuidos = categoria.getTipo() == CategoriaType.DESPESAS
+                ? despesaRepository.reatribuirCategoria(categoria, semCategoria)
+                : receitaRepository.reatribuirCategoria(categoria, semCategoria);
+
+        // Exclui a categoria após atualizar todas as referências
+        categoriaRepository.delete(categoria);
+        indiceCategorias.invalidar(userId);
+
+        // Os lançamentos mudaram de categoria sem mudar de mês: os resumos da origem somam nos do destino
+        resumoMensalService.moverCategoria(userId, categoria.getUuid(), semCategoria.getUuid());
+        return reatribuidos;
     }
 
     @Override
@@ -227,9 +272,45 @@ public class CategoriaServiceImpl implements CategoriaService {
                     user
             );
             semCategoria.setSemCategoria(true);
-            return categoriaRepository.save(semCategoria);
+            CategoriaEntity semCategoriaCriada = categoriaRepository.save(semCategoria);
+            indiceCategorias.invalidar(userId);
+            return semCategoriaCriada;
         } catch (Exception e) {
             throw new CategoriaOperationException();
         }
     }
+
+    // Cria as categorias padrão de um usuário recém-registrado em uma única transação.
+    // Usuário novo não tem categorias, então não há verificação de duplicidade; os INSERTs vão em batch.
+    @Override
+    @Transactional
+    public List<CategoriaEntity> criarCategoriasPadrao(String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new InvalidDataException("O id do usuário é obrigatório.");
+        }
+
+        // Referência sem SELECT: só o id é usado na chave estrangeira
+        UserEntity user = userRepository.getReferenceById(userId);
+
+        List<CategoriaEntity> categorias = new ArrayList<>();
+        for (DespesasCategorias categoria : DespesasCategorias.values()) {
+            categorias.add(new CategoriaEntity(categoria.toNormalCase(), CategoriaType.DESPESAS, user));
+        }
+        for (ReceitasCategorias categoria : ReceitasCategorias.values()) {
+            categorias.add(new CategoriaEntity(categoria.toNormalCase(), CategoriaType.RECEITAS, user));
+        }
+        for (CategoriaType tipo : CategoriaType.values()) {
+            CategoriaEntity semCategoria = new CategoriaEntity("Sem Categoria", tipo, user);
+            semCategoria.setSemCategoria(true);
+            categorias.add(semCategoria);
+        }
+
+        try {
+            List<CategoriaEntity> categoriasCriadas = categoriaRepository.saveAllAndFlush(categorias);
+            indiceCategorias.invalidar(userId);
+            return categoriasCriadas;
+        } catch (Exception e) {
+            throw new CategoriaOperationException("Erro ao criar categorias padrão: " + e.getMessage());
+        }
+    }
 }
@@ -1,15 +1,20 @@
 package br.com.gestorfinanceiro.services.impl;
 
+import br.com.gestorfinanceiro.dto.dashboard.DashboardResumoDTO;
 import br.com.gestorfinanceiro.exceptions.dashboard.DashboardOperationException;
 import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
 import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.repositories.custom.DashboardRepositoryCustom;
 import br.com.gestorfinanceiro.services.DashboardService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
@@ -24,24 +29,33 @@ public class DashboardServiceImpl implements DashboardService {
 
     private final ReceitaRepository receitaRepository;
 
-    public DashboardServiceImpl(UserRepository userRepository, DespesaRepository despesaRepository, ReceitaRepository receitaRepository) {
+    private final DashboardRepositoryCustom dashboardRepository;
+
+    // Totais e categorias saem do resumo mensal; maior despesa/receita ainda precisam da linha de origem
+    private final ResumoMensalRepository resumoMensalRepository;
+
+    public DashboardServiceImpl(UserRepository userRepository, DespesaRepository despesaRepository, ReceitaRepository receitaRepository,
+                                DashboardRepositoryCustom dashboardRepository, ResumoMensalRepository resumoMensalRepository) {
         this.userRepository = userRepository;
         this.despesaRepository = despesaRepository;
         this.receitaRepository = receitaRepository;
+        this.dashboardRepository = dashboardRepository;
+        this.resumoMensalRepository = resumoMensalRepository;
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public BigDecimal getSaldoTotal(String userId, YearMonth yearMonth) {
         validateUserId(userId);
         validateYearMonth(yearMonth);
 
         try {
-            BigDecimal totalReceitas = receitaRepository.sumReceitasByUserIdAndYearMonth(
-                    userId, yearMonth.getYear(), yearMonth.getMonthValue());
+            BigDecimal totalReceitas = resumoMensalRepository.sumTotalByUserIdAndYearMonth(
+                    userId, CategoriaType.RECEITAS, yearMonth);
 
-            BigDecimal totalDespesas = despesaRepository.sumDespesasByUserIdAndYearMonth(
-                    userId, yearMonth.getYear(), yearMonth.getMonthValue());
+            BigDecimal totalDespesas = resumoMensalRepository.sumTotalByUserIdAndYearMonth(
+                    userId, CategoriaType.DESPESAS, yearMonth);
 
             return totalReceitas.subtract(totalDespesas);
         } catch (Exception e) {
@@ -50,6 +64,7 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DespesaEntity getMaiorDespesa(String userId, YearMonth yearMonth) {
         validateUserId(userId);
         validateYearMonth(yearMonth);
@@ -63,6 +78,7 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReceitaEntity getMaiorReceita(String userId, YearMonth yearMonth) {
         validateUserId(userId);
         validateYearMonth(yearMonth);
@@ -76,55 +92,76 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, BigDecimal> getCategoriaComMaiorDespesa(String userId, YearMonth yearMonth) {
         validateUserId(userId);
         validateYearMonth(yearMonth);
 
         try {
-            return despesaRepository.findCategoriaWithHighestDespesaByUserIdAndYearMonth(
-                    userId, yearMonth.getYear(), yearMonth.getMonthValue());
+            return resumoMensalRepository.findCategoriaWithHighestTotalByUserIdAndYearMonth(
+                    userId, CategoriaType.DESPESAS, yearMonth);
         } catch (Exception e) {
             throw new DashboardOperationException("Erro ao buscar categoria com maior despesa. Por favor, tente novamente.", e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, BigDecimal> getCategoriaComMaiorReceita(String userId, YearMonth yearMonth) {
         validateUserId(userId);
         validateYearMonth(yearMonth);
 
         try {
-            return receitaRepository.findCategoriaWithHighestReceitaByUserIdAndYearMonth(
-                    userId, yearMonth.getYear(), yearMonth.getMonthValue());
+            return resumoMensalRepository.findCategoriaWithHighestTotalByUserIdAndYearMonth(
+                    userId, CategoriaType.RECEITAS, yearMonth);
         } catch (Exception e) {
             throw new DashboardOperationException("Erro ao buscar categoria com maior receita. Por favor, tente novamente.", e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BigDecimal calcularTotalDespesasNoMes(String userId, YearMonth mes) {
         validateUserId(userId);
         validateYearMonth(mes);
 
         try {
-            return despesaRepository.sumDespesasByUserIdAndYearMonth(userId, mes);
+            return resumoMensalRepository.sumTotalByUserIdAndYearMonth(userId, CategoriaType.DESPESAS, mes);
         } catch (Exception e) {
             throw new DashboardOperationException("Erro ao calcular total de despesas do mês. Por favor, tente novamente.", e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BigDecimal calcularTotalReceitasNoMes(String userId, YearMonth mes) {
         validateUserId(userId);
         validateYearMonth(mes);
 
         try {
-            return receitaRepository.sumReceitasByUserIdAndYearMonth(userId, mes);
+            return resumoMensalRepository.sumTotalByUserIdAndYearMonth(userId, CategoriaType.RECEITAS, mes);
         } catch (Exception e) {
             throw new DashboardOperationException("Erro ao calcular total de receitas do mês. Por favor, tente novamente.", e);
         }
     }
 
+    // O userId vem do token já verificado: o existsById é dispensado para manter o resumo em duas consultas.
+    // Um usuário sem lançamentos (ou inexistente) recebe o resumo zerado.
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardResumoDTO getResumo(String userId, YearMonth yearMonth) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new InvalidUserIdException();
+        }
+        validateYearMonth(yearMonth);
+
+        try {
+            return dashboardRepository.findResumoByUserIdAndYearMonth(userId, yearMonth);
+        } catch (Exception e) {
+            throw new DashboardOperationException("Erro ao montar resumo do dashboard. Por favor, tente novamente.", e);
+        }
+    }
+
     private void validateUserId(String userId) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new InvalidUserIdException();
@@ -1,6 +1,9 @@
 package br.com.gestorfinanceiro.services.impl;
 
+import br.com.gestorfinanceiro.config.Paginacao;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
@@ -16,10 +19,12 @@ import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
-import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.DespesaService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import br.com.gestorfinanceiro.utils.DataUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,23 +32,31 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class DespesaServiceImpl implements DespesaService {
 
     private final DespesaRepository despesaRepository;
-    private final CategoriaRepository categoriaRepository;
+    private final IndiceCategorias indiceCategorias;
     private final UserRepository userRepository;
     private final Mapper<DespesaEntity, DespesaCreateDTO> despesaCreateDTOMapper;
+    private final ResumoMensalService resumoMensalService;
+    private final ResumoMensalRepository resumoMensalRepository;
+    private final Paginacao paginacao;
 
-    public DespesaServiceImpl(DespesaRepository despesaRepository, CategoriaRepository categoriaRepository, UserRepository userRepository, Mapper<DespesaEntity, DespesaCreateDTO> despesaCreateDTOMapper) {
+    public DespesaServiceImpl(DespesaRepository despesaRepository, IndiceCategorias indiceCategorias, UserRepository userRepository, Mapper<DespesaEntity, DespesaCreateDTO> despesaCreateDTOMapper,
+                              ResumoMensalService resumoMensalService, ResumoMensalRepository resumoMensalRepository,
+                              Paginacao paginacao) {
         this.despesaRepository = despesaRepository;
-        this.categoriaRepository = categoriaRepository;
+        this.indiceCategorias = indiceCategorias;
         this.userRepository = userRepository;
         this.despesaCreateDTOMapper = despesaCreateDTOMapper;
+        this.resumoMensalService = resumoMensalService;
+        this.resumoMensalRepository = resumoMensalRepository;
+        this.paginacao = paginacao;
     }
 
     @Override
@@ -60,9 +73,7 @@ public class DespesaServiceImpl implements DespesaService {
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         // Verifica se a categoria customizada da receita existe
-        CategoriaEntity categoria = categoriaRepository.findByNomeAndTipoAndUserUuid(
-                        despesaCreateDTO.getCategoria(),
-                        CategoriaType.DESPESAS, userId)
+        CategoriaEntity categoria = indiceCategorias.buscar(userId, CategoriaType.DESPESAS, despesaCreateDTO.getCategoria())
                 .orElseThrow(() -> new CategoriaNameNotFoundException(despesaCreateDTO.getCategoria()));
 
         try {
@@ -72,29 +83,39 @@ public class DespesaServiceImpl implements DespesaService {
             despesaParaCriar.setCategoria(categoria);
             despesaParaCriar.setUser(user);
 
-            return despesaRepository.save(despesaParaCriar);
+            DespesaEntity despesaCriada = despesaRepository.save(despesaParaCriar);
+            resumoMensalService.adicionar(CategoriaType.DESPESAS, userId, categoria.getUuid(), despesaCriada.getData(), despesaCriada.getValor());
+
+            return despesaCriada;
         } catch (Exception e) {
             throw new DespesaOperationException("Erro ao criar Despesa. Por favor, tente novamente.", e);
         }
     }
 
     @Override
-    public List<DespesaEntity> listarDespesasUsuario(String userId) {
+    @Transactional(readOnly = true)
+    public PaginaDTO<DespesaDTO> listarDespesasUsuarioPaginado(String userId, String cursor, Integer tamanho) {
         if (userId == null || userId.trim()
                 .isEmpty()) {
             throw new InvalidUserIdException();
         }
 
-        List<DespesaEntity> despesas = despesaRepository.findAllByUserUuid(userId);
+        CursorUtils.Posicao depois = CursorUtils.decodificar(cursor);
+        int limite = paginacao.resolverTamanho(tamanho);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<DespesaDTO> despesas = despesaRepository.findPaginaByUserId(userId, depois, limite + 1);
 
-        if (despesas.isEmpty()) {
+        // Só a primeira página vazia significa que o usuário não tem despesas
+        if (despesas.isEmpty() && depois == null) {
             throw new DespesaNotFoundException(userId);
-        } else {
-            return despesas;
         }
+
+        return paginacao.montarPagina(despesas, limite);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DespesaEntity buscarDespesaPorId(String uuid) {
         if (uuid == null || uuid.trim()
                 .isEmpty()) {
@@ -121,15 +142,17 @@ public class DespesaServiceImpl implements DespesaService {
         DespesaEntity despesa = despesaRepository.findById(uuid)
                 .orElseThrow(() -> new DespesaNotFoundException(uuid));
 
+        // Valores antigos, para tirar o lançamento do resumo mensal em que ele estava
+        String categoriaAntiga = despesa.getCategoria() != null ? despesa.getCategoria().getUuid() : null;
+        LocalDate dataAntiga = despesa.getData();
+        BigDecimal valorAntigo = despesa.getValor();
+
         // Coloca os novos valores na despesa
         despesa.setData(despesaUpdateDTO.getData());
 
         // Verifica se a categoria customizada da despesaAtualizada existe
         despesa.setCategoria(
-                categoriaRepository.findByNomeAndTipoAndUserUuid(despesaUpdateDTO.getCategoria(),
-                                CategoriaType.DESPESAS,
-                                despesa.getUser()
-                                        .getUuid())
+                indiceCategorias.buscar(despesa.getUser().getUuid(), CategoriaType.DESPESAS, despesaUpdateDTO.getCategoria())
                         .orElseThrow(
                                 () -> new CategoriaNameNotFoundException(despesaUpdateDTO.getCategoria())));
 
@@ -138,7 +161,12 @@ public class DespesaServiceImpl implements DespesaService {
         despesa.setObservacoes(despesaUpdateDTO.getObservacoes());
 
         try {
-            return despesaRepository.save(despesa);
+            DespesaEntity despesaAtualizada = despesaRepository.save(despesa);
+            resumoMensalService.substituir(CategoriaType.DESPESAS, despesaAtualizada.getUser().getUuid(),
+                    categoriaAntiga, dataAntiga, valorAntigo,
+                    despesaAtualizada.getCategoria().getUuid(), despesaAtualizada.getData(), despesaAtualizada.getValor());
+
+            return despesaAtualizada;
         } catch (Exception e) {
             throw new DespesaOperationException("Erro ao atualizar despesa. Por favor, tente novamente.", e);
         }
@@ -157,43 +185,70 @@ public class DespesaServiceImpl implements DespesaService {
 
         try {
             despesaRepository.delete(despesa);
+            resumoMensalService.remover(CategoriaType.DESPESAS, despesa.getUser().getUuid(),
+                    despesa.getCategoria() != null ? despesa.getCategoria().getUuid() : null, despesa.getData(), despesa.getValor());
         } catch (Exception e) {
             throw new DespesaOperationException("Erro ao excluir despesa. Por favor, tente novamente.", e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public GraficoBarraDTO gerarGraficoBarras(String userId, YearMonth inicio, YearMonth fim) {
-        List<DespesaEntity> despesas = despesaRepository.findByUserAndYearMonthRange(userId, inicio, fim);
-        
-        Map<String, BigDecimal> dadosMensais = despesas.stream()
-            .collect(Collectors.groupingBy(
-                d -> DataUtils.formatarMesAno(d.getData()),
-                Collectors.reducing(BigDecimal.ZERO, DespesaEntity::getValor, BigDecimal::add)
-            ));
-        
+        Map<String, BigDecimal> dadosMensais = new HashMap<>();
+        resumoMensalRepository.sumTotalPorMesByUserIdAndYearMonthRange(userId, CategoriaType.DESPESAS, inicio, fim)
+                .forEach((mes, total) -> dadosMensais.put(DataUtils.formatarMesAno(mes.atDay(1)), total));
+
         DataUtils.preencherMesesVazios(dadosMensais, inicio, fim);
-        
+
         return new GraficoBarraDTO(dadosMensais);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public GraficoPizzaDTO gerarGraficoPizza(String userId, LocalDate inicio, LocalDate fim) {
-        List<DespesaEntity> despesas = despesaRepository.findByUserAndDateRange(userId, inicio, fim);
+        // Intervalos de meses inteiros saem do resumo mensal; recortes no meio do mês agrupam as linhas de origem no banco
+        if (DataUtils.cobreMesesInteiros(inicio, fim)) {
+            return new GraficoPizzaDTO(resumoMensalRepository.sumTotalPorCategoriaByUserIdAndYearMonthRange(
+                    userId, CategoriaType.DESPESAS, YearMonth.from(inicio), YearMonth.from(fim)));
+        }
+
+        return new GraficoPizzaDTO(despesaRepository.sumValorPorCategoriaByUserAndDateRange(userId, inicio, fim));
+    }
 
-        Map<String, BigDecimal> categorias = despesas.stream()
-                .collect(Collectors.groupingBy(
-                        r -> r.getCategoria()
-                                .getNome(),
-                        Collectors.mapping(DespesaEntity::getValor,
-                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add))
-                ));
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<DespesaDTO> buscarDespesasPorIntervaloDeDatasPaginado(String userId, LocalDate inicio, LocalDate fim, String cursor, Integer tamanho) {
+        validarIntervaloDeDatas(userId, inicio, fim);
+
+        CursorUtils.Posicao depois = CursorUtils.decodificar(cursor);
+        int limite = paginacao.resolverTamanho(tamanho);
 
-        return new GraficoPizzaDTO(categorias);
+        try {
+            return paginacao.montarPagina(despesaRepository.findPaginaByUserAndDateRange(userId, inicio, fim, depois, limite + 1), limite);
+        } catch (Exception e) {
+            throw new DespesaOperationException(
+                    "Erro ao buscar despesas por intervalo de datas. Por favor, tente novamente.", e);
+        }
     }
 
     @Override
-    public List<DespesaEntity> buscarDespesasPorIntervaloDeDatas(String userId, LocalDate inicio, LocalDate fim) {
+    @Transactional(readOnly = true)
+    public PaginaDTO<DespesaDTO> buscarDespesasPorIntervaloDeValoresPaginado(String userId, BigDecimal min, BigDecimal max, String cursor, Integer tamanho) {
+        validarIntervaloDeValores(userId, min, max);
+
+        CursorUtils.Posicao depois = CursorUtils.decodificar(cursor);
+        int limite = paginacao.resolverTamanho(tamanho);
+
+        try {
+            return paginacao.montarPagina(despesaRepository.findPaginaByUserAndValueBetween(userId, min, max, depois, limite + 1), limite);
+        } catch (Exception e) {
+            throw new DespesaOperationException(
+                    "Erro ao buscar despesas por intervalo de valores. Por favor, tente novamente.", e);
+        }
+    }
+
+    private void validarIntervaloDeDatas(String userId, LocalDate inicio, LocalDate fim) {
         if (userId == null || userId.trim()
                 .isEmpty()) {
             throw new InvalidUserIdException();
@@ -206,17 +261,9 @@ public class DespesaServiceImpl implements DespesaService {
         if (inicio.isAfter(fim)) {
             throw new InvalidDataException("A data de início não pode ser após a data de fim.");
         }
-
-        try {
-            return despesaRepository.findByUserAndDateRange(userId, inicio, fim);
-        } catch (Exception e) {
-            throw new DespesaOperationException(
-                    "Erro ao buscar despesas por intervalo de datas. Por favor, tente novamente.", e);
-        }
     }
 
-    @Override
-    public List<DespesaEntity> buscarDespesasPorIntervaloDeValores(String userId, BigDecimal min, BigDecimal max) {
+    private void validarIntervaloDeValores(String userId, BigDecimal min, BigDecimal max) {
         if (userId == null || userId.trim()
                 .isEmpty()) {
             throw new InvalidUserIdException();
@@ -233,12 +280,5 @@ public class DespesaServiceImpl implements DespesaService {
         if (min.compareTo(max) > 0) {
             throw new InvalidDataException("O valor mínimo não pode ser maior que o valor máximo.");
         }
-
-        try {
-            return despesaRepository.findByUserAndValueBetween(userId, min, max);
-        } catch (Exception e) {
-            throw new DespesaOperationException(
-                    "Erro ao buscar despesas por intervalo de valores. Por favor, tente novamente.", e);
-        }
     }
-}
\ No newline at end of file
+}
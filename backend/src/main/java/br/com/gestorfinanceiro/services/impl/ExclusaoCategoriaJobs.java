@@ -0,0 +1,101 @@
+package br.com.gestorfinanceiro.services.impl;
+
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
+import br.com.gestorfinanceiro.exceptions.categoria.CategoriaOperationException;
+import br.com.gestorfinanceiro.exceptions.categoria.ExclusaoCategoriaNotFoundException;
+import br.com.gestorfinanceiro.models.enums.StatusExclusaoCategoria;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Exclusões de categoria executadas fora da requisição, em um pool pequeno e com fila limitada.
+ * O status de cada exclusão fica em memória (por instância) até expirar; consultar uma exclusão
+ * de outro usuário se comporta como se ela não existisse.
+ */
+@Component
+public class ExclusaoCategoriaJobs implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExclusaoCategoriaJobs.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Exclusao> exclusoes;
+
+    public ExclusaoCategoriaJobs(@Value("${categoria.exclusao.threads:1}") int threads,
+                                 @Value("${categoria.exclusao.capacidade-fila:100}") int capacidadeFila,
+                                 @Value("${categoria.exclusao.retencao:PT1H}") Duration retencao) {
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "exclusao-categoria-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.exclusoes = Caffeine.newBuilder()
+                .expireAfterWrite(retencao)
+                .build();
+    }
+
+    // tarefa devolve a quantidade de lançamentos reatribuídos
+    public ExclusaoCategoriaDTO agendar(String userId, String categoriaId, IntSupplier tarefa) {
+        String exclusaoId = UUID.randomUUID().toString();
+        atualizar(exclusaoId, userId, categoriaId, StatusExclusaoCategoria.PENDENTE, null, null);
+
+        try {
+            executor.execute(() -> executar(exclusaoId, userId, categoriaId, tarefa));
+        } catch (RejectedExecutionException e) {
+            exclusoes.invalidate(exclusaoId);
+            throw new CategoriaOperationException("Muitas exclusões de categoria em andamento. Tente novamente mais tarde.");
+        }
+
+        return consultar(exclusaoId, userId);
+    }
+
+    public ExclusaoCategoriaDTO consultar(String exclusaoId, String userId) {
+        Exclusao exclusao = exclusoes.getIfPresent(exclusaoId);
+        if (exclusao == null || !exclusao.userId().equals(userId)) {
+            throw new ExclusaoCategoriaNotFoundException(exclusaoId);
+        }
+        return exclusao.status();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void executar(String exclusaoId, String userId, String categoriaId, IntSupplier tarefa) {
+        atualizar(exclusaoId, userId, categoriaId, StatusExclusaoCategoria.EM_ANDAMENTO, null, null);
+        try {
+            int reatribuidos = tarefa.getAsInt();
+            atualizar(exclusaoId, userId, categoriaId, StatusExclusaoCategoria.CONCLUIDA, reatribuidos, null);
+        } catch (RuntimeException e) {
+            log.error("Falha ao excluir a categoria {} do usuário {}", categoriaId, userId, e);
+            atualizar(exclusaoId, userId, categoriaId, StatusExclusaoCategoria.FALHOU, null, e.getMessage());
+        }
+    }
+
+    // Cada mudança grava um DTO novo: quem consulta nunca vê um objeto sendo alterado pela thread do pool
+    private void atualizar(String exclusaoId, String userId, String categoriaId, StatusExclusaoCategoria status,
+                           Integer reatribuidos, String erro) {
+        exclusoes.put(exclusaoId, new Exclusao(userId,
+                new ExclusaoCategoriaDTO(exclusaoId, categoriaId, status, reatribuidos, erro)));
+    }
+
+    private record Exclusao(String userId, ExclusaoCategoriaDTO status) {}
+}
@@ -0,0 +1,129 @@
+package br.com.gestorfinanceiro.services.impl;
+
+import br.com.gestorfinanceiro.dto.exportacao.LancamentoExportacaoDTO;
+import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.FormatoExportacao;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.services.ExportacaoService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exporta todos os lançamentos do usuário (despesas e depois receitas, por data) em CSV ou NDJSON.
+ * Cada linha é escrita assim que chega do banco; a memória usada não depende da quantidade de lançamentos.
+ */
+@Service
+public class ExportacaoServiceImpl implements ExportacaoService {
+
+    private static final String CABECALHO_CSV = "tipo,data,valor,categoria,contraparte,observacoes";
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final DespesaRepository despesaRepository;
+    private final ReceitaRepository receitaRepository;
+    private final int fetchSize;
+
+    public ExportacaoServiceImpl(DespesaRepository despesaRepository, ReceitaRepository receitaRepository,
+                                 @Value("${exportacao.fetch-size:500}") int fetchSize) {
+        this.despesaRepository = despesaRepository;
+        this.receitaRepository = receitaRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    // A transação mantém o cursor aberto: no PostgreSQL o fetch size só vale com autocommit desligado
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(String userId, FormatoExportacao formato, OutputStream saida) throws IOException {
+        if (userId == null || userId.trim()
+                .isEmpty()) {
+            throw new InvalidUserIdException();
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+            try (Stream<LancamentoExportacaoDTO> despesas = despesaRepository.streamExportacaoByUserId(userId, fetchSize)) {
+                escreverCsv(writer, CategoriaType.DESPESAS, despesas.iterator());
+            }
+            try (Stream<LancamentoExportacaoDTO> receitas = receitaRepository.streamExportacaoByUserId(userId, fetchSize)) {
+                escreverCsv(writer, CategoriaType.RECEITAS, receitas.iterator());
+            }
+        } else {
+            try (JsonGenerator gerador = JSON_FACTORY.createGenerator(writer)) {
+                gerador.setRootValueSeparator(null);
+                try (Stream<LancamentoExportacaoDTO> despesas = despesaRepository.streamExportacaoByUserId(userId, fetchSize)) {
+                    escreverNdjson(gerador, CategoriaType.DESPESAS, despesas.iterator());
+                }
+                try (Stream<LancamentoExportacaoDTO> receitas = receitaRepository.streamExportacaoByUserId(userId, fetchSize)) {
+                    escreverNdjson(gerador, CategoriaType.RECEITAS, receitas.iterator());
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void escreverCsv(Writer writer, CategoriaType tipo, Iterator<LancamentoExportacaoDTO> linhas) throws IOException {
+        while (linhas.hasNext()) {
+            LancamentoExportacaoDTO linha = linhas.next();
+            writer.write(tipo.name());
+            writer.write(',');
+            writer.write(linha.data().toString());
+            writer.write(',');
+            writer.write(linha.valor().toPlainString());
+            writer.write(',');
+            writer.write(campoCsv(linha.categoria()));
+            writer.write(',');
+            writer.write(campoCsv(linha.contraparte()));
+            writer.write(',');
+            writer.write(campoCsv(linha.observacoes()));
+            writer.write('\n');
+        }
+    }
+
+    private void escreverNdjson(JsonGenerator gerador, CategoriaType tipo, Iterator<LancamentoExportacaoDTO> linhas) throws IOException {
+        while (linhas.hasNext()) {
+            LancamentoExportacaoDTO linha = linhas.next();
+            gerador.writeStartObject();
+            gerador.writeStringField("tipo", tipo.name());
+            gerador.writeStringField("data", linha.data().toString());
+            gerador.writeFieldName("valor");
+            gerador.writeNumber(linha.valor().toPlainString());
+            gerador.writeStringField("categoria", linha.categoria());
+            gerador.writeStringField("contraparte", linha.contraparte());
+            gerador.writeStringField("observacoes", linha.observacoes());
+            gerador.writeEndObject();
+            gerador.writeRaw('\n');
+        }
+    }
+
+    // RFC 4180: campos com vírgula, aspas ou quebra de linha vão entre aspas, com aspas duplicadas
+    private static String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
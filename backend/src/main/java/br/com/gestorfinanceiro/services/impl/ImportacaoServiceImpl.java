@@ -0,0 +1,253 @@
+package br.com.gestorfinanceiro.services.impl;
+
+import br.com.gestorfinanceiro.dto.importacao.ErroImportacaoDTO;
+import br.com.gestorfinanceiro.dto.importacao.ResultadoImportacaoDTO;
+import br.com.gestorfinanceiro.exceptions.importacao.RegistroInvalidoException;
+import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
+import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.FormatoImportacao;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ImportacaoService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import br.com.gestorfinanceiro.services.impl.importacao.LeitorCsv;
+import br.com.gestorfinanceiro.services.impl.importacao.LeitorLancamentos;
+import br.com.gestorfinanceiro.services.impl.importacao.LeitorOfx;
+import br.com.gestorfinanceiro.services.impl.importacao.LinhaImportacao;
+import br.com.gestorfinanceiro.utils.AcumuladorMonetario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Importa lançamentos de um arquivo CSV ou OFX lido em streaming.
+ * As linhas válidas são gravadas em lotes, cada um na sua transação: os INSERTs saem em batch JDBC
+ * (ids gerados na aplicação) e o resumo mensal recebe um único delta por mês/categoria do lote.
+ * Registros inválidos são rejeitados e listados no resultado sem interromper a importação.
+ */
+@Service
+public class ImportacaoServiceImpl implements ImportacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoServiceImpl.class);
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int TAMANHO_MAXIMO_CONTRAPARTE = 255;
+
+    private final DespesaRepository despesaRepository;
+    private final ReceitaRepository receitaRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final UserRepository userRepository;
+    private final ResumoMensalService resumoMensalService;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int maximoErrosListados;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ImportacaoServiceImpl(DespesaRepository despesaRepository, ReceitaRepository receitaRepository,
+                                 CategoriaRepository categoriaRepository, UserRepository userRepository,
+                                 ResumoMensalService resumoMensalService, PlatformTransactionManager transactionManager,
+                                 @Value("${importacao.tamanho-lote:500}") int tamanhoLote,
+                                 @Value("${importacao.maximo-erros-listados:1000}") int maximoErrosListados) {
+        this.despesaRepository = despesaRepository;
+        this.receitaRepository = receitaRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.userRepository = userRepository;
+        this.resumoMensalService = resumoMensalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.maximoErrosListados = maximoErrosListados;
+    }
+
+    @Override
+    public ResultadoImportacaoDTO importar(String userId, FormatoImportacao formato, InputStream entrada) throws IOException {
+        if (userId == null || userId.trim()
+                .isEmpty()) {
+            throw new InvalidUserIdException();
+        }
+
+        UserEntity user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        // Uma consulta para todas as categorias; as linhas só consultam o mapa
+        Map<String, CategoriaEntity> categorias = carregarCategorias(userId);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        LeitorLancamentos leitor = formato == FormatoImportacao.CSV ? new LeitorCsv(reader) : new LeitorOfx(reader);
+
+        Resultado resultado = new Resultado();
+        List<Lancamento> lote = new ArrayList<>(tamanhoLote);
+
+        while (true) {
+            Lancamento lancamento;
+            try {
+                LinhaImportacao linha = leitor.proxima();
+                if (linha == null) {
+                    break;
+                }
+                lancamento = validar(linha, categorias);
+            } catch (RegistroInvalidoException e) {
+                resultado.rejeitar(e.getRegistro(), e.getMessage());
+                continue;
+            }
+
+            lote.add(lancamento);
+            if (lote.size() >= tamanhoLote) {
+                gravarLote(lote, user, resultado);
+                lote.clear();
+            }
+        }
+
+        if (!lote.isEmpty()) {
+            gravarLote(lote, user, resultado);
+        }
+
+        return new ResultadoImportacaoDTO(resultado.importados, resultado.rejeitados, resultado.erros);
+    }
+
+    private Map<String, CategoriaEntity> carregarCategorias(String userId) {
+        Map<String, CategoriaEntity> categorias = new HashMap<>();
+        for (CategoriaEntity categoria : categoriaRepository.findAllByUserUuid(userId)) {
+            categorias.put(chaveCategoria(categoria.getTipo(), categoria.getNome()), categoria);
+            if (categoria.isSemCategoria()) {
+                categorias.put(chaveCategoria(categoria.getTipo(), null), categoria);
+            }
+        }
+        return categorias;
+    }
+
+    private static String chaveCategoria(CategoriaType tipo, String nome) {
+        return nome == null ? tipo.name() : tipo.name() + ':' + nome;
+    }
+
+    private Lancamento validar(LinhaImportacao linha, Map<String, CategoriaEntity> categorias) {
+        if (linha.valor().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new RegistroInvalidoException(linha.registro(), "O valor deve ser maior que zero.");
+        }
+        if (linha.contraparte() == null || linha.contraparte().isBlank()) {
+            throw new RegistroInvalidoException(linha.registro(), "Contraparte (destino/origem do pagamento) é obrigatória.");
+        }
+        if (linha.contraparte().length() > TAMANHO_MAXIMO_CONTRAPARTE) {
+            throw new RegistroInvalidoException(linha.registro(),
+                    "Contraparte com mais de " + TAMANHO_MAXIMO_CONTRAPARTE + " caracteres.");
+        }
+
+        CategoriaEntity categoria = categorias.get(chaveCategoria(linha.tipo(), linha.categoria()));
+        if (categoria == null) {
+            throw new RegistroInvalidoException(linha.registro(), linha.categoria() == null
+                    ? "Usuário sem a categoria padrão de " + linha.tipo().name().toLowerCase(Locale.ROOT) + "."
+                    : "Categoria não encontrada: " + linha.categoria());
+        }
+
+        return new Lancamento(linha, categoria);
+    }
+
+    // Se o lote falhar no banco, grava linha a linha para rejeitar só as que não passam
+    private void gravarLote(List<Lancamento> lote, UserEntity user, Resultado resultado) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> gravar(lote, user));
+            resultado.importados += lote.size();
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar lote de {} lançamentos do usuário {}; gravando um a um", lote.size(), user.getUuid(), e);
+        }
+
+        for (Lancamento lancamento : lote) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> gravar(List.of(lancamento), user));
+                resultado.importados++;
+            } catch (RuntimeException e) {
+                resultado.rejeitar(lancamento.linha().registro(), "Não foi possível gravar o lançamento.");
+            }
+        }
+    }
+
+    private void gravar(List<Lancamento> lote, UserEntity user) {
+        List<DespesaEntity> despesas = new ArrayList<>();
+        List<ReceitaEntity> receitas = new ArrayList<>();
+        AcumuladorMonetario<ResumoMensalId> resumos = new AcumuladorMonetario<>();
+
+        for (Lancamento lancamento : lote) {
+            LinhaImportacao linha = lancamento.linha();
+            String observacoes = linha.observacoes() != null ? linha.observacoes() : "";
+
+            if (linha.tipo() == CategoriaType.DESPESAS) {
+                DespesaEntity despesa = new DespesaEntity();
+                despesa.setData(linha.data());
+                despesa.setValor(linha.valor());
+                despesa.setCategoria(lancamento.categoria());
+                despesa.setDestinoPagamento(linha.contraparte());
+                despesa.setObservacoes(observacoes);
+                despesa.setUser(user);
+                despesas.add(despesa);
+            } else {
+                ReceitaEntity receita = new ReceitaEntity();
+                receita.setData(linha.data());
+                receita.setValor(linha.valor());
+                receita.setCategoria(lancamento.categoria());
+                receita.setOrigemDoPagamento(linha.contraparte());
+                receita.setObservacoes(observacoes);
+                receita.setUser(user);
+                receitas.add(receita);
+            }
+
+            ResumoMensalId id = new ResumoMensalId(user.getUuid(), lancamento.categoria().getUuid(),
+                    YearMonth.from(linha.data()), linha.tipo());
+            resumos.adicionar(id, linha.valor());
+        }
+
+        despesaRepository.saveAll(despesas);
+        receitaRepository.saveAll(receitas);
+        for (int i = 0; i < resumos.tamanho(); i++) {
+            resumoMensalService.acumular(new ResumoMensalEntity(resumos.chave(i),
+                    resumos.total(i), resumos.quantidade(i), resumos.maiorValor(i)));
+        }
+
+        // Sem isso o contexto de persistência da requisição (open-in-view) cresceria a cada lote
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private record Lancamento(LinhaImportacao linha, CategoriaEntity categoria) {}
+
+    private class Resultado {
+        private long importados;
+        private long rejeitados;
+        private final List<ErroImportacaoDTO> erros = new ArrayList<>();
+
+        private void rejeitar(long registro, String mensagem) {
+            rejeitados++;
+            if (erros.size() < maximoErrosListados) {
+                erros.add(new ErroImportacaoDTO(registro, mensagem));
+            }
+        }
+    }
+}
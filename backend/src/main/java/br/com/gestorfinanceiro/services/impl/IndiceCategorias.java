@@ -0,0 +1,149 @@
+package br.com.gestorfinanceiro.services.impl;
+
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Índice em memória, por usuário, de (tipo, nome) -> id da categoria, carregado com uma consulta na primeira escrita.
+ * Criar/atualizar despesas, receitas e orçamentos resolvem o nome da categoria aqui, sem o SELECT por nome.
+ *
+ * A entidade vem do findById (contexto de persistência ou cache de segundo nível) e é conferida contra nome, tipo e dono:
+ * se a categoria mudou fora do CategoriaServiceImpl, ou ainda não está no índice, a busca cai na consulta por nome
+ * e o índice do usuário é recarregado na próxima escrita.
+ */
+@Component
+public class IndiceCategorias {
+
+    private final CategoriaRepository categoriaRepository;
+    private final Cache<String, Indice> indices;
+
+    public IndiceCategorias(CategoriaRepository categoriaRepository,
+                            @Value("${categoria.indice.ttl:PT30M}") Duration ttl,
+                            @Value("${categoria.indice.maximo-usuarios:10000}") long maximoUsuarios) {
+        this.categoriaRepository = categoriaRepository;
+        this.indices = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumSize(maximoUsuarios)
+                .build();
+    }
+
+    public Optional<CategoriaEntity> buscar(String userId, CategoriaType tipo, String nome) {
+        if (userId == null) {
+            return categoriaRepository.findByNomeAndTipoAndUserUuid(nome, tipo, userId);
+        }
+
+        String uuid = indice(userId).porTipoENome().get(chave(tipo, nome));
+        Optional<CategoriaEntity> categoria = confirmar(uuid, userId, nome)
+                .filter(c -> c.getTipo() == tipo);
+        if (categoria.isPresent()) {
+            return categoria;
+        }
+
+        return buscarNoBanco(userId, uuid, categoriaRepository.findByNomeAndTipoAndUserUuid(nome, tipo, userId));
+    }
+
+    // Orçamentos recebem só o nome: nomes repetidos entre despesas e receitas ficam com a consulta do repositório
+    public Optional<CategoriaEntity> buscarPorNome(String userId, String nome) {
+        if (userId == null) {
+            return categoriaRepository.findByNomeAndUserUuid(nome, userId);
+        }
+
+        Indice indice = indice(userId);
+        if (indice.nomesRepetidos().contains(nome)) {
+            return categoriaRepository.findByNomeAndUserUuid(nome, userId);
+        }
+
+        String uuid = indice.porNome().get(nome);
+        Optional<CategoriaEntity> categoria = confirmar(uuid, userId, nome);
+        if (categoria.isPresent()) {
+            return categoria;
+        }
+
+        return buscarNoBanco(userId, uuid, categoriaRepository.findByNomeAndUserUuid(nome, userId));
+    }
+
+    // Chamado pelo CategoriaServiceImpl ao criar, renomear ou excluir. Dentro de uma transação, só depois do commit:
+    // antes dele uma requisição concorrente ainda lê o estado antigo e poderia recarregar o índice com ele.
+    // No rollback também, porque uma busca da própria transação pode ter carregado o índice com o que foi desfeito.
+    public void invalidar(String userId) {
+        if (userId == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indices.invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indices.invalidate(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    indices.invalidate(userId);
+                }
+            }
+        });
+    }
+
+    private Indice indice(String userId) {
+        return indices.get(userId, id -> carregar(categoriaRepository.findAllByUserUuid(id)));
+    }
+
+    private Optional<CategoriaEntity> confirmar(String uuid, String userId, String nome) {
+        if (uuid == null) {
+            return Optional.empty();
+        }
+
+        return categoriaRepository.findById(uuid)
+                .filter(c -> c.getNome().equals(nome) && c.getUser().getUuid().equals(userId));
+    }
+
+    // O índice estava desatualizado (id que não confere) ou incompleto (categoria encontrada só no banco)
+    private Optional<CategoriaEntity> buscarNoBanco(String userId, String uuidNoIndice, Optional<CategoriaEntity> categoria) {
+        if (uuidNoIndice != null || categoria.isPresent()) {
+            indices.invalidate(userId);
+        }
+        return categoria;
+    }
+
+    private static Indice carregar(List<CategoriaEntity> categorias) {
+        Map<String, String> porTipoENome = new HashMap<>();
+        Map<String, String> porNome = new HashMap<>();
+        Set<String> nomesRepetidos = new HashSet<>();
+
+        for (CategoriaEntity categoria : categorias) {
+            porTipoENome.put(chave(categoria.getTipo(), categoria.getNome()), categoria.getUuid());
+            if (porNome.putIfAbsent(categoria.getNome(), categoria.getUuid()) != null) {
+                nomesRepetidos.add(categoria.getNome());
+            }
+        }
+
+        return new Indice(porTipoENome, porNome, nomesRepetidos);
+    }
+
+    private static String chave(CategoriaType tipo, String nome) {
+        return tipo + ":" + nome;
+    }
+
+    private record Indice(Map<String, String> porTipoENome, Map<String, String> porNome, Set<String> nomesRepetidos) {}
+}
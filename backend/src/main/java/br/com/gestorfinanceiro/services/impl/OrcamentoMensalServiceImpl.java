@@ -10,7 +10,6 @@ import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.OrcamentoMensalEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
-import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.OrcamentoMensalService;
@@ -25,18 +24,19 @@ import java.util.List;
 public class OrcamentoMensalServiceImpl implements OrcamentoMensalService {
 
     private final OrcamentoMensalRepository orcamentoMensalRepository;
-    private final CategoriaRepository categoriaRepository;
+    private final IndiceCategorias indiceCategorias;
     private final UserRepository userRepository;
 
     public OrcamentoMensalServiceImpl(OrcamentoMensalRepository orcamentoMensalRepository,
                                       UserRepository userRepository,
-                                      CategoriaRepository categoriaRepository) {
+                                      IndiceCategorias indiceCategorias) {
         this.orcamentoMensalRepository = orcamentoMensalRepository;
         this.userRepository = userRepository;
-        this.categoriaRepository = categoriaRepository;
+        this.indiceCategorias = indiceCategorias;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrcamentoMensalEntity> listarTodosPorUsuario(String userId) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new InvalidUuidException();
@@ -52,6 +52,7 @@ public class OrcamentoMensalServiceImpl implements OrcamentoMensalService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrcamentoMensalEntity> listarPorPeriodo(String userId, YearMonth periodo) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new InvalidUuidException();
@@ -71,6 +72,7 @@ public class OrcamentoMensalServiceImpl implements OrcamentoMensalService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrcamentoMensalEntity buscarPorId(String userId, String uuid) {
         if (userId == null || userId.trim().isEmpty()) {
             throw new InvalidUuidException();
@@ -92,7 +94,7 @@ public class OrcamentoMensalServiceImpl implements OrcamentoMensalService {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        CategoriaEntity categoriaEntity = categoriaRepository.findByNomeAndUserUuid(categoria, userId)
+        CategoriaEntity categoriaEntity = indiceCategorias.buscarPorNome(userId, categoria)
                 .orElseThrow(() -> new CategoriaNameNotFoundException("Categoria não encontrada: " + categoria));
 
         verificarOrcamentoDuplicado(userId, categoriaEntity, periodo, null);
@@ -120,7 +122,7 @@ public class OrcamentoMensalServiceImpl implements OrcamentoMensalService {
         }
 
         OrcamentoMensalEntity orcamentoMensal = buscarPorId(userId, uuid);
-        CategoriaEntity categoriaEntity = categoriaRepository.findByNomeAndUserUuid(categoria, userId)
+        CategoriaEntity categoriaEntity = indiceCategorias.buscarPorNome(userId, categoria)
                 .orElseThrow(() -> new CategoriaNameNotFoundException("Categoria não encontrada: " + categoria));
 
         verificarOrcamentoDuplicado(userId, categoriaEntity, periodo, uuid);
@@ -1,8 +1,11 @@
 package br.com.gestorfinanceiro.services.impl;
 
+import br.com.gestorfinanceiro.config.Paginacao;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaNameNotFoundException;
 import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
@@ -16,34 +19,44 @@ import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
-import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.ReceitaService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import br.com.gestorfinanceiro.utils.DataUtils;
-import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class ReceitaServiceImpl implements ReceitaService {
 
     private final ReceitaRepository receitaRepository;
-    private final CategoriaRepository categoriaRepository;
+    private final IndiceCategorias indiceCategorias;
     private final UserRepository userRepository;
     private final Mapper<ReceitaEntity, ReceitaCreateDTO> receitaCreateDTOMapper;
+    private final ResumoMensalService resumoMensalService;
+    private final ResumoMensalRepository resumoMensalRepository;
+    private final Paginacao paginacao;
 
-    public ReceitaServiceImpl(ReceitaRepository receitaRepository, CategoriaRepository categoriaRepository, UserRepository userRepository, Mapper<ReceitaEntity, ReceitaCreateDTO> receitaCreateDTOMapper) {
+    public ReceitaServiceImpl(ReceitaRepository receitaRepository, IndiceCategorias indiceCategorias, UserRepository userRepository, Mapper<ReceitaEntity, ReceitaCreateDTO> receitaCreateDTOMapper,
+                              ResumoMensalService resumoMensalService, ResumoMensalRepository resumoMensalRepository,
+                              Paginacao paginacao) {
         this.receitaRepository = receitaRepository;
-        this.categoriaRepository = categoriaRepository;
+        this.indiceCategorias = indiceCategorias;
         this.userRepository = userRepository;
         this.receitaCreateDTOMapper = receitaCreateDTOMapper;
+        this.resumoMensalService = resumoMensalService;
+        this.resumoMensalRepository = resumoMensalRepository;
+        this.paginacao = paginacao;
     }
 
     @Override
@@ -60,9 +73,7 @@ public class ReceitaServiceImpl implements ReceitaService {
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         // Verifica se a categoria customizada da receita existe
-        CategoriaEntity categoria = categoriaRepository.findByNomeAndTipoAndUserUuid(
-                        receitaCreateDTO.getCategoria(),
-                        CategoriaType.RECEITAS, userId)
+        CategoriaEntity categoria = indiceCategorias.buscar(userId, CategoriaType.RECEITAS, receitaCreateDTO.getCategoria())
                 .orElseThrow(() -> new CategoriaNameNotFoundException(receitaCreateDTO.getCategoria()));
 
         try {
@@ -72,29 +83,39 @@ public class ReceitaServiceImpl implements ReceitaService {
             receitaParaCriar.setCategoria(categoria);
             receitaParaCriar.setUser(user);
 
-            return receitaRepository.save(receitaParaCriar);
+            ReceitaEntity receitaCriada = receitaRepository.save(receitaParaCriar);
+            resumoMensalService.adicionar(CategoriaType.RECEITAS, userId, categoria.getUuid(), receitaCriada.getData(), receitaCriada.getValor());
+
+            return receitaCriada;
         } catch (Exception e) {
             throw new ReceitaOperationException("Erro ao criar receita. Por favor, tente novamente.", e);
         }
     }
 
     @Override
-    public List<ReceitaEntity> listarReceitasUsuario(String userId) {
+    @Transactional(readOnly = true)
+    public PaginaDTO<ReceitaDTO> listarReceitasUsuarioPaginado(String userId, String cursor, Integer tamanho) {
         if (userId == null || userId.trim()
                 .isEmpty()) {
             throw new InvalidUserIdException();
         }
 
-        List<ReceitaEntity> receitas = receitaRepository.findAllByUserUuid(userId);
+        CursorUtils.Posicao depois = CursorUtils.decodificar(cursor);
+        int limite = paginacao.resolverTamanho(tamanho);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<ReceitaDTO> receitas = receitaRepository.findPaginaByUserId(userId, depois, limite + 1);
 
-        if (receitas.isEmpty()) {
+        // Só a primeira página vazia significa que o usuário não tem receitas
+        if (receitas.isEmpty() && depois == null) {
             throw new ReceitaNotFoundException(userId);
-        } else {
-            return receitas;
         }
+
+        return paginacao.montarPagina(receitas, limite);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReceitaEntity buscarReceitaPorId(String uuid) {
         if (uuid == null || uuid.trim()
                 .isEmpty()) {
@@ -121,15 +142,17 @@ public class ReceitaServiceImpl implements ReceitaService {
         ReceitaEntity receita = receitaRepository.findById(uuid)
                 .orElseThrow(() -> new ReceitaNotFoundException(uuid));
 
+        // Valores antigos, para tirar o lançamento do resumo mensal em que ele estava
+        String categoriaAntiga = receita.getCategoria() != null ? receita.getCategoria().getUuid() : null;
+        LocalDate dataAntiga = receita.getData();
+        BigDecimal valorAntigo = receita.getValor();
+
         // Coloca os novos valores na despesa
         receita.setData(receitaUpdateDTO.getData());
 
         // Verifica se a categoria customizada da despesaAtualizada existe
         receita.setCategoria(
-                categoriaRepository.findByNomeAndTipoAndUserUuid(receitaUpdateDTO.getCategoria(),
-                                CategoriaType.RECEITAS,
-                                receita.getUser()
-                                        .getUuid())
+                indiceCategorias.buscar(receita.getUser().getUuid(), CategoriaType.RECEITAS, receitaUpdateDTO.getCategoria())
                         .orElseThrow(
                                 () -> new CategoriaNameNotFoundException(receitaUpdateDTO.getCategoria())));
 
@@ -138,7 +161,12 @@ public class ReceitaServiceImpl implements ReceitaService {
         receita.setObservacoes(receitaUpdateDTO.getObservacoes());
 
         try {
-            return receitaRepository.save(receita);
+            ReceitaEntity receitaAtualizada = receitaRepository.save(receita);
+            resumoMensalService.substituir(CategoriaType.RECEITAS, receitaAtualizada.getUser().getUuid(),
+                    categoriaAntiga, dataAntiga, valorAntigo,
+                    receitaAtualizada.getCategoria().getUuid(), receitaAtualizada.getData(), receitaAtualizada.getValor());
+
+            return receitaAtualizada;
         } catch (Exception e) {
             throw new ReceitaOperationException("Erro ao atualizar despesa. Por favor, tente novamente.", e);
         }
@@ -157,43 +185,70 @@ public class ReceitaServiceImpl implements ReceitaService {
 
         try {
             receitaRepository.delete(receita);
+            resumoMensalService.remover(CategoriaType.RECEITAS, receita.getUser().getUuid(),
+                    receita.getCategoria() != null ? receita.getCategoria().getUuid() : null, receita.getData(), receita.getValor());
         } catch (Exception e) {
             throw new ReceitaOperationException("Erro ao excluir receita. Por favor, tente novamente.", e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public GraficoPizzaDTO gerarGraficoPizza(String userId, LocalDate inicio, LocalDate fim) {
-        List<ReceitaEntity> receitas = receitaRepository.findByUserAndDateRange(userId, inicio, fim);
-
-        Map<String, BigDecimal> categorias = receitas.stream()
-                .collect(Collectors.groupingBy(
-                        r -> r.getCategoria()
-                                .getNome(),
-                        Collectors.mapping(ReceitaEntity::getValor,
-                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add))
-                ));
+        // Intervalos de meses inteiros saem do resumo mensal; recortes no meio do mês agrupam as linhas de origem no banco
+        if (DataUtils.cobreMesesInteiros(inicio, fim)) {
+            return new GraficoPizzaDTO(resumoMensalRepository.sumTotalPorCategoriaByUserIdAndYearMonthRange(
+                    userId, CategoriaType.RECEITAS, YearMonth.from(inicio), YearMonth.from(fim)));
+        }
 
-        return new GraficoPizzaDTO(categorias);
+        return new GraficoPizzaDTO(receitaRepository.sumValorPorCategoriaByUserAndDateRange(userId, inicio, fim));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public GraficoBarraDTO gerarGraficoBarras(String userId, YearMonth inicio, YearMonth fim) {
-        List<ReceitaEntity> receitas = receitaRepository.findByUserAndYearMonthRange(userId, inicio, fim);
-        
-        Map<String, BigDecimal> dadosMensais = receitas.stream()
-            .collect(Collectors.groupingBy(
-                d -> DataUtils.formatarMesAno(d.getData()),
-                Collectors.reducing(BigDecimal.ZERO, ReceitaEntity::getValor, BigDecimal::add)
-            ));
-        
+        Map<String, BigDecimal> dadosMensais = new HashMap<>();
+        resumoMensalRepository.sumTotalPorMesByUserIdAndYearMonthRange(userId, CategoriaType.RECEITAS, inicio, fim)
+                .forEach((mes, total) -> dadosMensais.put(DataUtils.formatarMesAno(mes.atDay(1)), total));
+
         DataUtils.preencherMesesVazios(dadosMensais, inicio, fim);
-        
+
         return new GraficoBarraDTO(dadosMensais);
     }
 
     @Override
-    public List<ReceitaEntity> buscarReceitasPorIntervaloDeDatas(String userId, LocalDate inicio, LocalDate fim) {
+    @Transactional(readOnly = true)
+    public PaginaDTO<ReceitaDTO> buscarReceitasPorIntervaloDeDatasPaginado(String userId, LocalDate inicio, LocalDate fim, String cursor, Integer tamanho) {
+        validarIntervaloDeDatas(userId, inicio, fim);
+
+        CursorUtils.Posicao depois = CursorUtils.decodificar(cursor);
+        int limite = paginacao.resolverTamanho(tamanho);
+
+        try {
+            return paginacao.montarPagina(receitaRepository.findPaginaByUserAndDateRange(userId, inicio, fim, depois, limite + 1), limite);
+        } catch (Exception e) {
+            throw new ReceitaOperationException(
+                    "Erro ao buscar receitas por intervalo de datas. Por favor, tente novamente.", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<ReceitaDTO> buscarReceitasPorIntervaloDeValoresPaginado(String userId, BigDecimal min, BigDecimal max, String cursor, Integer tamanho) {
+        validarIntervaloDeValores(userId, min, max);
+
+        CursorUtils.Posicao depois = CursorUtils.decodificar(cursor);
+        int limite = paginacao.resolverTamanho(tamanho);
+
+        try {
+            return paginacao.montarPagina(receitaRepository.findPaginaByUserAndValueBetween(userId, min, max, depois, limite + 1), limite);
+        } catch (Exception e) {
+            throw new ReceitaOperationException(
+                    "Erro ao buscar receitas por intervalo de valores. Por favor, tente novamente.", e);
+        }
+    }
+
+    private void validarIntervaloDeDatas(String userId, LocalDate inicio, LocalDate fim) {
         if (userId == null || userId.trim()
                 .isEmpty()) {
             throw new InvalidUserIdException();
@@ -206,17 +261,9 @@ public class ReceitaServiceImpl implements ReceitaService {
         if (inicio.isAfter(fim)) {
             throw new InvalidDataException("A data de início não pode ser após a data de fim.");
         }
-
-        try {
-            return receitaRepository.findByUserAndDateRange(userId, inicio, fim);
-        } catch (Exception e) {
-            throw new ReceitaOperationException(
-                    "Erro ao buscar receitas por intervalo de datas. Por favor, tente novamente.", e);
-        }
     }
 
-    @Override
-    public List<ReceitaEntity> buscarReceitasPorIntervaloDeValores(String userId, BigDecimal min, BigDecimal max) {
+    private void validarIntervaloDeValores(String userId, BigDecimal min, BigDecimal max) {
         if (userId == null || userId.trim()
                 .isEmpty()) {
             throw new InvalidUserIdException();
@@ -233,13 +280,5 @@ public class ReceitaServiceImpl implements ReceitaService {
         if (min.compareTo(max) > 0) {
             throw new InvalidDataException("O valor mínimo não pode ser maior que o valor máximo.");
         }
-
-        try {
-            return receitaRepository.findByUserAndValueBetween(userId, min, max);
-        } catch (Exception e) {
-            throw new ReceitaOperationException(
-                    "Erro ao buscar receitas por intervalo de valores. Por favor, tente novamente.", e);
-        }
     }
-
-}
\ No newline at end of file
+}
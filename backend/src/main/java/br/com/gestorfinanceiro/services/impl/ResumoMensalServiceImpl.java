@@ -0,0 +1,248 @@
+package br.com.gestorfinanceiro.services.impl;
+
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Mantém a tabela resumo_mensal (soma, quantidade e maior valor por usuário, categoria, mês e tipo).
+ * adicionar/remover participam da transação de quem escreve em despesas/receitas, então o resumo
+ * nunca é confirmado sem a linha de origem. Lançamentos sem categoria somam no balde
+ * {@link ResumoMensalId#SEM_CATEGORIA}, para o total do mês bater com as tabelas de origem.
+ * O reparo reconstrói, a partir das tabelas de origem, os usuários cujo resumo diverge
+ * (ex.: escritas feitas fora dos services).
+ */
+@Service
+public class ResumoMensalServiceImpl implements ResumoMensalService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoMensalServiceImpl.class);
+
+    private final ResumoMensalRepository resumoMensalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maximoDivergenciasListadas;
+
+    public ResumoMensalServiceImpl(ResumoMensalRepository resumoMensalRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${resumo-mensal.consistencia.maximo-divergencias:100}") int maximoDivergenciasListadas) {
+        this.resumoMensalRepository = resumoMensalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maximoDivergenciasListadas = maximoDivergenciasListadas;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adicionar(CategoriaType tipo, String userId, String categoriaId, LocalDate data, BigDecimal valor) {
+        acumular(new ResumoMensalEntity(new ResumoMensalId(userId, categoriaId, YearMonth.from(data), tipo), valor, 1, valor));
+    }
+
+    // Soma vários lançamentos do mesmo mês/categoria de uma vez (total, quantidade e maior valor já agregados)
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acumular(ResumoMensalEntity parcial) {
+        ResumoMensalEntity resumo = resumoMensalRepository.findByIdParaAtualizacao(parcial.getId());
+
+        if (resumo == null) {
+            novoResumo(parcial);
+            return;
+        }
+
+        resumo.setTotal(resumo.getTotal().add(parcial.getTotal()));
+        resumo.setQuantidade(resumo.getQuantidade() + parcial.getQuantidade());
+        resumo.setMaiorValor(resumo.getMaiorValor().max(parcial.getMaiorValor()));
+    }
+
+    // Deve ser chamado depois que a linha de origem já foi alterada/removida: o maior valor é recalculado nela
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remover(CategoriaType tipo, String userId, String categoriaId, LocalDate data, BigDecimal valor) {
+        ResumoMensalId id = new ResumoMensalId(userId, categoriaId, YearMonth.from(data), tipo);
+        ResumoMensalEntity resumo = resumoMensalRepository.findByIdParaAtualizacao(id);
+
+        if (resumo == null) {
+            // Resumo já divergente; o reparo corrige
+            log.warn("Resumo mensal ausente ao remover lançamento: {}", id);
+            return;
+        }
+
+        if (resumo.getQuantidade() <= 1) {
+            resumoMensalRepository.delete(resumo);
+            return;
+        }
+
+        resumo.setTotal(resumo.getTotal().subtract(valor));
+        resumo.setQuantidade(resumo.getQuantidade() - 1);
+
+        // SUM e COUNT são decrementados; o MAX só pode ser recalculado olhando as linhas restantes do mês
+        if (valor.compareTo(resumo.getMaiorValor()) >= 0) {
+            BigDecimal maiorValor = resumoMensalRepository.findMaiorValorNosLancamentos(id);
+            resumo.setMaiorValor(maiorValor != null ? maiorValor : BigDecimal.ZERO);
+        }
+    }
+
+    // Alteração de um lançamento: no mesmo mês/categoria vira um delta; senão sai de um resumo e entra no outro
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void substituir(CategoriaType tipo, String userId,
+                           String categoriaAntiga, LocalDate dataAntiga, BigDecimal valorAntigo,
+                           String categoriaNova, LocalDate dataNova, BigDecimal valorNovo) {
+        boolean mesmoResumo = Objects.equals(categoriaAntiga, categoriaNova)
+                && YearMonth.from(dataAntiga).equals(YearMonth.from(dataNova));
+
+        if (!mesmoResumo) {
+            remover(tipo, userId, categoriaAntiga, dataAntiga, valorAntigo);
+            adicionar(tipo, userId, categoriaNova, dataNova, valorNovo);
+            return;
+        }
+
+        ResumoMensalId id = new ResumoMensalId(userId, categoriaNova, YearMonth.from(dataNova), tipo);
+        ResumoMensalEntity resumo = resumoMensalRepository.findByIdParaAtualizacao(id);
+
+        if (resumo == null) {
+            log.warn("Resumo mensal ausente ao atualizar lançamento: {}", id);
+            novoResumo(new ResumoMensalEntity(id, valorNovo, 1, valorNovo));
+            return;
+        }
+
+        resumo.setTotal(resumo.getTotal().subtract(valorAntigo).add(valorNovo));
+
+        if (valorNovo.compareTo(resumo.getMaiorValor()) >= 0) {
+            resumo.setMaiorValor(valorNovo);
+        } else if (valorAntigo.compareTo(resumo.getMaiorValor()) >= 0) {
+            BigDecimal maiorValor = resumoMensalRepository.findMaiorValorNosLancamentos(id);
+            resumo.setMaiorValor(maiorValor != null ? maiorValor : valorNovo);
+        }
+    }
+
+    // Todos os lançamentos de uma categoria foram para outra (exclusão da categoria): os meses da origem
+    // são somados aos do destino no banco, sem reagregar as tabelas de origem
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int moverCategoria(String userId, String categoriaOrigem, String categoriaDestino) {
+        return resumoMensalRepository.moverCategoria(userId, categoriaOrigem, categoriaDestino);
+    }
+
+    // O DELETE em massa não passa pelo contexto de persistência: chamar sem resumos do usuário já carregados
+    @Override
+    @Transactional
+    public int reconstruir(String userId) {
+        resumoMensalRepository.deleteAllByUserId(userId);
+
+        List<ResumoMensalEntity> resumos = new ArrayList<>();
+        for (CategoriaType tipo : CategoriaType.values()) {
+            resumos.addAll(resumoMensalRepository.agregarLancamentosByUserId(userId, tipo));
+        }
+
+        resumos.forEach(resumoMensalRepository::inserir);
+        return resumos.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoMensalId> verificar(String userId) {
+        Map<ResumoMensalId, ResumoMensalEntity> esperado = new HashMap<>();
+        for (CategoriaType tipo : CategoriaType.values()) {
+            resumoMensalRepository.agregarLancamentosByUserId(userId, tipo)
+                    .forEach(resumo -> esperado.put(resumo.getId(), resumo));
+        }
+
+        List<ResumoMensalId> divergentes = new ArrayList<>();
+        Set<ResumoMensalId> encontrados = new HashSet<>();
+        for (ResumoMensalEntity atual : resumoMensalRepository.findAllByIdUserId(userId)) {
+            encontrados.add(atual.getId());
+            if (!iguais(esperado.get(atual.getId()), atual)) {
+                divergentes.add(atual.getId());
+            }
+        }
+
+        esperado.keySet().stream()
+                .filter(id -> !encontrados.contains(id))
+                .forEach(divergentes::add);
+
+        return divergentes;
+    }
+
+    @Override
+    public ConsistenciaResumoDTO verificarConsistencia() {
+        return percorrerUsuarios(false);
+    }
+
+    // Cada usuário é verificado e reconstruído na própria transação, para não segurar locks do banco inteiro
+    @Override
+    public ConsistenciaResumoDTO reparar() {
+        ConsistenciaResumoDTO resultado = percorrerUsuarios(true);
+        if (resultado.getUsuariosReconstruidos() > 0) {
+            log.warn("Resumo mensal reconstruído para {} usuário(s); divergências: {}",
+                    resultado.getUsuariosReconstruidos(), resultado.getDivergencias());
+        }
+        return resultado;
+    }
+
+    // Desativado por padrão ("-"); em produção roda de madrugada (resumo-mensal.reparo.cron)
+    @Scheduled(cron = "${resumo-mensal.reparo.cron:-}")
+    public void repararAgendado() {
+        reparar();
+    }
+
+    private ConsistenciaResumoDTO percorrerUsuarios(boolean reconstruirDivergentes) {
+        List<String> userIds = resumoMensalRepository.findAllUserIds();
+        List<String> divergencias = new ArrayList<>();
+        int usuariosDivergentes = 0;
+        int usuariosReconstruidos = 0;
+
+        for (String userId : userIds) {
+            List<ResumoMensalId> divergentes = transactionTemplate.execute(status -> verificar(userId));
+            if (divergentes == null || divergentes.isEmpty()) {
+                continue;
+            }
+
+            usuariosDivergentes++;
+            divergentes.stream()
+                    .limit(Math.max(0, maximoDivergenciasListadas - divergencias.size()))
+                    .map(ResumoMensalId::toString)
+                    .forEach(divergencias::add);
+
+            if (reconstruirDivergentes) {
+                transactionTemplate.executeWithoutResult(status -> reconstruir(userId));
+                usuariosReconstruidos++;
+            }
+        }
+
+        return new ConsistenciaResumoDTO(userIds.size(), usuariosDivergentes, usuariosReconstruidos, divergencias);
+    }
+
+    // Entre o find sem resultado e o INSERT outra transação pode ter criado a linha: o upsert soma em vez de
+    // violar a chave. Executa na hora, então o próximo findByIdParaAtualizacao da mesma transação já a encontra.
+    private void novoResumo(ResumoMensalEntity resumo) {
+        resumoMensalRepository.somar(resumo);
+    }
+
+    private static boolean iguais(ResumoMensalEntity esperado, ResumoMensalEntity atual) {
+        return esperado != null
+                && esperado.getQuantidade() == atual.getQuantidade()
+                && esperado.getTotal().compareTo(atual.getTotal()) == 0
+                && esperado.getMaiorValor().compareTo(atual.getMaiorValor()) == 0;
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.gestorfinanceiro.services.impl.importacao;
+
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+import br.com.gestorfinanceiro.exceptions.importacao.RegistroInvalidoException;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV (RFC 4180) com cabeçalho; as colunas são as da exportação: tipo, data, valor, categoria, contraparte, observacoes.
+ * tipo, data e valor são obrigatórias; a ordem das colunas é livre.
+ */
+public class LeitorCsv implements LeitorLancamentos {
+
+    // STRICT: 31/02 é rejeitado em vez de virar o último dia do mês
+    private static final DateTimeFormatter DATA_BRASILEIRA = DateTimeFormatter.ofPattern("dd/MM/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final List<String> COLUNAS_OBRIGATORIAS = List.of("tipo", "data", "valor");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> colunas = new HashMap<>();
+    private long registro;
+    private boolean fim;
+
+    public LeitorCsv(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> cabecalho = lerCampos();
+        if (cabecalho == null) {
+            throw new InvalidDataException("Arquivo CSV vazio.");
+        }
+        for (int i = 0; i < cabecalho.size(); i++) {
+            // Remove o BOM que alguns editores colocam no início do arquivo
+            String coluna = cabecalho.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            colunas.put(coluna, i);
+        }
+        for (String obrigatoria : COLUNAS_OBRIGATORIAS) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new InvalidDataException("Coluna obrigatória ausente no CSV: " + obrigatoria);
+            }
+        }
+    }
+
+    @Override
+    public LinhaImportacao proxima() throws IOException {
+        List<String> campos;
+        do {
+            campos = lerCampos();
+            if (campos == null) {
+                return null;
+            }
+        } while (campos.size() == 1 && campos.get(0).isBlank());
+
+        registro++;
+        return new LinhaImportacao(registro,
+                tipo(campo(campos, "tipo")),
+                data(campo(campos, "data")),
+                valor(campo(campos, "valor")),
+                campo(campos, "categoria"),
+                campo(campos, "contraparte"),
+                campo(campos, "observacoes"));
+    }
+
+    private String campo(List<String> campos, String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private CategoriaType tipo(String tipo) {
+        if (tipo != null) {
+            String normalizado = tipo.toUpperCase(Locale.ROOT);
+            if (normalizado.startsWith("DESPESA")) {
+                return CategoriaType.DESPESAS;
+            }
+            if (normalizado.startsWith("RECEITA")) {
+                return CategoriaType.RECEITAS;
+            }
+        }
+        throw new RegistroInvalidoException(registro, "Tipo inválido: " + tipo + ". Use DESPESAS ou RECEITAS.");
+    }
+
+    private LocalDate data(String data) {
+        if (data == null) {
+            throw new RegistroInvalidoException(registro, "A data é obrigatória.");
+        }
+        try {
+            return data.contains("/") ? LocalDate.parse(data, DATA_BRASILEIRA) : LocalDate.parse(data);
+        } catch (DateTimeParseException e) {
+            throw new RegistroInvalidoException(registro, "Data inválida: " + data);
+        }
+    }
+
+    // Aceita ponto ou vírgula decimal ("1234.56" ou "1234,56")
+    private BigDecimal valor(String valor) {
+        if (valor == null) {
+            throw new RegistroInvalidoException(registro, "O valor é obrigatório.");
+        }
+        try {
+            return new BigDecimal(valor.contains(".") ? valor : valor.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new RegistroInvalidoException(registro, "Valor inválido: " + valor);
+        }
+    }
+
+    // Um registro pode ocupar várias linhas quando há quebra de linha entre aspas
+    private List<String> lerCampos() throws IOException {
+        if (fim) {
+            return null;
+        }
+
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            leuAlgo = true;
+            if (entreAspas) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        campo.append('"');
+                    } else {
+                        reader.reset();
+                        entreAspas = false;
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                campos.add(campo.toString());
+                return campos;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+        }
+
+        fim = true;
+        if (!leuAlgo) {
+            return null;
+        }
+        if (entreAspas) {
+            registro++;
+            throw new RegistroInvalidoException(registro, "Aspas não fechadas até o fim do arquivo.");
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.gestorfinanceiro.services.impl.importacao;
+
+import java.io.IOException;
+
+/**
+ * Lê um registro por vez do arquivo importado, sem carregá-lo inteiro.
+ * Um registro malformado lança RegistroInvalidoException já posicionado no seguinte.
+ */
+public interface LeitorLancamentos {
+
+    // null no fim do arquivo
+    LinhaImportacao proxima() throws IOException;
+}
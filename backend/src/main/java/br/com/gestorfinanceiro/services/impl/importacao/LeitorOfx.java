@@ -0,0 +1,144 @@
+package br.com.gestorfinanceiro.services.impl.importacao;
+
+import br.com.gestorfinanceiro.exceptions.importacao.RegistroInvalidoException;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Extrato OFX (1.x em SGML, sem tags de fechamento, ou 2.x em XML): cada STMTTRN vira um lançamento.
+ * Valor negativo é despesa e positivo é receita; o OFX não tem categoria, então os lançamentos vão para
+ * a "Sem categoria" do usuário. NAME (ou PAYEE) é a contraparte e MEMO as observações.
+ */
+public class LeitorOfx implements LeitorLancamentos {
+
+    private static final DateTimeFormatter DATA_OFX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+    private long registro;
+
+    public LeitorOfx(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public LinhaImportacao proxima() throws IOException {
+        Map<String, String> campos = lerTransacao();
+        if (campos == null) {
+            return null;
+        }
+
+        registro++;
+        BigDecimal valor = valor(campos.get("TRNAMT"));
+        if (valor.signum() == 0) {
+            throw new RegistroInvalidoException(registro, "Transação com valor zero.");
+        }
+
+        String contraparte = campos.getOrDefault("NAME", campos.get("PAYEE"));
+        String memo = campos.get("MEMO");
+        return new LinhaImportacao(registro,
+                valor.signum() < 0 ? CategoriaType.DESPESAS : CategoriaType.RECEITAS,
+                data(campos.get("DTPOSTED")),
+                valor.abs(),
+                null,
+                contraparte != null ? contraparte : memo,
+                memo);
+    }
+
+    // Lê tags até o fim do próximo STMTTRN; só os campos de uma transação ficam em memória
+    private Map<String, String> lerTransacao() throws IOException {
+        Map<String, String> campos = null;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c != '<') {
+                continue;
+            }
+
+            String tag = lerAte('>').trim().toUpperCase(Locale.ROOT);
+            if (tag.equals("STMTTRN")) {
+                campos = new HashMap<>();
+            } else if (tag.equals("/STMTTRN") && campos != null) {
+                return campos;
+            } else if (campos != null && !tag.startsWith("/")) {
+                // O valor vai até a próxima tag (ou até a quebra de linha no SGML)
+                String valor = lerValor();
+                if (!valor.isEmpty()) {
+                    campos.put(tag, valor);
+                }
+            }
+        }
+
+        if (campos != null) {
+            registro++;
+            throw new RegistroInvalidoException(registro, "Transação sem </STMTTRN> no fim do arquivo.");
+        }
+        return null;
+    }
+
+    private String lerAte(char delimitador) throws IOException {
+        StringBuilder texto = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != delimitador) {
+            texto.append((char) c);
+        }
+        return texto.toString();
+    }
+
+    private String lerValor() throws IOException {
+        StringBuilder texto = new StringBuilder();
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c == -1 || c == '\n' || c == '\r') {
+                break;
+            }
+            if (c == '<') {
+                reader.reset();
+                break;
+            }
+            texto.append((char) c);
+        }
+        return unescape(texto.toString().trim());
+    }
+
+    private LocalDate data(String data) {
+        // YYYYMMDD[HHMMSS[.XXX][[-3:BRT]]]: só a data interessa
+        if (data == null || data.length() < 8) {
+            throw new RegistroInvalidoException(registro, "DTPOSTED inválido: " + data);
+        }
+        try {
+            return LocalDate.parse(data.substring(0, 8), DATA_OFX);
+        } catch (DateTimeParseException e) {
+            throw new RegistroInvalidoException(registro, "DTPOSTED inválido: " + data);
+        }
+    }
+
+    // Alguns bancos brasileiros exportam TRNAMT com vírgula decimal
+    private BigDecimal valor(String valor) {
+        if (valor == null) {
+            throw new RegistroInvalidoException(registro, "TRNAMT ausente.");
+        }
+        try {
+            return new BigDecimal(valor.contains(".") ? valor : valor.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new RegistroInvalidoException(registro, "TRNAMT inválido: " + valor);
+        }
+    }
+
+    private static String unescape(String valor) {
+        return valor.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.gestorfinanceiro.services.impl.importacao;
+
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// categoria vazia/nula cai na "Sem categoria" do usuário; contraparte é o destino da despesa ou a origem da receita
+public record LinhaImportacao(long registro, CategoriaType tipo, LocalDate data, BigDecimal valor,
+                              String categoria, String contraparte, String observacoes) {}
@@ -0,0 +1,138 @@
+package br.com.gestorfinanceiro.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Soma, quantidade e maior valor por chave (categoria, mês, resumo...) em long, na menor unidade
+ * das colunas de valor (scale = 4), em vez de um BigDecimal novo a cada elemento somado.
+ * Cada chave vira um índice nos arrays primitivos; o BigDecimal só é criado na leitura do resultado.
+ *
+ * Estouro de long (cerca de 922 bilhões na unidade monetária) lança ArithmeticException,
+ * em vez de virar silenciosamente um total negativo. Não é thread-safe.
+ */
+public final class AcumuladorMonetario<K> {
+
+    // Mesmo scale das colunas valor/total: a soma em memória bate com a soma das linhas gravadas
+    public static final int ESCALA = 4;
+
+    private static final long[] POTENCIAS_DE_DEZ = {1L, 10L, 100L, 1_000L, 10_000L};
+
+    private final Map<K, Integer> indices;
+    private final List<K> chaves;
+    private long[] totais;
+    private long[] maiores;
+    private int[] quantidades;
+
+    public AcumuladorMonetario() {
+        this(16);
+    }
+
+    public AcumuladorMonetario(int capacidadeInicial) {
+        int capacidade = Math.max(capacidadeInicial, 1);
+        this.indices = new HashMap<>(capacidade * 2);
+        this.chaves = new ArrayList<>(capacidade);
+        this.totais = new long[capacidade];
+        this.maiores = new long[capacidade];
+        this.quantidades = new int[capacidade];
+    }
+
+    // Resolve (ou cria) o índice da chave; laços quentes podem guardá-lo e usar adicionar(int, ...)
+    public int indice(K chave) {
+        Integer indice = indices.get(chave);
+        if (indice != null) {
+            return indice;
+        }
+
+        int novo = chaves.size();
+        if (novo == totais.length) {
+            int capacidade = novo * 2;
+            totais = Arrays.copyOf(totais, capacidade);
+            maiores = Arrays.copyOf(maiores, capacidade);
+            quantidades = Arrays.copyOf(quantidades, capacidade);
+        }
+        maiores[novo] = Long.MIN_VALUE;
+        chaves.add(chave);
+        indices.put(chave, novo);
+        return novo;
+    }
+
+    public void adicionar(K chave, BigDecimal valor) {
+        adicionarUnidades(indice(chave), unidades(valor));
+    }
+
+    public void adicionar(int indice, BigDecimal valor) {
+        adicionarUnidades(indice, unidades(valor));
+    }
+
+    public void adicionarUnidades(int indice, long unidades) {
+        if (indice < 0 || indice >= chaves.size()) {
+            throw new IndexOutOfBoundsException("Índice sem chave no acumulador: " + indice);
+        }
+
+        try {
+            totais[indice] = Math.addExact(totais[indice], unidades);
+            quantidades[indice] = Math.addExact(quantidades[indice], 1);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Estouro ao acumular valores da chave " + chaves.get(indice));
+        }
+        maiores[indice] = Math.max(maiores[indice], unidades);
+    }
+
+    public int tamanho() {
+        return chaves.size();
+    }
+
+    public K chave(int indice) {
+        return chaves.get(indice);
+    }
+
+    public BigDecimal total(int indice) {
+        return valor(totais[indice]);
+    }
+
+    public int quantidade(int indice) {
+        return quantidades[indice];
+    }
+
+    public BigDecimal maiorValor(int indice) {
+        return quantidades[indice] == 0 ? BigDecimal.ZERO : valor(maiores[indice]);
+    }
+
+    // Totais por chave na ordem em que as chaves apareceram
+    public Map<K, BigDecimal> totais() {
+        Map<K, BigDecimal> resultado = new LinkedHashMap<>(chaves.size() * 2);
+        for (int i = 0; i < chaves.size(); i++) {
+            resultado.put(chaves.get(i), total(i));
+        }
+        return resultado;
+    }
+
+    // Scale até ESCALA (o caso comum: valores do banco e dos DTOs): o unscaled value em long vezes a potência
+    // de dez que falta, sem setScale. O unscaled vem de movePointRight(scale), que dá um BigDecimal compacto
+    // de scale 0 que o JIT elimina; unscaledValue() criaria um BigInteger por valor.
+    // Casas além do scale da coluna são arredondadas como o banco faria ao gravar (HALF_UP)
+    public static long unidades(BigDecimal valor) {
+        int escala = valor.scale();
+        try {
+            if (escala >= 0 && escala <= ESCALA) {
+                return Math.multiplyExact(valor.movePointRight(escala).longValueExact(), POTENCIAS_DE_DEZ[ESCALA - escala]);
+            }
+
+            BigDecimal ajustado = escala > ESCALA ? valor.setScale(ESCALA, RoundingMode.HALF_UP) : valor;
+            return ajustado.movePointRight(ESCALA).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Valor fora do intervalo do acumulador: " + valor.toPlainString());
+        }
+    }
+
+    public static BigDecimal valor(long unidades) {
+        return BigDecimal.valueOf(unidades, ESCALA);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.gestorfinanceiro.utils;
+
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da paginação por keyset: codifica a posição (data, uuid) do último item da página.
+ * O cliente só devolve o valor recebido; o formato interno pode mudar sem quebrar a API.
+ */
+public class CursorUtils {
+
+    // Header com o cursor da próxima página; ausente na última
+    public static final String HEADER_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
+    private static final String SEPARADOR = "|";
+
+    private CursorUtils() {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada");
+    }
+
+    public record Posicao(LocalDate data, String uuid) {}
+
+    public static String codificar(LocalDate data, String uuid) {
+        String posicao = data + SEPARADOR + uuid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(posicao.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Cursor nulo ou vazio é a primeira página
+    public static Posicao decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String posicao = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = posicao.indexOf(SEPARADOR);
+            if (separador <= 0 || separador == posicao.length() - 1) {
+                throw new InvalidDataException("Cursor de paginação inválido.");
+            }
+            return new Posicao(LocalDate.parse(posicao.substring(0, separador)), posicao.substring(separador + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidDataException("Cursor de paginação inválido.");
+        }
+    }
+}
@@ -19,6 +19,13 @@ public class DataUtils {
         return data.format(MES_ANO_FORMATTER).toLowerCase();
     }
 
+    // true quando o intervalo começa no primeiro dia de um mês e termina no último dia de um mês
+    public static boolean cobreMesesInteiros(LocalDate inicio, LocalDate fim) {
+        return inicio != null && fim != null && !inicio.isAfter(fim)
+                && inicio.getDayOfMonth() == 1
+                && fim.equals(YearMonth.from(fim).atEndOfMonth());
+    }
+
     public static void preencherMesesVazios(Map<String, BigDecimal> map, YearMonth inicio, YearMonth fim) {
         YearMonth current = inicio;
         while (!current.isAfter(fim)) {
@@ -0,0 +1,56 @@
+package br.com.gestorfinanceiro.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * UUIDs versão 7 (RFC 9562): os 48 bits iniciais são o instante em milissegundos, então ids gerados
+ * em sequência ficam em ordem (inclusive na forma de texto) e os INSERTs caem no fim do índice,
+ * em vez de espalhados como no UUID aleatório (versão 4).
+ * Dentro do mesmo milissegundo os 12 bits seguintes funcionam como contador, mantendo a ordem.
+ */
+public class UuidUtils {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int CONTADOR_MAXIMO = 0xFFF;
+
+    private static long ultimoInstante;
+    private static int contador;
+
+    private UuidUtils() {
+    }
+
+    public static UUID gerarUuidV7() {
+        long instante;
+        int sequencia;
+        synchronized (UuidUtils.class) {
+            instante = Math.max(System.currentTimeMillis(), ultimoInstante);
+            if (instante == ultimoInstante) {
+                if (contador == CONTADOR_MAXIMO) {
+                    // Contador esgotado no milissegundo: avança o instante em vez de repetir a ordem
+                    instante++;
+                    contador = RANDOM.nextInt(CONTADOR_MAXIMO / 2);
+                } else {
+                    contador++;
+                }
+            } else {
+                // Começa em um valor aleatório baixo: mantém folga para o contador e não revela quantos ids saíram
+                contador = RANDOM.nextInt(CONTADOR_MAXIMO / 2);
+            }
+            ultimoInstante = instante;
+            sequencia = contador;
+        }
+
+        long maisSignificativos = (instante << 16) | 0x7000L | sequencia;
+        long menosSignificativos = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+
+    // Instante de criação codificado em um UUID versão 7
+    public static long instanteDe(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID não é da versão 7: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
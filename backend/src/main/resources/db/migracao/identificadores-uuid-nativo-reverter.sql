@@ -0,0 +1,56 @@
+-- Desfaz identificadores-uuid-nativo.sql: os ids voltam a varchar(255), com o mesmo texto.
+--   psql "$URL_DO_BANCO" -v ON_ERROR_STOP=1 -1 -f identificadores-uuid-nativo-reverter.sql
+
+-- As chaves estrangeiras impedem mudar o tipo da coluna referenciada: são removidas e recriadas
+-- com a mesma definição (os nomes foram gerados pelo Hibernate, por isso a consulta ao catálogo)
+CREATE TEMP TABLE chaves_estrangeiras ON COMMIT DROP AS
+SELECT conrelid::regclass AS tabela, conname AS nome, pg_get_constraintdef(oid) AS definicao
+FROM pg_constraint
+WHERE contype = 'f'
+  AND confrelid IN ('users'::regclass, 'categorias'::regclass);
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN SELECT * FROM chaves_estrangeiras LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.tabela, fk.nome);
+    END LOOP;
+END $$;
+
+ALTER TABLE users
+    ALTER COLUMN uuid TYPE varchar(255) USING uuid::text;
+
+ALTER TABLE categorias
+    ALTER COLUMN uuid TYPE varchar(255) USING uuid::text,
+    ALTER COLUMN user_id TYPE varchar(255) USING user_id::text;
+
+ALTER TABLE despesas
+    ALTER COLUMN uuid TYPE varchar(255) USING uuid::text,
+    ALTER COLUMN user_id TYPE varchar(255) USING user_id::text,
+    ALTER COLUMN categoria_id TYPE varchar(255) USING categoria_id::text;
+
+ALTER TABLE receitas
+    ALTER COLUMN uuid TYPE varchar(255) USING uuid::text,
+    ALTER COLUMN user_id TYPE varchar(255) USING user_id::text,
+    ALTER COLUMN categoria_id TYPE varchar(255) USING categoria_id::text;
+
+ALTER TABLE orcamento_mensal
+    ALTER COLUMN uuid TYPE varchar(255) USING uuid::text,
+    ALTER COLUMN user_id TYPE varchar(255) USING user_id::text,
+    ALTER COLUMN categoria_id TYPE varchar(255) USING categoria_id::text;
+
+ALTER TABLE resumo_mensal
+    ALTER COLUMN user_id TYPE varchar(255) USING user_id::text,
+    ALTER COLUMN categoria_id TYPE varchar(255) USING categoria_id::text;
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN SELECT * FROM chaves_estrangeiras LOOP
+        EXECUTE format('ALTER TABLE %s ADD CONSTRAINT %I %s', fk.tabela, fk.nome, fk.definicao);
+    END LOOP;
+END $$;
+
+ANALYZE users, categorias, despesas, receitas, orcamento_mensal, resumo_mensal;
@@ -0,0 +1,66 @@
+-- Converte os ids (chaves primárias e estrangeiras) de varchar(255) para o tipo uuid nativo do PostgreSQL:
+-- 16 bytes por valor em vez de 37, índices e chaves estrangeiras menores e comparações mais baratas.
+--
+-- Opcional. As entidades continuam com o id em String e os DTOs expõem o mesmo texto de sempre; o que
+-- muda é só o tipo da coluna. Para a aplicação enviar os parâmetros de texto sem tipo (e o PostgreSQL
+-- convertê-los para uuid), a conexão precisa de stringtype=unspecified, já configurado nos properties.
+--
+-- Todos os ids existentes são UUIDs gerados pelo Hibernate, então o cast não falha. Rodar com a aplicação
+-- parada, em uma única transação:
+--   psql "$URL_DO_BANCO" -v ON_ERROR_STOP=1 -1 -f identificadores-uuid-nativo.sql
+-- Para voltar: identificadores-uuid-nativo-reverter.sql
+
+-- As chaves estrangeiras impedem mudar o tipo da coluna referenciada: são removidas e recriadas
+-- com a mesma definição (os nomes foram gerados pelo Hibernate, por isso a consulta ao catálogo)
+CREATE TEMP TABLE chaves_estrangeiras ON COMMIT DROP AS
+SELECT conrelid::regclass AS tabela, conname AS nome, pg_get_constraintdef(oid) AS definicao
+FROM pg_constraint
+WHERE contype = 'f'
+  AND confrelid IN ('users'::regclass, 'categorias'::regclass);
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN SELECT * FROM chaves_estrangeiras LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.tabela, fk.nome);
+    END LOOP;
+END $$;
+
+ALTER TABLE users
+    ALTER COLUMN uuid TYPE uuid USING uuid::uuid;
+
+ALTER TABLE categorias
+    ALTER COLUMN uuid TYPE uuid USING uuid::uuid,
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid;
+
+ALTER TABLE despesas
+    ALTER COLUMN uuid TYPE uuid USING uuid::uuid,
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid,
+    ALTER COLUMN categoria_id TYPE uuid USING categoria_id::uuid;
+
+ALTER TABLE receitas
+    ALTER COLUMN uuid TYPE uuid USING uuid::uuid,
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid,
+    ALTER COLUMN categoria_id TYPE uuid USING categoria_id::uuid;
+
+ALTER TABLE orcamento_mensal
+    ALTER COLUMN uuid TYPE uuid USING uuid::uuid,
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid,
+    ALTER COLUMN categoria_id TYPE uuid USING categoria_id::uuid;
+
+ALTER TABLE resumo_mensal
+    ALTER COLUMN user_id TYPE uuid USING user_id::uuid,
+    ALTER COLUMN categoria_id TYPE uuid USING categoria_id::uuid;
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN SELECT * FROM chaves_estrangeiras LOOP
+        EXECUTE format('ALTER TABLE %s ADD CONSTRAINT %I %s', fk.tabela, fk.nome, fk.definicao);
+    END LOOP;
+END $$;
+
+-- Os índices foram reconstruídos pelo ALTER TYPE; atualiza as estatísticas do planejador
+ANALYZE users, categorias, despesas, receitas, orcamento_mensal, resumo_mensal;
@@ -0,0 +1,26 @@
+package br.com.gestorfinanceiro;
+
+import br.com.gestorfinanceiro.config.security.PrincipalCache;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestExecutionListener;
+
+/**
+ * Esvazia o cache de principais antes de cada teste. O contexto do Spring é reaproveitado entre as classes
+ * de teste, e os setUp apagam os usuários direto no banco (deleteAllInBatch), sem passar pelo cache.
+ * Registrado em META-INF/spring.factories, vale para todos os testes com contexto do Spring.
+ */
+public class LimparCachesTestExecutionListener implements TestExecutionListener, Ordered {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        if (testContext.hasApplicationContext()) {
+            testContext.getApplicationContext().getBeanProvider(PrincipalCache.class).ifAvailable(PrincipalCache::evictAll);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
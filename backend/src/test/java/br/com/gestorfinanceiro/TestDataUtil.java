@@ -1,5 +1,6 @@
 package br.com.gestorfinanceiro;
 
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
 import br.com.gestorfinanceiro.dto.user.UserDTO;
 import br.com.gestorfinanceiro.dto.user.UserForAdminDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
@@ -7,6 +8,11 @@ import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.Roles;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
 
 public class TestDataUtil {
     //------------------------------- UTILS DE USERS -------------------------------//
@@ -32,6 +38,14 @@ public class TestDataUtil {
     }
 
 
+    // Simula o principal que o JwtFilter coloca no SecurityContext
+    public static AuthenticatedUser autenticarUsuarioUtil(String userId) {
+        AuthenticatedUser usuario = new AuthenticatedUser(userId, userId + "@gmail.com", Roles.USER, true);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                usuario, null, List.of(new SimpleGrantedAuthority(usuario.authority()))));
+        return usuario;
+    }
+
     public static UserDTO criarUsuarioDtoUtil(String nome) {
         UserDTO userDTO = new UserDTO();
         userDTO.setUsername(nome);
@@ -0,0 +1,125 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.utils.AcumuladorMonetario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupamento em memória de lançamentos por categoria (pizza) e por mês (barras):
+ * Collectors.reducing(BigDecimal.ZERO, ..., BigDecimal::add), um BigDecimal novo por elemento,
+ * contra o AcumuladorMonetario (long na menor unidade, BigDecimal só no resultado).
+ * Os dois últimos medem só a conversão de cada valor para unidades, como vem do banco (scale 4)
+ * e como vem de um DTO digitado (scale 2).
+ *
+ * Não sobe a aplicação. A memória alocada por operação é o gc.alloc.rate.norm:
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="AcumuladorMonetario -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AcumuladorMonetarioBenchmark {
+
+    private static final String[] CATEGORIAS = {"Alimentacao", "Transporte", "Moradia", "Lazer", "Saude", "Educacao"};
+    private static final YearMonth INICIO = YearMonth.of(2022, 1);
+    private static final int MESES = 36;
+
+    @Param({"1000", "100000"})
+    private int quantidadeLancamentos;
+
+    private List<Lancamento> lancamentos;
+    private BigDecimal[] valoresDigitados;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        lancamentos = new ArrayList<>(quantidadeLancamentos);
+        for (int i = 0; i < quantidadeLancamentos; i++) {
+            lancamentos.add(new Lancamento(
+                    CATEGORIAS[random.nextInt(CATEGORIAS.length)],
+                    INICIO.plusMonths(random.nextInt(MESES)),
+                    // Como vem do banco: numeric(19, 4)
+                    BigDecimal.valueOf(random.nextInt(100_000), 2).setScale(4)));
+        }
+
+        valoresDigitados = new BigDecimal[quantidadeLancamentos];
+        for (int i = 0; i < quantidadeLancamentos; i++) {
+            valoresDigitados[i] = lancamentos.get(i).valor().setScale(2);
+        }
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> pizzaComReducing() {
+        return lancamentos.stream()
+                .collect(Collectors.groupingBy(Lancamento::categoria,
+                        Collectors.mapping(Lancamento::valor,
+                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add))));
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> pizzaComAcumulador() {
+        AcumuladorMonetario<String> acumulador = new AcumuladorMonetario<>(CATEGORIAS.length);
+        for (Lancamento lancamento : lancamentos) {
+            acumulador.adicionar(lancamento.categoria(), lancamento.valor());
+        }
+        return acumulador.totais();
+    }
+
+    @Benchmark
+    public Map<YearMonth, BigDecimal> barrasComReducing() {
+        return lancamentos.stream()
+                .collect(Collectors.groupingBy(Lancamento::mes,
+                        Collectors.mapping(Lancamento::valor,
+                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add))));
+    }
+
+    @Benchmark
+    public Map<YearMonth, BigDecimal> barrasComAcumulador() {
+        AcumuladorMonetario<YearMonth> acumulador = new AcumuladorMonetario<>(MESES);
+        for (Lancamento lancamento : lancamentos) {
+            acumulador.adicionar(lancamento.mes(), lancamento.valor());
+        }
+        return acumulador.totais();
+    }
+
+    @Benchmark
+    public long unidadesComEscalaDaColuna() {
+        long soma = 0;
+        for (Lancamento lancamento : lancamentos) {
+            soma += AcumuladorMonetario.unidades(lancamento.valor());
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long unidadesComEscalaMenor() {
+        long soma = 0;
+        for (BigDecimal valor : valoresDigitados) {
+            soma += AcumuladorMonetario.unidades(valor);
+        }
+        return soma;
+    }
+
+    private record Lancamento(String categoria, YearMonth mes, BigDecimal valor) {}
+}
@@ -0,0 +1,87 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.GestorfinanceiroApplication;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.Roles;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sobe a aplicação sem servidor web, no H2 do perfil "test" e sem o log de SQL,
+ * e popula um usuário com despesas espalhadas entre inicio e fim.
+ */
+final class BenchmarkContexto {
+
+    private static final String[] CATEGORIAS = {"Alimentacao", "Transporte", "Moradia", "Lazer", "Saude", "Educacao"};
+
+    private BenchmarkContexto() {
+    }
+
+    static ConfigurableApplicationContext iniciar() {
+        return new SpringApplicationBuilder(GestorfinanceiroApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework=WARN",
+                        "logging.level.br.com.gestorfinanceiro=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run();
+    }
+
+    static UserEntity criarUsuario(ConfigurableApplicationContext context) {
+        UserEntity user = new UserEntity();
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@gmail.com");
+        user.setPassword("123456");
+        user.setRole(Roles.USER);
+        return context.getBean(UserRepository.class).save(user);
+    }
+
+    // Retorna o id do usuário criado. O resumo mensal é reconstruído no fim, como faria o reparo.
+    static String popularDespesas(ConfigurableApplicationContext context, int quantidade, YearMonth inicio, YearMonth fim) {
+        CategoriaRepository categoriaRepository = context.getBean(CategoriaRepository.class);
+        DespesaRepository despesaRepository = context.getBean(DespesaRepository.class);
+
+        UserEntity user = criarUsuario(context);
+
+        List<CategoriaEntity> categorias = new ArrayList<>();
+        for (String nome : CATEGORIAS) {
+            categorias.add(categoriaRepository.save(new CategoriaEntity(nome, CategoriaType.DESPESAS, user)));
+        }
+
+        // Observações longas, como no uso real: é a coluna TEXT que vem junto ao carregar a entidade
+        Random random = new Random(42);
+        int dias = (int) (fim.atEndOfMonth().toEpochDay() - inicio.atDay(1).toEpochDay());
+        List<DespesaEntity> despesas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            DespesaEntity despesa = new DespesaEntity();
+            despesa.setUser(user);
+            despesa.setCategoria(categorias.get(random.nextInt(categorias.size())));
+            despesa.setData(inicio.atDay(1).plusDays(random.nextInt(dias + 1)));
+            despesa.setValor(BigDecimal.valueOf(random.nextInt(100_000), 2));
+            despesa.setDestinoPagamento("Estabelecimento " + random.nextInt(50));
+            despesa.setObservacoes("Observação da despesa " + i + " ".repeat(200));
+            despesas.add(despesa);
+        }
+        despesaRepository.saveAll(despesas);
+
+        context.getBean(ResumoMensalService.class).reconstruir(user.getUuid());
+        return user.getUuid();
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.utils.DataUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rótulos do gráfico de barras: formatarMesAno para um mês e preencherMesesVazios para o intervalo inteiro,
+ * partindo de um mapa em que só metade dos meses tem lançamentos (como no DespesaServiceImpl/ReceitaServiceImpl).
+ *
+ * Não sobe a aplicação: mvn -P benchmark test-compile exec:exec -Djmh.args="DataUtils -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataUtilsBenchmark {
+
+    private static final YearMonth INICIO = YearMonth.of(2022, 1);
+
+    @Param({"12", "36"})
+    private int meses;
+
+    private YearMonth fim;
+    private LocalDate data;
+    private Map<String, BigDecimal> mesesComLancamentos;
+
+    @Setup
+    public void setup() {
+        fim = INICIO.plusMonths(meses - 1L);
+        data = LocalDate.of(2024, 3, 15);
+
+        mesesComLancamentos = new HashMap<>();
+        for (int i = 0; i < meses; i += 2) {
+            mesesComLancamentos.put(DataUtils.formatarMesAno(INICIO.plusMonths(i).atDay(1)), BigDecimal.TEN);
+        }
+    }
+
+    @Benchmark
+    public String formatarMesAno() {
+        return DataUtils.formatarMesAno(data);
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> preencherMesesVazios() {
+        // Cópia a cada chamada: o método altera o mapa recebido
+        Map<String, BigDecimal> dadosMensais = new HashMap<>(mesesComLancamentos);
+        DataUtils.preencherMesesVazios(dadosMensais, INICIO, fim);
+        return dadosMensais;
+    }
+}
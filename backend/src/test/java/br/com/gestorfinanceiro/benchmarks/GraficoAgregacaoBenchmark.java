@@ -0,0 +1,123 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Gráficos de despesas de um usuário com vários anos de lançamentos:
+ * o fluxo antigo (carrega as entidades com categoria e usuário e agrupa em streams)
+ * contra o atual (GROUP BY no banco devolvendo só categoria/mês e soma).
+ *
+ * Roda contra o H2 do perfil "test". Para ver a memória alocada por operação (gc.alloc.rate.norm), usar -prof gc:
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="GraficoAgregacao -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraficoAgregacaoBenchmark {
+
+    private static final YearMonth INICIO = YearMonth.of(2022, 1);
+    private static final YearMonth FIM = YearMonth.of(2024, 12);
+
+    @Param({"1000", "10000"})
+    private int quantidadeDespesas;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private DespesaRepository despesaRepository;
+    private ResumoMensalRepository resumoMensalRepository;
+    private String userId;
+
+    // Recorte que não cobre meses inteiros, para a pizza não cair no resumo mensal
+    private final LocalDate inicioPizza = INICIO.atDay(10);
+    private final LocalDate fimPizza = FIM.atDay(20);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkContexto.iniciar();
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        despesaRepository = context.getBean(DespesaRepository.class);
+        resumoMensalRepository = context.getBean(ResumoMensalRepository.class);
+
+        userId = BenchmarkContexto.popularDespesas(context, quantidadeDespesas, INICIO, FIM);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> pizzaComEntidades() {
+        return transactionTemplate.execute(status -> despesasComCategoria(inicioPizza, fimPizza)
+                .stream()
+                .collect(Collectors.groupingBy(d -> d.getCategoria().getNome(),
+                        Collectors.mapping(DespesaEntity::getValor,
+                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)))));
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> pizzaComGroupBy() {
+        return transactionTemplate.execute(status ->
+                despesaRepository.sumValorPorCategoriaByUserAndDateRange(userId, inicioPizza, fimPizza));
+    }
+
+    @Benchmark
+    public Map<YearMonth, BigDecimal> barrasComEntidades() {
+        return transactionTemplate.execute(status -> despesasComCategoria(INICIO.atDay(1), FIM.atEndOfMonth())
+                .stream()
+                .collect(Collectors.groupingBy(d -> YearMonth.from(d.getData()),
+                        Collectors.mapping(DespesaEntity::getValor,
+                                Collectors.reducing(BigDecimal.ZERO, BigDecimal::add)))));
+    }
+
+    @Benchmark
+    public Map<YearMonth, BigDecimal> barrasComGroupBy() {
+        return transactionTemplate.execute(status -> resumoMensalRepository
+                .sumTotalPorMesByUserIdAndYearMonthRange(userId, CategoriaType.DESPESAS, INICIO, FIM));
+    }
+
+    // A consulta do fluxo antigo, que saiu do repositório junto com as listagens sem paginação
+    private List<DespesaEntity> despesasComCategoria(LocalDate inicio, LocalDate fim) {
+        return entityManager.createQuery("SELECT d FROM DespesaEntity d LEFT JOIN FETCH d.categoria " +
+                        "WHERE d.user.uuid = :userId AND d.data BETWEEN :inicio AND :fim", DespesaEntity.class)
+                .setParameter("userId", userId)
+                .setParameter("inicio", inicio)
+                .setParameter("fim", fim)
+                .getResultList();
+    }
+}
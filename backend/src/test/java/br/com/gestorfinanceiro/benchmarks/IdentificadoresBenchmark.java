@@ -0,0 +1,147 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.utils.UuidUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * INSERTs em despesas e receitas com ids aleatórios (UUID v4) contra ids ordenados pelo tempo (UUID v7),
+ * com as tabelas já populadas: o v4 espalha as escritas pela árvore do índice da chave primária,
+ * o v7 escreve sempre no fim. Os lotes vão em batch JDBC, como os do Hibernate.
+ * No fim de cada combinação é impresso o tamanho ocupado pelas tabelas/índices.
+ *
+ * Roda no H2 do perfil "test" (DISK_SPACE_USED = tabela + índices):
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="Identificadores"
+ * Contra um PostgreSQL (pg_indexes_size), inclusive depois de db/migracao/identificadores-uuid-nativo.sql,
+ * passar ao fork as propriedades spring.datasource.* (url com stringtype=unspecified, driver, usuário, senha)
+ * e spring.jpa.database-platform como -D, pelo -jvmArgsAppend do JMH.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdentificadoresBenchmark {
+
+    private static final int LOTE = 500;
+    private static final LocalDate INICIO = LocalDate.of(2020, 1, 1);
+
+    private static final String INSERT_DESPESA = "INSERT INTO despesas "
+            + "(uuid, data, valor, destino_pagamento, observacoes, categoria_id, user_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RECEITA = "INSERT INTO receitas "
+            + "(uuid, data, valor, origem_do_pagamento, observacoes, categoria_id, user_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"UUID_V4", "UUID_V7"})
+    private String geracao;
+
+    // Linhas por tabela antes da medição: com índice pequeno a diferença não aparece
+    @Param({"200000"})
+    private int linhasIniciais;
+
+    private ConfigurableApplicationContext context;
+    private DataSource dataSource;
+    private Supplier<String> gerador;
+    private String userId;
+    private String categoriaDespesa;
+    private String categoriaReceita;
+    private long sequencia;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        context = BenchmarkContexto.iniciar();
+        dataSource = context.getBean(DataSource.class);
+        gerador = "UUID_V7".equals(geracao)
+                ? () -> UuidUtils.gerarUuidV7().toString()
+                : () -> UUID.randomUUID().toString();
+
+        UserEntity user = BenchmarkContexto.criarUsuario(context);
+        CategoriaRepository categoriaRepository = context.getBean(CategoriaRepository.class);
+        userId = user.getUuid();
+        categoriaDespesa = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user)).getUuid();
+        categoriaReceita = categoriaRepository.save(new CategoriaEntity("Salario", CategoriaType.RECEITAS, user)).getUuid();
+
+        for (int i = 0; i < linhasIniciais; i += LOTE) {
+            inserirDespesasEReceitas();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            System.out.printf("%n[%s] espaço ocupado: despesas=%d KB, receitas=%d KB%n", geracao,
+                    tamanho(conexao, "despesas") / 1024, tamanho(conexao, "receitas") / 1024);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * LOTE)
+    public void inserirDespesasEReceitas() throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            conexao.setAutoCommit(false);
+            inserirLote(conexao, INSERT_DESPESA, categoriaDespesa);
+            inserirLote(conexao, INSERT_RECEITA, categoriaReceita);
+            conexao.commit();
+        }
+    }
+
+    private void inserirLote(Connection conexao, String sql, String categoriaId) throws SQLException {
+        try (PreparedStatement insert = conexao.prepareStatement(sql)) {
+            for (int i = 0; i < LOTE; i++) {
+                long n = sequencia++;
+                insert.setString(1, gerador.get());
+                insert.setDate(2, Date.valueOf(INICIO.plusDays(n % 1825)));
+                insert.setBigDecimal(3, BigDecimal.valueOf(n % 100_000, 2));
+                insert.setString(4, "Contraparte " + (n % 50));
+                insert.setString(5, "Lançamento " + n);
+                insert.setString(6, categoriaId);
+                insert.setString(7, userId);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    // PostgreSQL: só os índices da tabela; H2: tabela e índices juntos
+    private static long tamanho(Connection conexao, String tabela) throws SQLException {
+        boolean postgres = conexao.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        String sql = postgres ? "SELECT pg_indexes_size(CAST(? AS regclass))" : "SELECT DISK_SPACE_USED(?)";
+        try (PreparedStatement consulta = conexao.prepareStatement(sql)) {
+            consulta.setString(1, postgres ? tabela : tabela.toUpperCase());
+            try (ResultSet resultado = consulta.executeQuery()) {
+                resultado.next();
+                return resultado.getLong(1);
+            }
+        }
+    }
+}
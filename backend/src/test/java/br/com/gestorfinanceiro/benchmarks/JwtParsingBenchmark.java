@@ -0,0 +1,81 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.config.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o custo por requisição de autenticar o token JWT:
+ * o fluxo antigo (filtro + controller reparseando o token a cada extract*)
+ * contra o fluxo atual (um único parseClaims gerando o principal).
+ * Também mede a emissão do token no login (generateToken) e a leitura isolada de uma claim.
+ *
+ * Executar com: mvn -P benchmark test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String email;
+    private String userId;
+
+    @Setup
+    public void setup() {
+        // Cache de tokens desativado: mede apenas o custo de cada verificação
+        jwtUtil = new JwtUtil(new VerifiedTokenCache(0));
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-key");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+
+        email = "benchmark@gmail.com";
+        userId = "b3f1c6a2-0000-4000-8000-000000000001";
+        token = jwtUtil.generateToken(userId, "benchmark", email, "USER", "true");
+    }
+
+    // Fluxo antigo: extractUserEmail + validateToken (email + expiração) no filtro e extractUserId no controller
+    @Benchmark
+    public String multiplosParses() {
+        String emailDoToken = jwtUtil.extractUserEmail(token);
+        if (!jwtUtil.validateToken(token, emailDoToken)) {
+            throw new IllegalStateException("Token inválido");
+        }
+        return jwtUtil.extractUserId(token);
+    }
+
+    // Fluxo atual: uma verificação de assinatura, principal montado a partir das claims
+    @Benchmark
+    public String parseUnico() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return AuthenticatedUser.from(claims).userId();
+    }
+
+    @Benchmark
+    public String geracao() {
+        return jwtUtil.generateToken(userId, "benchmark", email, "USER", "true");
+    }
+
+    // Equivalente ao extractClaim: cada extract* verifica a assinatura e lê uma claim
+    @Benchmark
+    public String extracaoDeClaim() {
+        return jwtUtil.extractUserId(token);
+    }
+}
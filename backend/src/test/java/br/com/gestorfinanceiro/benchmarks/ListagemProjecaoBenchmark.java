@@ -0,0 +1,87 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.mappers.Mapper;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.services.DespesaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /despesas de um usuário com 10 mil lançamentos:
+ * o fluxo antigo (entidades gerenciadas + ModelMapper, dentro da sessão aberta da requisição)
+ * contra o atual (SELECT new DespesaDTO(...) em transação somente leitura).
+ *
+ * A memória alocada por requisição é o gc.alloc.rate.norm do profiler de GC:
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="ListagemProjecao -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListagemProjecaoBenchmark {
+
+    @Param({"10000"})
+    private int quantidadeDespesas;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate sessaoDaRequisicao;
+    private DespesaRepository despesaRepository;
+    private DespesaService despesaService;
+    private Mapper<DespesaEntity, DespesaDTO> despesaMapper;
+    private String userId;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        context = BenchmarkContexto.iniciar();
+
+        sessaoDaRequisicao = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        despesaRepository = context.getBean(DespesaRepository.class);
+        despesaService = context.getBean(DespesaService.class);
+        despesaMapper = (Mapper<DespesaEntity, DespesaDTO>) context.getBeanProvider(
+                ResolvableType.forClassWithGenerics(Mapper.class, DespesaEntity.class, DespesaDTO.class)).getObject();
+
+        userId = BenchmarkContexto.popularDespesas(context, quantidadeDespesas, YearMonth.of(2020, 1), YearMonth.of(2024, 12));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DespesaDTO> listagemComEntidades() {
+        return sessaoDaRequisicao.execute(status -> despesaRepository.findAllByUserUuid(userId)
+                .stream()
+                .map(despesaMapper::mapTo)
+                .toList());
+    }
+
+    @Benchmark
+    public List<DespesaDTO> listagemComProjecao() {
+        return despesaService.listarDespesasUsuarioPaginado(userId, null, quantidadeDespesas).itens();
+    }
+}
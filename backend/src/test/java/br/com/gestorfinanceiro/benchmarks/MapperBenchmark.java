@@ -0,0 +1,83 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.config.MapperConfig;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+import br.com.gestorfinanceiro.mappers.impl.DespesaMapperImpl;
+import br.com.gestorfinanceiro.mappers.impl.ReceitaMapperImpl;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de uma entidade em DTO pelos mappers (ModelMapper com a mesma configuração do MapperConfig)
+ * contra o construtor do DTO usado nas consultas projetadas, como referência do custo mínimo.
+ *
+ * Não sobe a aplicação: mvn -P benchmark test-compile exec:exec -Djmh.args="Mapper -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private DespesaMapperImpl despesaMapper;
+    private ReceitaMapperImpl receitaMapper;
+    private DespesaEntity despesa;
+    private ReceitaEntity receita;
+
+    @Setup
+    public void setup() {
+        ModelMapper modelMapper = new MapperConfig().modelMapper();
+        despesaMapper = new DespesaMapperImpl(modelMapper);
+        receitaMapper = new ReceitaMapperImpl(modelMapper);
+
+        UserEntity user = new UserEntity();
+        user.setUuid("b3f1c6a2-0000-4000-8000-000000000001");
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@gmail.com");
+
+        CategoriaEntity alimentacao = new CategoriaEntity("Alimentacao", CategoriaType.DESPESAS, user);
+        CategoriaEntity salario = new CategoriaEntity("Salario", CategoriaType.RECEITAS, user);
+
+        despesa = new DespesaEntity("0190a1b2-0000-7000-8000-000000000001", LocalDate.of(2024, 3, 15), alimentacao,
+                new BigDecimal("152.3000"), "Mercado", "Compras do mês", user);
+        receita = new ReceitaEntity("0190a1b2-0000-7000-8000-000000000002", LocalDate.of(2024, 3, 5), salario,
+                new BigDecimal("4500.0000"), "Empresa", "Salário de março", user);
+    }
+
+    @Benchmark
+    public DespesaDTO despesaComModelMapper() {
+        return despesaMapper.mapTo(despesa);
+    }
+
+    @Benchmark
+    public ReceitaDTO receitaComModelMapper() {
+        return receitaMapper.mapTo(receita);
+    }
+
+    @Benchmark
+    public DespesaDTO despesaComConstrutor() {
+        return new DespesaDTO(despesa.getUuid(), despesa.getData(), despesa.getValor(),
+                despesa.getCategoria().getNome(), despesa.getDestinoPagamento(), despesa.getObservacoes());
+    }
+}
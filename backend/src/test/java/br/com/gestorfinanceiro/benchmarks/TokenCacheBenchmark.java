@@ -0,0 +1,66 @@
+package br.com.gestorfinanceiro.benchmarks;
+
+import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.config.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da validação de um token repetido:
+ * frio (cache desativado, HMAC-SHA512 + parse do JSON a cada chamada)
+ * contra quente (token já verificado, uma consulta ao cache pelo digest).
+ *
+ * Executar com: mvn -P benchmark test-compile exec:exec -Djmh.args="TokenCache"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TokenCacheBenchmark {
+
+    private JwtUtil semCache;
+    private JwtUtil comCache;
+    private String token;
+
+    @Setup
+    public void setup() {
+        semCache = criarJwtUtil(new VerifiedTokenCache(0));
+        comCache = criarJwtUtil(new VerifiedTokenCache(10_000));
+
+        token = semCache.generateToken("b3f1c6a2-0000-4000-8000-000000000001", "benchmark", "benchmark@gmail.com", "USER", "true");
+        comCache.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims validacaoFria() {
+        return semCache.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims validacaoQuente() {
+        return comCache.parseClaims(token);
+    }
+
+    private static JwtUtil criarJwtUtil(VerifiedTokenCache cache) {
+        JwtUtil jwtUtil = new JwtUtil(cache);
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-key");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        return jwtUtil;
+    }
+}
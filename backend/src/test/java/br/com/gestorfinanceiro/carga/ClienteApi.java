@@ -0,0 +1,94 @@
+package br.com.gestorfinanceiro.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Chamadas HTTP de um usuário virtual. Cada chamada é registrada com um nome fixo de endpoint
+ * (método + rota, sem a query string), para todas as variações de parâmetros caírem na mesma linha do relatório.
+ * Status fora dos esperados e falhas de conexão contam como erro.
+ */
+class ClienteApi {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI base;
+    private final EstatisticasCarga estatisticas;
+    private String token;
+
+    ClienteApi(HttpClient httpClient, ObjectMapper objectMapper, URI base, EstatisticasCarga estatisticas) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.base = base;
+        this.estatisticas = estatisticas;
+    }
+
+    void autenticar(String token) {
+        this.token = token;
+    }
+
+    Optional<HttpResponse<String>> get(String endpoint, String caminho, Set<Integer> statusEsperados) {
+        return enviar(endpoint, requisicao(caminho).GET().build(), statusEsperados);
+    }
+
+    Optional<HttpResponse<String>> post(String endpoint, String caminho, Object corpo, Set<Integer> statusEsperados) {
+        HttpRequest requisicao = requisicao(caminho)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(corpo)))
+                .build();
+        return enviar(endpoint, requisicao, statusEsperados);
+    }
+
+    JsonNode lerJson(HttpResponse<String> resposta) {
+        try {
+            return objectMapper.readTree(resposta.body());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(caminho)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Optional<HttpResponse<String>> enviar(String endpoint, HttpRequest requisicao, Set<Integer> statusEsperados) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = httpClient.send(requisicao, HttpResponse.BodyHandlers.ofString());
+            boolean erro = !statusEsperados.contains(resposta.statusCode());
+            estatisticas.registrar(endpoint, System.nanoTime() - inicio, erro);
+            return erro ? Optional.empty() : Optional.of(resposta);
+        } catch (IOException e) {
+            estatisticas.registrar(endpoint, System.nanoTime() - inicio, true);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private String json(Object corpo) {
+        try {
+            return objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.gestorfinanceiro.carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latências de cada endpoint, só das respostas recebidas entre iniciarMedicao() e encerrarMedicao():
+ * o aquecimento (JIT, caches, pools ainda crescendo) fica de fora do resultado.
+ * Guarda todas as amostras para os percentis serem exatos; uma execução de minutos cabe com folga na memória.
+ */
+class EstatisticasCarga {
+
+    record ResultadoEndpoint(String endpoint, long requisicoes, long erros, double vazao,
+                             double p50, double p95, double p99, double maximo) {
+    }
+
+    private final Map<String, Amostras> porEndpoint = new ConcurrentHashMap<>();
+    private volatile boolean medindo;
+    private volatile long inicio;
+    private volatile long fim;
+
+    void iniciarMedicao() {
+        porEndpoint.clear();
+        inicio = System.nanoTime();
+        medindo = true;
+    }
+
+    void encerrarMedicao() {
+        medindo = false;
+        fim = System.nanoTime();
+    }
+
+    void registrar(String endpoint, long nanos, boolean erro) {
+        if (medindo) {
+            porEndpoint.computeIfAbsent(endpoint, e -> new Amostras()).registrar(nanos, erro);
+        }
+    }
+
+    double segundosMedidos() {
+        return (fim - inicio) / 1_000_000_000.0;
+    }
+
+    // Ordenado pelo volume, com o total de todos os endpoints na última linha
+    List<ResultadoEndpoint> resultados() {
+        double segundos = segundosMedidos();
+        List<ResultadoEndpoint> resultados = new ArrayList<>();
+        Amostras total = new Amostras();
+
+        porEndpoint.forEach((endpoint, amostras) -> {
+            resultados.add(amostras.resumir(endpoint, segundos));
+            total.somar(amostras);
+        });
+        resultados.sort(Comparator.comparingLong(ResultadoEndpoint::requisicoes).reversed());
+        resultados.add(total.resumir("TOTAL", segundos));
+        return resultados;
+    }
+
+    private static final class Amostras {
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        synchronized void registrar(long nanos, boolean erro) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = nanos;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        synchronized void somar(Amostras outras) {
+            synchronized (outras) {
+                for (int i = 0; i < outras.quantidade; i++) {
+                    registrar(outras.latencias[i], false);
+                }
+                erros += outras.erros;
+            }
+        }
+
+        synchronized ResultadoEndpoint resumir(String endpoint, double segundos) {
+            long[] ordenadas = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(ordenadas);
+            return new ResultadoEndpoint(endpoint, quantidade, erros, quantidade / segundos,
+                    percentil(ordenadas, 50), percentil(ordenadas, 95), percentil(ordenadas, 99),
+                    quantidade == 0 ? 0 : milissegundos(ordenadas[quantidade - 1]));
+        }
+
+        // Nearest-rank: o menor valor com pelo menos p% das amostras abaixo ou igual
+        private static double percentil(long[] ordenadas, int p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int posicao = (int) Math.ceil(p / 100.0 * ordenadas.length) - 1;
+            return milissegundos(ordenadas[Math.max(posicao, 0)]);
+        }
+
+        private static double milissegundos(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package br.com.gestorfinanceiro.carga;
+
+import br.com.gestorfinanceiro.utils.CursorUtils;
+
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Um usuário virtual: cadastra-se, faz login, lança algumas despesas e receitas e depois repete,
+ * até o fim do teste, ações sorteadas com o peso de uso do frontend, com uma pausa aleatória entre elas.
+ * De vez em quando abandona a conta e recomeça como um usuário novo, para o cadastro também entrar na mistura.
+ */
+class JornadaUsuario implements Runnable {
+
+    private static final Set<Integer> OK = Set.of(200);
+    private static final Set<Integer> CRIADO = Set.of(201);
+    // Os cards de maior despesa/receita respondem 404 em mês sem lançamentos
+    private static final Set<Integer> OK_OU_VAZIO = Set.of(200, 404);
+
+    private static final String[] CATEGORIAS_DESPESA = {"Alimentacao", "Moradia", "Transporte", "Lazer"};
+    private static final String[] CATEGORIAS_RECEITA = {"Salario", "Bonus", "Comissoes"};
+    private static final String[] CARDS_DASHBOARD = {"saldo-total", "maior-despesa", "maior-receita",
+            "categoria-maior-despesa", "categoria-maior-receita", "despesa-total", "receita-total", "resumo"};
+
+    private static final String SENHA = "senha-carga";
+    private static final int DESPESAS_INICIAIS = 10;
+    private static final int RECEITAS_INICIAIS = 3;
+    private static final int TAMANHO_PAGINA = 20;
+    private static final int PAGINAS_POR_LISTAGEM = 3;
+    private static final int DIAS_DE_LANCAMENTOS = 90;
+
+    private final ClienteApi api;
+    private final Duration pausa;
+    private final BooleanSupplier executando;
+    private String email;
+
+    JornadaUsuario(ClienteApi api, Duration pausa, BooleanSupplier executando) {
+        this.api = api;
+        this.pausa = pausa;
+        this.executando = executando;
+    }
+
+    @Override
+    public void run() {
+        boolean autenticado = false;
+        while (executando.getAsBoolean() && !Thread.currentThread().isInterrupted()) {
+            if (!autenticado) {
+                autenticado = comecarComoUsuarioNovo();
+            } else {
+                autenticado = executarAcaoSorteada();
+            }
+            pausar();
+        }
+    }
+
+    // Pesos somam 100
+    private boolean executarAcaoSorteada() {
+        int sorteio = ThreadLocalRandom.current().nextInt(100);
+        if (sorteio < 30) {
+            abrirDashboard();
+        } else if (sorteio < 50) {
+            listarLancamentos(ThreadLocalRandom.current().nextBoolean() ? "despesas" : "receitas");
+        } else if (sorteio < 65) {
+            criarDespesa();
+        } else if (sorteio < 75) {
+            criarReceita();
+        } else if (sorteio < 90) {
+            consultarGraficos();
+        } else if (sorteio < 97) {
+            return login();
+        } else {
+            return comecarComoUsuarioNovo();
+        }
+        return true;
+    }
+
+    private boolean comecarComoUsuarioNovo() {
+        email = "carga-" + UUID.randomUUID() + "@gmail.com";
+        Map<String, String> usuario = Map.of("username", "carga", "email", email, "password", SENHA, "role", "USER");
+
+        api.autenticar(null);
+        if (api.post("POST /auth/register", "/auth/register", usuario, CRIADO).isEmpty() || !login()) {
+            return false;
+        }
+
+        for (int i = 0; i < DESPESAS_INICIAIS; i++) {
+            criarDespesa();
+        }
+        for (int i = 0; i < RECEITAS_INICIAIS; i++) {
+            criarReceita();
+        }
+        return true;
+    }
+
+    private boolean login() {
+        Optional<HttpResponse<String>> resposta = api.post("POST /auth/login", "/auth/login",
+                Map.of("email", email, "password", SENHA), OK);
+        resposta.ifPresent(r -> api.autenticar(api.lerJson(r).get("token").asText()));
+        return resposta.isPresent();
+    }
+
+    // A tela inicial pede todos os cards do mês atual
+    private void abrirDashboard() {
+        YearMonth periodo = YearMonth.now();
+        for (String card : CARDS_DASHBOARD) {
+            api.get("GET /dashboard/" + card, "/dashboard/" + card + "?periodo=" + periodo, OK_OU_VAZIO);
+        }
+    }
+
+    // Primeira página e, enquanto houver cursor, as seguintes, como na rolagem da lista
+    private void listarLancamentos(String recurso) {
+        Optional<HttpResponse<String>> pagina = api.get("GET /" + recurso,
+                "/" + recurso + "?tamanho=" + TAMANHO_PAGINA, OK);
+
+        for (int i = 1; i < PAGINAS_POR_LISTAGEM && pagina.isPresent(); i++) {
+            Optional<String> cursor = pagina.get().headers().firstValue(CursorUtils.HEADER_PROXIMO_CURSOR);
+            if (cursor.isEmpty()) {
+                return;
+            }
+            pagina = api.get("GET /" + recurso + " (próxima página)", "/" + recurso + "?tamanho=" + TAMANHO_PAGINA
+                    + "&cursor=" + URLEncoder.encode(cursor.get(), StandardCharsets.UTF_8), OK);
+        }
+    }
+
+    private void criarDespesa() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> despesa = Map.of(
+                "data", dataRecente().toString(),
+                "categoria", CATEGORIAS_DESPESA[random.nextInt(CATEGORIAS_DESPESA.length)],
+                "valor", BigDecimal.valueOf(random.nextInt(100, 50_000), 2),
+                "destinoPagamento", "Estabelecimento " + random.nextInt(50),
+                "observacoes", "Despesa do teste de carga");
+        api.post("POST /despesas", "/despesas", despesa, CRIADO);
+    }
+
+    private void criarReceita() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> receita = Map.of(
+                "data", dataRecente().toString(),
+                "categoria", CATEGORIAS_RECEITA[random.nextInt(CATEGORIAS_RECEITA.length)],
+                "valor", BigDecimal.valueOf(random.nextInt(100_000, 1_000_000), 2),
+                "origemDoPagamento", "Empresa " + random.nextInt(10),
+                "observacoes", "Receita do teste de carga");
+        api.post("POST /receitas", "/receitas", receita, CRIADO);
+    }
+
+    // Barras dos últimos 12 meses e pizza dos últimos 6, de despesas e de receitas
+    private void consultarGraficos() {
+        YearMonth fim = YearMonth.now();
+        YearMonth inicio = fim.minusMonths(11);
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicioPizza = fim.minusMonths(5).atDay(1);
+
+        for (String recurso : new String[]{"despesas", "receitas"}) {
+            api.get("GET /" + recurso + "/grafico-barras",
+                    "/" + recurso + "/grafico-barras?inicio=" + inicio + "&fim=" + fim, OK);
+            api.get("GET /" + recurso + "/grafico-pizza",
+                    "/" + recurso + "/grafico-pizza?inicio=" + inicioPizza + "&fim=" + hoje, OK);
+        }
+    }
+
+    private static LocalDate dataRecente() {
+        return LocalDate.now().minusDays(ThreadLocalRandom.current().nextInt(DIAS_DE_LANCAMENTOS));
+    }
+
+    // Entre 0 e 2x a pausa configurada, para os usuários não andarem sincronizados
+    private void pausar() {
+        if (pausa.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep((long) (pausa.toMillis() * ThreadLocalRandom.current().nextDouble(2)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.gestorfinanceiro.carga;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amostra os gauges do Hikari e do Tomcat durante a medição e guarda o pico de cada um, ao lado do
+ * máximo configurado: conexões pendentes acima de zero ou threads ocupadas no teto indicam pool pequeno;
+ * pico bem abaixo do máximo, pool superdimensionado. Só funciona com a aplicação no mesmo processo.
+ */
+class MonitorPools {
+
+    private static final List<String> MAXIMOS_CONFIGURADOS = List.of(
+            "hikaricp.connections.max", "tomcat.threads.config.max", "tomcat.connections.config.max");
+    private static final List<String> AMOSTRADOS = List.of(
+            "hikaricp.connections.active", "hikaricp.connections.pending",
+            "tomcat.threads.busy", "tomcat.connections.current");
+    private static final long INTERVALO_MS = 200;
+
+    private final MeterRegistry registry;
+    private final Map<String, Double> picos = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "monitor-pools");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    MonitorPools(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    void iniciar() {
+        agendador.scheduleAtFixedRate(this::amostrar, 0, INTERVALO_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // Máximos configurados primeiro, depois os picos, cada grupo em ordem alfabética
+    Map<String, Double> encerrar() {
+        agendador.shutdownNow();
+
+        Map<String, Double> resultado = new LinkedHashMap<>();
+        for (String nome : MAXIMOS_CONFIGURADOS) {
+            registry.find(nome).gauges().stream()
+                    .sorted((a, b) -> nome(a).compareTo(nome(b)))
+                    .forEach(gauge -> resultado.put(nome(gauge), gauge.value()));
+        }
+        new TreeMap<>(picos).forEach((nome, pico) -> resultado.put(nome + " (pico)", pico));
+        return resultado;
+    }
+
+    private void amostrar() {
+        for (String nome : AMOSTRADOS) {
+            for (Gauge gauge : registry.find(nome).gauges()) {
+                picos.merge(nome(gauge), gauge.value(), Math::max);
+            }
+        }
+    }
+
+    // Com a réplica de leitura há um pool por banco, identificado pela tag "pool"
+    private static String nome(Meter meter) {
+        String pool = meter.getId().getTag("pool");
+        return pool == null ? meter.getId().getName() : meter.getId().getName() + "{pool=" + pool + "}";
+    }
+}
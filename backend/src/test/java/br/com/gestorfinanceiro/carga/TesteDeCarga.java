@@ -0,0 +1,194 @@
+package br.com.gestorfinanceiro.carga;
+
+import br.com.gestorfinanceiro.GestorfinanceiroApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Teste de carga de ponta a ponta: sobe a aplicação numa porta livre e dispara usuários virtuais
+ * ({@link JornadaUsuario}) por HTTP. No fim imprime a vazão e as latências p50/p95/p99 de cada endpoint
+ * e os picos de uso dos pools do Hikari e do Tomcat. O mesmo resultado vai em JSON para carga/resultados,
+ * servindo de linha de base para comparar cada mudança de desempenho.
+ *
+ * Opções no formato chave=valor (padrões entre parênteses): usuarios (50), aquecimento (PT30S), duracao (PT2M),
+ * pausa entre ações (PT0.5S), perfil ("test", H2 em memória; vazio usa o PostgreSQL local do application.properties)
+ * e url (testa uma aplicação já no ar em vez de subir uma, sem os dados dos pools).
+ * Qualquer outra chave vira propriedade do Spring, para comparar tamanhos de pool:
+ * mvn -P carga test-compile exec:exec -Dcarga.args="usuarios=200 perfil= spring.datasource.hikari.maximum-pool-size=20"
+ *
+ * Gerador e aplicação dividem a CPU quando rodam juntos; para números absolutos, usar url= com a aplicação em outra máquina.
+ */
+public final class TesteDeCarga {
+
+    private static final DateTimeFormatter NOME_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    record Resultado(Instant inicio, Map<String, String> configuracao, double segundosMedidos,
+                     List<EstatisticasCarga.ResultadoEndpoint> endpoints, Map<String, Double> pools) {
+    }
+
+    private TesteDeCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes = new LinkedHashMap<>(Map.of(
+                "usuarios", "50", "aquecimento", "PT30S", "duracao", "PT2M", "pausa", "PT0.5S",
+                "perfil", "test", "url", "", "resultados", "carga/resultados"));
+        List<String> propriedades = new ArrayList<>();
+        for (String arg : args) {
+            int separador = arg.indexOf('=');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Opção sem valor: " + arg + " (use chave=valor)");
+            }
+            String chave = arg.substring(0, separador);
+            if (opcoes.containsKey(chave)) {
+                opcoes.put(chave, arg.substring(separador + 1));
+            } else {
+                propriedades.add(arg);
+            }
+        }
+
+        int usuarios = Integer.parseInt(opcoes.get("usuarios"));
+        Duration aquecimento = Duration.parse(opcoes.get("aquecimento"));
+        Duration duracao = Duration.parse(opcoes.get("duracao"));
+        Duration pausa = Duration.parse(opcoes.get("pausa"));
+
+        ConfigurableApplicationContext context = null;
+        MonitorPools monitor = null;
+        URI base;
+        if (opcoes.get("url").isBlank()) {
+            context = iniciarAplicacao(opcoes.get("perfil"), propriedades);
+            base = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            monitor = new MonitorPools(context.getBean(MeterRegistry.class));
+        } else {
+            base = URI.create(opcoes.get("url"));
+        }
+
+        try {
+            Resultado resultado = executar(base, usuarios, aquecimento, duracao, pausa, monitor, configuracao(opcoes, propriedades));
+            imprimir(resultado);
+            gravar(resultado, Path.of(opcoes.get("resultados")));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext iniciarAplicacao(String perfil, List<String> propriedades) {
+        List<String> argumentos = new ArrayList<>(List.of(
+                "server.port=0",
+                // Necessário para os gauges de threads e conexões do Tomcat
+                "server.tomcat.mbeanregistry.enabled=true",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework=WARN",
+                "logging.level.br.com.gestorfinanceiro=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql=WARN",
+                // Todos os usuários virtuais saem do mesmo IP: o limitador de login barraria o teste, não a aplicação
+                "security.login-limiter.ip.capacity=1000000",
+                "security.login-limiter.ip.refill-per-minute=1000000",
+                "security.login-limiter.email.capacity=1000000",
+                "security.login-limiter.email.refill-per-minute=1000000"));
+        argumentos.addAll(propriedades);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(GestorfinanceiroApplication.class);
+        if (!perfil.isBlank()) {
+            builder.profiles(perfil.split(","));
+        }
+        // Como argumentos de linha de comando, para valerem sobre os arquivos de propriedades
+        return builder.run(argumentos.stream().map(argumento -> "--" + argumento).toArray(String[]::new));
+    }
+
+    private static Resultado executar(URI base, int usuarios, Duration aquecimento, Duration duracao, Duration pausa,
+                                      MonitorPools monitor, Map<String, String> configuracao) throws InterruptedException {
+        EstatisticasCarga estatisticas = new EstatisticasCarga();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        AtomicBoolean executando = new AtomicBoolean(true);
+
+        ExecutorService usuariosVirtuais = Executors.newFixedThreadPool(usuarios);
+        for (int i = 0; i < usuarios; i++) {
+            usuariosVirtuais.execute(new JornadaUsuario(new ClienteApi(httpClient, objectMapper, base, estatisticas),
+                    pausa, executando::get));
+        }
+
+        System.out.printf("%d usuários virtuais contra %s: aquecimento de %s, medição de %s%n", usuarios, base, aquecimento, duracao);
+        Thread.sleep(aquecimento.toMillis());
+
+        Instant inicio = Instant.now();
+        estatisticas.iniciarMedicao();
+        if (monitor != null) {
+            monitor.iniciar();
+        }
+        Thread.sleep(duracao.toMillis());
+        estatisticas.encerrarMedicao();
+        Map<String, Double> pools = monitor != null ? monitor.encerrar() : Map.of();
+
+        executando.set(false);
+        usuariosVirtuais.shutdown();
+        if (!usuariosVirtuais.awaitTermination(1, TimeUnit.MINUTES)) {
+            usuariosVirtuais.shutdownNow();
+        }
+
+        return new Resultado(inicio, configuracao, estatisticas.segundosMedidos(), estatisticas.resultados(), pools);
+    }
+
+    private static Map<String, String> configuracao(Map<String, String> opcoes, List<String> propriedades) {
+        Map<String, String> configuracao = new LinkedHashMap<>(opcoes);
+        configuracao.remove("resultados");
+        configuracao.put("propriedades", String.join(" ", propriedades));
+        configuracao.put("processadores", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        return configuracao;
+    }
+
+    private static void imprimir(Resultado resultado) {
+        System.out.printf("%n%-48s %11s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requisições", "Erros", "Req/s", "p50 (ms)", "p95 (ms)", "p99 (ms)", "Máx (ms)");
+        for (EstatisticasCarga.ResultadoEndpoint endpoint : resultado.endpoints()) {
+            System.out.printf("%-48s %11d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint.endpoint(), endpoint.requisicoes(), endpoint.erros(), endpoint.vazao(),
+                    endpoint.p50(), endpoint.p95(), endpoint.p99(), endpoint.maximo());
+        }
+
+        if (!resultado.pools().isEmpty()) {
+            System.out.printf("%nPools%n");
+            resultado.pools().forEach((metrica, valor) -> System.out.printf("%-60s %9.0f%n", metrica, valor));
+        }
+    }
+
+    private static void gravar(Resultado resultado, Path diretorio) throws IOException {
+        Files.createDirectories(diretorio);
+        Path arquivo = diretorio.resolve(NOME_ARQUIVO.format(resultado.inicio()) + ".json");
+        new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(arquivo.toFile(), resultado);
+        System.out.printf("%nResultado gravado em %s%n", arquivo);
+    }
+}
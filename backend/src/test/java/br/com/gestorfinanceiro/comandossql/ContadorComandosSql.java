@@ -0,0 +1,88 @@
+package br.com.gestorfinanceiro.comandossql;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Mede, pelas estatísticas do Hibernate, quantos comandos SQL cada chamada de endpoint executou.
+ * Só mede entre iniciar() e encerrar(), ou seja, no corpo do teste; chamadas aninhadas (o controller
+ * dentro de uma requisição já medida) contam na chamada externa.
+ *
+ * Em testes @Transactional a requisição participa da transação do teste: o contexto de persistência é
+ * descarregado antes (os INSERTs do setUp não entram na conta) e depois (as escritas da requisição entram).
+ */
+public class ContadorComandosSql {
+
+    @FunctionalInterface
+    public interface Chamada<T> {
+        T executar() throws Throwable;
+    }
+
+    public record Medicao(String chamada, long comandos) {
+    }
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Statistics statistics;
+    private final List<Medicao> medicoes = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Boolean> medindo = ThreadLocal.withInitial(() -> false);
+    private volatile boolean ativo;
+
+    public ContadorComandosSql(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void iniciar() {
+        medicoes.clear();
+        ativo = true;
+    }
+
+    public List<Medicao> encerrar() {
+        ativo = false;
+        return List.copyOf(medicoes);
+    }
+
+    public boolean estatisticasAtivas() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    public <T> T medir(String descricao, Chamada<T> chamada) throws Throwable {
+        if (!ativo || medindo.get()) {
+            return chamada.executar();
+        }
+
+        medindo.set(true);
+        try {
+            descarregar();
+            long antes = statistics.getPrepareStatementCount();
+
+            T resultado = chamada.executar();
+
+            descarregar();
+            medicoes.add(new Medicao(descricao, statistics.getPrepareStatementCount() - antes));
+            return resultado;
+        } finally {
+            medindo.remove();
+        }
+    }
+
+    // Transação marcada para rollback (a requisição falhou dentro dela) não é descarregada: seria desfeita de qualquer forma
+    private void descarregar() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null && entityManager.isJoinedToTransaction()
+                && !entityManager.getTransaction().getRollbackOnly()) {
+            entityManager.flush();
+        }
+    }
+}
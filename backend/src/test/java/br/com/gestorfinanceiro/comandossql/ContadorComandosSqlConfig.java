@@ -0,0 +1,71 @@
+package br.com.gestorfinanceiro.comandossql;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+
+/**
+ * Pontos de medição do {@link ContadorComandosSql}: um filtro antes de todos os outros (inclui o JwtFilter e a
+ * serialização da resposta) e um aspecto nos controllers, para testes que os chamam sem MockMvc
+ * ou com @AutoConfigureMockMvc(addFilters = false).
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class ContadorComandosSqlConfig {
+
+    @Bean
+    ContadorComandosSql contadorComandosSql(EntityManagerFactory entityManagerFactory) {
+        return new ContadorComandosSql(entityManagerFactory);
+    }
+
+    @Bean
+    FilterRegistrationBean<Filter> contadorComandosSqlFilter(ContadorComandosSql contador) {
+        Filter filtro = (request, response, chain) -> {
+            HttpServletRequest http = (HttpServletRequest) request;
+            try {
+                contador.medir(http.getMethod() + " " + http.getRequestURI(), () -> {
+                    chain.doFilter(request, response);
+                    return null;
+                });
+            } catch (IOException | ServletException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ServletException(e);
+            }
+        };
+
+        FilterRegistrationBean<Filter> registro = new FilterRegistrationBean<>(filtro);
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+
+    @Bean
+    ContadorComandosSqlAspect contadorComandosSqlAspect(ContadorComandosSql contador) {
+        return new ContadorComandosSqlAspect(contador);
+    }
+
+    @Aspect
+    static class ContadorComandosSqlAspect {
+
+        private final ContadorComandosSql contador;
+
+        ContadorComandosSqlAspect(ContadorComandosSql contador) {
+            this.contador = contador;
+        }
+
+        @Around("@within(org.springframework.web.bind.annotation.RestController)")
+        public Object medirController(ProceedingJoinPoint joinPoint) throws Throwable {
+            String descricao = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+            return contador.medir(descricao, joinPoint::proceed);
+        }
+    }
+}
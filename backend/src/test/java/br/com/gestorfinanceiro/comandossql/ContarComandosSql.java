@@ -0,0 +1,23 @@
+package br.com.gestorfinanceiro.comandossql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Conta os comandos SQL de cada chamada de endpoint feita no corpo dos testes da classe (inclusive @Nested):
+ * requisições do MockMvc e chamadas diretas a um controller. O setUp (@BeforeEach) não é contado.
+ * O limite vem de {@link LimiteComandosSql} no método de teste ou na classe.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(LimiteComandosSqlExtension.class)
+@Import(ContadorComandosSqlConfig.class)
+public @interface ContarComandosSql {
+}
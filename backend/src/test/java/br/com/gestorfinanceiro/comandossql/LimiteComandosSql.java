@@ -0,0 +1,19 @@
+package br.com.gestorfinanceiro.comandossql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de comandos SQL (prepared statements do Hibernate) por chamada de endpoint no teste.
+ * No método vale só para ele; na classe, para os testes sem limite próprio (classes @Nested herdam da externa).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LimiteComandosSql {
+
+    int value();
+}
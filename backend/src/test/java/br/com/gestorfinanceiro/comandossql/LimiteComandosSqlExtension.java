@@ -0,0 +1,90 @@
+package br.com.gestorfinanceiro.comandossql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Liga o {@link ContadorComandosSql} só durante o corpo do teste e, no fim, falha se alguma chamada
+ * passou do {@link LimiteComandosSql}. Testes que já falharam por outro motivo não são conferidos.
+ */
+class LimiteComandosSqlExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    // mvn test -Dcomandos-sql.relatorio=true imprime limite e maior contagem de cada teste, para revisar os limites
+    private static final String PROPRIEDADE_RELATORIO = "comandos-sql.relatorio";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        contador(context).iniciar();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ContadorComandosSql contador = contador(context);
+        List<ContadorComandosSql.Medicao> medicoes = contador.encerrar();
+
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        Optional<Integer> limite = limite(context);
+        if (limite.isEmpty()) {
+            return;
+        }
+
+        // Com as estatísticas desligadas toda chamada mediria zero e qualquer limite passaria
+        if (!contador.estatisticasAtivas()) {
+            fail("Estatísticas do Hibernate desligadas: os comandos SQL não podem ser contados");
+        }
+
+        if (Boolean.getBoolean(PROPRIEDADE_RELATORIO)) {
+            relatar(context, limite.get(), medicoes);
+        }
+
+        String excedidas = medicoes.stream()
+                .filter(medicao -> medicao.comandos() > limite.get())
+                .map(medicao -> medicao.chamada() + ": " + medicao.comandos() + " comando(s)")
+                .collect(Collectors.joining(", "));
+
+        if (!excedidas.isEmpty()) {
+            fail("Limite de " + limite.get() + " comando(s) SQL por chamada excedido em " + excedidas);
+        }
+    }
+
+    private static void relatar(ExtensionContext context, int limite, List<ContadorComandosSql.Medicao> medicoes) {
+        long maior = medicoes.stream().mapToLong(ContadorComandosSql.Medicao::comandos).max().orElse(0);
+        String chamadas = medicoes.stream()
+                .map(medicao -> medicao.chamada() + "=" + medicao.comandos())
+                .collect(Collectors.joining(", "));
+        System.out.printf("[comandos-sql] %s.%s limite=%d maior=%d %s%n", context.getRequiredTestClass().getName(),
+                context.getRequiredTestMethod().getName(), limite, maior, chamadas);
+    }
+
+    private static ContadorComandosSql contador(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(ContadorComandosSql.class);
+    }
+
+    // Método, depois a classe do teste e as classes que a envolvem (@Nested)
+    private static Optional<Integer> limite(ExtensionContext context) {
+        Optional<LimiteComandosSql> doMetodo = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), LimiteComandosSql.class);
+        if (doMetodo.isPresent()) {
+            return Optional.of(doMetodo.get().value());
+        }
+
+        for (Class<?> classe = context.getRequiredTestClass(); classe != null; classe = classe.getEnclosingClass()) {
+            Optional<LimiteComandosSql> daClasse = AnnotationSupport.findAnnotation(classe, LimiteComandosSql.class);
+            if (daClasse.isPresent()) {
+                return Optional.of(daClasse.get().value());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.gestorfinanceiro.controllers.AdminControllerTest;
 
 import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import br.com.gestorfinanceiro.controller.AdminController;
 import br.com.gestorfinanceiro.dto.user.UserForAdminDTO;
 import br.com.gestorfinanceiro.models.UserEntity;
@@ -24,6 +26,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+@ContarComandosSql
+@LimiteComandosSql(1)
 @SpringBootTest
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
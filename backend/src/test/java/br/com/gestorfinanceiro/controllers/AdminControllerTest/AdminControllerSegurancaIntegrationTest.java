@@ -0,0 +1,92 @@
+package br.com.gestorfinanceiro.controllers.AdminControllerTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.Roles;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Com os filtros de segurança ligados, ao contrário do AdminControllerIntegrationTest
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminControllerSegurancaIntegrationTest {
+
+    private static final String REPARO = "/admin/resumo-mensal/reparo";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void erroAoRepararResumoMensalSemToken() throws Exception {
+        mockMvc.perform(post(REPARO))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void erroAoRepararResumoMensalComoUsuarioComum() throws Exception {
+        mockMvc.perform(post(REPARO).header("Authorization", authHeader("Comum", Roles.USER)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void deveRepararResumoMensalComoAdmin() throws Exception {
+        mockMvc.perform(post(REPARO).header("Authorization", authHeader("Admin", Roles.ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void erroAoRepararResumoMensalComTokenDeUsuarioExcluido() throws Exception {
+        String authHeader = authHeader("Excluido", Roles.ADMIN);
+        userRepository.deleteAll();
+
+        mockMvc.perform(post(REPARO).header("Authorization", authHeader))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void erroAoExportarSemToken() throws Exception {
+        mockMvc.perform(get("/exportacao"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void erroAoImportarSemToken() throws Exception {
+        mockMvc.perform(multipart("/importacao"))
+                .andExpect(status().isForbidden());
+    }
+
+    //-------------------------------MÉTODOS AUXILIARES-------------------------------//
+
+    private String authHeader(String nome, Roles role) {
+        UserEntity user = TestDataUtil.criarUsuarioEntityUtil(nome);
+        user.setRole(role);
+        userRepository.save(user);
+
+        return "Bearer " + jwtUtil.generateToken(user.getUuid(), user.getUsername(), user.getEmail(),
+                role.name(), String.valueOf(user.getEstaAtivo()));
+    }
+}
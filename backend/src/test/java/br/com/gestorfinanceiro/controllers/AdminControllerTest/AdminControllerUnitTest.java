@@ -3,6 +3,9 @@ package br.com.gestorfinanceiro.controllers.AdminControllerTest;
 import br.com.gestorfinanceiro.TestDataUtil;
 import br.com.gestorfinanceiro.config.security.JwtFilter;
 import br.com.gestorfinanceiro.controller.AdminController;
+import br.com.gestorfinanceiro.dto.admin.CacheEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.HashingEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.admin.LimiteLoginEstatisticasDTO;
 import br.com.gestorfinanceiro.dto.user.UserAdminUpdateDTO;
 import br.com.gestorfinanceiro.dto.user.UserForAdminDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
@@ -21,6 +24,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -109,4 +113,58 @@ class AdminControllerUnitTest {
                 .andExpect(jsonPath("$.estaAtivo").value(true))
                 .andExpect(jsonPath("$.role").value("ADMIN"));
     }
+
+    //------------------TESTES DAS ESTATISTICAS DO CACHE ----------------------//
+    @Test
+    void deveRetornarEstatisticasDoCacheDePrincipais() throws Exception {
+        when(adminService.estatisticasCachePrincipais())
+                .thenReturn(new CacheEstatisticasDTO(9, 1, 0.9, 0, 1));
+
+        mockMvc.perform(get("/admin/cache/principais").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(9))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.hitRate").value(0.9))
+                .andExpect(jsonPath("$.tamanho").value(1));
+    }
+
+    @Test
+    void deveRetornarEstatisticasDoCacheDeSegundoNivelPorRegiao() throws Exception {
+        when(adminService.estatisticasCacheSegundoNivel())
+                .thenReturn(Map.of("usuarios", new CacheEstatisticasDTO(30, 10, 0.75, 2, 25)));
+
+        mockMvc.perform(get("/admin/cache/segundo-nivel").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usuarios.hits").value(30))
+                .andExpect(jsonPath("$.usuarios.hitRate").value(0.75))
+                .andExpect(jsonPath("$.usuarios.evictions").value(2))
+                .andExpect(jsonPath("$.usuarios.tamanho").value(25));
+    }
+
+    //------------------TESTES DAS ESTATISTICAS DO HASHING ----------------------//
+    @Test
+    void deveRetornarEstatisticasDoHashing() throws Exception {
+        when(adminService.estatisticasHashing())
+                .thenReturn(new HashingEstatisticasDTO(12, 4, 2, 3, 64, 100, 5));
+
+        mockMvc.perform(get("/admin/hashing").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.strength").value(12))
+                .andExpect(jsonPath("$.fila").value(3))
+                .andExpect(jsonPath("$.capacidadeFila").value(64))
+                .andExpect(jsonPath("$.rejeitados").value(5));
+    }
+
+    //------------------TESTES DAS ESTATISTICAS DO LIMITE DE LOGIN ----------------------//
+    @Test
+    void deveRetornarEstatisticasDoLimiteDeLogin() throws Exception {
+        when(adminService.estatisticasLimiteLogin())
+                .thenReturn(new LimiteLoginEstatisticasDTO(7, 2, 30, 4));
+
+        mockMvc.perform(get("/admin/login-limiter").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejeitadosPorEmail").value(7))
+                .andExpect(jsonPath("$.rejeitadosPorIp").value(2))
+                .andExpect(jsonPath("$.emailsMonitorados").value(30));
+    }
 }
@@ -1,6 +1,8 @@
 package br.com.gestorfinanceiro.controllers.AuthControllerTest;
 
 import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import br.com.gestorfinanceiro.controller.AuthController;
 import br.com.gestorfinanceiro.dto.user.LoginDTO;
 import br.com.gestorfinanceiro.dto.user.UserDTO;
@@ -13,10 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+@ContarComandosSql
+@LimiteComandosSql(4)
 @SpringBootTest
 @ActiveProfiles("test")
 class AuthControllerIntegrationTest {
@@ -75,7 +80,7 @@ class AuthControllerIntegrationTest {
 
         //Se for lançado uma exceção, significa que as credenciais estão erradas e o metodo está funcionando 
         InvalidPasswordException thrown = assertThrows(InvalidPasswordException.class,
-                () -> authController.login(loginDTO));
+                () -> authController.login(loginDTO, new MockHttpServletRequest()));
         assertNotNull(thrown); //Se a exceção for lançada, thrown não será nulo
     }
 
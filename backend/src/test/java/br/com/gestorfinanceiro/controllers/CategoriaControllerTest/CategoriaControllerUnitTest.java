@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,20 +27,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
 import br.com.gestorfinanceiro.controller.CategoriaController;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
+import br.com.gestorfinanceiro.exceptions.categoria.ExclusaoCategoriaNotFoundException;
 import br.com.gestorfinanceiro.mappers.Mapper;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.StatusExclusaoCategoria;
 import br.com.gestorfinanceiro.services.CategoriaService;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,8 +61,6 @@ class CategoriaControllerUnitTest {
     @Mock
     private Mapper<CategoriaEntity, CategoriaDTO> categoriaMapper;
 
-    @Mock
-    private JwtUtil jwtUtil;
 
     @Mock
     private HttpServletRequest request;
@@ -71,10 +76,12 @@ class CategoriaControllerUnitTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(categoriaController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(categoriaController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler()).build();
         // Configuração comum para os mocks
         lenient().when(request.getHeader(authorizationHeader)).thenReturn(bearerToken);
-        lenient().when(jwtUtil.extractUserId(validToken)).thenReturn(userId);
+        TestDataUtil.autenticarUsuarioUtil(userId);
     }
 
     private UserEntity createUserEntity(String userId) {
@@ -92,6 +99,11 @@ class CategoriaControllerUnitTest {
         return categoria;
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void criarCategoria_DeveRetornar201ComLocationHeader_QuandoSucesso() throws Exception {
         CategoriaCreateDTO createDTO = new CategoriaCreateDTO("Alimentação", "DESPESAS");
@@ -227,4 +239,41 @@ class CategoriaControllerUnitTest {
 
         verify(categoriaService).excluirCategoria(categoriaId, userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deletarCategoria_DeveRetornar202_QuandoEmSegundoPlano() throws Exception {
+        ExclusaoCategoriaDTO exclusao = new ExclusaoCategoriaDTO("exclusao-1", categoriaId,
+                StatusExclusaoCategoria.PENDENTE, null, null);
+        when(categoriaService.excluirCategoriaEmSegundoPlano(categoriaId, userId)).thenReturn(exclusao);
+
+        mockMvc.perform(delete("/categorias/{categoriaId}", categoriaId)
+                .param("segundoPlano", "true")
+                .header(authorizationHeader, bearerToken))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/categorias/exclusoes/exclusao-1"))
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    void consultarExclusao_DeveRetornarStatus() throws Exception {
+        ExclusaoCategoriaDTO exclusao = new ExclusaoCategoriaDTO("exclusao-1", categoriaId,
+                StatusExclusaoCategoria.CONCLUIDA, 42, null);
+        when(categoriaService.consultarExclusao("exclusao-1", userId)).thenReturn(exclusao);
+
+        mockMvc.perform(get("/categorias/exclusoes/{exclusaoId}", "exclusao-1")
+                .header(authorizationHeader, bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONCLUIDA"))
+                .andExpect(jsonPath("$.lancamentosReatribuidos").value(42));
+    }
+
+    @Test
+    void consultarExclusao_DeveRetornar404_QuandoNaoEncontrada() throws Exception {
+        when(categoriaService.consultarExclusao("inexistente", userId))
+                .thenThrow(new ExclusaoCategoriaNotFoundException("inexistente"));
+
+        mockMvc.perform(get("/categorias/exclusoes/{exclusaoId}", "inexistente")
+                .header(authorizationHeader, bearerToken))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -17,6 +17,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import br.com.gestorfinanceiro.dto.user.LoginDTO;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.DespesaEntity;
@@ -28,6 +30,7 @@ import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
 import jakarta.transaction.Transactional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -38,6 +41,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Transactional
+@ContarComandosSql
+@LimiteComandosSql(3)
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -70,6 +75,9 @@ class DashboardControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
     private UserEntity user;
     private String authHeader;
 
@@ -144,6 +152,9 @@ class DashboardControllerIntegrationTest {
         receita1.setObservacoes("Pagamento mensal");  // Campo obrigatório
         receita1.setUser(user);
         receitaRepository.save(receita1);
+
+        // Dados gravados direto nos repositórios não passam pelo resumo mensal
+        resumoMensalService.reconstruir(user.getUuid());
     }
 
     @Test
@@ -225,6 +236,7 @@ class DashboardControllerIntegrationTest {
     @Nested
     class CategoriaMaiorDespesaTest {
         @Test
+        @LimiteComandosSql(2)
         void deveRetornarCategoriaComMaiorDespesa() throws Exception {
             mockMvc.perform(get("/dashboard/categoria-maior-despesa")
                     .param("periodo", PERIODO_TESTE.toString())
@@ -237,6 +249,7 @@ class DashboardControllerIntegrationTest {
     @Nested
     class CategoriaMaiorReceitaTest {
         @Test
+        @LimiteComandosSql(2)
         void deveRetornarCategoriaComMaiorReceita() throws Exception {
             mockMvc.perform(get("/dashboard/categoria-maior-receita")
                     .param("periodo", PERIODO_TESTE.toString())
@@ -249,6 +262,7 @@ class DashboardControllerIntegrationTest {
     @Nested
     class TotalDespesasTest {
         @Test
+        @LimiteComandosSql(2)
         void deveRetornarTotalDespesas() throws Exception {
             mockMvc.perform(get("/dashboard/despesa-total")
                     .param("periodo", PERIODO_TESTE.toString())
@@ -262,6 +276,7 @@ class DashboardControllerIntegrationTest {
     @Nested
     class TotalReceitasTest {
         @Test
+        @LimiteComandosSql(2)
         void deveRetornarTotalReceitas() throws Exception {
             mockMvc.perform(get("/dashboard/receita-total")
                     .param("periodo", PERIODO_TESTE.toString())
@@ -1,4 +1,5 @@
 package br.com.gestorfinanceiro.controllers.DashboardControllerTest;
+import br.com.gestorfinanceiro.dto.dashboard.DashboardResumoDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
 import br.com.gestorfinanceiro.controller.DashboardController;
@@ -6,7 +7,9 @@ import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.services.DashboardService;
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
 import br.com.gestorfinanceiro.mappers.Mapper;
 
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -19,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -55,8 +59,6 @@ class DashboardControllerUnitTest {
     @Mock
     private Mapper<ReceitaEntity, ReceitaDTO> receitaMapper;
 
-    @Mock
-    private JwtUtil jwtUtil;
 
     @InjectMocks
     private DashboardController dashboardController;
@@ -77,6 +79,8 @@ class DashboardControllerUnitTest {
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
         mockMvc = MockMvcBuilders.standaloneSetup(dashboardController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
 
@@ -117,7 +121,8 @@ class DashboardControllerUnitTest {
 
     @AfterEach
     void tearDown() {
-        Mockito.reset(jwtUtil, dashboardService, despesaMapper, receitaMapper);
+        Mockito.reset(dashboardService, despesaMapper, receitaMapper);
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -130,7 +135,7 @@ class DashboardControllerUnitTest {
         @Test
         void deveRetornarSaldoTotal() throws Exception {
             BigDecimal saldo = BigDecimal.valueOf(2500);
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(dashboardService.getSaldoTotal(user.getUuid(), periodo)).thenReturn(saldo);
 
             mockMvc.perform(get("/dashboard/saldo-total")
@@ -151,7 +156,7 @@ class DashboardControllerUnitTest {
 
     @Test
     void deveRetornarNotFoundQuandoNaoExistirDespesa() throws Exception {
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(dashboardService.getMaiorDespesa(user.getUuid(), periodo)).thenReturn(null);
 
         mockMvc.perform(get("/dashboard/maior-despesa")
@@ -162,7 +167,7 @@ class DashboardControllerUnitTest {
 
     @Test
     void deveRetornarNotFoundQuandoNaoExistirReceita() throws Exception {
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(dashboardService.getMaiorReceita(user.getUuid(), periodo)).thenReturn(null);
 
         mockMvc.perform(get("/dashboard/maior-receita")
@@ -177,7 +182,7 @@ class DashboardControllerUnitTest {
         void deveRetornarCategoriaComMaiorDespesa() throws Exception {
             Map<String, BigDecimal> categoria = Map.of("ALIMENTACAO", BigDecimal.valueOf(1000));
             
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(dashboardService.getCategoriaComMaiorDespesa(user.getUuid(), periodo)).thenReturn(categoria);
 
             mockMvc.perform(get("/dashboard/categoria-maior-despesa")
@@ -194,7 +199,7 @@ class DashboardControllerUnitTest {
         void deveRetornarTotalDespesas() throws Exception {
             BigDecimal totalDespesas = BigDecimal.valueOf(1500);
             
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(dashboardService.calcularTotalDespesasNoMes(user.getUuid(), periodo)).thenReturn(totalDespesas);
 
             mockMvc.perform(get("/dashboard/despesa-total")
@@ -212,7 +217,7 @@ class DashboardControllerUnitTest {
         void deveRetornarTotalReceitas() throws Exception {
             BigDecimal totalReceitas = BigDecimal.valueOf(4000);
             
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(dashboardService.calcularTotalReceitasNoMes(user.getUuid(), periodo)).thenReturn(totalReceitas);
 
             mockMvc.perform(get("/dashboard/receita-total")
@@ -224,17 +229,42 @@ class DashboardControllerUnitTest {
         }
     }
 
+    @Nested
+    class ResumoTest {
+        @Test
+        void deveRetornarResumoDoMes() throws Exception {
+            DashboardResumoDTO resumo = new DashboardResumoDTO(periodo);
+            resumo.setDespesaTotal(BigDecimal.valueOf(1500));
+            resumo.setReceitaTotal(BigDecimal.valueOf(4000));
+            resumo.setSaldoTotal(BigDecimal.valueOf(2500));
+            resumo.setCategoriaMaiorDespesa(Map.of("Alimentação", BigDecimal.valueOf(1000)));
+
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(dashboardService.getResumo(user.getUuid(), periodo)).thenReturn(resumo);
+
+            mockMvc.perform(get("/dashboard/resumo")
+                    .param("periodo", periodo.toString())
+                    .header("Authorization", "Bearer token_valido"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.periodo").value(periodo.toString()))
+                .andExpect(jsonPath("$.saldoTotal").value(2500))
+                .andExpect(jsonPath("$.despesaTotal").value(1500))
+                .andExpect(jsonPath("$.receitaTotal").value(4000))
+                .andExpect(jsonPath("$.categoriaMaiorDespesa.Alimentação").value(1000))
+                .andExpect(jsonPath("$.categoriaMaiorReceita").isEmpty());
+        }
+    }
+
     @Test
     void deveExtrairTokenCorretamente() throws Exception {
         String expectedToken = "token_esperado";
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(dashboardService.getSaldoTotal(any(), any())).thenReturn(BigDecimal.ZERO);
         
         mockMvc.perform(get("/dashboard/saldo-total")
                 .param("periodo", periodo.toString())
                 .header("Authorization", "Bearer " + expectedToken));
 
-        verify(jwtUtil).extractUserId(expectedToken);
         verify(dashboardService).getSaldoTotal(user.getUuid(), periodo);
     }
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
 import br.com.gestorfinanceiro.dto.user.LoginDTO;
@@ -42,6 +44,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 
 @Transactional
+@ContarComandosSql
+@LimiteComandosSql(4)
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -140,6 +144,7 @@ class DespesaControllerIntegrationTest {
     @Nested
     class ListarDespesasTest {
         @Test
+        @LimiteComandosSql(1)
         void deveListarDespesasUsuario() throws Exception {
             criarDespesaNoBanco();
 
@@ -153,6 +158,7 @@ class DespesaControllerIntegrationTest {
     @Nested
     class BuscarDespesaPorIdTest {
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarDespesaPorId() throws Exception {
             DespesaEntity despesa = criarDespesaNoBanco();
 
@@ -226,6 +232,7 @@ class DespesaControllerIntegrationTest {
     @Nested
     class GerarGraficosTest {
         @Test
+        @LimiteComandosSql(1)
         void deveGerarGraficoBarras() throws Exception {
             YearMonth mesAtual = YearMonth.now();
             criarDespesaNoBanco(VALOR_PADRAO, mesAtual.atDay(1));
@@ -241,6 +248,7 @@ class DespesaControllerIntegrationTest {
         }
 
         @Test
+        @LimiteComandosSql(1)
         void deveGerarGraficoPizza() throws Exception {
             despesaRepository.deleteAll();
             categoriaRepository.deleteAll();
@@ -260,6 +268,7 @@ class DespesaControllerIntegrationTest {
     @Nested
     class BuscaAvancadaTest {
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarDespesasPorIntervaloDeDatas() throws Exception {
             LocalDate hoje = LocalDate.now();
             criarDespesaNoBanco(VALOR_PADRAO, hoje);
@@ -273,6 +282,7 @@ class DespesaControllerIntegrationTest {
         }
 
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarDespesasPorIntervaloDeValores() throws Exception {
             criarDespesaNoBanco(BigDecimal.valueOf(100), LocalDate.now());
             criarDespesaNoBanco(BigDecimal.valueOf(200), LocalDate.now());
@@ -308,6 +318,7 @@ class DespesaControllerIntegrationTest {
     }
 
     @Test
+    @LimiteComandosSql(1)
     void deveListarVariasDespesas() throws Exception {
         criarDespesaNoBanco();
         criarDespesaNoBanco(VALOR_ATUALIZADO, LocalDate.now().minusDays(1));
@@ -1,5 +1,6 @@
 package br.com.gestorfinanceiro.controllers.DespesaControllerTest;
 
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
@@ -11,14 +12,18 @@ import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.models.enums.DespesasCategorias;
 import br.com.gestorfinanceiro.services.impl.DespesaServiceImpl;
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
 import br.com.gestorfinanceiro.mappers.Mapper;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,6 +32,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.server.ResponseStatusException;
@@ -64,8 +70,6 @@ class DespesaControllerUnitTest {
     @Mock
     private Mapper<DespesaEntity, DespesaDTO> despesaMapper;
 
-    @Mock
-    private JwtUtil jwtUtil;
 
     private MockMvc mockMvc;
 
@@ -83,6 +87,8 @@ class DespesaControllerUnitTest {
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     
         mockMvc = MockMvcBuilders.standaloneSetup(despesaController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
     
@@ -117,6 +123,11 @@ class DespesaControllerUnitTest {
         despesaDTO.setUuid(UUID.randomUUID().toString());
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void deveCarregarDespesaController() {
         assertNotNull(despesaController, "O DespesaController não deveria ser nulo!");
@@ -133,7 +144,7 @@ class DespesaControllerUnitTest {
             requestDTO.setObservacoes("Transporte mensal");
             requestDTO.setDestinoPagamento("Uber");
         
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.criarDespesa(any(DespesaCreateDTO.class), anyString())).thenReturn(despesa);
             when(despesaMapper.mapTo(any(DespesaEntity.class))).thenReturn(despesaDTO);
         
@@ -165,7 +176,7 @@ class DespesaControllerUnitTest {
             requestDTO.setDestinoPagamento("Shopping");
 
             String expectedToken = "token_esperado";
-            when(jwtUtil.extractUserId(expectedToken)).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.criarDespesa(any(DespesaCreateDTO.class), anyString())).thenReturn(despesa);
             when(despesaMapper.mapTo(any(DespesaEntity.class))).thenReturn(despesaDTO);
 
@@ -174,7 +185,6 @@ class DespesaControllerUnitTest {
                     .content(objectMapper.writeValueAsString(requestDTO))
                     .header("Authorization", "Bearer " + expectedToken));
 
-            verify(jwtUtil).extractUserId(expectedToken);
         }
     }
 
@@ -182,22 +192,47 @@ class DespesaControllerUnitTest {
     class ListarDespesasTest {
         @Test
         void deveListarDespesas() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
-            when(despesaService.listarDespesasUsuario(anyString())).thenReturn(List.of(despesa));
-            when(despesaMapper.mapTo(any(DespesaEntity.class))).thenReturn(despesaDTO);
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(despesaService.listarDespesasUsuarioPaginado(anyString(), any(), any())).thenReturn(new PaginaDTO<>(List.of(despesaDTO), null));
 
             mockMvc.perform(MockMvcRequestBuilders.get("/despesas")
                     .header("Authorization", "Bearer token_exemplo"))
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].valor").value(100));
         }
+
+        @Test
+        void deveDevolverCursorDaProximaPaginaNoHeader() throws Exception {
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(despesaService.listarDespesasUsuarioPaginado(anyString(), eq("abc"), eq(1)))
+                    .thenReturn(new PaginaDTO<>(List.of(despesaDTO), "proximo"));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/despesas")
+                    .header("Authorization", "Bearer token_exemplo")
+                    .param("cursor", "abc")
+                    .param("tamanho", "1"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(CursorUtils.HEADER_PROXIMO_CURSOR, "proximo"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].valor").value(100));
+        }
+
+        @Test
+        void naoDeveEnviarHeaderDeCursorNaUltimaPagina() throws Exception {
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(despesaService.listarDespesasUsuarioPaginado(anyString(), any(), any())).thenReturn(new PaginaDTO<>(List.of(despesaDTO), null));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/despesas")
+                    .header("Authorization", "Bearer token_exemplo"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(CursorUtils.HEADER_PROXIMO_CURSOR));
+        }
     }
 
     @Nested
     class BuscarDespesaPorIdTest {
         @Test
         void deveBuscarDespesaPorId() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.buscarDespesaPorId(anyString())).thenReturn(despesa);
             when(despesaMapper.mapTo(any(DespesaEntity.class))).thenReturn(despesaDTO);
 
@@ -219,7 +254,7 @@ class DespesaControllerUnitTest {
             outraDespesa.setUser(outroUser);
         
             when(despesaService.buscarDespesaPorId(anyString())).thenReturn(outraDespesa);
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         
             mockMvc.perform(get("/despesas/" + outraDespesa.getUuid())
                     .header("Authorization", "Bearer token_exemplo"))
@@ -240,7 +275,7 @@ class DespesaControllerUnitTest {
             requestDTO.setDestinoPagamento("Imobiliária XYZ");
         
             // 2. Configura os mocks
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.buscarDespesaPorId(despesa.getUuid())).thenReturn(despesa);
             when(despesaService.atualizarDespesa(eq(despesa.getUuid()), any(DespesaUpdateDTO.class)))
                 .thenReturn(despesa);
@@ -275,7 +310,7 @@ class DespesaControllerUnitTest {
             dtoCompleto.setDestinoPagamento("Mercado");
         
             when(despesaService.buscarDespesaPorId(anyString())).thenReturn(outraDespesa);
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         
             mockMvc.perform(put("/despesas/" + outraDespesa.getUuid())
                     .contentType(MediaType.APPLICATION_JSON)
@@ -289,7 +324,7 @@ class DespesaControllerUnitTest {
     class ExcluirDespesaTest {
         @Test
         void deveExcluirDespesa() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.buscarDespesaPorId(anyString())).thenReturn(despesa);
             doNothing().when(despesaService).excluirDespesa(anyString());
             
@@ -309,7 +344,7 @@ class DespesaControllerUnitTest {
             outraDespesa.setUuid("outra-despesa-id");
             outraDespesa.setUser(outroUser);
     
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.buscarDespesaPorId("outra-despesa-id")).thenReturn(outraDespesa);
     
             mockMvc.perform(delete("/despesas/outra-despesa-id")
@@ -327,7 +362,7 @@ class DespesaControllerUnitTest {
         requestDTO.setObservacoes("Transporte mensal");
         requestDTO.setDestinoPagamento("Uber");
     
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(despesaService.criarDespesa(any(DespesaCreateDTO.class), anyString())).thenReturn(despesa);
         when(despesaMapper.mapTo(any(DespesaEntity.class))).thenReturn(despesaDTO);
     
@@ -401,7 +436,7 @@ class DespesaControllerUnitTest {
         despesaOutroUsuario.setUuid("123");
         despesaOutroUsuario.setUser(outroUser);
 
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid()); // Usuário logado
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid()); // Usuário logado
         when(despesaService.buscarDespesaPorId("123")).thenReturn(despesaOutroUsuario);
         
         mockMvc.perform(get("/despesas/123")
@@ -413,7 +448,7 @@ class DespesaControllerUnitTest {
     class RelatoriosTest {
         @Test
         void gerarGraficoBarras_DeveRetornarOk() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             
             when(despesaService.gerarGraficoBarras(anyString(), any(), any()))
                 .thenReturn(new GraficoBarraDTO(Map.of("Janeiro", BigDecimal.TEN)));
@@ -444,7 +479,7 @@ class DespesaControllerUnitTest {
             YearMonth fim = YearMonth.of(2023, 12);
             GraficoBarraDTO graficoMock = new GraficoBarraDTO(Map.of("Janeiro", BigDecimal.valueOf(1500)));
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.gerarGraficoBarras(anyString(), any(YearMonth.class), any(YearMonth.class)))
                 .thenReturn(graficoMock);
 
@@ -493,7 +528,7 @@ class DespesaControllerUnitTest {
             YearMonth data = YearMonth.of(2023, 6);
             GraficoBarraDTO graficoMock = new GraficoBarraDTO(Map.of("Junho", BigDecimal.valueOf(1200)));
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.gerarGraficoBarras(anyString(), any(YearMonth.class), any(YearMonth.class)))
                 .thenReturn(graficoMock);
 
@@ -511,7 +546,7 @@ class DespesaControllerUnitTest {
             YearMonth fim = YearMonth.of(2023, 3);
             GraficoBarraDTO graficoMock = new GraficoBarraDTO(new HashMap<>());
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(despesaService.gerarGraficoBarras(anyString(), any(YearMonth.class), any(YearMonth.class)))
                 .thenReturn(graficoMock);
 
@@ -535,9 +570,11 @@ class DespesaControllerUnitTest {
         YearMonth inicio = YearMonth.of(2023, 12);
         YearMonth fim = YearMonth.of(2023, 1);
         
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
     
         mockMvc = MockMvcBuilders.standaloneSetup(despesaController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
     
@@ -0,0 +1,99 @@
+package br.com.gestorfinanceiro.controllers.ExportacaoControllerTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.controller.ExportacaoController;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
+import br.com.gestorfinanceiro.models.enums.FormatoExportacao;
+import br.com.gestorfinanceiro.services.ExportacaoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportacaoControllerUnitTest {
+
+    @Mock
+    private ExportacaoService exportacaoService;
+
+    @InjectMocks
+    private ExportacaoController exportacaoController;
+
+    private MockMvc mockMvc;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(exportacaoController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        userId = UUID.randomUUID().toString();
+        TestDataUtil.autenticarUsuarioUtil(userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void deveExportarCsvPorPadrao() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream saida = invocation.getArgument(2);
+            saida.write("tipo,data\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportacaoService).exportar(eq(userId), eq(FormatoExportacao.CSV), any(OutputStream.class));
+
+        MvcResult resultado = mockMvc.perform(get("/exportacao"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"lancamentos.csv\""))
+                .andExpect(content().string("tipo,data\n"));
+    }
+
+    @Test
+    void deveExportarNdjson() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/exportacao").param("formato", "NDJSON"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+
+        verify(exportacaoService).exportar(eq(userId), eq(FormatoExportacao.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    void erroAoExportarComFormatoInvalido() throws Exception {
+        mockMvc.perform(get("/exportacao").param("formato", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportacaoService);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.gestorfinanceiro.controllers.ImportacaoControllerTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.controller.ImportacaoController;
+import br.com.gestorfinanceiro.dto.importacao.ErroImportacaoDTO;
+import br.com.gestorfinanceiro.dto.importacao.ResultadoImportacaoDTO;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
+import br.com.gestorfinanceiro.models.enums.FormatoImportacao;
+import br.com.gestorfinanceiro.services.ImportacaoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoControllerUnitTest {
+
+    @Mock
+    private ImportacaoService importacaoService;
+
+    @InjectMocks
+    private ImportacaoController importacaoController;
+
+    private MockMvc mockMvc;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(importacaoController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        userId = UUID.randomUUID().toString();
+        TestDataUtil.autenticarUsuarioUtil(userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void deveImportarCsvPelaExtensaoDoArquivo() throws Exception {
+        when(importacaoService.importar(eq(userId), eq(FormatoImportacao.CSV), any(InputStream.class)))
+                .thenReturn(new ResultadoImportacaoDTO(2, 1, List.of(new ErroImportacaoDTO(3, "Data inválida: 31/02/2025"))));
+
+        mockMvc.perform(multipart("/importacao").file(arquivo("lancamentos.csv")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.rejeitados").value(1))
+                .andExpect(jsonPath("$.erros[0].registro").value(3))
+                .andExpect(jsonPath("$.erros[0].mensagem").value("Data inválida: 31/02/2025"));
+    }
+
+    @Test
+    void deveUsarFormatoInformadoNaRequisicao() throws Exception {
+        when(importacaoService.importar(eq(userId), eq(FormatoImportacao.OFX), any(InputStream.class)))
+                .thenReturn(new ResultadoImportacaoDTO(1, 0, List.of()));
+
+        mockMvc.perform(multipart("/importacao").file(arquivo("extrato.txt")).param("formato", "ofx"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(1));
+    }
+
+    @Test
+    void erroAoImportarFormatoDesconhecido() throws Exception {
+        mockMvc.perform(multipart("/importacao").file(arquivo("planilha.xlsx")))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importacaoService);
+    }
+
+    @Test
+    void erroAoImportarArquivoVazio() throws Exception {
+        MockMultipartFile vazio = new MockMultipartFile("arquivo", "lancamentos.csv", "text/csv", new byte[0]);
+
+        mockMvc.perform(multipart("/importacao").file(vazio))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importacaoService);
+    }
+
+    private MockMultipartFile arquivo(String nome) {
+        return new MockMultipartFile("arquivo", nome, "text/plain",
+                "tipo,data,valor\nDESPESAS,2025-03-01,10\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.gestorfinanceiro.controllers.MetricasTest;
+
+import br.com.gestorfinanceiro.services.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Os testes do Spring Boot desligam a exportação de métricas por padrão; @AutoConfigureObservability
+ * liga o registro do Prometheus para conferir o formato que será coletado em produção.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN") // o endpoint do Prometheus exige ADMIN
+class MetricasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Test
+    void deveExporTimersDeServicosEConsultasComHistograma() throws Exception {
+        dashboardService.getResumo(UUID.randomUUID().toString(), YearMonth.of(2025, 1));
+
+        String metricas = coletar();
+
+        assertTrue(metricas.contains("gestorfinanceiro_servicos_seconds_bucket"));
+        assertTrue(metricas.contains("class=\"DashboardServiceImpl\""));
+        assertTrue(metricas.contains("method=\"getResumo\""));
+        assertTrue(metricas.contains("gestorfinanceiro_consultas_seconds_bucket"));
+        assertTrue(metricas.contains("class=\"DashboardRepositoryCustomImpl\""));
+        assertTrue(metricas.contains("method=\"findResumoByUserIdAndYearMonth\""));
+    }
+
+    @Test
+    void deveMarcarExcecaoNoTimer() throws Exception {
+        assertThrows(RuntimeException.class, () -> dashboardService.getResumo(null, YearMonth.of(2025, 1)));
+
+        assertTrue(coletar().contains("exception=\"InvalidUserIdException\""));
+    }
+
+    @Test
+    void deveExporPoolDeConexoesEEstatisticasDoHibernate() throws Exception {
+        String metricas = coletar();
+
+        assertTrue(metricas.contains("hikaricp_connections_active"));
+        assertTrue(metricas.contains("hikaricp_connections_pending"));
+        assertTrue(metricas.contains("hikaricp_connections_acquire_seconds_bucket"));
+        assertTrue(metricas.contains("hibernate_sessions_open_total"));
+    }
+
+    @Test
+    void deveExporPoolDeHashingDeSenhas() throws Exception {
+        String metricas = coletar();
+
+        assertTrue(metricas.matches("(?s).*executor_queued_tasks\\{[^}]*name=\"bcrypt\".*"));
+        assertTrue(metricas.matches("(?s).*executor_active_threads\\{[^}]*name=\"bcrypt\".*"));
+        assertTrue(metricas.contains("gestorfinanceiro_hashing_rejeicoes_total"));
+        assertTrue(metricas.contains("gestorfinanceiro_hashing_custo"));
+    }
+
+    @Test
+    void deveExporRejeicoesDoLimiteDeLogin() throws Exception {
+        String metricas = coletar();
+
+        assertTrue(metricas.matches("(?s).*gestorfinanceiro_login_rejeicoes_total\\{[^}]*limite=\"email\".*"));
+        assertTrue(metricas.matches("(?s).*gestorfinanceiro_login_rejeicoes_total\\{[^}]*limite=\"ip\".*"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void erroAoColetarMetricasSemSerAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void deveManterHealthPublico() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(anonymous()))
+                .andExpect(status().isOk());
+    }
+
+    private String coletar() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+}
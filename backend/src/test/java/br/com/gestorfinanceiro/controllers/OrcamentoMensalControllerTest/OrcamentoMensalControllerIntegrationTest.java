@@ -19,6 +19,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import br.com.gestorfinanceiro.controller.OrcamentoMensalController.OrcamentoMensalRequest;
 import br.com.gestorfinanceiro.dto.orcamentomensal.OrcamentoMensalDTO;
 import br.com.gestorfinanceiro.dto.user.LoginDTO;
@@ -41,6 +43,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Transactional
+@ContarComandosSql
+@LimiteComandosSql(4)
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -137,6 +141,7 @@ class OrcamentoMensalControllerIntegrationTest {
     @Nested
     class ListarOrcamentosTest {
         @Test
+        @LimiteComandosSql(1)
         void deveListarOrcamentosDoUsuario() throws Exception {
             criarOrcamentoNoBanco();
 
@@ -147,6 +152,7 @@ class OrcamentoMensalControllerIntegrationTest {
         }
 
         @Test
+        @LimiteComandosSql(1)
         void deveListarOrcamentosPorPeriodo() throws Exception {
             criarOrcamentoNoBanco();
 
@@ -160,6 +166,7 @@ class OrcamentoMensalControllerIntegrationTest {
     @Nested
     class BuscarOrcamentoPorIdTest {
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarOrcamentoPorId() throws Exception {
             OrcamentoMensalEntity orcamento = criarOrcamentoNoBanco();
 
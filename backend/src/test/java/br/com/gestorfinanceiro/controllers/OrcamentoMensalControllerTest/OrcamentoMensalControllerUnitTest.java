@@ -8,11 +8,14 @@ import br.com.gestorfinanceiro.models.OrcamentoMensalEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.services.OrcamentoMensalService;
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
 import br.com.gestorfinanceiro.mappers.Mapper;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -53,8 +57,6 @@ class OrcamentoMensalControllerUnitTest {
     @Mock
     private Mapper<OrcamentoMensalEntity, OrcamentoMensalDTO> orcamentoMensalMapper;
 
-    @Mock
-    private JwtUtil jwtUtil;
 
     private MockMvc mockMvc;
 
@@ -73,6 +75,8 @@ class OrcamentoMensalControllerUnitTest {
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     
         mockMvc = MockMvcBuilders.standaloneSetup(orcamentoMensalController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
     
@@ -103,6 +107,11 @@ class OrcamentoMensalControllerUnitTest {
         orcamentoDTO.setPeriodo(YearMonth.now());
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void deveCarregarOrcamentoMensalController() {
         assertNotNull(orcamentoMensalController, "O OrcamentoMensalController não deveria ser nulo!");
@@ -112,7 +121,7 @@ class OrcamentoMensalControllerUnitTest {
     class ListarOrcamentosTest {
         @Test
         void deveListarTodosOrcamentos() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(orcamentoMensalService.listarTodosPorUsuario(anyString())).thenReturn(List.of(orcamento));
             when(orcamentoMensalMapper.mapTo(any(OrcamentoMensalEntity.class))).thenReturn(orcamentoDTO);
 
@@ -125,7 +134,7 @@ class OrcamentoMensalControllerUnitTest {
         @Test
         void deveListarOrcamentosPorPeriodo() throws Exception {
             YearMonth periodo = YearMonth.now();
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(orcamentoMensalService.listarPorPeriodo(anyString(), any(YearMonth.class))).thenReturn(List.of(orcamento));
             when(orcamentoMensalMapper.mapTo(any(OrcamentoMensalEntity.class))).thenReturn(orcamentoDTO);
 
@@ -140,7 +149,7 @@ class OrcamentoMensalControllerUnitTest {
     class BuscarOrcamentoPorIdTest {
         @Test
         void deveBuscarOrcamentoPorId() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(orcamentoMensalService.buscarPorId(user.getUuid(), orcamento.getUuid())).thenReturn(orcamento);
             when(orcamentoMensalMapper.mapTo(any(OrcamentoMensalEntity.class))).thenReturn(orcamentoDTO);
 
@@ -160,7 +169,7 @@ class OrcamentoMensalControllerUnitTest {
             requestDTO.setValorLimite(BigDecimal.valueOf(500));
             requestDTO.setPeriodo(YearMonth.now());
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(orcamentoMensalService.criarOrcamentoMensal(
                 anyString(), 
                 eq("ALIMENTACAO"), 
@@ -180,7 +189,8 @@ class OrcamentoMensalControllerUnitTest {
         @Test
         void deveRetornarBadRequestParaCriacaoInvalida() throws Exception {
             OrcamentoMensalDTO requestDTO = new OrcamentoMensalDTO();
-            
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+
             mockMvc.perform(post("/orcamento-mensal")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(requestDTO))
@@ -199,7 +209,7 @@ class OrcamentoMensalControllerUnitTest {
                 YearMonth.now()
             );
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(orcamentoMensalService.atualizarOrcamentoMensal(
                 user.getUuid(), 
                 orcamento.getUuid(), 
@@ -221,7 +231,7 @@ class OrcamentoMensalControllerUnitTest {
     class ExcluirOrcamentoTest {
         @Test
         void deveExcluirOrcamento() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             doNothing().when(orcamentoMensalService).excluirOrcamentoMensal(user.getUuid(), orcamento.getUuid());
             
             mockMvc.perform(delete("/orcamento-mensal/" + orcamento.getUuid())
@@ -238,7 +248,7 @@ class OrcamentoMensalControllerUnitTest {
         requestDTO.setPeriodo(YearMonth.now());
 
         String expectedToken = "token_esperado";
-        when(jwtUtil.extractUserId(expectedToken)).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(orcamentoMensalService.criarOrcamentoMensal(anyString(), anyString(), any(BigDecimal.class), any(YearMonth.class)))
             .thenReturn(orcamento);
         when(orcamentoMensalMapper.mapTo(any(OrcamentoMensalEntity.class))).thenReturn(orcamentoDTO);
@@ -248,7 +258,6 @@ class OrcamentoMensalControllerUnitTest {
                 .content(objectMapper.writeValueAsString(requestDTO))
                 .header("Authorization", "Bearer " + expectedToken));
 
-        verify(jwtUtil).extractUserId(expectedToken);
     }
 
     @Nested
@@ -259,7 +268,8 @@ class OrcamentoMensalControllerUnitTest {
             dtoInvalido.setCategoria("ALIMENTACAO");
             dtoInvalido.setValorLimite(BigDecimal.ZERO); // Valor inválido
             dtoInvalido.setPeriodo(YearMonth.now());
-            
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+
             mockMvc.perform(post("/orcamento-mensal")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(dtoInvalido))
@@ -274,7 +284,8 @@ class OrcamentoMensalControllerUnitTest {
                 BigDecimal.valueOf(100),
                 YearMonth.now()
             );
-            
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+
             mockMvc.perform(put("/orcamento-mensal/" + orcamento.getUuid())
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(requestInvalido))
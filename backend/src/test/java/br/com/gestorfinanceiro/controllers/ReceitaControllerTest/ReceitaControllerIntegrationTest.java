@@ -19,6 +19,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.dto.user.LoginDTO;
@@ -41,6 +43,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Transactional
+@ContarComandosSql
+@LimiteComandosSql(4)
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -139,6 +143,7 @@ class ReceitaControllerIntegrationTest {
     @Nested
     class ListarReceitasTest {
         @Test
+        @LimiteComandosSql(1)
         void deveListarReceitasUsuario() throws Exception {
             criarReceitaNoBanco();
 
@@ -152,6 +157,7 @@ class ReceitaControllerIntegrationTest {
     @Nested
     class BuscarReceitaPorIdTest {
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarReceitaPorId() throws Exception {
             ReceitaEntity receita = criarReceitaNoBanco();
 
@@ -225,6 +231,7 @@ class ReceitaControllerIntegrationTest {
     @Nested
     class GerarGraficosTest {
         @Test
+        @LimiteComandosSql(1)
         void deveGerarGraficoBarras() throws Exception {
             YearMonth mesAtual = YearMonth.now();
             criarReceitaNoBanco(VALOR_PADRAO, mesAtual.atDay(1));
@@ -238,6 +245,7 @@ class ReceitaControllerIntegrationTest {
         }
 
         @Test
+        @LimiteComandosSql(1)
         void deveGerarGraficoPizza() throws Exception {
             receitaRepository.deleteAll();
             categoriaRepository.deleteAll();
@@ -257,6 +265,7 @@ class ReceitaControllerIntegrationTest {
     @Nested
     class BuscaAvancadaTest {
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarReceitasPorIntervaloDeDatas() throws Exception {
             LocalDate hoje = LocalDate.now();
             criarReceitaNoBanco(VALOR_PADRAO, hoje);
@@ -270,6 +279,7 @@ class ReceitaControllerIntegrationTest {
         }
 
         @Test
+        @LimiteComandosSql(1)
         void deveBuscarReceitasPorIntervaloDeValores() throws Exception {
             criarReceitaNoBanco(BigDecimal.valueOf(1000), LocalDate.now());
             criarReceitaNoBanco(BigDecimal.valueOf(2000), LocalDate.now());
@@ -305,6 +315,7 @@ class ReceitaControllerIntegrationTest {
     }
 
     @Test
+    @LimiteComandosSql(1)
     void deveListarVariasReceitas() throws Exception {
         criarReceitaNoBanco();
         criarReceitaNoBanco(VALOR_ATUALIZADO, LocalDate.now().minusDays(1));
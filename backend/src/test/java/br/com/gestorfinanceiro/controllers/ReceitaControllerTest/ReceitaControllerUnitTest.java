@@ -1,11 +1,13 @@
 package br.com.gestorfinanceiro.controllers.ReceitaControllerTest;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.server.ResponseStatusException;
@@ -14,13 +16,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
-import br.com.gestorfinanceiro.config.security.JwtUtil;
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUserArgumentResolver;
+import br.com.gestorfinanceiro.exceptions.GlobalExceptionHandler;
 import br.com.gestorfinanceiro.controller.ReceitaController;
 import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.mappers.Mapper;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
@@ -63,8 +69,6 @@ class ReceitaControllerUnitTest {
     @Mock
     private Mapper<ReceitaEntity, ReceitaDTO> receitaMapper;
 
-    @Mock
-    private JwtUtil jwtUtil;
 
     private MockMvc mockMvc;
 
@@ -82,6 +86,8 @@ class ReceitaControllerUnitTest {
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     
         mockMvc = MockMvcBuilders.standaloneSetup(receitaController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
     
@@ -116,6 +122,11 @@ class ReceitaControllerUnitTest {
         receitaDTO.setUuid(UUID.randomUUID().toString());
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void deveCarregarReceitaController() {
         assertNotNull(receitaController, "O ReceitaController não deveria ser nulo!");
@@ -132,7 +143,7 @@ class ReceitaControllerUnitTest {
             requestDTO.setObservacoes("Trabalho Extra");
             requestDTO.setOrigemDoPagamento("Empresa X");
         
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.criarReceita(any(ReceitaCreateDTO.class), anyString())).thenReturn(receita);
             when(receitaMapper.mapTo(any(ReceitaEntity.class))).thenReturn(receitaDTO);
         
@@ -164,7 +175,7 @@ class ReceitaControllerUnitTest {
             requestDTO.setOrigemDoPagamento("Ações");
 
             String expectedToken = "token_esperado";
-            when(jwtUtil.extractUserId(expectedToken)).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.criarReceita(any(ReceitaCreateDTO.class), anyString())).thenReturn(receita);
             when(receitaMapper.mapTo(any(ReceitaEntity.class))).thenReturn(receitaDTO);
 
@@ -173,7 +184,6 @@ class ReceitaControllerUnitTest {
                     .content(objectMapper.writeValueAsString(requestDTO))
                     .header("Authorization", "Bearer " + expectedToken));
 
-            verify(jwtUtil).extractUserId(expectedToken);
         }
     }
 
@@ -181,22 +191,47 @@ class ReceitaControllerUnitTest {
     class ListarReceitasTest {
         @Test
         void deveListarReceitas() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
-            when(receitaService.listarReceitasUsuario(anyString())).thenReturn(List.of(receita));
-            when(receitaMapper.mapTo(any(ReceitaEntity.class))).thenReturn(receitaDTO);
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(receitaService.listarReceitasUsuarioPaginado(anyString(), any(), any())).thenReturn(new PaginaDTO<>(List.of(receitaDTO), null));
 
             mockMvc.perform(MockMvcRequestBuilders.get("/receitas")
                     .header("Authorization", "Bearer token_exemplo"))
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].valor").value(5000));
         }
+
+        @Test
+        void deveDevolverCursorDaProximaPaginaNoHeader() throws Exception {
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(receitaService.listarReceitasUsuarioPaginado(anyString(), eq("abc"), eq(1)))
+                    .thenReturn(new PaginaDTO<>(List.of(receitaDTO), "proximo"));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/receitas")
+                    .header("Authorization", "Bearer token_exemplo")
+                    .param("cursor", "abc")
+                    .param("tamanho", "1"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(CursorUtils.HEADER_PROXIMO_CURSOR, "proximo"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].valor").value(5000));
+        }
+
+        @Test
+        void naoDeveEnviarHeaderDeCursorNaUltimaPagina() throws Exception {
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
+            when(receitaService.listarReceitasUsuarioPaginado(anyString(), any(), any())).thenReturn(new PaginaDTO<>(List.of(receitaDTO), null));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/receitas")
+                    .header("Authorization", "Bearer token_exemplo"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(CursorUtils.HEADER_PROXIMO_CURSOR));
+        }
     }
 
     @Nested
     class BuscarReceitaPorIdTest {
         @Test
         void deveBuscarReceitaPorId() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.buscarReceitaPorId(anyString())).thenReturn(receita);
             when(receitaMapper.mapTo(any(ReceitaEntity.class))).thenReturn(receitaDTO);
 
@@ -218,7 +253,7 @@ class ReceitaControllerUnitTest {
             outraReceita.setUser(outroUser);
         
             when(receitaService.buscarReceitaPorId(anyString())).thenReturn(outraReceita);
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         
             mockMvc.perform(get("/receitas/" + outraReceita.getUuid())
                     .header("Authorization", "Bearer token_exemplo"))
@@ -237,7 +272,7 @@ class ReceitaControllerUnitTest {
             requestDTO.setObservacoes("Guardar");
             requestDTO.setOrigemDoPagamento("Governo");
         
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.buscarReceitaPorId(receita.getUuid())).thenReturn(receita);
             when(receitaService.atualizarReceita(eq(receita.getUuid()), any(ReceitaUpdateDTO.class)))
                 .thenReturn(receita);
@@ -270,7 +305,7 @@ class ReceitaControllerUnitTest {
             dtoCompleto.setOrigemDoPagamento("Empresa");
         
             when(receitaService.buscarReceitaPorId(anyString())).thenReturn(outraReceita);
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         
             mockMvc.perform(put("/receitas/" + outraReceita.getUuid())
                     .contentType(MediaType.APPLICATION_JSON)
@@ -284,7 +319,7 @@ class ReceitaControllerUnitTest {
     class ExcluirReceitaTest {
         @Test
         void deveExcluirReceita() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.buscarReceitaPorId(anyString())).thenReturn(receita);
             doNothing().when(receitaService).excluirReceita(anyString());
             
@@ -304,7 +339,7 @@ class ReceitaControllerUnitTest {
             outraReceita.setUuid("outra-receita-id");
             outraReceita.setUser(outroUser);
     
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.buscarReceitaPorId("outra-receita-id")).thenReturn(outraReceita);
     
             mockMvc.perform(delete("/receitas/outra-receita-id")
@@ -322,7 +357,7 @@ class ReceitaControllerUnitTest {
         requestDTO.setObservacoes("Bônus trimestral");
         requestDTO.setOrigemDoPagamento("Empresa");
     
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(receitaService.criarReceita(any(ReceitaCreateDTO.class), anyString())).thenReturn(receita);
         when(receitaMapper.mapTo(any(ReceitaEntity.class))).thenReturn(receitaDTO);
     
@@ -395,7 +430,7 @@ class ReceitaControllerUnitTest {
         receitaOutroUsuario.setUuid("123");
         receitaOutroUsuario.setUser(outroUser);
 
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
         when(receitaService.buscarReceitaPorId("123")).thenReturn(receitaOutroUsuario);
         
         mockMvc.perform(get("/receitas/123")
@@ -407,7 +442,7 @@ class ReceitaControllerUnitTest {
     class RelatoriosTest {
         @Test
         void gerarGraficoBarras_DeveRetornarOk() throws Exception {
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             
             when(receitaService.gerarGraficoBarras(anyString(), any(), any()))
                 .thenReturn(new GraficoBarraDTO(Map.of("Janeiro", BigDecimal.valueOf(5000))));
@@ -438,7 +473,7 @@ class ReceitaControllerUnitTest {
             YearMonth fim = YearMonth.of(2023, 12);
             GraficoBarraDTO graficoMock = new GraficoBarraDTO(Map.of("Janeiro", BigDecimal.valueOf(5000)));
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.gerarGraficoBarras(anyString(), any(YearMonth.class), any(YearMonth.class)))
                 .thenReturn(graficoMock);
 
@@ -487,7 +522,7 @@ class ReceitaControllerUnitTest {
             YearMonth data = YearMonth.of(2023, 6);
             GraficoBarraDTO graficoMock = new GraficoBarraDTO(Map.of("Junho", BigDecimal.valueOf(5000)));
 
-            when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+            TestDataUtil.autenticarUsuarioUtil(user.getUuid());
             when(receitaService.gerarGraficoBarras(anyString(), any(YearMonth.class), any(YearMonth.class)))
                 .thenReturn(graficoMock);
 
@@ -505,9 +540,11 @@ class ReceitaControllerUnitTest {
         YearMonth inicio = YearMonth.of(2023, 12);
         YearMonth fim = YearMonth.of(2023, 1);
         
-        when(jwtUtil.extractUserId(anyString())).thenReturn(user.getUuid());
+        TestDataUtil.autenticarUsuarioUtil(user.getUuid());
 
         mockMvc = MockMvcBuilders.standaloneSetup(receitaController)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
                 .build();
 
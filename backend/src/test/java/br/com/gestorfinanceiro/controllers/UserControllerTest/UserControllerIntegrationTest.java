@@ -1,5 +1,7 @@
 package br.com.gestorfinanceiro.controllers.UserControllerTest;
 
+import br.com.gestorfinanceiro.comandossql.ContarComandosSql;
+import br.com.gestorfinanceiro.comandossql.LimiteComandosSql;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,6 +13,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+@ContarComandosSql
+@LimiteComandosSql(1)
 @SpringBootTest //contexto completo da aplicação
 @AutoConfigureMockMvc 
 class UserControllerIntegrationTest {
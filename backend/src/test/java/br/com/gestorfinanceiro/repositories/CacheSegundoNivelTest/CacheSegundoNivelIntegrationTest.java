@@ -0,0 +1,165 @@
+package br.com.gestorfinanceiro.repositories.CacheSegundoNivelTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.CacheSegundoNivelConfig;
+import br.com.gestorfinanceiro.dto.admin.CacheEstatisticasDTO;
+import br.com.gestorfinanceiro.dto.user.UserAdminUpdateDTO;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.Roles;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.AdminService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cada chamada de repositório abre a própria sessão: a segunda leitura só não vai ao banco
+ * se a entidade (ou o email -> id) veio do cache de segundo nível.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheSegundoNivelIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private OrcamentoMensalRepository orcamentoMensalRepository;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private AdminService adminService;
+
+    private Statistics statistics;
+    private boolean estatisticasAtivas;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        limparBanco();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticasAtivas = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+
+        user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("cache"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(estatisticasAtivas);
+        limparBanco();
+    }
+
+    @Test
+    void buscarUsuarioPorIdNaoDeveIrAoBancoNaSegundaLeitura() {
+        userRepository.findById(user.getUuid()).orElseThrow();
+        statistics.clear();
+
+        UserEntity encontrado = userRepository.findById(user.getUuid()).orElseThrow();
+
+        assertEquals(user.getEmail(), encontrado.getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(CacheSegundoNivelConfig.USUARIOS).getHitCount() > 0);
+    }
+
+    @Test
+    void buscarUsuarioPorEmailDeveUsarOCacheDeNaturalId() {
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+        statistics.clear();
+
+        UserEntity encontrado = userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+        assertEquals(user.getUuid(), encontrado.getUuid());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void buscarUsuarioPorEmailInexistenteDeveRetornarVazio() {
+        assertTrue(userRepository.findByEmail("inexistente@gmail.com").isEmpty());
+        assertTrue(userRepository.findByEmail(null).isEmpty());
+    }
+
+    @Test
+    void buscarCategoriaPorIdNaoDeveIrAoBancoNaSegundaLeitura() {
+        CategoriaEntity categoria = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user));
+        categoriaRepository.findById(categoria.getUuid()).orElseThrow();
+        statistics.clear();
+
+        categoriaRepository.findById(categoria.getUuid()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void atualizarUsuarioDeveRefletirNaProximaLeitura() {
+        userRepository.findById(user.getUuid()).orElseThrow();
+
+        UserAdminUpdateDTO dto = new UserAdminUpdateDTO();
+        dto.setEstaAtivo(false);
+        dto.setRole(Roles.ADMIN.name());
+        adminService.atualizarUser(user.getUuid(), dto);
+
+        UserEntity atualizado = userRepository.findById(user.getUuid()).orElseThrow();
+        assertEquals(Roles.ADMIN, atualizado.getRole());
+        assertFalse(atualizado.getEstaAtivo());
+    }
+
+    @Test
+    void deveExporEstatisticasPorRegiao() {
+        userRepository.findById(user.getUuid()).orElseThrow();
+        statistics.clear();
+        userRepository.findById(user.getUuid()).orElseThrow();
+
+        Map<String, CacheEstatisticasDTO> regioes = adminService.estatisticasCacheSegundoNivel();
+
+        assertEquals(CacheSegundoNivelConfig.REGIOES, regioes.keySet().stream().toList());
+        CacheEstatisticasDTO usuarios = regioes.get(CacheSegundoNivelConfig.USUARIOS);
+        assertTrue(usuarios.getHits() > 0);
+        assertTrue(usuarios.getHitRate() > 0);
+        assertTrue(usuarios.getTamanho() > 0);
+    }
+
+    //-------------------------------MÉTODOS AUXILIARES-------------------------------//
+
+    private void limparBanco() {
+        resumoMensalRepository.deleteAllInBatch();
+        orcamentoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.gestorfinanceiro.repositories.DashboardIndexTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, em uma massa sintética grande, que os filtros mensais do dashboard
+ * (intervalo semiaberto sobre "data") usam o índice composto com range scan.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DashboardIndexIntegrationTest {
+
+    private static final int USUARIOS = 20;
+    private static final int LANCAMENTOS_POR_USUARIO = 1_000;
+    private static final LocalDate INICIO_MASSA = LocalDate.of(2020, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private OrcamentoMensalRepository orcamentoMensalRepository;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        limparBanco();
+
+        for (int u = 0; u < USUARIOS; u++) {
+            UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("usuario" + u));
+            CategoriaEntity despesas = categoriaRepository.save(new CategoriaEntity("Alimentacao", CategoriaType.DESPESAS, user));
+            CategoriaEntity receitas = categoriaRepository.save(new CategoriaEntity("Salario", CategoriaType.RECEITAS, user));
+
+            inserirLancamentos("despesas", "destino_pagamento", user.getUuid(), despesas.getUuid());
+            inserirLancamentos("receitas", "origem_do_pagamento", user.getUuid(), receitas.getUuid());
+
+            if (u == 0) {
+                userId = user.getUuid();
+            }
+        }
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBanco();
+    }
+
+    @Test
+    void filtroMensalDeDespesasDeveUsarIndiceComposto() {
+        String plano = explicar("SELECT SUM(valor) FROM despesas WHERE user_id = '" + userId + "' " +
+                "AND data >= DATE '2021-03-01' AND data < DATE '2021-04-01'");
+
+        assertTrue(plano.contains("IDX_DESPESAS_USER_DATA_VALOR"), plano);
+        assertTrue(plano.contains("DATA >="), plano); // O intervalo de datas faz parte da busca no índice
+    }
+
+    @Test
+    void filtroMensalDeReceitasDeveUsarIndiceComposto() {
+        String plano = explicar("SELECT SUM(valor) FROM receitas WHERE user_id = '" + userId + "' " +
+                "AND data >= DATE '2021-03-01' AND data < DATE '2021-04-01'");
+
+        assertTrue(plano.contains("IDX_RECEITAS_USER_DATA_VALOR"), plano);
+        assertTrue(plano.contains("DATA >="), plano);
+    }
+
+    //-------------------------------MÉTODOS AUXILIARES-------------------------------//
+
+    // Um lançamento por dia a partir de INICIO_MASSA, cobrindo primeiro e último dia de cada mês
+    private void inserirLancamentos(String tabela, String colunaOrigem, String userId, String categoriaId) {
+        List<Object[]> linhas = new ArrayList<>(LANCAMENTOS_POR_USUARIO);
+        for (int i = 0; i < LANCAMENTOS_POR_USUARIO; i++) {
+            linhas.add(new Object[]{UUID.randomUUID().toString(), Date.valueOf(INICIO_MASSA.plusDays(i)),
+                    categoriaId, BigDecimal.valueOf(10 + (i % 97)), "Origem", "Lançamento sintético", userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + tabela + " (uuid, data, categoria_id, valor, " + colunaOrigem +
+                ", observacoes, user_id) VALUES (?, ?, ?, ?, ?, ?, ?)", linhas);
+    }
+
+    private String explicar(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class))
+                .toUpperCase(Locale.ROOT);
+    }
+
+    private void limparBanco() {
+        orcamentoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
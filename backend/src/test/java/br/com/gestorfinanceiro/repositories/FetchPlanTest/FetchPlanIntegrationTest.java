@@ -0,0 +1,236 @@
+package br.com.gestorfinanceiro.repositories.FetchPlanTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
+import br.com.gestorfinanceiro.dto.orcamentomensal.OrcamentoMensalDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
+import br.com.gestorfinanceiro.mappers.Mapper;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.OrcamentoMensalEntity;
+import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.DespesaService;
+import br.com.gestorfinanceiro.services.OrcamentoMensalService;
+import br.com.gestorfinanceiro.services.ReceitaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que listar lançamentos e convertê-los em DTO executa um número constante de comandos SQL,
+ * independente da quantidade de linhas (sem N+1 ao ler categoria/usuário).
+ * A conversão roda dentro de uma transação, como no open-in-view das requisições: um acesso
+ * a associação LAZY fora do plano de busca vira um SELECT extra e é contado.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FetchPlanIntegrationTest {
+
+    private static final int LANCAMENTOS = 30;
+    private static final int CATEGORIAS = 10;
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private OrcamentoMensalRepository orcamentoMensalRepository;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private DespesaService despesaService;
+
+    @Autowired
+    private ReceitaService receitaService;
+
+    @Autowired
+    private OrcamentoMensalService orcamentoMensalService;
+
+    @Autowired
+    private Mapper<DespesaEntity, DespesaDTO> despesaMapper;
+
+    @Autowired
+    private Mapper<OrcamentoMensalEntity, OrcamentoMensalDTO> orcamentoMensalMapper;
+
+    private Statistics statistics;
+    private boolean estatisticasAtivas;
+    private TransactionTemplate transactionTemplate;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        limparBanco();
+
+        // Ligadas aqui e restauradas no fim, para não mudar o contexto compartilhado pelos outros testes
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticasAtivas = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("fetchplan"));
+        userId = user.getUuid();
+
+        for (int c = 0; c < CATEGORIAS; c++) {
+            CategoriaEntity despesas = categoriaRepository.save(new CategoriaEntity("Despesa " + c, CategoriaType.DESPESAS, user));
+            CategoriaEntity receitas = categoriaRepository.save(new CategoriaEntity("Receita " + c, CategoriaType.RECEITAS, user));
+
+            OrcamentoMensalEntity orcamento = new OrcamentoMensalEntity();
+            orcamento.setUser(user);
+            orcamento.setCategoria(despesas);
+            orcamento.setValorLimite(BigDecimal.valueOf(1000));
+            orcamento.setPeriodo(YearMonth.from(INICIO));
+            orcamentoMensalRepository.save(orcamento);
+
+            for (int i = 0; i < LANCAMENTOS / CATEGORIAS; i++) {
+                despesaRepository.save(novaDespesa(user, despesas, INICIO.plusDays(c * 3L + i)));
+                receitaRepository.save(novaReceita(user, receitas, INICIO.plusDays(c * 3L + i)));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(estatisticasAtivas);
+        limparBanco();
+    }
+
+    @Test
+    void listarDespesasComoDTONaoDeveCarregarEntidades() {
+        List<DespesaDTO> despesas = contarComandos(1, () -> despesaService.listarDespesasUsuarioPaginado(userId, null, LANCAMENTOS).itens());
+
+        assertEquals(LANCAMENTOS, despesas.size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(despesas.stream().allMatch(despesa -> despesa.getCategoria() != null));
+    }
+
+    @Test
+    void listarReceitasComoDTONaoDeveCarregarEntidades() {
+        List<ReceitaDTO> receitas = contarComandos(1, () -> receitaService.listarReceitasUsuarioPaginado(userId, null, LANCAMENTOS).itens());
+
+        assertEquals(LANCAMENTOS, receitas.size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(receitas.stream().allMatch(receita -> receita.getCategoria() != null));
+    }
+
+    @Test
+    void buscarPorIntervaloDeDatasDeveExecutarUmUnicoSelect() {
+        List<DespesaDTO> despesas = contarComandos(1, () -> despesaService
+                .buscarDespesasPorIntervaloDeDatasPaginado(userId, INICIO, INICIO.plusMonths(2), null, LANCAMENTOS)
+                .itens());
+
+        assertEquals(LANCAMENTOS, despesas.size());
+    }
+
+    @Test
+    void buscarPorIntervaloDeValoresDeveExecutarUmUnicoSelect() {
+        List<ReceitaDTO> receitas = contarComandos(1, () -> receitaService
+                .buscarReceitasPorIntervaloDeValoresPaginado(userId, BigDecimal.ONE, BigDecimal.valueOf(1000), null, LANCAMENTOS)
+                .itens());
+
+        assertEquals(LANCAMENTOS, receitas.size());
+    }
+
+    @Test
+    void listarOrcamentosDeveExecutarUmUnicoSelect() {
+        List<OrcamentoMensalDTO> orcamentos = contarComandos(1, () -> orcamentoMensalService
+                .listarTodosPorUsuario(userId)
+                .stream()
+                .map(orcamentoMensalMapper::mapTo)
+                .toList());
+
+        assertEquals(CATEGORIAS, orcamentos.size());
+    }
+
+    @Test
+    void buscarDespesaPorIdDeveTrazerCategoriaNoMesmoSelect() {
+        String uuid = despesaRepository.findAll().get(0).getUuid();
+
+        DespesaDTO despesa = contarComandos(1, () -> despesaMapper.mapTo(despesaService.buscarDespesaPorId(uuid)));
+
+        assertNotNull(despesa.getCategoria());
+    }
+
+    //-------------------------------MÉTODOS AUXILIARES-------------------------------//
+
+    private <T> T contarComandos(long maximo, Supplier<T> leitura) {
+        statistics.clear();
+
+        T resultado = transactionTemplate.execute(status -> leitura.get());
+
+        long comandos = statistics.getPrepareStatementCount();
+        assertTrue(comandos <= maximo, "Esperado no máximo " + maximo + " comando(s) SQL, mas foram " + comandos);
+        return resultado;
+    }
+
+    private DespesaEntity novaDespesa(UserEntity user, CategoriaEntity categoria, LocalDate data) {
+        DespesaEntity despesa = new DespesaEntity();
+        despesa.setUser(user);
+        despesa.setCategoria(categoria);
+        despesa.setData(data);
+        despesa.setValor(BigDecimal.valueOf(100));
+        despesa.setDestinoPagamento("Mercado");
+        despesa.setObservacoes("Lançamento de teste");
+        return despesa;
+    }
+
+    private ReceitaEntity novaReceita(UserEntity user, CategoriaEntity categoria, LocalDate data) {
+        ReceitaEntity receita = new ReceitaEntity();
+        receita.setUser(user);
+        receita.setCategoria(categoria);
+        receita.setData(data);
+        receita.setValor(BigDecimal.valueOf(100));
+        receita.setOrigemDoPagamento("Salario");
+        receita.setObservacoes("Lançamento de teste");
+        return receita;
+    }
+
+    private void limparBanco() {
+        resumoMensalRepository.deleteAllInBatch();
+        orcamentoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
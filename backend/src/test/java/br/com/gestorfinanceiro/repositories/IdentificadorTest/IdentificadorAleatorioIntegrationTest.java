@@ -0,0 +1,37 @@
+package br.com.gestorfinanceiro.repositories.IdentificadorTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sem identificadores.ordenados os ids continuam UUIDs aleatórios
+@SpringBootTest
+@ActiveProfiles("test")
+class IdentificadorAleatorioIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void deveGerarIdsVersao4PorPadrao() {
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("aleatorio"));
+
+        UUID id = UUID.fromString(user.getUuid());
+        assertEquals(4, id.version());
+        assertEquals(2, id.variant());
+    }
+}
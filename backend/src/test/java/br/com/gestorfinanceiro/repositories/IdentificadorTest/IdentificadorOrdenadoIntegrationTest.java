@@ -0,0 +1,83 @@
+package br.com.gestorfinanceiro.repositories.IdentificadorTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.utils.UuidUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "identificadores.ordenados=true")
+@ActiveProfiles("test")
+class IdentificadorOrdenadoIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @BeforeEach
+    void setUp() {
+        resumoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deveGerarIdsVersao7EmOrdemDeInsercao() {
+        long antes = System.currentTimeMillis();
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("identificador"));
+        CategoriaEntity categoria = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user));
+
+        List<DespesaEntity> despesas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            DespesaEntity despesa = new DespesaEntity();
+            despesa.setUser(user);
+            despesa.setCategoria(categoria);
+            despesa.setData(LocalDate.of(2025, 3, 1));
+            despesa.setValor(BigDecimal.TEN);
+            despesa.setDestinoPagamento("Mercado");
+            despesa.setObservacoes("Teste");
+            despesas.add(despesa);
+        }
+        List<String> ids = despesaRepository.saveAll(despesas).stream().map(DespesaEntity::getUuid).toList();
+
+        // Mesmo texto de 36 caracteres de antes, agora com a versão 7 e ordenável como string
+        UUID id = UUID.fromString(user.getUuid());
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(UuidUtils.instanteDe(id) >= antes);
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(100, ids.stream().distinct().count());
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.gestorfinanceiro.repositories.ReplicaLeituraTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.AuthenticatedUser;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.Roles;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dois bancos H2 independentes fazem o papel de primário (testdb) e réplica: o nome do banco
+ * que respondeu ao comando mostra para onde a conexão da transação foi roteada.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.janela-leitura-apos-escrita=PT1S"
+})
+@ActiveProfiles("test")
+class ReplicaLeituraIntegrationTest {
+
+    private static final String PRIMARIO = "TESTDB";
+    private static final String REPLICA = "REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void transacaoReadOnlyDeveIrParaReplica() {
+        assertEquals(REPLICA, bancoNaTransacao(true));
+    }
+
+    @Test
+    void escritaDeveIrParaPrimario() {
+        assertEquals(PRIMARIO, bancoNaTransacao(false));
+    }
+
+    @Test
+    void comandoForaDeTransacaoDeveIrParaPrimario() {
+        assertEquals(PRIMARIO, nomeDoBanco());
+    }
+
+    @Test
+    void leituraLogoAposEscritaDoMesmoUsuarioDeveFicarNoPrimario() {
+        autenticar(UUID.randomUUID().toString());
+        bancoNaTransacao(false);
+
+        assertEquals(PRIMARIO, bancoNaTransacao(true));
+
+        // Outro usuário não é afetado pela escrita
+        autenticar(UUID.randomUUID().toString());
+        assertEquals(REPLICA, bancoNaTransacao(true));
+    }
+
+    @Test
+    void leituraDeveVoltarParaReplicaQuandoAJanelaTerminar() throws InterruptedException {
+        autenticar(UUID.randomUUID().toString());
+        bancoNaTransacao(false);
+        assertEquals(PRIMARIO, bancoNaTransacao(true));
+
+        long limite = System.currentTimeMillis() + 5_000;
+        while (!REPLICA.equals(bancoNaTransacao(true)) && System.currentTimeMillis() < limite) {
+            Thread.sleep(100);
+        }
+
+        assertEquals(REPLICA, bancoNaTransacao(true));
+    }
+
+    @Test
+    void escritaDesfeitaNaoDevePrenderUsuarioAoPrimario() {
+        autenticar(UUID.randomUUID().toString());
+
+        TransactionTemplate escrita = new TransactionTemplate(transactionManager);
+        escrita.executeWithoutResult(status -> {
+            nomeDoBanco();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(REPLICA, bancoNaTransacao(true));
+    }
+
+    @Test
+    void buscaDeUsuarioSemAutenticacaoDeveIrParaPrimario() {
+        // A réplica de teste não tem as tabelas: a busca só encontra o usuário se for ao primário
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("replica"));
+        entityManagerFactory.getCache().evictAll();
+
+        assertTrue(userRepository.findByEmail(user.getEmail()).isPresent());
+
+        entityManagerFactory.getCache().evictAll();
+
+        assertTrue(userRepository.findByIdNoPrimario(user.getUuid()).isPresent());
+    }
+
+    //-------------------------------MÉTODOS AUXILIARES-------------------------------//
+
+    private String bancoNaTransacao(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> nomeDoBanco());
+    }
+
+    private String nomeDoBanco() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class).toUpperCase();
+    }
+
+    private void autenticar(String userId) {
+        AuthenticatedUser usuario = new AuthenticatedUser(userId, userId + "@gmail.com", Roles.USER, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.gestorfinanceiro.security.LoginRateLimiterTest;
+
+import br.com.gestorfinanceiro.config.security.LoginRateLimiter;
+import br.com.gestorfinanceiro.dto.admin.LimiteLoginEstatisticasDTO;
+import br.com.gestorfinanceiro.exceptions.user.LoginThrottledException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterUnitTest {
+
+    private static final String IP = "10.0.0.1";
+
+    // 2 tentativas por email e 3 por IP, sem recarga durante o teste
+    private final LoginRateLimiter limiter = new LoginRateLimiter(2, 0, 3, 0, 4, 100);
+
+    @Test
+    void devePermitirTentativasDentroDoLimite() {
+        assertDoesNotThrow(() -> limiter.verificar("jorge@gmail.com", IP));
+        assertDoesNotThrow(() -> limiter.verificar("jorge@gmail.com", IP));
+    }
+
+    @Test
+    void deveRejeitarEmailAcimaDoLimite() {
+        limiter.verificar("jorge@gmail.com", IP);
+        limiter.verificar("jorge@gmail.com", "10.0.0.2");
+
+        // Mesmo email vindo de outro IP continua bloqueado, inclusive com maiúsculas
+        assertThrows(LoginThrottledException.class, () -> limiter.verificar("Jorge@gmail.com", "10.0.0.3"));
+        assertEquals(1, limiter.estatisticas().getRejeitadosPorEmail());
+    }
+
+    @Test
+    void deveRejeitarIpAcimaDoLimite() {
+        limiter.verificar("a@gmail.com", IP);
+        limiter.verificar("b@gmail.com", IP);
+        limiter.verificar("c@gmail.com", IP);
+
+        assertThrows(LoginThrottledException.class, () -> limiter.verificar("d@gmail.com", IP));
+        assertEquals(1, limiter.estatisticas().getRejeitadosPorIp());
+    }
+
+    @Test
+    void naoDeveConsumirTentativasDoEmailQuandoOIpEstaBloqueado() {
+        limiter.verificar("a@gmail.com", IP);
+        limiter.verificar("b@gmail.com", IP);
+        limiter.verificar("c@gmail.com", IP);
+
+        assertThrows(LoginThrottledException.class, () -> limiter.verificar("jorge@gmail.com", IP));
+        assertThrows(LoginThrottledException.class, () -> limiter.verificar("jorge@gmail.com", IP));
+
+        // As duas tentativas do email continuam disponíveis a partir de outro IP
+        assertDoesNotThrow(() -> limiter.verificar("jorge@gmail.com", "10.0.0.2"));
+        assertDoesNotThrow(() -> limiter.verificar("jorge@gmail.com", "10.0.0.2"));
+        assertEquals(0, limiter.estatisticas().getRejeitadosPorEmail());
+        assertEquals(2, limiter.estatisticas().getRejeitadosPorIp());
+    }
+
+    @Test
+    void naoDeveConsumirTentativasDoIpQuandoOEmailEstaBloqueado() {
+        limiter.verificar("jorge@gmail.com", "10.0.0.2");
+        limiter.verificar("jorge@gmail.com", "10.0.0.3");
+
+        assertThrows(LoginThrottledException.class, () -> limiter.verificar("jorge@gmail.com", IP));
+
+        // O IP não perdeu nenhuma das 3 tentativas
+        assertDoesNotThrow(() -> limiter.verificar("a@gmail.com", IP));
+        assertDoesNotThrow(() -> limiter.verificar("b@gmail.com", IP));
+        assertDoesNotThrow(() -> limiter.verificar("c@gmail.com", IP));
+    }
+
+    @Test
+    void deveLimitarQuantidadeDeChavesEmMemoria() {
+        for (int i = 0; i < 1000; i++) {
+            limiter.verificar("usuario" + i + "@gmail.com", null);
+        }
+
+        LimiteLoginEstatisticasDTO estatisticas = limiter.estatisticas();
+        assertTrue(estatisticas.getEmailsMonitorados() <= 100);
+    }
+
+    @Test
+    void deveRecarregarTentativasComOTempo() throws InterruptedException {
+        // 600 tentativas por minuto = uma a cada 100ms, folga para as duas primeiras chamadas caírem no mesmo intervalo
+        LoginRateLimiter comRecarga = new LoginRateLimiter(1, 600, 10, 600, 4, 100);
+        comRecarga.verificar("jorge@gmail.com", IP);
+        assertThrows(LoginThrottledException.class, () -> comRecarga.verificar("jorge@gmail.com", IP));
+
+        Thread.sleep(150);
+
+        assertDoesNotThrow(() -> comRecarga.verificar("jorge@gmail.com", IP));
+    }
+}
@@ -1,10 +1,16 @@
 package br.com.gestorfinanceiro.services.AdminServiceTest;
 
 import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.LoginRateLimiter;
+import br.com.gestorfinanceiro.config.security.PasswordHasher;
+import br.com.gestorfinanceiro.config.security.PrincipalCache;
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
 import br.com.gestorfinanceiro.dto.user.UserAdminUpdateDTO;
 import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
 import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.Roles;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
 import br.com.gestorfinanceiro.services.impl.AdminServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +22,9 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +35,18 @@ class AdminServiceUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private ResumoMensalService resumoMensalService;
+
     //------------------TESTES DO LIST USERS ----------------------//
     @Test
     void deveListarUsers() {
@@ -71,6 +92,27 @@ class AdminServiceUnitTest {
 
         // verifica se o usuário foi atualizado
         assertFalse(userUpdated.getEstaAtivo());
+
+        // verifica se o principal em cache foi removido
+        verify(principalCache).evict(user.getUuid());
+    }
+
+    @Test
+    void naoDeveRemoverPrincipalDoCacheQuandoRoleEStatusNaoMudarem() {
+        UserEntity user = TestDataUtil.criarUsuarioEntityUtil("Usuario A", "123-456");
+        user.setEstaAtivo(true);
+        user.setRole(Roles.USER);
+
+        UserAdminUpdateDTO updateDTO = new UserAdminUpdateDTO();
+        updateDTO.setEstaAtivo(true);
+        updateDTO.setRole("USER");
+
+        when(userRepository.findById(user.getUuid())).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        adminService.atualizarUser(user.getUuid(), updateDTO);
+
+        verify(principalCache, never()).evict(anyString());
     }
 
     @Test
@@ -101,4 +143,16 @@ class AdminServiceUnitTest {
         // verifica se o metodo lança a exceção quando o usuário não é encontrado
         assertThrows(Exception.class, () -> adminService.atualizarUser("123-456", updateDTO));
     }
-}
\ No newline at end of file
+
+    //------------------TESTES DO RESUMO MENSAL ----------------------//
+    @Test
+    void deveDelegarVerificacaoEReparoDoResumoMensal() {
+        ConsistenciaResumoDTO verificacao = new ConsistenciaResumoDTO(3, 1, 0, List.of("DESPESAS/u/c/2025-01"));
+        ConsistenciaResumoDTO reparo = new ConsistenciaResumoDTO(3, 1, 1, List.of("DESPESAS/u/c/2025-01"));
+        when(resumoMensalService.verificarConsistencia()).thenReturn(verificacao);
+        when(resumoMensalService.reparar()).thenReturn(reparo);
+
+        assertSame(verificacao, adminService.verificarResumoMensal());
+        assertSame(reparo, adminService.repararResumoMensal());
+    }
+}
@@ -1,15 +1,22 @@
 package br.com.gestorfinanceiro.services.AuthServiceTest;
 
 import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.config.security.PasswordHasher;
 import br.com.gestorfinanceiro.exceptions.user.*;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.Roles;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.AuthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +36,24 @@ class AuthServiceUnitTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private OrcamentoMensalRepository orcamentoMensalRepository;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
     @Test
         //teste para ver sw o AuthService foi carregado
     void deveCarregarAuthService() {
@@ -38,7 +63,14 @@ class AuthServiceUnitTest {
     @BeforeEach
     @SuppressWarnings("unused")
     void setUp() {
-        userRepository.deleteAll(); // Limpa o banco antes de cada teste para evitar inconsistências
+        // Limpa o banco antes de cada teste para evitar inconsistências; o register cria as categorias
+        // padrão do usuário, então as tabelas que referenciam users saem antes
+        orcamentoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        resumoMensalRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
     }
 
     //-------------------TESTES DO METODO REGISTER-------------------//
@@ -141,6 +173,30 @@ class AuthServiceUnitTest {
         assertNotNull(thrown);
     }
 
+    @Test
+    void deveRefazerHashComCustoDiferenteAoFazerLogin() {
+        // Simula uma senha salva com um custo diferente do calibrado
+        UserEntity user = TestDataUtil.criarUsuarioEntityUtil(USER_NAME);
+        user.setPassword(new BCryptPasswordEncoder(passwordHasher.getStrength() + 1).encode(USER_PASSWORD));
+        userRepository.save(user);
+
+        authService.login(USER_EMAIL, USER_PASSWORD);
+
+        String hashSalvo = authService.findUserByEmail(USER_EMAIL).getPassword();
+        assertFalse(passwordHasher.precisaRehash(hashSalvo)); // O hash foi regravado com o custo atual
+        assertNotNull(authService.login(USER_EMAIL, USER_PASSWORD)); // E a senha continua válida
+    }
+
+    @Test
+    void naoDeveRefazerHashComCustoAtualAoFazerLogin() {
+        adicionarUsuario(USER_NAME);
+        String hashAntes = authService.findUserByEmail(USER_EMAIL).getPassword();
+
+        authService.login(USER_EMAIL, USER_PASSWORD);
+
+        assertEquals(hashAntes, authService.findUserByEmail(USER_EMAIL).getPassword());
+    }
+
     //---------------TESTES DO METODO FIND USER BY EMAIL----------------//
     @Test
     void deveEncontrarUsuarioPeloEmail() {
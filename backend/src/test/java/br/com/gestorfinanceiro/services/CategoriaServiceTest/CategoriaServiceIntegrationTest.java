@@ -3,22 +3,38 @@ package br.com.gestorfinanceiro.services.CategoriaServiceTest;
 import br.com.gestorfinanceiro.TestDataUtil;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaAlreadyExistsException;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaIdNotFoundException;
+import br.com.gestorfinanceiro.exceptions.categoria.ExclusaoCategoriaNotFoundException;
 import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
 import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
 import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.StatusExclusaoCategoria;
 import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.AuthService;
 import br.com.gestorfinanceiro.services.CategoriaService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,8 +55,22 @@ class CategoriaServiceIntegrationTest {
     @Autowired
     private CategoriaRepository categoriaRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
     @BeforeEach
     void setUp() {
+        resumoMensalRepository.deleteAll();
+        despesaRepository.deleteAll();
         categoriaRepository.deleteAll();
         userRepository.deleteAll();
     }
@@ -141,7 +171,7 @@ class CategoriaServiceIntegrationTest {
         assertEquals("Categoria A", categoriaRetornada.getNome());
         assertEquals("DESPESAS", categoriaRetornada.getTipo()
                 .name());
-        assertEquals(user, categoriaRetornada.getUser());
+        assertEquals(user.getUuid(), categoriaRetornada.getUser().getUuid());
     }
 
     @Test
@@ -168,7 +198,7 @@ class CategoriaServiceIntegrationTest {
         assertEquals("Categoria B", categoriaAtualizada.getNome());
         assertEquals("DESPESAS", categoriaAtualizada.getTipo()
                 .name());
-        assertEquals(user, categoriaAtualizada.getUser());
+        assertEquals(user.getUuid(), categoriaAtualizada.getUser().getUuid());
     }
 
     @Test
@@ -245,12 +275,157 @@ class CategoriaServiceIntegrationTest {
                 () -> categoriaService.excluirCategoria(categoria.getUuid(), user.getUuid()));
     }
 
+    @Test
+    void deveReatribuirLancamentosSemCarregarAsDespesas() {
+        UserEntity user = adicionarUsuario("Usuario A");
+        CategoriaEntity categoria = adicionarCategoria("Mercado", "DESPESAS", user.getUuid());
+        for (int i = 1; i <= 3; i++) {
+            despesaRepository.save(novaDespesa(user, categoria, LocalDate.of(2025, 3, i)));
+        }
+        // Despesas gravadas direto no repositório: o resumo parte consistente, como se viessem dos services
+        resumoMensalService.reconstruir(user.getUuid());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean estatisticasAtivas = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            categoriaService.excluirCategoria(categoria.getUuid(), user.getUuid());
+
+            // Um UPDATE em massa no lugar de carregar e salvar cada despesa
+            assertEquals(0, statistics.getEntityStatistics(DespesaEntity.class.getName()).getLoadCount());
+            assertEquals(0, statistics.getEntityUpdateCount());
+        } finally {
+            statistics.setStatisticsEnabled(estatisticasAtivas);
+        }
+
+        CategoriaEntity semCategoria = categoriaRepository
+                .findByIsSemCategoriaAndTipoAndUserUuid(true, CategoriaType.DESPESAS, user.getUuid())
+                .orElseThrow();
+        assertTrue(despesaRepository.findAllByUserUuid(user.getUuid()).stream()
+                .allMatch(despesa -> despesa.getCategoria().getUuid().equals(semCategoria.getUuid())));
+        assertTrue(resumoMensalService.verificar(user.getUuid()).isEmpty());
+    }
+
+    @Test
+    void deveSomarOsResumosDaCategoriaExcluidaAosDaSemCategoria() {
+        UserEntity user = adicionarUsuario("Usuario A");
+        CategoriaEntity categoria = adicionarCategoria("Mercado", "DESPESAS", user.getUuid());
+        CategoriaEntity semCategoria = categoriaRepository
+                .findByIsSemCategoriaAndTipoAndUserUuid(true, CategoriaType.DESPESAS, user.getUuid())
+                .orElseGet(() -> categoriaService.criarSemCategoria(user.getUuid(), "DESPESAS"));
+        despesaRepository.save(novaDespesa(user, categoria, LocalDate.of(2025, 3, 1)));
+        despesaRepository.save(novaDespesa(user, categoria, LocalDate.of(2025, 4, 1)));
+        despesaRepository.save(novaDespesa(user, semCategoria, LocalDate.of(2025, 3, 20)));
+        resumoMensalService.reconstruir(user.getUuid());
+
+        categoriaService.excluirCategoria(categoria.getUuid(), user.getUuid());
+
+        ResumoMensalEntity marco = resumoMensalRepository.findById(new ResumoMensalId(user.getUuid(),
+                semCategoria.getUuid(), YearMonth.of(2025, 3), CategoriaType.DESPESAS)).orElseThrow();
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(marco.getTotal()));
+        assertEquals(2, marco.getQuantidade());
+        assertTrue(resumoMensalRepository.findAllByIdUserId(user.getUuid()).stream()
+                .noneMatch(resumo -> resumo.getId().getCategoriaId().equals(categoria.getUuid())));
+        assertTrue(resumoMensalService.verificar(user.getUuid()).isEmpty());
+    }
+
+    @Test
+    void deveExcluirCategoriaEmSegundoPlano() throws InterruptedException {
+        UserEntity user = adicionarUsuario("Usuario A");
+        CategoriaEntity categoria = adicionarCategoria("Mercado", "DESPESAS", user.getUuid());
+        despesaRepository.save(novaDespesa(user, categoria, LocalDate.of(2025, 3, 1)));
+        despesaRepository.save(novaDespesa(user, categoria, LocalDate.of(2025, 4, 1)));
+        resumoMensalService.reconstruir(user.getUuid());
+
+        ExclusaoCategoriaDTO exclusao = aguardarExclusao(
+                categoriaService.excluirCategoriaEmSegundoPlano(categoria.getUuid(), user.getUuid()), user.getUuid());
+
+        assertEquals(StatusExclusaoCategoria.CONCLUIDA, exclusao.getStatus());
+        assertEquals(2, exclusao.getLancamentosReatribuidos());
+        assertFalse(categoriaRepository.findById(categoria.getUuid()).isPresent());
+        assertTrue(resumoMensalService.verificar(user.getUuid()).isEmpty());
+    }
+
+    @Test
+    void naoDeveMostrarExclusaoDeOutroUsuario() throws InterruptedException {
+        UserEntity user = adicionarUsuario("Usuario A");
+        CategoriaEntity categoria = adicionarCategoria("Mercado", "DESPESAS", user.getUuid());
+
+        ExclusaoCategoriaDTO exclusao = aguardarExclusao(
+                categoriaService.excluirCategoriaEmSegundoPlano(categoria.getUuid(), user.getUuid()), user.getUuid());
+
+        assertThrows(ExclusaoCategoriaNotFoundException.class,
+                () -> categoriaService.consultarExclusao(exclusao.getUuid(), "outro-usuario"));
+    }
+
+    //------------------TESTES DO criarCategoriasPadrao ----------------------//
+    @Test
+    void deveCriarCategoriasPadrao() {
+        UserEntity user = adicionarUsuario("Usuario A");
+
+        categoriaService.criarCategoriasPadrao(user.getUuid());
+
+        // 4 de despesas + 5 de receitas + "Sem Categoria" de cada tipo
+        assertEquals(11, categoriaRepository.findAllByUserUuid(user.getUuid()).size());
+        assertTrue(categoriaRepository.findByIsSemCategoriaAndTipoAndUserUuid(true, CategoriaType.DESPESAS, user.getUuid()).isPresent());
+        assertTrue(categoriaRepository.findByIsSemCategoriaAndTipoAndUserUuid(true, CategoriaType.RECEITAS, user.getUuid()).isPresent());
+    }
+
+    @Test
+    void deveCriarCategoriasPadraoComPoucosStatements() {
+        UserEntity user = adicionarUsuario("Usuario A");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean estatisticasAtivas = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            categoriaService.criarCategoriasPadrao(user.getUuid());
+
+            // Sem SELECT do usuário nem checagem de duplicidade: apenas o batch de INSERTs
+            assertEquals(11, statistics.getEntityInsertCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertTrue(statistics.getPrepareStatementCount() <= 2,
+                    "Statements executados: " + statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(estatisticasAtivas);
+        }
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoUserIdForVazioAoCriarCategoriasPadrao() {
+        assertThrows(InvalidDataException.class, () -> categoriaService.criarCategoriasPadrao(""));
+    }
+
     //-------------------------------MÉTODOS AUXILIARES-------------------------------//
     public CategoriaEntity adicionarCategoria(String nome, String tipo, String userId) {
         CategoriaCreateDTO categoriaDto = TestDataUtil.criarCategoriaCreateDTOUtil(nome, tipo);
         return categoriaService.criarCategoria(categoriaDto, userId);
     }
 
+    // Espera a tarefa terminar para que o próximo teste não limpe o banco com ela em andamento
+    private ExclusaoCategoriaDTO aguardarExclusao(ExclusaoCategoriaDTO exclusao, String userId) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (exclusao.getStatus() != StatusExclusaoCategoria.CONCLUIDA
+                && exclusao.getStatus() != StatusExclusaoCategoria.FALHOU
+                && System.currentTimeMillis() < limite) {
+            Thread.sleep(50);
+            exclusao = categoriaService.consultarExclusao(exclusao.getUuid(), userId);
+        }
+        return exclusao;
+    }
+
+    private DespesaEntity novaDespesa(UserEntity user, CategoriaEntity categoria, LocalDate data) {
+        DespesaEntity despesa = new DespesaEntity();
+        despesa.setUser(user);
+        despesa.setCategoria(categoria);
+        despesa.setData(data);
+        despesa.setValor(BigDecimal.valueOf(100));
+        despesa.setDestinoPagamento("Mercado");
+        despesa.setObservacoes("Teste");
+        return despesa;
+    }
+
     public UserEntity adicionarUsuario(String nome) {
         UserEntity user = TestDataUtil.criarUsuarioEntityUtil(nome);
 
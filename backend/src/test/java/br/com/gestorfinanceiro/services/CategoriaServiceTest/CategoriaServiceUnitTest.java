@@ -3,16 +3,21 @@ package br.com.gestorfinanceiro.services.CategoriaServiceTest;
 import br.com.gestorfinanceiro.TestDataUtil;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
 import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.dto.categoria.ExclusaoCategoriaDTO;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaAlreadyExistsException;
 import br.com.gestorfinanceiro.exceptions.categoria.CategoriaIdNotFoundException;
 import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
 import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.CategoriaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.StatusExclusaoCategoria;
 import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
 import br.com.gestorfinanceiro.services.impl.CategoriaServiceImpl;
+import br.com.gestorfinanceiro.services.impl.ExclusaoCategoriaJobs;
+import br.com.gestorfinanceiro.services.impl.IndiceCategorias;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,7 +27,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -44,6 +48,15 @@ class CategoriaServiceUnitTest {
     @Mock
     private CategoriaRepository categoriaRepository;
 
+    @Mock
+    private IndiceCategorias indiceCategorias;
+
+    @Mock
+    private ResumoMensalService resumoMensalService;
+
+    @Mock
+    private ExclusaoCategoriaJobs exclusaoCategoriaJobs;
+
     //------------------TESTES DO criarCategoria ----------------------//
     @Test
     void deveCriarCategoria() {
@@ -211,7 +224,8 @@ class CategoriaServiceUnitTest {
 
         when(userRepository.findById(user.getUuid())).thenReturn(Optional.of(user));
         when(categoriaRepository.findById(categoria.getUuid())).thenReturn(Optional.of(categoria));
-        when(despesaRepository.findAllByCategoria(categoria)).thenReturn(Collections.emptyList());
+        when(categoriaRepository.save(any(CategoriaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(despesaRepository.reatribuirCategoria(eq(categoria), any())).thenReturn(0);
         doNothing().when(categoriaRepository)
                 .delete(categoria);
 
@@ -219,8 +233,10 @@ class CategoriaServiceUnitTest {
 
         verify(userRepository).findById(user.getUuid());
         verify(categoriaRepository).findById(categoria.getUuid());
-        verify(despesaRepository).findAllByCategoria(categoria);
+        verify(despesaRepository).reatribuirCategoria(eq(categoria), any());
         verify(categoriaRepository).delete(categoria);
+        verify(resumoMensalService).moverCategoria(eq(user.getUuid()), eq(categoria.getUuid()), any());
+        verify(resumoMensalService, never()).reconstruir(any());
     }
 
     @Test
@@ -253,4 +269,34 @@ class CategoriaServiceUnitTest {
         assertThrows(br.com.gestorfinanceiro.exceptions.categoria.CategoriaOperationException.class,
                 () -> categoriaService.excluirCategoria(categoria.getUuid(), "123-456"));
     }
+
+    @Test
+    void deveAgendarExclusaoEmSegundoPlanoAposValidar() {
+        UserEntity user = TestDataUtil.criarUsuarioEntityUtil("Usuario A", "123-456");
+        CategoriaEntity categoria = TestDataUtil.criarCategoriaEntityComUserUtil("Categoria A", "DESPESAS", user);
+        ExclusaoCategoriaDTO pendente = new ExclusaoCategoriaDTO("exclusao-1", categoria.getUuid(),
+                StatusExclusaoCategoria.PENDENTE, null, null);
+
+        when(categoriaRepository.findById(categoria.getUuid())).thenReturn(Optional.of(categoria));
+        when(exclusaoCategoriaJobs.agendar(eq(user.getUuid()), eq(categoria.getUuid()), any())).thenReturn(pendente);
+
+        ExclusaoCategoriaDTO exclusao = categoriaService.excluirCategoriaEmSegundoPlano(categoria.getUuid(), user.getUuid());
+
+        assertEquals(StatusExclusaoCategoria.PENDENTE, exclusao.getStatus());
+        // A reatribuição só acontece na tarefa agendada
+        verifyNoInteractions(despesaRepository, resumoMensalService);
+    }
+
+    @Test
+    void naoDeveAgendarExclusaoDaSemCategoria() {
+        UserEntity user = TestDataUtil.criarUsuarioEntityUtil("Usuario A", "123-456");
+        CategoriaEntity categoria = TestDataUtil.criarCategoriaEntityComUserUtil("Sem categoria", "DESPESAS", user);
+        categoria.setSemCategoria(true);
+
+        when(categoriaRepository.findById(categoria.getUuid())).thenReturn(Optional.of(categoria));
+
+        assertThrows(br.com.gestorfinanceiro.exceptions.categoria.CategoriaOperationException.class,
+                () -> categoriaService.excluirCategoriaEmSegundoPlano(categoria.getUuid(), "123-456"));
+        verifyNoInteractions(exclusaoCategoriaJobs);
+    }
 }
@@ -0,0 +1,164 @@
+package br.com.gestorfinanceiro.services.CategoriaServiceTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.dto.categoria.CategoriaCreateDTO;
+import br.com.gestorfinanceiro.dto.categoria.CategoriaUpdateDTO;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.CategoriaService;
+import br.com.gestorfinanceiro.services.impl.IndiceCategorias;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IndiceCategoriasIntegrationTest {
+
+    @Autowired
+    private IndiceCategorias indiceCategorias;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private OrcamentoMensalRepository orcamentoMensalRepository;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        resumoMensalRepository.deleteAllInBatch();
+        orcamentoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("indice"));
+    }
+
+    @Test
+    void deveResolverCategoriaSemConsultaAposCarregarOIndice() {
+        CategoriaEntity mercado = categoriaService.criarCategoria(new CategoriaCreateDTO("Mercado", "DESPESAS"), user.getUuid());
+        indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").orElseThrow();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean estatisticasAtivas = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            CategoriaEntity encontrada = indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").orElseThrow();
+
+            assertEquals(mercado.getUuid(), encontrada.getUuid());
+            assertEquals(0, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(estatisticasAtivas);
+        }
+    }
+
+    @Test
+    void naoDeveConfundirTiposComOMesmoNome() {
+        categoriaService.criarCategoria(new CategoriaCreateDTO("Outros", "DESPESAS"), user.getUuid());
+        CategoriaEntity receita = categoriaService.criarCategoria(new CategoriaCreateDTO("Outros", "RECEITAS"), user.getUuid());
+
+        assertEquals(receita.getUuid(),
+                indiceCategorias.buscar(user.getUuid(), CategoriaType.RECEITAS, "Outros").orElseThrow().getUuid());
+        assertTrue(indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Lazer").isEmpty());
+    }
+
+    @Test
+    void deveRefletirRenomeacaoPeloService() {
+        CategoriaEntity categoria = categoriaService.criarCategoria(new CategoriaCreateDTO("Mercado", "DESPESAS"), user.getUuid());
+        indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").orElseThrow();
+
+        categoriaService.atualizarCategoria(categoria.getUuid(), new CategoriaUpdateDTO("Supermercado"), user.getUuid());
+
+        assertTrue(indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").isEmpty());
+        assertEquals(categoria.getUuid(),
+                indiceCategorias.buscarPorNome(user.getUuid(), "Supermercado").orElseThrow().getUuid());
+    }
+
+    @Test
+    void deveRefletirExclusaoPeloService() {
+        categoriaService.criarSemCategoria(user.getUuid(), "DESPESAS");
+        CategoriaEntity categoria = categoriaService.criarCategoria(new CategoriaCreateDTO("Mercado", "DESPESAS"), user.getUuid());
+        indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").orElseThrow();
+
+        categoriaService.excluirCategoria(categoria.getUuid(), user.getUuid());
+
+        assertTrue(indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").isEmpty());
+    }
+
+    @Test
+    void deveConferirOIndiceQuandoCategoriasMudamForaDoService() {
+        CategoriaEntity antiga = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user));
+        indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").orElseThrow();
+
+        // Excluída e recriada direto no repositório: o id no índice não existe mais
+        categoriaRepository.delete(antiga);
+        CategoriaEntity nova = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user));
+        CategoriaEntity lazer = categoriaRepository.save(new CategoriaEntity("Lazer", CategoriaType.DESPESAS, user));
+
+        assertEquals(nova.getUuid(),
+                indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").orElseThrow().getUuid());
+        assertEquals(lazer.getUuid(),
+                indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Lazer").orElseThrow().getUuid());
+    }
+
+    @Test
+    void naoDeveGuardarOEstadoLidoPorOutraRequisicaoAntesDoCommit() {
+        CategoriaEntity categoria = categoriaService.criarCategoria(new CategoriaCreateDTO("Mercado", "DESPESAS"), user.getUuid());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoriaService.atualizarCategoria(categoria.getUuid(), new CategoriaUpdateDTO("Supermercado"), user.getUuid());
+
+            // Outra requisição, antes do commit, ainda vê o nome antigo e carrega o índice com ele
+            assertTrue(CompletableFuture.supplyAsync(() ->
+                    indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado")).join().isPresent());
+        });
+
+        assertTrue(indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Mercado").isEmpty());
+        assertEquals(categoria.getUuid(),
+                indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, "Supermercado").orElseThrow().getUuid());
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.gestorfinanceiro.services.DashboardServiceTest;
 
+import br.com.gestorfinanceiro.dto.dashboard.DashboardResumoDTO;
 import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
 import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.*;
@@ -10,6 +11,7 @@ import br.com.gestorfinanceiro.repositories.DespesaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
 import br.com.gestorfinanceiro.services.DashboardService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -54,6 +56,9 @@ class DashboardServiceIntegrationTest {
     @Autowired
     CategoriaRepository categoriaRepository;
 
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
     private String userId;
 
     @BeforeEach
@@ -129,6 +134,7 @@ class DashboardServiceIntegrationTest {
             receitaExtra.setObservacoes("Bônus do mês");
             receitaExtra.setCategoria(categoriaRepository.findByNome(CATEGORIA_RECEITA_PADRAO).get());
             receitaRepository.save(receitaExtra);
+            resumoMensalService.reconstruir(userId);
 
             // Act
             BigDecimal saldo = dashboardService.getSaldoTotal(userId, PERIODO_PADRAO);
@@ -234,6 +240,7 @@ class DashboardServiceIntegrationTest {
         void deveRetornarZeroQuandoNaoHaDespesas() {
             // Arrange
             despesaRepository.deleteAll();
+            resumoMensalService.reconstruir(userId);
 
             // Act
             BigDecimal total = dashboardService.calcularTotalDespesasNoMes(userId, PERIODO_PADRAO);
@@ -259,6 +266,7 @@ class DashboardServiceIntegrationTest {
         void deveRetornarZeroQuandoNaoHaReceitas() {
             // Arrange
             receitaRepository.deleteAll();
+            resumoMensalService.reconstruir(userId);
 
             // Act
             BigDecimal total = dashboardService.calcularTotalReceitasNoMes(userId, PERIODO_PADRAO);
@@ -268,6 +276,52 @@ class DashboardServiceIntegrationTest {
         }
     }
 
+    @Nested
+    class Resumo {
+        @Test
+        void deveRetornarOsMesmosValoresDosEndpointsIndividuais() {
+            // Act
+            DashboardResumoDTO resumo = dashboardService.getResumo(userId, PERIODO_PADRAO);
+
+            // Assert
+            assertEquals(PERIODO_PADRAO, resumo.getPeriodo());
+            assertEquals(0, dashboardService.getSaldoTotal(userId, PERIODO_PADRAO).compareTo(resumo.getSaldoTotal()));
+            assertEquals(0, dashboardService.calcularTotalDespesasNoMes(userId, PERIODO_PADRAO).compareTo(resumo.getDespesaTotal()));
+            assertEquals(0, dashboardService.calcularTotalReceitasNoMes(userId, PERIODO_PADRAO).compareTo(resumo.getReceitaTotal()));
+
+            DespesaEntity maiorDespesa = dashboardService.getMaiorDespesa(userId, PERIODO_PADRAO);
+            assertEquals(maiorDespesa.getUuid(), resumo.getMaiorDespesa().getUuid());
+            assertEquals(0, VALOR_ALTO.compareTo(resumo.getMaiorDespesa().getValor()));
+            assertEquals(DESTINO_DESPESA_PADRAO, resumo.getMaiorDespesa().getDestinoPagamento());
+            assertEquals(CATEGORIA_DESPESA_PADRAO, resumo.getMaiorDespesa().getCategoria());
+
+            ReceitaEntity maiorReceita = dashboardService.getMaiorReceita(userId, PERIODO_PADRAO);
+            assertEquals(maiorReceita.getUuid(), resumo.getMaiorReceita().getUuid());
+            assertEquals(PERIODO_PADRAO.atDay(20), resumo.getMaiorReceita().getData());
+            assertEquals(ORIGEM_RECEITA_PADRAO, resumo.getMaiorReceita().getOrigemDoPagamento());
+
+            Map<String, BigDecimal> categoriaDespesa = resumo.getCategoriaMaiorDespesa();
+            assertEquals(0, VALOR_PADRAO.add(VALOR_ALTO).compareTo(categoriaDespesa.get(CATEGORIA_DESPESA_PADRAO)));
+            Map<String, BigDecimal> categoriaReceita = resumo.getCategoriaMaiorReceita();
+            assertEquals(0, VALOR_PADRAO.add(VALOR_ALTO).compareTo(categoriaReceita.get(CATEGORIA_RECEITA_PADRAO)));
+        }
+
+        @Test
+        void deveRetornarResumoZeradoQuandoNaoHaLancamentos() {
+            // Act
+            DashboardResumoDTO resumo = dashboardService.getResumo(userId, PERIODO_PADRAO.plusMonths(1));
+
+            // Assert
+            assertEquals(0, BigDecimal.ZERO.compareTo(resumo.getSaldoTotal()));
+            assertEquals(0, BigDecimal.ZERO.compareTo(resumo.getDespesaTotal()));
+            assertEquals(0, BigDecimal.ZERO.compareTo(resumo.getReceitaTotal()));
+            assertNull(resumo.getMaiorDespesa());
+            assertNull(resumo.getMaiorReceita());
+            assertTrue(resumo.getCategoriaMaiorDespesa().isEmpty());
+            assertTrue(resumo.getCategoriaMaiorReceita().isEmpty());
+        }
+    }
+
     // Métodos auxiliares
 
     private UserEntity criarUsuarioTest() {
@@ -331,5 +385,8 @@ class DashboardServiceIntegrationTest {
 
         receitaRepository.save(receita1);
         receitaRepository.save(receita2);
+
+        // Dados gravados direto nos repositórios não passam pelo resumo mensal
+        resumoMensalService.reconstruir(user.getUuid());
     }
 }
\ No newline at end of file
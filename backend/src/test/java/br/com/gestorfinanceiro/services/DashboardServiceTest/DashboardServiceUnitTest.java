@@ -1,13 +1,17 @@
 package br.com.gestorfinanceiro.services.DashboardServiceTest;
 
+import br.com.gestorfinanceiro.dto.dashboard.DashboardResumoDTO;
 import br.com.gestorfinanceiro.exceptions.dashboard.DashboardOperationException;
 import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
 import br.com.gestorfinanceiro.exceptions.user.UserNotFoundException;
 import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.repositories.custom.DashboardRepositoryCustom;
 import br.com.gestorfinanceiro.services.impl.DashboardServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -45,6 +49,12 @@ class DashboardServiceUnitTest {
     @Mock
     private ReceitaRepository receitaRepository;
 
+    @Mock
+    private DashboardRepositoryCustom dashboardRepository;
+
+    @Mock
+    private ResumoMensalRepository resumoMensalRepository;
+
     @Nested
     class ValidacoesBasicas {
         @Test
@@ -85,7 +95,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveLancarDashboardOperationExceptionQuandoFalhaAoCalcularSaldoTotal() {
-            when(receitaRepository.sumReceitasByUserIdAndYearMonth(anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.RECEITAS), any(YearMonth.class)))
                     .thenThrow(new RuntimeException("Erro de conexão com o banco"));
 
             Exception exception = assertThrows(DashboardOperationException.class, () ->
@@ -119,7 +129,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveLancarDashboardOperationExceptionQuandoFalhaAoBuscarCategoriaMaiorDespesa() {
-            when(despesaRepository.findCategoriaWithHighestDespesaByUserIdAndYearMonth(anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.findCategoriaWithHighestTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.DESPESAS), any(YearMonth.class)))
                     .thenThrow(new RuntimeException("Falha na consulta"));
 
             Exception exception = assertThrows(DashboardOperationException.class, () ->
@@ -130,7 +140,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveLancarDashboardOperationExceptionQuandoFalhaAoCalcularTotalDespesas() {
-            when(despesaRepository.sumDespesasByUserIdAndYearMonth(anyString(), any(YearMonth.class)))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.DESPESAS), any(YearMonth.class)))
                     .thenThrow(new RuntimeException("Erro no repositório"));
 
             Exception exception = assertThrows(DashboardOperationException.class, () ->
@@ -141,7 +151,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveLancarDashboardOperationExceptionQuandoFalhaAoCalcularTotalReceitas() {
-            when(receitaRepository.sumReceitasByUserIdAndYearMonth(anyString(), any(YearMonth.class)))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.RECEITAS), any(YearMonth.class)))
                     .thenThrow(new RuntimeException("Erro de persistência"));
 
             Exception exception = assertThrows(DashboardOperationException.class, () ->
@@ -169,9 +179,9 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveRetornarSaldoTotalCorretamente() {
-            when(receitaRepository.sumReceitasByUserIdAndYearMonth(anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.RECEITAS), any(YearMonth.class)))
                     .thenReturn(VALOR);
-            when(despesaRepository.sumDespesasByUserIdAndYearMonth(anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.DESPESAS), any(YearMonth.class)))
                     .thenReturn(VALOR);
 
             BigDecimal resultado = dashboardService.getSaldoTotal(USER_ID, PERIODO);
@@ -201,7 +211,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveRetornarCategoriaComMaiorDespesaCorretamente() {
-            when(despesaRepository.findCategoriaWithHighestDespesaByUserIdAndYearMonth(anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.findCategoriaWithHighestTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.DESPESAS), any(YearMonth.class)))
                     .thenReturn(Map.of("Alimentação", VALOR));
 
             Map<String, BigDecimal> resultado = dashboardService.getCategoriaComMaiorDespesa(USER_ID, PERIODO);
@@ -213,7 +223,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveRetornarTotalDespesasCorretamente() {
-            when(despesaRepository.sumDespesasByUserIdAndYearMonth(anyString(), any(YearMonth.class)))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.DESPESAS), any(YearMonth.class)))
                     .thenReturn(VALOR);
 
             BigDecimal resultado = dashboardService.calcularTotalDespesasNoMes(USER_ID, PERIODO);
@@ -223,7 +233,7 @@ class DashboardServiceUnitTest {
 
         @Test
         void deveRetornarTotalReceitasCorretamente() {
-            when(receitaRepository.sumReceitasByUserIdAndYearMonth(anyString(), any(YearMonth.class)))
+            when(resumoMensalRepository.sumTotalByUserIdAndYearMonth(anyString(), eq(CategoriaType.RECEITAS), any(YearMonth.class)))
                     .thenReturn(VALOR);
 
             BigDecimal resultado = dashboardService.calcularTotalReceitasNoMes(USER_ID, PERIODO);
@@ -242,8 +252,8 @@ class DashboardServiceUnitTest {
         @Test
         void deveLancarDashboardOperationExceptionQuandoFalhaAoBuscarCategoriaMaiorReceita() {
             // Arrange
-            when(receitaRepository.findCategoriaWithHighestReceitaByUserIdAndYearMonth(
-                    anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.findCategoriaWithHighestTotalByUserIdAndYearMonth(
+                    anyString(), eq(CategoriaType.RECEITAS), any(YearMonth.class)))
                     .thenThrow(new RuntimeException("Erro na consulta SQL"));
 
             // Act & Assert
@@ -263,8 +273,8 @@ class DashboardServiceUnitTest {
         void deveRetornarMapaComCategoriaMaiorReceita() {
             // Arrange
             Map<String, BigDecimal> resultadoEsperado = Map.of("Salário", BigDecimal.valueOf(5000));
-            when(receitaRepository.findCategoriaWithHighestReceitaByUserIdAndYearMonth(
-                    anyString(), anyInt(), anyInt()))
+            when(resumoMensalRepository.findCategoriaWithHighestTotalByUserIdAndYearMonth(
+                    anyString(), eq(CategoriaType.RECEITAS), any(YearMonth.class)))
                     .thenReturn(resultadoEsperado);
 
             // Act
@@ -277,4 +287,42 @@ class DashboardServiceUnitTest {
             assertEquals(BigDecimal.valueOf(5000), resultado.get("Salário"));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class TestesResumo {
+        @Test
+        void deveRetornarResumoDoRepositorioSemConsultarUsuario() {
+            // Arrange
+            DashboardResumoDTO resumoEsperado = new DashboardResumoDTO(PERIODO);
+            resumoEsperado.setDespesaTotal(VALOR);
+            when(dashboardRepository.findResumoByUserIdAndYearMonth(USER_ID, PERIODO)).thenReturn(resumoEsperado);
+
+            // Act
+            DashboardResumoDTO resultado = dashboardService.getResumo(USER_ID, PERIODO);
+
+            // Assert
+            assertSame(resumoEsperado, resultado);
+            verifyNoInteractions(userRepository, despesaRepository, receitaRepository, resumoMensalRepository);
+        }
+
+        @Test
+        void deveLancarInvalidUserIdExceptionQuandoUserIdVazio() {
+            assertThrows(InvalidUserIdException.class, () ->
+                    dashboardService.getResumo(" ", PERIODO));
+        }
+
+        @Test
+        void deveLancarDashboardOperationExceptionQuandoFalhaAoMontarResumo() {
+            // Arrange
+            when(dashboardRepository.findResumoByUserIdAndYearMonth(USER_ID, PERIODO))
+                    .thenThrow(new RuntimeException("Erro na consulta SQL"));
+
+            // Act & Assert
+            Exception exception = assertThrows(DashboardOperationException.class, () ->
+                    dashboardService.getResumo(USER_ID, PERIODO));
+
+            assertEquals("Erro ao montar resumo do dashboard. Por favor, tente novamente.", exception.getMessage());
+            assertEquals("Erro na consulta SQL", exception.getCause().getMessage());
+        }
+    }
+}
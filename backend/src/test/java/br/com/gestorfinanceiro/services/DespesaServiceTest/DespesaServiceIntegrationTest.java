@@ -1,6 +1,8 @@
 package br.com.gestorfinanceiro.services.DespesaServiceTest;
 
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
@@ -27,6 +29,8 @@ import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -168,7 +172,7 @@ class DespesaServiceIntegrationTest {
         void deveListarDespesasUsuario() {
             despesaService.criarDespesa(criarDespesaCreateDTO(), userId);
 
-            List<DespesaEntity> despesas = despesaService.listarDespesasUsuario(userId);
+            List<DespesaDTO> despesas = despesaService.listarDespesasUsuarioPaginado(userId, null, null).itens();
 
             assertFalse(despesas.isEmpty());
         }
@@ -176,9 +180,9 @@ class DespesaServiceIntegrationTest {
         @Test
         void erroAoListarDespesasUsuarioComIdNuloOuVazio() {
             assertThrows(InvalidUserIdException.class,
-                    () -> despesaService.listarDespesasUsuario(null));
+                    () -> despesaService.listarDespesasUsuarioPaginado(null, null, null));
             assertThrows(InvalidUserIdException.class,
-                    () -> despesaService.listarDespesasUsuario(""));
+                    () -> despesaService.listarDespesasUsuarioPaginado("", null, null));
         }
 
         @Test
@@ -186,7 +190,7 @@ class DespesaServiceIntegrationTest {
 
             String usuarioInexistente = "qualquer-id";
             assertThrows(DespesaNotFoundException.class,
-                    () -> despesaService.listarDespesasUsuario(usuarioInexistente));
+                    () -> despesaService.listarDespesasUsuarioPaginado(usuarioInexistente, null, null));
         }
     }
 
@@ -429,8 +433,8 @@ class DespesaServiceIntegrationTest {
             criarDespesaComValorEData(user, BigDecimal.valueOf(200), DATA_15_FEV_2024);
             criarDespesaComValorEData(user, BigDecimal.valueOf(150), DATA_20_FEV_2024);
 
-            List<DespesaEntity> despesas = despesaService.buscarDespesasPorIntervaloDeDatas(
-                    userId, DATA_INICIO_2024, DATA_FIM_2024);
+            List<DespesaDTO> despesas = despesaService.buscarDespesasPorIntervaloDeDatasPaginado(
+                    userId, DATA_INICIO_2024, DATA_FIM_2024, null, null).itens();
 
             assertNotNull(despesas);
             assertEquals(2, despesas.size());
@@ -451,9 +455,9 @@ class DespesaServiceIntegrationTest {
         @Test
         void erroAoBuscarDespesasPorIntervaloDeDatasComUserIdNuloOuVazio() {
             assertThrows(InvalidUserIdException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeDatas(null, DATA_INICIO_2024, DATA_FIM_2024));
+                    () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(null, DATA_INICIO_2024, DATA_FIM_2024, null, null));
             assertThrows(InvalidUserIdException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeDatas("", DATA_INICIO_2024, DATA_FIM_2024));
+                    () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado("", DATA_INICIO_2024, DATA_FIM_2024, null, null));
         }
 
         @Test
@@ -461,9 +465,9 @@ class DespesaServiceIntegrationTest {
 
 
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeDatas(userId, null, DATA_FIM_2024));
+                    () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, null, DATA_FIM_2024, null, null));
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeDatas(userId, DATA_INICIO_2024, null));
+                    () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, DATA_INICIO_2024, null, null, null));
         }
 
         @Test
@@ -471,8 +475,8 @@ class DespesaServiceIntegrationTest {
 
 
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeDatas(
-                            userId, DATA_10_JAN_2024, DATA_5_JAN_2024));
+                    () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(
+                            userId, DATA_10_JAN_2024, DATA_5_JAN_2024, null, null));
         }
 
         @Test
@@ -481,8 +485,8 @@ class DespesaServiceIntegrationTest {
             criarDespesaComValorEData(user, BigDecimal.valueOf(200), DATA_15_FEV_2024);
             criarDespesaComValorEData(user, BigDecimal.valueOf(150), DATA_20_FEV_2024);
 
-            List<DespesaEntity> despesas = despesaService.buscarDespesasPorIntervaloDeValores(
-                    userId, BigDecimal.valueOf(100), BigDecimal.valueOf(150));
+            List<DespesaDTO> despesas = despesaService.buscarDespesasPorIntervaloDeValoresPaginado(
+                    userId, BigDecimal.valueOf(100), BigDecimal.valueOf(150), null, null).itens();
 
             assertNotNull(despesas);
             assertEquals(2, despesas.size());
@@ -503,9 +507,9 @@ class DespesaServiceIntegrationTest {
         @Test
         void erroAoBuscarDespesasPorIntervaloDeValoresComUserIdNuloOuVazio() {
             assertThrows(InvalidUserIdException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores(null, VALOR_PADRAO, VALOR_ATUALIZADO));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(null, VALOR_PADRAO, VALOR_ATUALIZADO, null, null));
             assertThrows(InvalidUserIdException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores("", VALOR_PADRAO, VALOR_ATUALIZADO));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado("", VALOR_PADRAO, VALOR_ATUALIZADO, null, null));
         }
 
         @Test
@@ -513,9 +517,9 @@ class DespesaServiceIntegrationTest {
 
 
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, null, VALOR_ATUALIZADO));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, null, VALOR_ATUALIZADO, null, null));
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, VALOR_PADRAO, null));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, VALOR_PADRAO, null, null, null));
         }
 
         @Test
@@ -523,18 +527,84 @@ class DespesaServiceIntegrationTest {
 
 
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, BigDecimal.ZERO,
-                            VALOR_ATUALIZADO));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, BigDecimal.ZERO,
+                            VALOR_ATUALIZADO, null, null));
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, VALOR_PADRAO,
-                            BigDecimal.ZERO));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, VALOR_PADRAO,
+                            BigDecimal.ZERO, null, null));
         }
 
         @Test
         void erroAoBuscarDespesasPorIntervaloDeValoresComMinMaiorQueMax() {
             assertThrows(InvalidDataException.class,
-                    () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, VALOR_ATUALIZADO,
-                            VALOR_PADRAO));
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, VALOR_ATUALIZADO,
+                            VALOR_PADRAO, null, null));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class PaginacaoTest {
+        @Test
+        void devePercorrerTodasAsPaginasSemRepetirNemPularDespesas() {
+            // Datas repetidas: o desempate pelo uuid é o que impede repetir ou pular itens entre páginas
+            LocalDate dia = LocalDate.of(2025, 3, 10);
+            for (int i = 0; i < 4; i++) {
+                criarDespesaComValorEData(user, VALOR_PADRAO, dia);
+            }
+            criarDespesaComValorEData(user, VALOR_PADRAO, dia.minusDays(1));
+            criarDespesaComValorEData(user, VALOR_PADRAO, dia.plusDays(1));
+            criarDespesaComValorEData(user, VALOR_PADRAO, dia.plusDays(1));
+
+            List<DespesaDTO> todas = new ArrayList<>();
+            String cursor = null;
+            int paginas = 0;
+            do {
+                PaginaDTO<DespesaDTO> pagina = despesaService.listarDespesasUsuarioPaginado(userId, cursor, 2);
+                assertTrue(pagina.itens().size() <= 2);
+                todas.addAll(pagina.itens());
+                cursor = pagina.proximoCursor();
+                paginas++;
+            } while (cursor != null);
+
+            assertEquals(4, paginas);
+            assertEquals(7, todas.size());
+            assertEquals(7, todas.stream().map(DespesaDTO::getUuid).distinct().count());
+
+            List<DespesaDTO> ordenadas = todas.stream()
+                    .sorted(Comparator.comparing(DespesaDTO::getData).thenComparing(DespesaDTO::getUuid))
+                    .toList();
+            assertEquals(ordenadas, todas);
+        }
+
+        @Test
+        void devePaginarBuscaPorIntervaloDeValores() {
+            criarDespesaComValorEData(user, BigDecimal.valueOf(50), LocalDate.of(2025, 3, 1));
+            criarDespesaComValorEData(user, BigDecimal.valueOf(120), LocalDate.of(2025, 3, 2));
+            criarDespesaComValorEData(user, BigDecimal.valueOf(130), LocalDate.of(2025, 3, 3));
+            criarDespesaComValorEData(user, BigDecimal.valueOf(140), LocalDate.of(2025, 3, 4));
+
+            PaginaDTO<DespesaDTO> primeira = despesaService.buscarDespesasPorIntervaloDeValoresPaginado(
+                    userId, BigDecimal.valueOf(100), BigDecimal.valueOf(200), null, 2);
+            PaginaDTO<DespesaDTO> segunda = despesaService.buscarDespesasPorIntervaloDeValoresPaginado(
+                    userId, BigDecimal.valueOf(100), BigDecimal.valueOf(200), primeira.proximoCursor(), 2);
+
+            assertEquals(List.of(LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 3)),
+                    primeira.itens().stream().map(DespesaDTO::getData).toList());
+            assertEquals(List.of(LocalDate.of(2025, 3, 4)), segunda.itens().stream().map(DespesaDTO::getData).toList());
+            assertNull(segunda.proximoCursor());
+        }
+
+        @Test
+        void devePaginarBuscaPorIntervaloDeDatas() {
+            criarDespesaComValorEData(user, VALOR_PADRAO, LocalDate.of(2025, 2, 28));
+            criarDespesaComValorEData(user, VALOR_PADRAO, LocalDate.of(2025, 3, 1));
+            criarDespesaComValorEData(user, VALOR_PADRAO, LocalDate.of(2025, 3, 31));
+
+            PaginaDTO<DespesaDTO> pagina = despesaService.buscarDespesasPorIntervaloDeDatasPaginado(
+                    userId, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), null, null);
+
+            assertEquals(2, pagina.itens().size());
+            assertNull(pagina.proximoCursor());
+        }
+    }
+}
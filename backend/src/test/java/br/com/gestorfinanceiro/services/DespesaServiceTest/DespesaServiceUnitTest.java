@@ -1,6 +1,9 @@
 package br.com.gestorfinanceiro.services.DespesaServiceTest;
 
+import br.com.gestorfinanceiro.config.Paginacao;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaDTO;
 import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
@@ -14,28 +17,35 @@ import br.com.gestorfinanceiro.models.DespesaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.models.enums.Roles;
-import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
 import br.com.gestorfinanceiro.services.impl.DespesaServiceImpl;
+import br.com.gestorfinanceiro.services.impl.IndiceCategorias;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,7 +65,16 @@ class DespesaServiceUnitTest {
     private UserRepository userRepository;
 
     @Mock
-    private CategoriaRepository categoriaRepository;
+    private IndiceCategorias indiceCategorias;
+
+    @Mock
+    private ResumoMensalService resumoMensalService;
+
+    @Mock
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Spy
+    private Paginacao paginacao = new Paginacao(2, 10);
 
     @InjectMocks
     private DespesaServiceImpl despesaService;
@@ -148,26 +167,64 @@ class DespesaServiceUnitTest {
     class ListarDespesasTest {
 
         @Test
-        void deveListarDespesasUsuario() {
+        void deveListarDespesasUsuarioPaginadoComCursorDaProximaPagina() {
+            String userId = user.getUuid();
+            // Tamanho 2: o repositório recebe limite 3 e o terceiro item só indica que há próxima página
+            when(despesaRepository.findPaginaByUserId(userId, null, 3)).thenReturn(List.of(
+                    novoDespesaDTO("a", LocalDate.of(2025, 1, 1)),
+                    novoDespesaDTO("b", LocalDate.of(2025, 1, 1)),
+                    novoDespesaDTO("c", LocalDate.of(2025, 1, 2))));
+
+            PaginaDTO<DespesaDTO> pagina = despesaService.listarDespesasUsuarioPaginado(userId, null, 2);
+
+            assertEquals(2, pagina.itens().size());
+            assertEquals(new CursorUtils.Posicao(LocalDate.of(2025, 1, 1), "b"), CursorUtils.decodificar(pagina.proximoCursor()));
+        }
+
+        @Test
+        void deveContinuarDepoisDoCursorSemProximaPagina() {
             String userId = user.getUuid();
-            when(despesaRepository.findAllByUserUuid(userId)).thenReturn(List.of(despesa));
+            String cursor = CursorUtils.codificar(LocalDate.of(2025, 1, 1), "b");
+            when(despesaRepository.findPaginaByUserId(userId, new CursorUtils.Posicao(LocalDate.of(2025, 1, 1), "b"), 3))
+                    .thenReturn(List.of(novoDespesaDTO("c", LocalDate.of(2025, 1, 2))));
+
+            PaginaDTO<DespesaDTO> pagina = despesaService.listarDespesasUsuarioPaginado(userId, cursor, 2);
 
-            List<DespesaEntity> despesas = despesaService.listarDespesasUsuario(userId);
-            assertFalse(despesas.isEmpty());
+            assertEquals(1, pagina.itens().size());
+            assertNull(pagina.proximoCursor());
         }
 
         @Test
-        void erroAoListarDespesasUsuarioComIdNuloOuVazio() {
-            assertThrows(InvalidUserIdException.class, () -> despesaService.listarDespesasUsuario(null));
-            assertThrows(InvalidUserIdException.class, () -> despesaService.listarDespesasUsuario(""));
+        void deveLimitarTamanhoDaPaginaAoMaximo() {
+            String userId = user.getUuid();
+            when(despesaRepository.findPaginaByUserId(userId, null, 11)).thenReturn(List.of(novoDespesaDTO("a", LocalDate.of(2025, 1, 1))));
+
+            despesaService.listarDespesasUsuarioPaginado(userId, null, 1000);
+
+            verify(despesaRepository).findPaginaByUserId(userId, null, 11);
         }
 
         @Test
-        void erroAoListarDespesasVazia() {
+        void erroAoListarDespesasPaginadoVazioOuComParametrosInvalidos() {
             String userId = UUID.randomUUID().toString();
-            when(despesaRepository.findAllByUserUuid(anyString())).thenReturn(List.of());
+            when(despesaRepository.findPaginaByUserId(anyString(), any(), anyInt())).thenReturn(List.of());
 
-            assertThrows(DespesaNotFoundException.class, () -> despesaService.listarDespesasUsuario(userId));
+            assertThrows(DespesaNotFoundException.class, () -> despesaService.listarDespesasUsuarioPaginado(userId, null, null));
+            assertThrows(InvalidUserIdException.class, () -> despesaService.listarDespesasUsuarioPaginado("", null, null));
+            assertThrows(InvalidDataException.class, () -> despesaService.listarDespesasUsuarioPaginado(userId, "cursor-invalido", null));
+            assertThrows(InvalidDataException.class, () -> despesaService.listarDespesasUsuarioPaginado(userId, null, 0));
+        }
+
+        @Test
+        void naoDeveLancarNotFoundQuandoPaginaSeguinteVemVazia() {
+            String userId = user.getUuid();
+            String cursor = CursorUtils.codificar(LocalDate.of(2025, 1, 1), "b");
+            when(despesaRepository.findPaginaByUserId(eq(userId), any(), anyInt())).thenReturn(List.of());
+
+            PaginaDTO<DespesaDTO> pagina = despesaService.listarDespesasUsuarioPaginado(userId, cursor, null);
+
+            assertTrue(pagina.itens().isEmpty());
+            assertNull(pagina.proximoCursor());
         }
     }
 
@@ -203,13 +260,16 @@ class DespesaServiceUnitTest {
         @Test
         void deveAtualizarDespesa() {
             when(despesaRepository.findById(despesa.getUuid())).thenReturn(Optional.of(despesa));
-            when(categoriaRepository.findByNomeAndTipoAndUserUuid(CATEGORIA_PADRAO, CategoriaType.DESPESAS, user.getUuid())).thenReturn(Optional.of(categoria));
+            when(indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, CATEGORIA_PADRAO)).thenReturn(Optional.of(categoria));
             when(despesaRepository.save(any(DespesaEntity.class))).thenReturn(despesa);
 
             despesa.setValor(BigDecimal.valueOf(200));
             DespesaEntity despesaAtualizada = despesaService.atualizarDespesa(despesa.getUuid(), despesaUpdateDTO);
 
             assertEquals(BigDecimal.valueOf(200), despesaAtualizada.getValor());
+            verify(resumoMensalService).substituir(eq(CategoriaType.DESPESAS), eq(user.getUuid()),
+                    eq(categoria.getUuid()), any(LocalDate.class), any(BigDecimal.class),
+                    eq(categoria.getUuid()), eq(despesaUpdateDTO.getData()), eq(despesaUpdateDTO.getValor()));
         }
 
         @Test
@@ -236,7 +296,7 @@ class DespesaServiceUnitTest {
 
         @Test
         void atualizarDespesa_DeveLancarDespesaOperationException_QuandoRepositorioFalhar() {
-            when(categoriaRepository.findByNomeAndTipoAndUserUuid(CATEGORIA_PADRAO, CategoriaType.DESPESAS, user.getUuid())).thenReturn(Optional.of(categoria));
+            when(indiceCategorias.buscar(user.getUuid(), CategoriaType.DESPESAS, CATEGORIA_PADRAO)).thenReturn(Optional.of(categoria));
             // Arrange
             DespesaUpdateDTO despesaTest = new DespesaUpdateDTO();
             despesaTest.setValor(VALOR_ATUALIZADO);
@@ -264,6 +324,7 @@ class DespesaServiceUnitTest {
 
             despesaService.excluirDespesa(despesaId);
             verify(despesaRepository, times(1)).delete(despesa); // Verifica o método delete
+            verify(resumoMensalService).remover(CategoriaType.DESPESAS, user.getUuid(), categoria.getUuid(), despesa.getData(), despesa.getValor());
         }
 
         @Test
@@ -301,17 +362,13 @@ class DespesaServiceUnitTest {
 
         @Test
         void deveGerarGraficoBarras() {
-            DespesaEntity despesaMock = mock(DespesaEntity.class);
-            when(despesaMock.getValor()).thenReturn(BigDecimal.valueOf(100));
-            when(despesaMock.getData()).thenReturn(LocalDate.of(2025, 3, 1));
-            
-            when(despesaRepository.findByUserAndYearMonthRange(anyString(), any(), any()))
-                .thenReturn(List.of(despesaMock));
-            
-            GraficoBarraDTO resultado = despesaService.gerarGraficoBarras("user123", 
-                YearMonth.of(2025, 1), 
+            when(resumoMensalRepository.sumTotalPorMesByUserIdAndYearMonthRange(anyString(), eq(CategoriaType.DESPESAS), any(), any()))
+                .thenReturn(Map.of(YearMonth.of(2025, 3), BigDecimal.valueOf(100)));
+
+            GraficoBarraDTO resultado = despesaService.gerarGraficoBarras("user123",
+                YearMonth.of(2025, 1),
                 YearMonth.of(2025, 3));
-            
+
             assertNotNull(resultado);
             assertEquals(3, resultado.dadosMensais().size());
             assertEquals(BigDecimal.valueOf(100), resultado.dadosMensais().get("março 2025"));
@@ -321,8 +378,9 @@ class DespesaServiceUnitTest {
 
         @Test
         void deveGerarGraficoPizza() {
-            when(despesaRepository.findByUserAndDateRange(anyString(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(List.of(despesa));
+            when(resumoMensalRepository.sumTotalPorCategoriaByUserIdAndYearMonthRange(
+                    user.getUuid(), CategoriaType.DESPESAS, YearMonth.of(2024, 1), YearMonth.of(2024, 12)))
+                    .thenReturn(Map.of("Alimentacao", BigDecimal.valueOf(100)));
 
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 12, 31);
@@ -332,33 +390,35 @@ class DespesaServiceUnitTest {
             assertNotNull(grafico);
             assertEquals(1, grafico.categorias().size());
             assertEquals(BigDecimal.valueOf(100).stripTrailingZeros(), grafico.categorias().get("Alimentacao").stripTrailingZeros());
+            verify(despesaRepository, never()).sumValorPorCategoriaByUserAndDateRange(anyString(), any(), any());
         }
-    }
 
-    @Nested
-    class BuscaAvancadaTest {
         @Test
-        void deveBuscarDespesasPorIntervaloDeDatas() {
-            when(despesaRepository.findByUserAndDateRange(anyString(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(List.of(despesa));
+        void deveGerarGraficoPizzaComIntervaloParcialUsandoLancamentos() {
+            LocalDate inicio = LocalDate.of(2024, 1, 10);
+            LocalDate fim = LocalDate.of(2024, 12, 20);
 
-            LocalDate inicio = LocalDate.of(2024, 1, 1);
-            LocalDate fim = LocalDate.of(2024, 2, 18);
+            when(despesaRepository.sumValorPorCategoriaByUserAndDateRange(user.getUuid(), inicio, fim))
+                    .thenReturn(Map.of("Alimentacao", BigDecimal.valueOf(100)));
 
-            List<DespesaEntity> despesas = despesaService.buscarDespesasPorIntervaloDeDatas(user.getUuid(), inicio, fim);
+            GraficoPizzaDTO grafico = despesaService.gerarGraficoPizza(user.getUuid(), inicio, fim);
 
-            assertNotNull(despesas);
-            assertEquals(1, despesas.size());
-            assertEquals(BigDecimal.valueOf(100).stripTrailingZeros(), despesas.get(0).getValor().stripTrailingZeros());
+            assertNotNull(grafico);
+            assertEquals(1, grafico.categorias().size());
+            assertEquals(BigDecimal.valueOf(100).stripTrailingZeros(), grafico.categorias().get("Alimentacao").stripTrailingZeros());
+            verifyNoInteractions(resumoMensalRepository);
         }
+    }
 
+    @Nested
+    class BuscaAvancadaTest {
         @Test
         void erroAoBuscarDespesasPorIntervaloDeDatasComUserIdNuloOuVazio() {
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 2, 18);
 
-            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatas(null, inicio, fim));
-            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatas("", inicio, fim));
+            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(null, inicio, fim, null, null));
+            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado("", inicio, fim, null, null));
         }
 
         @Test
@@ -366,8 +426,8 @@ class DespesaServiceUnitTest {
             String userId = user.getUuid();
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 2, 18);
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatas(userId, null, fim));
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatas(userId, inicio, null));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, null, fim, null, null));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, inicio, null, null, null));
         }
 
         @Test
@@ -376,35 +436,20 @@ class DespesaServiceUnitTest {
             LocalDate inicio = LocalDate.of(2024, 1, 10);
             LocalDate fim = LocalDate.of(2024, 1, 5);
 
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatas(userId, inicio, fim));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, null));
         }
 
         @Test
-        void buscarDespesasPorIntervaloDeDatas_DeveLancarDespesaOperationException_QuandoRepositorioFalhar() {
+        void buscarDespesasPorIntervaloDeDatasPaginado_DeveLancarDespesaOperationException_QuandoRepositorioFalhar() {
             // Arrange
             String userId = UUID.randomUUID().toString();
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 12, 31);
 
-            when(despesaRepository.findByUserAndDateRange(userId, inicio, fim)).thenThrow(new RuntimeException("Erro no repositório"));
+            when(despesaRepository.findPaginaByUserAndDateRange(eq(userId), eq(inicio), eq(fim), any(), anyInt())).thenThrow(new RuntimeException("Erro no repositório"));
 
             // Act & Assert
-            assertThrows(DespesaOperationException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatas(userId, inicio, fim));
-        }
-
-        @Test
-        void deveBuscarDespesasPorIntervaloDeValores() {
-            when(despesaRepository.findByUserAndValueBetween(anyString(), any(BigDecimal.class), any(BigDecimal.class)))
-                    .thenReturn(List.of(despesa));
-
-            BigDecimal min = BigDecimal.valueOf(100);
-            BigDecimal max = BigDecimal.valueOf(150);
-
-            List<DespesaEntity> despesas = despesaService.buscarDespesasPorIntervaloDeValores(user.getUuid(), min, max);
-
-            assertNotNull(despesas);
-            assertEquals(1, despesas.size());
-            assertEquals(BigDecimal.valueOf(100).stripTrailingZeros(), despesas.get(0).getValor().stripTrailingZeros());
+            assertThrows(DespesaOperationException.class, () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, null));
         }
 
         @Test
@@ -412,8 +457,8 @@ class DespesaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(null, min, max));
-            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores("", min, max));
+            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(null, min, max, null, null));
+            assertThrows(InvalidUserIdException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado("", min, max, null, null));
         }
 
         @Test
@@ -422,8 +467,8 @@ class DespesaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, null, max));
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, min, null));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, null, max, null, null));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, min, null, null, null));
         }
 
         @Test
@@ -432,8 +477,8 @@ class DespesaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, BigDecimal.ZERO, max));
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, min, BigDecimal.ZERO));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, BigDecimal.ZERO, max, null, null));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, min, BigDecimal.ZERO, null, null));
         }
 
         @Test
@@ -442,20 +487,59 @@ class DespesaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(200);
             BigDecimal max = BigDecimal.valueOf(100);
 
-            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, min, max));
+            assertThrows(InvalidDataException.class, () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, min, max, null, null));
         }
 
         @Test
-        void buscarDespesasPorIntervaloDeValores_DeveLancarDespesaOperationException_QuandoRepositorioFalhar() {
-            // Arrange
+        void deveBuscarDespesasPorIntervaloDeDatasPaginado() {
+            String userId = user.getUuid();
+            LocalDate inicio = LocalDate.of(2025, 1, 1);
+            LocalDate fim = LocalDate.of(2025, 1, 31);
+            when(despesaRepository.findPaginaByUserAndDateRange(userId, inicio, fim, null, 3)).thenReturn(List.of(
+                    novoDespesaDTO("a", inicio), novoDespesaDTO("b", inicio), novoDespesaDTO("c", fim)));
+
+            PaginaDTO<DespesaDTO> pagina = despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, 2);
+
+            assertEquals(2, pagina.itens().size());
+            assertNotNull(pagina.proximoCursor());
+            assertThrows(InvalidDataException.class,
+                    () -> despesaService.buscarDespesasPorIntervaloDeDatasPaginado(userId, fim, inicio, null, 2));
+        }
+
+        @Test
+        void deveBuscarDespesasPorIntervaloDeValoresPaginado() {
+            String userId = user.getUuid();
+            BigDecimal min = BigDecimal.valueOf(100);
+            BigDecimal max = BigDecimal.valueOf(200);
+            when(despesaRepository.findPaginaByUserAndValueBetween(userId, min, max, null, 3))
+                    .thenReturn(List.of(novoDespesaDTO("a", LocalDate.of(2025, 1, 1))));
+
+            PaginaDTO<DespesaDTO> pagina = despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, min, max, null, 2);
+
+            assertEquals(1, pagina.itens().size());
+            assertNull(pagina.proximoCursor());
+            assertThrows(InvalidDataException.class,
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, max, min, null, 2));
+        }
+
+        @Test
+        void buscarDespesasPorIntervaloDeValoresPaginado_DeveLancarDespesaOperationException_QuandoRepositorioFalhar() {
             String userId = UUID.randomUUID().toString();
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(200);
 
-            when(despesaRepository.findByUserAndValueBetween(userId, min, max)).thenThrow(new RuntimeException("Erro no repositório"));
+            when(despesaRepository.findPaginaByUserAndValueBetween(eq(userId), eq(min), eq(max), any(), anyInt()))
+                    .thenThrow(new RuntimeException("Erro no repositório"));
 
-            // Act & Assert
-            assertThrows(DespesaOperationException.class, () -> despesaService.buscarDespesasPorIntervaloDeValores(userId, min, max));
+            assertThrows(DespesaOperationException.class,
+                    () -> despesaService.buscarDespesasPorIntervaloDeValoresPaginado(userId, min, max, null, null));
         }
     }
-}
\ No newline at end of file
+
+    private DespesaDTO novoDespesaDTO(String uuid, LocalDate data) {
+        DespesaDTO dto = new DespesaDTO();
+        dto.setUuid(uuid);
+        dto.setData(data);
+        return dto;
+    }
+}
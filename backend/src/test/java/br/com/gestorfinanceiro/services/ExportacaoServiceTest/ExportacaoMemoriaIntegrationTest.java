@@ -0,0 +1,111 @@
+package br.com.gestorfinanceiro.services.ExportacaoServiceTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.FormatoExportacao;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ExportacaoService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exporta um milhão de lançamentos com heap pequeno: se alguma camada acumulasse as linhas
+ * (lista de entidades, contexto de persistência, buffer da resposta) o teste terminaria em OutOfMemoryError.
+ * Fora do build padrão; roda com -Xmx128m em: mvn -P memoria test
+ *
+ * O H2 fica em arquivo para que os dados não ocupem o heap, e com LAZY_QUERY_EXECUTION para entregar
+ * o resultado aos poucos, como o cursor do PostgreSQL.
+ */
+@Tag("memoria")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/h2/exportacao-memoria;LAZY_QUERY_EXECUTION=1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework=WARN",
+        "logging.level.br.com.gestorfinanceiro=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql=WARN"
+})
+@ActiveProfiles("test")
+class ExportacaoMemoriaIntegrationTest {
+
+    private static final int LANCAMENTOS = 1_000_000;
+    private static final int LOTE = 100_000;
+    private static final long HEAP_MAXIMO = 256L * 1024 * 1024;
+
+    // Linhas sintéticas geradas pelo próprio H2, sem passar pela aplicação
+    private static final String INSERIR_DESPESAS = "INSERT INTO despesas " +
+            "(uuid, data, valor, destino_pagamento, observacoes, categoria_id, user_id) " +
+            "SELECT CAST(RANDOM_UUID() AS VARCHAR), DATEADD(DAY, MOD(X, 3650), DATE '2015-01-01'), " +
+            "MOD(X, 100000) / 100.0, 'Estabelecimento', CONCAT('Despesa sintética ', X), ?, ? " +
+            "FROM SYSTEM_RANGE(%d, %d)";
+    private static final String INSERIR_RECEITAS = "INSERT INTO receitas " +
+            "(uuid, data, valor, origem_do_pagamento, observacoes, categoria_id, user_id) " +
+            "SELECT CAST(RANDOM_UUID() AS VARCHAR), DATEADD(DAY, MOD(X, 3650), DATE '2015-01-01'), " +
+            "MOD(X, 100000) / 100.0, 'Empresa', CONCAT('Receita sintética ', X), ?, ? " +
+            "FROM SYSTEM_RANGE(%d, %d)";
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Test
+    void deveExportarUmMilhaoDeLancamentosComHeapPequeno() throws Exception {
+        assertTrue(Runtime.getRuntime().maxMemory() <= HEAP_MAXIMO,
+                "Rodar com heap reduzido (mvn -P memoria test); heap atual: " + Runtime.getRuntime().maxMemory());
+
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("exportacao-memoria"));
+        String despesas = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user)).getUuid();
+        String receitas = categoriaRepository.save(new CategoriaEntity("Salario", CategoriaType.RECEITAS, user)).getUuid();
+
+        for (int inicio = 1; inicio <= LANCAMENTOS / 2; inicio += LOTE) {
+            jdbcTemplate.update(INSERIR_DESPESAS.formatted(inicio, inicio + LOTE - 1), despesas, user.getUuid());
+            jdbcTemplate.update(INSERIR_RECEITAS.formatted(inicio, inicio + LOTE - 1), receitas, user.getUuid());
+        }
+
+        ContadorDeLinhas saida = new ContadorDeLinhas();
+        exportacaoService.exportar(user.getUuid(), FormatoExportacao.CSV, saida);
+
+        // Cabeçalho + uma linha por lançamento
+        assertEquals(LANCAMENTOS + 1L, saida.linhas);
+    }
+
+    // Descarta o conteúdo: o que se mede é a memória do lado da aplicação, não a do destino
+    private static class ContadorDeLinhas extends OutputStream {
+        private long linhas;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                linhas++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    linhas++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.gestorfinanceiro.services.ExportacaoServiceTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.FormatoExportacao;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ExportacaoService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportacaoServiceIntegrationTest {
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        despesaRepository.deleteAll();
+        receitaRepository.deleteAll();
+        categoriaRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("exportacao"));
+        userId = user.getUuid();
+        CategoriaEntity mercado = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user));
+        CategoriaEntity salario = categoriaRepository.save(new CategoriaEntity("Salario", CategoriaType.RECEITAS, user));
+
+        despesaRepository.save(novaDespesa(user, mercado, LocalDate.of(2025, 3, 2), "Feira, pão e \"leite\""));
+        despesaRepository.save(novaDespesa(user, mercado, LocalDate.of(2025, 3, 1), "Compras"));
+        receitaRepository.save(novaReceita(user, salario, LocalDate.of(2025, 3, 5)));
+    }
+
+    @Test
+    void deveExportarCsvComCabecalhoEscapandoCampos() throws Exception {
+        List<String> linhas = exportar(FormatoExportacao.CSV);
+
+        assertEquals(List.of(
+                "tipo,data,valor,categoria,contraparte,observacoes",
+                "DESPESAS,2025-03-01,100.0000,Mercado,Padaria,Compras",
+                "DESPESAS,2025-03-02,100.0000,Mercado,Padaria,\"Feira, pão e \"\"leite\"\"\"",
+                "RECEITAS,2025-03-05,5000.0000,Salario,Empresa,Pagamento"), linhas);
+    }
+
+    @Test
+    void deveExportarUmObjetoJsonPorLinha() throws Exception {
+        List<String> linhas = exportar(FormatoExportacao.NDJSON);
+
+        assertEquals(3, linhas.size());
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode primeira = objectMapper.readTree(linhas.get(0));
+        assertEquals("DESPESAS", primeira.get("tipo").asText());
+        assertEquals("2025-03-01", primeira.get("data").asText());
+        assertEquals(0, new BigDecimal("100").compareTo(primeira.get("valor").decimalValue()));
+        assertEquals("Feira, pão e \"leite\"", objectMapper.readTree(linhas.get(1)).get("observacoes").asText());
+        assertEquals("RECEITAS", objectMapper.readTree(linhas.get(2)).get("tipo").asText());
+    }
+
+    @Test
+    void erroAoExportarSemUserId() {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        assertThrows(InvalidUserIdException.class, () -> exportacaoService.exportar("", FormatoExportacao.CSV, saida));
+    }
+
+    //----------------- Métodos Auxiliares -----------------//
+
+    private List<String> exportar(FormatoExportacao formato) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportar(userId, formato, saida);
+        return saida.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private DespesaEntity novaDespesa(UserEntity user, CategoriaEntity categoria, LocalDate data, String observacoes) {
+        DespesaEntity despesa = new DespesaEntity();
+        despesa.setUser(user);
+        despesa.setCategoria(categoria);
+        despesa.setData(data);
+        despesa.setValor(BigDecimal.valueOf(100));
+        despesa.setDestinoPagamento("Padaria");
+        despesa.setObservacoes(observacoes);
+        return despesa;
+    }
+
+    private ReceitaEntity novaReceita(UserEntity user, CategoriaEntity categoria, LocalDate data) {
+        ReceitaEntity receita = new ReceitaEntity();
+        receita.setUser(user);
+        receita.setCategoria(categoria);
+        receita.setData(data);
+        receita.setValor(BigDecimal.valueOf(5000));
+        receita.setOrigemDoPagamento("Empresa");
+        receita.setObservacoes("Pagamento");
+        return receita;
+    }
+}
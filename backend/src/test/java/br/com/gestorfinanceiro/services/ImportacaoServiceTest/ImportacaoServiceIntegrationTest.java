@@ -0,0 +1,224 @@
+package br.com.gestorfinanceiro.services.ImportacaoServiceTest;
+
+import br.com.gestorfinanceiro.TestDataUtil;
+import br.com.gestorfinanceiro.dto.importacao.ErroImportacaoDTO;
+import br.com.gestorfinanceiro.dto.importacao.ResultadoImportacaoDTO;
+import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
+import br.com.gestorfinanceiro.exceptions.user.InvalidUserIdException;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.ReceitaEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.FormatoImportacao;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ImportacaoService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Lote pequeno para que os arquivos de teste passem por mais de uma transação
+@SpringBootTest(properties = "importacao.tamanho-lote=2")
+@ActiveProfiles("test")
+class ImportacaoServiceIntegrationTest {
+
+    private static final String CABECALHO = "tipo,data,valor,categoria,contraparte,observacoes\n";
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String userId;
+    private CategoriaEntity mercado;
+    private CategoriaEntity semCategoriaDespesa;
+
+    @BeforeEach
+    void setUp() {
+        resumoMensalRepository.deleteAll();
+        despesaRepository.deleteAll();
+        receitaRepository.deleteAll();
+        categoriaRepository.deleteAll();
+        userRepository.deleteAll();
+
+        UserEntity user = userRepository.save(TestDataUtil.criarUsuarioEntityUtil("importacao"));
+        userId = user.getUuid();
+        mercado = categoriaRepository.save(new CategoriaEntity("Mercado", CategoriaType.DESPESAS, user));
+        categoriaRepository.save(new CategoriaEntity("Salario", CategoriaType.RECEITAS, user));
+
+        semCategoriaDespesa = new CategoriaEntity("Sem categoria", CategoriaType.DESPESAS, user);
+        semCategoriaDespesa.setSemCategoria(true);
+        semCategoriaDespesa = categoriaRepository.save(semCategoriaDespesa);
+        CategoriaEntity semCategoriaReceita = new CategoriaEntity("Sem categoria", CategoriaType.RECEITAS, user);
+        semCategoriaReceita.setSemCategoria(true);
+        categoriaRepository.save(semCategoriaReceita);
+    }
+
+    @Test
+    void deveImportarCsvEAtualizarResumoMensal() throws Exception {
+        ResultadoImportacaoDTO resultado = importar(FormatoImportacao.CSV, CABECALHO
+                + "DESPESAS,2025-03-01,100.50,Mercado,Padaria,Compras\n"
+                + "despesa,05/03/2025,\"49,50\",Mercado,\"Feira, centro\",\"Linha 1\nLinha 2\"\n"
+                + "RECEITAS,2025-03-05,5000,Salario,Empresa,\n"
+                + "DESPESAS,2025-04-10,30,,Banca,\n");
+
+        assertEquals(4, resultado.getImportados());
+        assertEquals(0, resultado.getRejeitados());
+
+        List<DespesaEntity> despesas = despesaRepository.findAllByUserUuid(userId);
+        assertEquals(3, despesas.size());
+        assertTrue(despesas.stream().anyMatch(d -> d.getDestinoPagamento().equals("Feira, centro")
+                && d.getObservacoes().equals("Linha 1\nLinha 2")));
+        List<ReceitaEntity> receitas = receitaRepository.findAllByUserUuid(userId);
+        assertEquals(1, receitas.size());
+        assertEquals("", receitas.get(0).getObservacoes());
+
+        ResumoMensalEntity marco = buscarResumo(mercado, YearMonth.of(2025, 3));
+        assertEquals(0, new BigDecimal("150").compareTo(marco.getTotal()));
+        assertEquals(2, marco.getQuantidade());
+        assertEquals(0, new BigDecimal("100.50").compareTo(marco.getMaiorValor()));
+        assertEquals(1, buscarResumo(semCategoriaDespesa, YearMonth.of(2025, 4)).getQuantidade());
+        assertTrue(resumoMensalService.verificar(userId).isEmpty());
+    }
+
+    @Test
+    void deveRejeitarLinhasInvalidasESeguirComAsDemais() throws Exception {
+        ResultadoImportacaoDTO resultado = importar(FormatoImportacao.CSV, CABECALHO
+                + "DESPESAS,2025-03-01,10,Mercado,Padaria,\n"
+                + "DESPESAS,31/02/2025,10,Mercado,Padaria,\n"
+                + "DESPESAS,2025-03-02,0,Mercado,Padaria,\n"
+                + "DESPESAS,2025-03-03,10,Inexistente,Padaria,\n"
+                + "TRANSFERENCIA,2025-03-04,10,Mercado,Padaria,\n"
+                + "DESPESAS,2025-03-05,10,Mercado,,\n"
+                + "DESPESAS,2025-03-06,20,Mercado,Padaria,\n");
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(5, resultado.getRejeitados());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), resultado.getErros().stream().map(ErroImportacaoDTO::registro).toList());
+        assertEquals(2, despesaRepository.findAllByUserUuid(userId).size());
+        assertTrue(resumoMensalService.verificar(userId).isEmpty());
+    }
+
+    @Test
+    void deveGravarUmAUmQuandoOLoteFalhaNoBanco() throws Exception {
+        // Valor acima da precisão da coluna: só o banco recusa, derrubando o lote inteiro
+        ResultadoImportacaoDTO resultado = importar(FormatoImportacao.CSV, CABECALHO
+                + "DESPESAS,2025-03-01,10,Mercado,Padaria,\n"
+                + "DESPESAS,2025-03-02,99999999999999999999,Mercado,Padaria,\n"
+                + "DESPESAS,2025-03-03,20,Mercado,Padaria,\n");
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(1, resultado.getRejeitados());
+        assertEquals(2L, resultado.getErros().get(0).registro());
+        assertEquals(0, new BigDecimal("30").compareTo(buscarResumo(mercado, YearMonth.of(2025, 3)).getTotal()));
+        assertTrue(resumoMensalService.verificar(userId).isEmpty());
+    }
+
+    @Test
+    void deveImportarOfxNaSemCategoria() throws Exception {
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20250310120000[-3:BRT]
+                <TRNAMT>-42,90
+                <FITID>1
+                <MEMO>Supermercado &amp; cia
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20250315
+                <TRNAMT>1500.00
+                <FITID>2
+                <NAME>Cliente
+                <MEMO>Serviço prestado
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>2025
+                <TRNAMT>-10.00
+                <NAME>Data quebrada
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """;
+
+        ResultadoImportacaoDTO resultado = importar(FormatoImportacao.OFX, ofx);
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(1, resultado.getRejeitados());
+        assertEquals(3L, resultado.getErros().get(0).registro());
+
+        DespesaEntity despesa = despesaRepository.findAllByUserUuid(userId).get(0);
+        assertEquals(LocalDate.of(2025, 3, 10), despesa.getData());
+        assertEquals(0, new BigDecimal("42.90").compareTo(despesa.getValor()));
+        assertEquals("Supermercado & cia", despesa.getDestinoPagamento());
+        assertEquals(semCategoriaDespesa.getUuid(), despesa.getCategoria().getUuid());
+
+        ReceitaEntity receita = receitaRepository.findAllByUserUuid(userId).get(0);
+        assertEquals("Cliente", receita.getOrigemDoPagamento());
+        assertEquals("Serviço prestado", receita.getObservacoes());
+        assertTrue(resumoMensalService.verificar(userId).isEmpty());
+    }
+
+    @Test
+    void erroAoImportarCsvSemColunaObrigatoria() {
+        assertThrows(InvalidDataException.class, () -> importar(FormatoImportacao.CSV, "tipo,data\nDESPESAS,2025-03-01\n"));
+    }
+
+    @Test
+    void erroAoImportarSemUserId() {
+        ByteArrayInputStream entrada = new ByteArrayInputStream(CABECALHO.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidUserIdException.class, () -> importacaoService.importar("", FormatoImportacao.CSV, entrada));
+    }
+
+    //----------------- Métodos Auxiliares -----------------//
+
+    private ResultadoImportacaoDTO importar(FormatoImportacao formato, String conteudo) throws Exception {
+        return importacaoService.importar(userId, formato, new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private ResumoMensalEntity buscarResumo(CategoriaEntity categoria, YearMonth mes) {
+        return resumoMensalRepository.findById(new ResumoMensalId(userId, categoria.getUuid(), mes, CategoriaType.DESPESAS))
+                .orElseThrow();
+    }
+}
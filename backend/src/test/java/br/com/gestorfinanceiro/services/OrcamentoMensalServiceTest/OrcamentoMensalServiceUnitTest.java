@@ -12,9 +12,9 @@ import br.com.gestorfinanceiro.models.OrcamentoMensalEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.models.enums.Roles;
-import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.OrcamentoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.impl.IndiceCategorias;
 import br.com.gestorfinanceiro.services.impl.OrcamentoMensalServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -53,7 +53,7 @@ class OrcamentoMensalServiceUnitTest {
     private OrcamentoMensalRepository orcamentoMensalRepository;
 
     @Mock
-    private CategoriaRepository categoriaRepository;
+    private IndiceCategorias indiceCategorias;
 
     @Mock
     private UserRepository userRepository;
@@ -88,7 +88,7 @@ class OrcamentoMensalServiceUnitTest {
         void deveCriarOrcamentoComSucesso() {
             // Arrange
             when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.of(categoria));
             when(orcamentoMensalRepository.findByCategoriaAndPeriodoAndUserUuid(categoria, PERIODO_PADRAO, USER_ID))
                     .thenReturn(Optional.empty());
@@ -121,7 +121,7 @@ class OrcamentoMensalServiceUnitTest {
         void deveLancarExcecaoQuandoCategoriaNaoExiste() {
             // Arrange
             when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.empty());
 
             // Act & Assert
@@ -135,7 +135,7 @@ class OrcamentoMensalServiceUnitTest {
         void deveLancarExcecaoQuandoOrcamentoJaExiste() {
             // Arrange
             when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.of(categoria));
             when(orcamentoMensalRepository.findByCategoriaAndPeriodoAndUserUuid(categoria, PERIODO_PADRAO, USER_ID))
                     .thenReturn(Optional.of(orcamentoExistente));
@@ -169,7 +169,7 @@ class OrcamentoMensalServiceUnitTest {
         void deveLancarExcecaoAoFalharAoCriarOrcamento() {
             // Arrange
             when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.of(categoria));
             when(orcamentoMensalRepository.findByCategoriaAndPeriodoAndUserUuid(categoria, PERIODO_PADRAO, USER_ID))
                     .thenReturn(Optional.empty());
@@ -267,7 +267,7 @@ class OrcamentoMensalServiceUnitTest {
             // Arrange
             when(orcamentoMensalRepository.findByUuidAndUserUuid(ORCAMENTO_ID, USER_ID))
                     .thenReturn(Optional.of(orcamentoExistente));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.of(categoria));
             when(orcamentoMensalRepository.findByCategoriaAndPeriodoAndUserUuid(categoria, PERIODO_DIFERENTE, USER_ID))
                     .thenReturn(Optional.empty());
@@ -301,7 +301,7 @@ class OrcamentoMensalServiceUnitTest {
             // Arrange
             when(orcamentoMensalRepository.findByUuidAndUserUuid(ORCAMENTO_ID, USER_ID))
                     .thenReturn(Optional.of(orcamentoExistente));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.empty());
 
             // Act & Assert
@@ -319,7 +319,7 @@ class OrcamentoMensalServiceUnitTest {
 
             when(orcamentoMensalRepository.findByUuidAndUserUuid(ORCAMENTO_ID, USER_ID))
                     .thenReturn(Optional.of(orcamentoExistente));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.of(categoria));
             when(orcamentoMensalRepository.findByCategoriaAndPeriodoAndUserUuid(categoria, PERIODO_DIFERENTE, USER_ID))
                     .thenReturn(Optional.of(outroOrcamento));
@@ -336,7 +336,7 @@ class OrcamentoMensalServiceUnitTest {
             // Arrange
             when(orcamentoMensalRepository.findByUuidAndUserUuid(ORCAMENTO_ID, USER_ID))
                     .thenReturn(Optional.of(orcamentoExistente));
-            when(categoriaRepository.findByNomeAndUserUuid(CATEGORIA_PADRAO, USER_ID))
+            when(indiceCategorias.buscarPorNome(USER_ID, CATEGORIA_PADRAO))
                     .thenReturn(Optional.of(categoria));
             when(orcamentoMensalRepository.findByCategoriaAndPeriodoAndUserUuid(categoria, PERIODO_PADRAO, USER_ID))
                     .thenReturn(Optional.empty());
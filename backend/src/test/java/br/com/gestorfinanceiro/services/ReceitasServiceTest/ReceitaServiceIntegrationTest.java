@@ -3,6 +3,7 @@ package br.com.gestorfinanceiro.services.ReceitasServiceTest;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
 import br.com.gestorfinanceiro.exceptions.common.InvalidUuidException;
@@ -140,22 +141,22 @@ class ReceitaServiceIntegrationTest {
         void deveListarReceitasUsuario() {
             receitaService.criarReceita(criarReceitaCreateDTO(), user.getUuid());
 
-            List<ReceitaEntity> receitas = receitaService.listarReceitasUsuario(user.getUuid());
+            List<ReceitaDTO> receitas = receitaService.listarReceitasUsuarioPaginado(user.getUuid(), null, null).itens();
             assertFalse(receitas.isEmpty());
         }
 
         @Test
         void erroAoListarReceitasUsuarioComIdNuloOuVazio() {
             String uuid = null;
-            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuario(uuid));
-            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuario(""));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuarioPaginado(uuid, null, null));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuarioPaginado("", null, null));
         }
 
         @Test
         void erroAoListarReceitasVazia() {
             String userId = user.getUuid();
 
-            assertThrows(ReceitaNotFoundException.class, () -> receitaService.listarReceitasUsuario(userId));
+            assertThrows(ReceitaNotFoundException.class, () -> receitaService.listarReceitasUsuarioPaginado(userId, null, null));
         }
     }
 
@@ -323,7 +324,7 @@ class ReceitaServiceIntegrationTest {
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 2, 18);
 
-            List<ReceitaEntity> receitas = receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, fim);
+            List<ReceitaDTO> receitas = receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, null).itens();
 
             // Verifica se as receitas estão corretas
             assertNotNull(receitas);
@@ -337,8 +338,8 @@ class ReceitaServiceIntegrationTest {
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 2, 18);
 
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(null, inicio, fim));
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas("", inicio, fim));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(null, inicio, fim, null, null));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado("", inicio, fim, null, null));
         }
 
         @Test
@@ -349,8 +350,8 @@ class ReceitaServiceIntegrationTest {
             LocalDate fim = null;
             LocalDate fim2 = LocalDate.of(2024, 2, 18);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, fim2));
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio2, fim));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim2, null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio2, fim, null, null));
         }
 
         @Test
@@ -359,7 +360,7 @@ class ReceitaServiceIntegrationTest {
             LocalDate inicio = LocalDate.of(2024, 1, 10);
             LocalDate fim = LocalDate.of(2024, 1, 5);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, fim));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, null));
         }
 
         @Test
@@ -374,7 +375,7 @@ class ReceitaServiceIntegrationTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            List<ReceitaEntity> receitas = receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max);
+            List<ReceitaDTO> receitas = receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max, null, null).itens();
 
             // Verifica se as receitas estão corretas
             assertNotNull(receitas);
@@ -388,8 +389,8 @@ class ReceitaServiceIntegrationTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(null, min, max));
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores("", min, max));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(null, min, max, null, null));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado("", min, max, null, null));
         }
 
         @Test
@@ -400,8 +401,8 @@ class ReceitaServiceIntegrationTest {
             BigDecimal max = null;
             BigDecimal max2 = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max2));
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min2, max));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max2, null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min2, max, null, null));
         }
 
         @Test
@@ -412,8 +413,8 @@ class ReceitaServiceIntegrationTest {
             BigDecimal max = BigDecimal.ZERO;
             BigDecimal max2 = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max2));
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min2, max));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max2, null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min2, max, null, null));
         }
 
         @Test
@@ -422,7 +423,7 @@ class ReceitaServiceIntegrationTest {
             BigDecimal min = BigDecimal.valueOf(200);
             BigDecimal max = BigDecimal.valueOf(100);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max, null, null));
         }
     }
 
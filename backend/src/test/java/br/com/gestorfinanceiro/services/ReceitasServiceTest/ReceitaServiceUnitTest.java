@@ -1,8 +1,11 @@
 package br.com.gestorfinanceiro.services.ReceitasServiceTest;
 
+import br.com.gestorfinanceiro.config.Paginacao;
+import br.com.gestorfinanceiro.dto.common.PaginaDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoBarraDTO;
 import br.com.gestorfinanceiro.dto.grafico.GraficoPizzaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaCreateDTO;
+import br.com.gestorfinanceiro.dto.receita.ReceitaDTO;
 import br.com.gestorfinanceiro.dto.receita.ReceitaUpdateDTO;
 import br.com.gestorfinanceiro.exceptions.common.InvalidDataException;
 import br.com.gestorfinanceiro.exceptions.common.InvalidUuidException;
@@ -14,28 +17,35 @@ import br.com.gestorfinanceiro.models.ReceitaEntity;
 import br.com.gestorfinanceiro.models.UserEntity;
 import br.com.gestorfinanceiro.models.enums.CategoriaType;
 import br.com.gestorfinanceiro.models.enums.Roles;
-import br.com.gestorfinanceiro.repositories.CategoriaRepository;
 import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
 import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import br.com.gestorfinanceiro.services.impl.IndiceCategorias;
 import br.com.gestorfinanceiro.services.impl.ReceitaServiceImpl;
+import br.com.gestorfinanceiro.utils.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,7 +65,16 @@ class ReceitaServiceUnitTest {
     private UserRepository userRepository;
 
     @Mock
-    private CategoriaRepository categoriaRepository;
+    private IndiceCategorias indiceCategorias;
+
+    @Mock
+    private ResumoMensalService resumoMensalService;
+
+    @Mock
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Spy
+    private Paginacao paginacao = new Paginacao(2, 10);
 
     @InjectMocks
     private ReceitaServiceImpl receitaService;
@@ -148,26 +167,64 @@ class ReceitaServiceUnitTest {
     class ListarReceitasTest {
 
         @Test
-        void deveListarReceitasUsuario() {
+        void deveListarReceitasUsuarioPaginadoComCursorDaProximaPagina() {
             String userId = user.getUuid();
-            when(receitaRepository.findAllByUserUuid(userId)).thenReturn(List.of(receita));
+            // Tamanho 2: o repositório recebe limite 3 e o terceiro item só indica que há próxima página
+            when(receitaRepository.findPaginaByUserId(userId, null, 3)).thenReturn(List.of(
+                    novoReceitaDTO("a", LocalDate.of(2025, 1, 1)),
+                    novoReceitaDTO("b", LocalDate.of(2025, 1, 1)),
+                    novoReceitaDTO("c", LocalDate.of(2025, 1, 2))));
 
-            List<ReceitaEntity> receitas = receitaService.listarReceitasUsuario(userId);
-            assertFalse(receitas.isEmpty());
+            PaginaDTO<ReceitaDTO> pagina = receitaService.listarReceitasUsuarioPaginado(userId, null, 2);
+
+            assertEquals(2, pagina.itens().size());
+            assertEquals(new CursorUtils.Posicao(LocalDate.of(2025, 1, 1), "b"), CursorUtils.decodificar(pagina.proximoCursor()));
         }
 
         @Test
-        void erroAoListarReceitasUsuarioComIdNuloOuVazio() {
-            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuario(null));
-            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuario(""));
+        void deveContinuarDepoisDoCursorSemProximaPagina() {
+            String userId = user.getUuid();
+            String cursor = CursorUtils.codificar(LocalDate.of(2025, 1, 1), "b");
+            when(receitaRepository.findPaginaByUserId(userId, new CursorUtils.Posicao(LocalDate.of(2025, 1, 1), "b"), 3))
+                    .thenReturn(List.of(novoReceitaDTO("c", LocalDate.of(2025, 1, 2))));
+
+            PaginaDTO<ReceitaDTO> pagina = receitaService.listarReceitasUsuarioPaginado(userId, cursor, 2);
+
+            assertEquals(1, pagina.itens().size());
+            assertNull(pagina.proximoCursor());
         }
 
         @Test
-        void erroAoListarReceitasVazia() {
+        void deveLimitarTamanhoDaPaginaAoMaximo() {
+            String userId = user.getUuid();
+            when(receitaRepository.findPaginaByUserId(userId, null, 11)).thenReturn(List.of(novoReceitaDTO("a", LocalDate.of(2025, 1, 1))));
+
+            receitaService.listarReceitasUsuarioPaginado(userId, null, 1000);
+
+            verify(receitaRepository).findPaginaByUserId(userId, null, 11);
+        }
+
+        @Test
+        void erroAoListarReceitasPaginadoVazioOuComParametrosInvalidos() {
             String userId = UUID.randomUUID().toString();
-            when(receitaRepository.findAllByUserUuid(anyString())).thenReturn(List.of());
+            when(receitaRepository.findPaginaByUserId(anyString(), any(), anyInt())).thenReturn(List.of());
 
-            assertThrows(ReceitaNotFoundException.class, () -> receitaService.listarReceitasUsuario(userId));
+            assertThrows(ReceitaNotFoundException.class, () -> receitaService.listarReceitasUsuarioPaginado(userId, null, null));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.listarReceitasUsuarioPaginado("", null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.listarReceitasUsuarioPaginado(userId, "cursor-invalido", null));
+            assertThrows(InvalidDataException.class, () -> receitaService.listarReceitasUsuarioPaginado(userId, null, 0));
+        }
+
+        @Test
+        void naoDeveLancarNotFoundQuandoPaginaSeguinteVemVazia() {
+            String userId = user.getUuid();
+            String cursor = CursorUtils.codificar(LocalDate.of(2025, 1, 1), "b");
+            when(receitaRepository.findPaginaByUserId(eq(userId), any(), anyInt())).thenReturn(List.of());
+
+            PaginaDTO<ReceitaDTO> pagina = receitaService.listarReceitasUsuarioPaginado(userId, cursor, null);
+
+            assertTrue(pagina.itens().isEmpty());
+            assertNull(pagina.proximoCursor());
         }
     }
 
@@ -204,13 +261,16 @@ class ReceitaServiceUnitTest {
         @Test
         void deveAtualizarReceita() {
             when(receitaRepository.findById(receita.getUuid())).thenReturn(Optional.of(receita));
-            when(categoriaRepository.findByNomeAndTipoAndUserUuid(CATEGORIA_PADRAO, CategoriaType.RECEITAS, user.getUuid())).thenReturn(Optional.of(categoria));
+            when(indiceCategorias.buscar(user.getUuid(), CategoriaType.RECEITAS, CATEGORIA_PADRAO)).thenReturn(Optional.of(categoria));
             when(receitaRepository.save(any(ReceitaEntity.class))).thenReturn(receita);
 
             receita.setValor(BigDecimal.valueOf(20000));
             ReceitaEntity receitaAtualizada = receitaService.atualizarReceita(receita.getUuid(), receitaUpdateDTO);
 
             assertEquals(BigDecimal.valueOf(20000), receitaAtualizada.getValor());
+            verify(resumoMensalService).substituir(eq(CategoriaType.RECEITAS), eq(user.getUuid()),
+                    eq(categoria.getUuid()), any(LocalDate.class), any(BigDecimal.class),
+                    eq(categoria.getUuid()), eq(receitaUpdateDTO.getData()), eq(receitaUpdateDTO.getValor()));
         }
 
         @Test
@@ -236,7 +296,7 @@ class ReceitaServiceUnitTest {
 
         @Test
         void atualizarReceita_DeveLancarReceitaOperationException_QuandoRepositorioFalhar() {
-            when(categoriaRepository.findByNomeAndTipoAndUserUuid(CATEGORIA_PADRAO, CategoriaType.RECEITAS, user.getUuid())).thenReturn(Optional.of(categoria));
+            when(indiceCategorias.buscar(user.getUuid(), CategoriaType.RECEITAS, CATEGORIA_PADRAO)).thenReturn(Optional.of(categoria));
 
             // Arrange
             ReceitaUpdateDTO receitaUpdateDto = new ReceitaUpdateDTO();
@@ -266,6 +326,7 @@ class ReceitaServiceUnitTest {
 
             receitaService.excluirReceita(receitaId);
             verify(receitaRepository, times(1)).delete(receita);
+            verify(resumoMensalService).remover(CategoriaType.RECEITAS, user.getUuid(), categoria.getUuid(), receita.getData(), receita.getValor());
         }
 
         @Test
@@ -306,17 +367,13 @@ class ReceitaServiceUnitTest {
 
         @Test
         void deveGerarGraficoBarras() {
-            ReceitaEntity receitaMock = mock(ReceitaEntity.class);
-            when(receitaMock.getValor()).thenReturn(BigDecimal.valueOf(10000));
-            when(receitaMock.getData()).thenReturn(LocalDate.of(2025, 3, 1));
-            
-            when(receitaRepository.findByUserAndYearMonthRange(anyString(), any(), any()))
-                .thenReturn(List.of(receitaMock));
-            
-            GraficoBarraDTO resultado = receitaService.gerarGraficoBarras("user123", 
-                YearMonth.of(2025, 1), 
+            when(resumoMensalRepository.sumTotalPorMesByUserIdAndYearMonthRange(anyString(), eq(CategoriaType.RECEITAS), any(), any()))
+                .thenReturn(Map.of(YearMonth.of(2025, 3), BigDecimal.valueOf(10000)));
+
+            GraficoBarraDTO resultado = receitaService.gerarGraficoBarras("user123",
+                YearMonth.of(2025, 1),
                 YearMonth.of(2025, 3));
-            
+
             assertNotNull(resultado);
             assertEquals(3, resultado.dadosMensais().size());
             assertEquals(BigDecimal.valueOf(10000), resultado.dadosMensais().get("março 2025"));
@@ -326,8 +383,9 @@ class ReceitaServiceUnitTest {
 
         @Test
         void deveGerarGraficoPizza() {
-            when(receitaRepository.findByUserAndDateRange(anyString(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(List.of(receita));
+            when(resumoMensalRepository.sumTotalPorCategoriaByUserIdAndYearMonthRange(
+                    user.getUuid(), CategoriaType.RECEITAS, YearMonth.of(2024, 1), YearMonth.of(2024, 12)))
+                    .thenReturn(Map.of("Salario", BigDecimal.valueOf(10000)));
 
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 12, 31);
@@ -337,34 +395,36 @@ class ReceitaServiceUnitTest {
             assertNotNull(grafico);
             assertEquals(1, grafico.categorias().size());
             assertEquals(BigDecimal.valueOf(10000).stripTrailingZeros(), grafico.categorias().get("Salario").stripTrailingZeros());
+            verify(receitaRepository, never()).sumValorPorCategoriaByUserAndDateRange(anyString(), any(), any());
         }
-    }
-
-    @Nested
-    class buscaAvancadaTest {
 
         @Test
-        void deveBuscarReceitasPorIntervaloDeDatas() {
-            when(receitaRepository.findByUserAndDateRange(anyString(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(List.of(receita));
+        void deveGerarGraficoPizzaComIntervaloParcialUsandoLancamentos() {
+            LocalDate inicio = LocalDate.of(2024, 1, 10);
+            LocalDate fim = LocalDate.of(2024, 12, 20);
 
-            LocalDate inicio = LocalDate.of(2024, 1, 1);
-            LocalDate fim = LocalDate.of(2024, 2, 18);
+            when(receitaRepository.sumValorPorCategoriaByUserAndDateRange(user.getUuid(), inicio, fim))
+                    .thenReturn(Map.of("Salario", BigDecimal.valueOf(10000)));
 
-            List<ReceitaEntity> receitas = receitaService.buscarReceitasPorIntervaloDeDatas(user.getUuid(), inicio, fim);
+            GraficoPizzaDTO grafico = receitaService.gerarGraficoPizza(user.getUuid(), inicio, fim);
 
-            assertNotNull(receitas);
-            assertEquals(1, receitas.size());
-            assertEquals(BigDecimal.valueOf(10000).stripTrailingZeros(), receitas.get(0).getValor().stripTrailingZeros());
+            assertNotNull(grafico);
+            assertEquals(1, grafico.categorias().size());
+            assertEquals(BigDecimal.valueOf(10000).stripTrailingZeros(), grafico.categorias().get("Salario").stripTrailingZeros());
+            verifyNoInteractions(resumoMensalRepository);
         }
+    }
+
+    @Nested
+    class buscaAvancadaTest {
 
         @Test
         void erroAoBuscarReceitasPorIntervaloDeDatasComUserIdNuloOuVazio() {
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 2, 18);
 
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(null, inicio, fim));
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas("", inicio, fim));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(null, inicio, fim, null, null));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado("", inicio, fim, null, null));
         }
 
         @Test
@@ -372,8 +432,8 @@ class ReceitaServiceUnitTest {
             String userId = user.getUuid();
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 2, 18);
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, null, fim));
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, null, fim, null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, null, null, null));
         }
 
         @Test
@@ -382,35 +442,20 @@ class ReceitaServiceUnitTest {
             LocalDate inicio = LocalDate.of(2024, 1, 10);
             LocalDate fim = LocalDate.of(2024, 1, 5);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, fim));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, null));
         }
 
         @Test
-        void buscarReceitasPorIntervaloDeDatas_DeveLancarReceitaOperationException_QuandoRepositorioFalhar() {
+        void buscarReceitasPorIntervaloDeDatasPaginado_DeveLancarReceitaOperationException_QuandoRepositorioFalhar() {
             // Arrange
             String userId = UUID.randomUUID().toString();
             LocalDate inicio = LocalDate.of(2024, 1, 1);
             LocalDate fim = LocalDate.of(2024, 12, 31);
 
-            when(receitaRepository.findByUserAndDateRange(userId, inicio, fim)).thenThrow(new RuntimeException("Erro no repositório"));
+            when(receitaRepository.findPaginaByUserAndDateRange(eq(userId), eq(inicio), eq(fim), any(), anyInt())).thenThrow(new RuntimeException("Erro no repositório"));
 
             // Act & Assert
-            assertThrows(ReceitaOperationException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatas(userId, inicio, fim));
-        }
-
-        @Test
-        void deveBuscarReceitasPorIntervaloDeValores() {
-            when(receitaRepository.findByUserAndValueBetween(anyString(), any(BigDecimal.class), any(BigDecimal.class)))
-                    .thenReturn(List.of(receita));
-
-            BigDecimal min = BigDecimal.valueOf(100);
-            BigDecimal max = BigDecimal.valueOf(150);
-
-            List<ReceitaEntity> receitas = receitaService.buscarReceitasPorIntervaloDeValores(user.getUuid(), min, max);
-
-            assertNotNull(receitas);
-            assertEquals(1, receitas.size());
-            assertEquals(BigDecimal.valueOf(10000).stripTrailingZeros(), receitas.get(0).getValor().stripTrailingZeros());
+            assertThrows(ReceitaOperationException.class, () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, null));
         }
 
         @Test
@@ -418,8 +463,8 @@ class ReceitaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(null, min, max));
-            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores("", min, max));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(null, min, max, null, null));
+            assertThrows(InvalidUserIdException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado("", min, max, null, null));
         }
 
         @Test
@@ -428,8 +473,8 @@ class ReceitaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, null, max));
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, null, max, null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, null, null, null));
         }
 
         @Test
@@ -438,8 +483,8 @@ class ReceitaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(150);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, BigDecimal.ZERO, max));
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, BigDecimal.ZERO));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, BigDecimal.ZERO, max, null, null));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, BigDecimal.ZERO, null, null));
         }
 
         @Test
@@ -448,20 +493,59 @@ class ReceitaServiceUnitTest {
             BigDecimal min = BigDecimal.valueOf(200);
             BigDecimal max = BigDecimal.valueOf(100);
 
-            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max));
+            assertThrows(InvalidDataException.class, () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max, null, null));
         }
 
         @Test
-        void buscarReceitasPorIntervaloDeValores_DeveLancarReceitaOperationException_QuandoRepositorioFalhar() {
-            // Arrange
+        void deveBuscarReceitasPorIntervaloDeDatasPaginado() {
+            String userId = user.getUuid();
+            LocalDate inicio = LocalDate.of(2025, 1, 1);
+            LocalDate fim = LocalDate.of(2025, 1, 31);
+            when(receitaRepository.findPaginaByUserAndDateRange(userId, inicio, fim, null, 3)).thenReturn(List.of(
+                    novoReceitaDTO("a", inicio), novoReceitaDTO("b", inicio), novoReceitaDTO("c", fim)));
+
+            PaginaDTO<ReceitaDTO> pagina = receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, inicio, fim, null, 2);
+
+            assertEquals(2, pagina.itens().size());
+            assertNotNull(pagina.proximoCursor());
+            assertThrows(InvalidDataException.class,
+                    () -> receitaService.buscarReceitasPorIntervaloDeDatasPaginado(userId, fim, inicio, null, 2));
+        }
+
+        @Test
+        void deveBuscarReceitasPorIntervaloDeValoresPaginado() {
+            String userId = user.getUuid();
+            BigDecimal min = BigDecimal.valueOf(100);
+            BigDecimal max = BigDecimal.valueOf(200);
+            when(receitaRepository.findPaginaByUserAndValueBetween(userId, min, max, null, 3))
+                    .thenReturn(List.of(novoReceitaDTO("a", LocalDate.of(2025, 1, 1))));
+
+            PaginaDTO<ReceitaDTO> pagina = receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max, null, 2);
+
+            assertEquals(1, pagina.itens().size());
+            assertNull(pagina.proximoCursor());
+            assertThrows(InvalidDataException.class,
+                    () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, max, min, null, 2));
+        }
+
+        @Test
+        void buscarReceitasPorIntervaloDeValoresPaginado_DeveLancarReceitaOperationException_QuandoRepositorioFalhar() {
             String userId = UUID.randomUUID().toString();
             BigDecimal min = BigDecimal.valueOf(100);
             BigDecimal max = BigDecimal.valueOf(200);
 
-            when(receitaRepository.findByUserAndValueBetween(userId, min, max)).thenThrow(new RuntimeException("Erro no repositório"));
+            when(receitaRepository.findPaginaByUserAndValueBetween(eq(userId), eq(min), eq(max), any(), anyInt()))
+                    .thenThrow(new RuntimeException("Erro no repositório"));
 
-            // Act & Assert
-            assertThrows(ReceitaOperationException.class, () -> receitaService.buscarReceitasPorIntervaloDeValores(userId, min, max));
+            assertThrows(ReceitaOperationException.class,
+                    () -> receitaService.buscarReceitasPorIntervaloDeValoresPaginado(userId, min, max, null, null));
         }
     }
-}
\ No newline at end of file
+
+    private ReceitaDTO novoReceitaDTO(String uuid, LocalDate data) {
+        ReceitaDTO dto = new ReceitaDTO();
+        dto.setUuid(uuid);
+        dto.setData(data);
+        return dto;
+    }
+}
@@ -0,0 +1,306 @@
+package br.com.gestorfinanceiro.services.ResumoMensalServiceTest;
+
+import br.com.gestorfinanceiro.dto.admin.ConsistenciaResumoDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaCreateDTO;
+import br.com.gestorfinanceiro.dto.despesa.DespesaUpdateDTO;
+import br.com.gestorfinanceiro.models.CategoriaEntity;
+import br.com.gestorfinanceiro.models.DespesaEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalEntity;
+import br.com.gestorfinanceiro.models.ResumoMensalId;
+import br.com.gestorfinanceiro.models.UserEntity;
+import br.com.gestorfinanceiro.models.enums.CategoriaType;
+import br.com.gestorfinanceiro.models.enums.Roles;
+import br.com.gestorfinanceiro.repositories.CategoriaRepository;
+import br.com.gestorfinanceiro.repositories.DespesaRepository;
+import br.com.gestorfinanceiro.repositories.ReceitaRepository;
+import br.com.gestorfinanceiro.repositories.ResumoMensalRepository;
+import br.com.gestorfinanceiro.repositories.UserRepository;
+import br.com.gestorfinanceiro.services.DespesaService;
+import br.com.gestorfinanceiro.services.ResumoMensalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ResumoMensalServiceIntegrationTest {
+
+    private static final YearMonth MARCO = YearMonth.of(2025, 3);
+    private static final YearMonth ABRIL = YearMonth.of(2025, 4);
+
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Autowired
+    private DespesaService despesaService;
+
+    @Autowired
+    private DespesaRepository despesaRepository;
+
+    @Autowired
+    private ReceitaRepository receitaRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserEntity user;
+    private CategoriaEntity alimentacao;
+    private CategoriaEntity transporte;
+
+    @BeforeEach
+    void setUp() {
+        limparBaseDeDados();
+
+        user = criarUsuarioTest();
+        alimentacao = criarCategoriaTest("Alimentacao");
+        transporte = criarCategoriaTest("Transporte");
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBaseDeDados();
+    }
+
+    private void limparBaseDeDados() {
+        resumoMensalRepository.deleteAllInBatch();
+        despesaRepository.deleteAllInBatch();
+        receitaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    class ManutencaoIncremental {
+        @Test
+        void deveSomarDespesasDoMesmoMesECategoria() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            criarDespesa(120, MARCO.atDay(20), alimentacao);
+
+            ResumoMensalEntity resumo = buscarResumo(alimentacao, MARCO);
+
+            assertEquals(0, BigDecimal.valueOf(170).compareTo(resumo.getTotal()));
+            assertEquals(2, resumo.getQuantidade());
+            assertEquals(0, BigDecimal.valueOf(120).compareTo(resumo.getMaiorValor()));
+        }
+
+        @Test
+        void deveMoverDespesaEntreMesesECategorias() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            DespesaEntity despesa = criarDespesa(80, MARCO.atDay(10), alimentacao);
+
+            despesaService.atualizarDespesa(despesa.getUuid(), criarUpdateDTO(80, ABRIL.atDay(2), transporte));
+
+            ResumoMensalEntity origem = buscarResumo(alimentacao, MARCO);
+            assertEquals(0, BigDecimal.valueOf(50).compareTo(origem.getTotal()));
+            assertEquals(1, origem.getQuantidade());
+            assertEquals(0, BigDecimal.valueOf(50).compareTo(origem.getMaiorValor()));
+
+            ResumoMensalEntity destino = buscarResumo(transporte, ABRIL);
+            assertEquals(0, BigDecimal.valueOf(80).compareTo(destino.getTotal()));
+            assertEquals(1, destino.getQuantidade());
+        }
+
+        @Test
+        void deveRecalcularMaiorValorAoReduzirOMaiorLancamento() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            DespesaEntity maior = criarDespesa(200, MARCO.atDay(10), alimentacao);
+
+            despesaService.atualizarDespesa(maior.getUuid(), criarUpdateDTO(30, MARCO.atDay(10), alimentacao));
+
+            ResumoMensalEntity resumo = buscarResumo(alimentacao, MARCO);
+            assertEquals(0, BigDecimal.valueOf(80).compareTo(resumo.getTotal()));
+            assertEquals(2, resumo.getQuantidade());
+            assertEquals(0, BigDecimal.valueOf(50).compareTo(resumo.getMaiorValor()));
+        }
+
+        @Test
+        void deveRecalcularMaiorValorAoExcluirOMaiorLancamento() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            criarDespesa(70, MARCO.atDay(6), alimentacao);
+            DespesaEntity maior = criarDespesa(200, MARCO.atDay(10), alimentacao);
+
+            despesaService.excluirDespesa(maior.getUuid());
+
+            ResumoMensalEntity resumo = buscarResumo(alimentacao, MARCO);
+            assertEquals(0, BigDecimal.valueOf(120).compareTo(resumo.getTotal()));
+            assertEquals(2, resumo.getQuantidade());
+            assertEquals(0, BigDecimal.valueOf(70).compareTo(resumo.getMaiorValor()));
+        }
+
+        @Test
+        void deveRemoverResumoAoExcluirUltimoLancamento() {
+            DespesaEntity despesa = criarDespesa(50, MARCO.atDay(5), alimentacao);
+
+            despesaService.excluirDespesa(despesa.getUuid());
+
+            assertTrue(resumoMensalRepository.findAllByIdUserId(user.getUuid()).isEmpty());
+        }
+
+        @Test
+        void naoDeveGerarDivergenciasAposEscritasPelosServices() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            DespesaEntity despesa = criarDespesa(90, MARCO.atDay(15), alimentacao);
+            criarDespesa(30, ABRIL.atDay(1), transporte);
+
+            despesaService.atualizarDespesa(despesa.getUuid(), criarUpdateDTO(95, ABRIL.atDay(30), transporte));
+
+            assertTrue(resumoMensalService.verificar(user.getUuid()).isEmpty());
+        }
+
+        @Test
+        void deveSomarQuandoOutraTransacaoCriaOResumoEntreALeituraEOInsert() {
+            TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+            ResumoMensalId id = new ResumoMensalId(user.getUuid(), alimentacao.getUuid(), MARCO, CategoriaType.DESPESAS);
+
+            transacao.executeWithoutResult(status -> {
+                assertNull(resumoMensalRepository.findByIdParaAtualizacao(id));
+
+                // Outra requisição cria o mesmo resumo e confirma antes desta inserir
+                CompletableFuture.runAsync(() -> transacao.executeWithoutResult(outra ->
+                        resumoMensalService.adicionar(CategoriaType.DESPESAS, user.getUuid(), alimentacao.getUuid(),
+                                MARCO.atDay(1), BigDecimal.valueOf(30))))
+                        .join();
+
+                resumoMensalRepository.somar(new ResumoMensalEntity(id, BigDecimal.valueOf(50), 1, BigDecimal.valueOf(50)));
+            });
+
+            ResumoMensalEntity resumo = buscarResumo(alimentacao, MARCO);
+            assertEquals(0, BigDecimal.valueOf(80).compareTo(resumo.getTotal()));
+            assertEquals(2, resumo.getQuantidade());
+            assertEquals(0, BigDecimal.valueOf(50).compareTo(resumo.getMaiorValor()));
+        }
+
+        @Test
+        void deveManterLancamentosSemCategoriaNosTotais() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            DespesaEntity semCategoria = despesaRepository.save(novaDespesa(40, MARCO.atDay(8), null));
+            despesaRepository.save(novaDespesa(25, MARCO.atDay(9), null));
+            resumoMensalService.reconstruir(user.getUuid());
+
+            assertEquals(0, BigDecimal.valueOf(115).compareTo(
+                    resumoMensalRepository.sumTotalByUserIdAndYearMonth(user.getUuid(), CategoriaType.DESPESAS, MARCO)));
+
+            despesaService.excluirDespesa(semCategoria.getUuid());
+
+            ResumoMensalEntity resumo = resumoMensalRepository.findById(new ResumoMensalId(user.getUuid(),
+                    ResumoMensalId.SEM_CATEGORIA, MARCO, CategoriaType.DESPESAS)).orElseThrow();
+            assertEquals(0, BigDecimal.valueOf(25).compareTo(resumo.getTotal()));
+            assertEquals(1, resumo.getQuantidade());
+            assertEquals(0, BigDecimal.valueOf(25).compareTo(resumo.getMaiorValor()));
+            assertTrue(resumoMensalService.verificar(user.getUuid()).isEmpty());
+        }
+    }
+
+    @Nested
+    class ConsistenciaEReparo {
+        @Test
+        void deveDetectarEReconstruirLancamentosGravadosForaDosServices() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+            // Escrita direta no repositório não atualiza o resumo
+            despesaRepository.save(novaDespesa(40, MARCO.atDay(8), alimentacao));
+
+            List<ResumoMensalId> divergentes = resumoMensalService.verificar(user.getUuid());
+            assertEquals(1, divergentes.size());
+
+            ConsistenciaResumoDTO resultado = resumoMensalService.reparar();
+
+            assertEquals(1, resultado.getUsuariosDivergentes());
+            assertEquals(1, resultado.getUsuariosReconstruidos());
+            assertTrue(resumoMensalService.verificar(user.getUuid()).isEmpty());
+
+            ResumoMensalEntity resumo = buscarResumo(alimentacao, MARCO);
+            assertEquals(0, BigDecimal.valueOf(90).compareTo(resumo.getTotal()));
+            assertEquals(2, resumo.getQuantidade());
+        }
+
+        @Test
+        void naoDeveReconstruirQuandoResumoEstaConsistente() {
+            criarDespesa(50, MARCO.atDay(5), alimentacao);
+
+            ConsistenciaResumoDTO resultado = resumoMensalService.verificarConsistencia();
+
+            assertEquals(0, resultado.getUsuariosDivergentes());
+            assertEquals(0, resultado.getUsuariosReconstruidos());
+            assertTrue(resultado.getDivergencias().isEmpty());
+        }
+    }
+
+    //----------------- Métodos Auxiliares -----------------//
+
+    private ResumoMensalEntity buscarResumo(CategoriaEntity categoria, YearMonth mes) {
+        return resumoMensalRepository.findById(
+                        new ResumoMensalId(user.getUuid(), categoria.getUuid(), mes, CategoriaType.DESPESAS))
+                .orElseThrow();
+    }
+
+    private DespesaEntity criarDespesa(int valor, LocalDate data, CategoriaEntity categoria) {
+        DespesaCreateDTO dto = new DespesaCreateDTO();
+        dto.setValor(BigDecimal.valueOf(valor));
+        dto.setData(data);
+        dto.setCategoria(categoria.getNome());
+        dto.setDestinoPagamento("Mercado");
+        dto.setObservacoes("Teste");
+        return despesaService.criarDespesa(dto, user.getUuid());
+    }
+
+    private DespesaUpdateDTO criarUpdateDTO(int valor, LocalDate data, CategoriaEntity categoria) {
+        DespesaUpdateDTO dto = new DespesaUpdateDTO();
+        dto.setValor(BigDecimal.valueOf(valor));
+        dto.setData(data);
+        dto.setCategoria(categoria.getNome());
+        dto.setDestinoPagamento("Mercado");
+        dto.setObservacoes("Teste");
+        return dto;
+    }
+
+    private DespesaEntity novaDespesa(int valor, LocalDate data, CategoriaEntity categoria) {
+        DespesaEntity despesa = new DespesaEntity();
+        despesa.setValor(BigDecimal.valueOf(valor));
+        despesa.setData(data);
+        despesa.setCategoria(categoria);
+        despesa.setDestinoPagamento("Mercado");
+        despesa.setObservacoes("Teste");
+        despesa.setUser(user);
+        return despesa;
+    }
+
+    private UserEntity criarUsuarioTest() {
+        UserEntity userTest = new UserEntity();
+        userTest.setUsername("Resumo");
+        userTest.setEmail("resumo@gmail.com");
+        userTest.setPassword("123456");
+        userTest.setRole(Roles.USER);
+        return userRepository.save(userTest);
+    }
+
+    private CategoriaEntity criarCategoriaTest(String nome) {
+        CategoriaEntity categoria = new CategoriaEntity();
+        categoria.setNome(nome);
+        categoria.setTipo(CategoriaType.DESPESAS);
+        categoria.setUser(user);
+        return categoriaRepository.save(categoria);
+    }
+}
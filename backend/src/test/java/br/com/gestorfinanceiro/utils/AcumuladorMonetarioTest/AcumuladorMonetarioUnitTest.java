@@ -0,0 +1,55 @@
+package br.com.gestorfinanceiro.utils.AcumuladorMonetarioTest;
+
+import br.com.gestorfinanceiro.utils.AcumuladorMonetario;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcumuladorMonetarioUnitTest {
+
+    @Test
+    void deveConverterValoresComScaleAteOScaleDaColuna() {
+        assertEquals(1_234_500L, AcumuladorMonetario.unidades(new BigDecimal("123.45")));
+        assertEquals(1_234_567L, AcumuladorMonetario.unidades(new BigDecimal("123.4567")));
+        assertEquals(1_230_000L, AcumuladorMonetario.unidades(new BigDecimal("123")));
+        assertEquals(-1_500L, AcumuladorMonetario.unidades(new BigDecimal("-0.15")));
+        assertEquals(0L, AcumuladorMonetario.unidades(BigDecimal.ZERO));
+    }
+
+    @Test
+    void deveArredondarCasasAlemDoScaleDaColuna() {
+        assertEquals(1_234_568L, AcumuladorMonetario.unidades(new BigDecimal("123.45675")));
+        assertEquals(1_234_567L, AcumuladorMonetario.unidades(new BigDecimal("123.45674999")));
+        assertEquals(-1L, AcumuladorMonetario.unidades(new BigDecimal("-0.00005")));
+    }
+
+    @Test
+    void deveConverterValoresComScaleNegativo() {
+        assertEquals(12_000_000L, AcumuladorMonetario.unidades(new BigDecimal("1.2E+3")));
+    }
+
+    @Test
+    void erroAoConverterValorForaDoIntervalo() {
+        // Cabe em long como unscaled, mas estoura ao multiplicar pela potência de dez
+        BigDecimal valor = BigDecimal.valueOf(Long.MAX_VALUE / 10, 2);
+
+        assertThrows(ArithmeticException.class, () -> AcumuladorMonetario.unidades(valor));
+        assertThrows(ArithmeticException.class, () -> AcumuladorMonetario.unidades(new BigDecimal("1E+30")));
+    }
+
+    @Test
+    void deveSomarContarEGuardarMaiorValorPorChave() {
+        AcumuladorMonetario<String> acumulador = new AcumuladorMonetario<>(1);
+        acumulador.adicionar("Alimentacao", new BigDecimal("10.50"));
+        acumulador.adicionar("Transporte", new BigDecimal("3"));
+        acumulador.adicionar("Alimentacao", new BigDecimal("20.2500"));
+
+        int alimentacao = acumulador.indice("Alimentacao");
+        assertEquals(0, new BigDecimal("30.75").compareTo(acumulador.total(alimentacao)));
+        assertEquals(2, acumulador.quantidade(alimentacao));
+        assertEquals(0, new BigDecimal("20.25").compareTo(acumulador.maiorValor(alimentacao)));
+        assertEquals(2, acumulador.tamanho());
+    }
+}
@@ -0,0 +1,44 @@
+-- Verificação manual dos planos do dashboard no PostgreSQL com uma massa sintética grande.
+-- Executar em um banco descartável com o schema criado pela aplicação:
+--   psql -d gestorfinanceiro_db -f explain-dashboard-postgres.sql
+-- Esperado: "Index Only Scan" / "Index Scan" em idx_despesas_user_data_valor com
+-- "Index Cond: ((user_id = ...) AND (data >= ...) AND (data < ...))".
+
+BEGIN;
+
+INSERT INTO users (uuid, username, email, password, role, esta_ativo)
+SELECT 'bench-user-' || u, 'bench' || u, 'bench' || u || '@gmail.com', 'x', 'USER', true
+FROM generate_series(1, 500) AS u;
+
+INSERT INTO categorias (uuid, nome, tipo, user_id, is_sem_categoria)
+SELECT 'bench-cat-' || u, 'Alimentacao', 'DESPESAS', 'bench-user-' || u, false
+FROM generate_series(1, 500) AS u;
+
+-- 500 usuários x 2000 despesas = 1 milhão de linhas
+INSERT INTO despesas (uuid, data, categoria_id, valor, destino_pagamento, observacoes, user_id)
+SELECT gen_random_uuid()::text,
+       DATE '2019-01-01' + (i % 2000),
+       'bench-cat-' || u,
+       (random() * 1000)::numeric(19, 4),
+       'Mercado',
+       'Lançamento sintético',
+       'bench-user-' || u
+FROM generate_series(1, 500) AS u, generate_series(1, 2000) AS i;
+
+ANALYZE despesas;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT SUM(valor) FROM despesas
+WHERE user_id = 'bench-user-42' AND data >= DATE '2021-03-01' AND data < DATE '2021-04-01';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM despesas
+WHERE user_id = 'bench-user-42' AND data >= DATE '2021-03-01' AND data < DATE '2021-04-01'
+ORDER BY valor DESC LIMIT 1;
+
+-- Para comparação: a forma antiga, com funções sobre a coluna, só usa o índice pelo user_id
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT SUM(valor) FROM despesas
+WHERE user_id = 'bench-user-42' AND EXTRACT(YEAR FROM data) = 2021 AND EXTRACT(MONTH FROM data) = 3;
+
+ROLLBACK;
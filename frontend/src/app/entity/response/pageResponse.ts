@@ -0,0 +1,4 @@
+export interface Page<T> {
+  itens: T[];
+  proximoCursor: string | null;
+}
@@ -58,8 +58,11 @@ export class CostTargetsComponent implements OnInit{
     }
   }
 
+  // Só os meses dos limites cadastrados, mas com todas as páginas: isLimitExceeded soma o mês inteiro
   async loadExpenses() {
-    const response = await this.expenseService.getExpenses();
+    const response = await this.expenseService.getExpensesByPeriods(
+      this.expensesTarget.map(target => target.periodo)
+    );
     if (response) {
       this.expenses = response;
     }
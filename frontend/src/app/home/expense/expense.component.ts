@@ -39,6 +39,9 @@ export class ExpenseComponent implements OnInit, OnDestroy {
   filteredExpenses: Expense[] = [];
   filteredBarData: Expense[] = [];
   filteredList: Expense[] = []; // Lista para filtro de valor e data
+  nextCursor: string | null = null; // Próxima página da lista; null na última
+  filteredNextCursor: string | null = null;
+  loadingMore = false;
 
   // Propriedades para datas e gráficos
   startDate: string = '';
@@ -123,13 +126,29 @@ export class ExpenseComponent implements OnInit, OnDestroy {
   async loadExpenses() {
     const response = await this.expenseService.getExpenses();
     if (response) {
-      this.expenses = response;
+      this.expenses = response.itens;
+      this.nextCursor = response.proximoCursor;
       this.filteredExpenses = [...this.expenses];
       this.filteredBarData = [...this.expenses];
       await this.loadBudgetGoals();
     }
   }
 
+  // "Carregar mais": acrescenta a próxima página à lista
+  async loadMoreExpenses() {
+    if (!this.nextCursor || this.loadingMore) return;
+    this.loadingMore = true;
+    try {
+      const response = await this.expenseService.getExpenses(this.nextCursor);
+      if (response) {
+        this.expenses = [...this.expenses, ...response.itens];
+        this.nextCursor = response.proximoCursor;
+      }
+    } finally {
+      this.loadingMore = false;
+    }
+  }
+
   async loadCategories() {
     const response = await this.customCategoryService.getAllExpenseCategories();
     if (response) {
@@ -318,10 +337,12 @@ export class ExpenseComponent implements OnInit, OnDestroy {
 
       try {
         const response = await this.expenseService.getExpensesByValueInterval(this.minValue, this.maxValue);
-        this.filteredList = response || [];
+        this.filteredList = response?.itens || [];
+        this.filteredNextCursor = response?.proximoCursor || null;
       } catch (error) {
         console.error("Erro ao filtrar por valores:", error);
         this.filteredList = [];
+        this.filteredNextCursor = null;
       }
     } else {
       alert('Por favor, informe os valores mínimo e máximo para filtrar.');
@@ -340,10 +361,12 @@ export class ExpenseComponent implements OnInit, OnDestroy {
           this.filterStartDate,
           this.filterEndDate
         );
-        this.filteredList = response || [];
+        this.filteredList = response?.itens || [];
+        this.filteredNextCursor = response?.proximoCursor || null;
       } catch (error) {
         console.error("Erro ao filtrar por datas:", error);
         this.filteredList = [];
+        this.filteredNextCursor = null;
       }
     } else {
       alert('Por favor, informe as datas inicial e final para filtrar.');
@@ -358,6 +381,24 @@ export class ExpenseComponent implements OnInit, OnDestroy {
     this.filterEndDate = '';
     this.filterType = null;
     this.filteredList = [];
+    this.filteredNextCursor = null;
+  }
+
+  // "Carregar mais" dos filtros avançados, com o mesmo filtro da primeira página
+  async loadMoreFiltered() {
+    if (!this.filteredNextCursor || this.loadingMore) return;
+    this.loadingMore = true;
+    try {
+      const response = this.filterType === 'date'
+        ? await this.expenseService.getExpensesByDateInterval(this.filterStartDate, this.filterEndDate, this.filteredNextCursor)
+        : await this.expenseService.getExpensesByValueInterval(this.minValue!, this.maxValue!, this.filteredNextCursor);
+      if (response) {
+        this.filteredList = [...this.filteredList, ...response.itens];
+        this.filteredNextCursor = response.proximoCursor;
+      }
+    } finally {
+      this.loadingMore = false;
+    }
   }
 
   // ---------------------- Métodos de Manipulação de Despesas ----------------------
@@ -479,15 +520,16 @@ export class ExpenseComponent implements OnInit, OnDestroy {
   async checkBudgetWarnings() {
     let warnings: string[] = [];
 
-    const [budgetGoals, expenses] = await Promise.all([
-      this.loadBudgetGoals(), 
-      this.loadExpenses()     
-    ]);
+    // A lista da tela tem só as páginas carregadas; os totais precisam de todas as despesas dos meses com limite
+    await this.loadBudgetGoals();
+    const despesasDosLimites = await this.expenseService.getExpensesByPeriods(
+      this.budgetGoals.map(goal => goal.periodo)
+    ) || [];
 
     this.budgetGoals.forEach(goal => {
       const [goalYear, goalMonth] = goal.periodo.split('-').map(Number);
   
-      const despesasFiltradas = this.expenses.filter(expense => {
+      const despesasFiltradas = despesasDosLimites.filter(expense => {
         const expenseDate = new Date(expense.data);
         const expenseYear = expenseDate.getFullYear();
 
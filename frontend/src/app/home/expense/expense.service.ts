@@ -3,6 +3,7 @@ import { AuthService } from '../../auth/auth.service';
 import { Expense } from '../../entity/expense';
 import { PizzaGraphic } from '../../entity/response/pizzaResponse';
 import { BarsGraphic } from '../../entity/response/barsResponse';
+import { Page } from '../../entity/response/pageResponse';
 import { environment } from '../../../../environments/environment';
 
 @Injectable({
@@ -102,20 +103,10 @@ export class ExpenseService {
       }
     }
   
-    async getExpenses(): Promise<Expense[] | null> {
+    // Uma página por chamada: o cursor devolvido em proximoCursor busca a seguinte ("Carregar mais")
+    async getExpenses(cursor: string | null = null): Promise<Page<Expense> | null> {
       try {
-        const response = await fetch(`${this.apiUrl}`, {
-          method: 'GET',
-          headers: { 
-            'Authorization': `Bearer ${this.authService.getToken()}`
-          }
-        });
-    
-        if (!response.ok) {
-          throw new Error('Falha ao buscar despesas');
-        }
-        
-        return await response.json();
+        return await this.fetchPage(`${this.apiUrl}`, cursor, 'Falha ao buscar despesas');
       } catch (error) {
         console.error('Erro ao buscar despesas:', error);
         return null;
@@ -162,49 +153,79 @@ export class ExpenseService {
       }
     }
   
-    async getExpensesByDateInterval(inicio: string, fim: string): Promise<Expense[] | null> {
+    async getExpensesByDateInterval(inicio: string, fim: string, cursor: string | null = null): Promise<Page<Expense> | null> {
       try {
-        const response = await fetch(
+        return await this.fetchPage(
           `${this.apiUrl}/por-intervalo-de-datas?inicio=${inicio}&fim=${fim}`,
-          {
-            method: 'GET',
-            headers: {
-              Authorization: `Bearer ${this.authService.getToken()}`,
-            },
-          }
+          cursor,
+          'Falha ao buscar receitas por intervalo de datas'
         );
-        
-        if (!response.ok) {
-          throw new Error('Falha ao buscar receitas por intervalo de datas');
-        }
-        
-        return await response.json();
       } catch (error) {
         console.error('Erro ao buscar receitas por intervalo de datas:', error);
         return null;
       }
     }
   
-    async getExpensesByValueInterval(min: number, max: number): Promise<Expense[] | null> {
+    async getExpensesByValueInterval(min: number, max: number, cursor: string | null = null): Promise<Page<Expense> | null> {
       try {
-        const response = await fetch(
+        return await this.fetchPage(
           `${this.apiUrl}/por-intervalo-de-valores?min=${min}&max=${max}`,
-          {
-            method: 'GET',
-            headers: {
-              Authorization: `Bearer ${this.authService.getToken()}`,
-            },
-          }
+          cursor,
+          'Falha ao buscar receitas por intervalo de valores'
         );
-        
-        if (!response.ok) {
-          throw new Error('Falha ao buscar receitas por intervalo de valores');
-        }
-        
-        return await response.json();
       } catch (error) {
         console.error('Erro ao buscar receitas por intervalo de valores:', error);
         return null;
       }
     }
+
+    // Os limites de gasto comparam o total do mês inteiro, então aqui todas as páginas são buscadas,
+    // mas só do intervalo entre o primeiro e o último período (yyyy-MM) informados
+    async getExpensesByPeriods(periodos: string[]): Promise<Expense[] | null> {
+      if (periodos.length === 0) {
+        return [];
+      }
+
+      const ordenados = [...periodos].sort();
+      const [anoFim, mesFim] = ordenados[ordenados.length - 1].split('-').map(Number);
+      const ultimoDia = new Date(anoFim, mesFim, 0).getDate();
+      const url = `${this.apiUrl}/por-intervalo-de-datas?inicio=${ordenados[0]}-01`
+        + `&fim=${ordenados[ordenados.length - 1]}-${String(ultimoDia).padStart(2, '0')}`;
+
+      try {
+        const expenses: Expense[] = [];
+        let cursor: string | null = null;
+        do {
+          const page: Page<Expense> = await this.fetchPage(url, cursor, 'Falha ao buscar despesas dos limites');
+          expenses.push(...page.itens);
+          cursor = page.proximoCursor;
+        } while (cursor);
+        return expenses;
+      } catch (error) {
+        console.error('Erro ao buscar despesas dos limites:', error);
+        return null;
+      }
+    }
+
+    // As listagens vêm paginadas: o cursor da próxima página vem no header X-Proximo-Cursor, ausente na última
+    private async fetchPage(url: string, cursor: string | null, errorMessage: string): Promise<Page<Expense>> {
+      const pageUrl: string = cursor
+        ? `${url}${url.includes('?') ? '&' : '?'}cursor=${encodeURIComponent(cursor)}`
+        : url;
+      const response: Response = await fetch(pageUrl, {
+        method: 'GET',
+        headers: {
+          Authorization: `Bearer ${this.authService.getToken()}`,
+        },
+      });
+
+      if (!response.ok) {
+        throw new Error(errorMessage);
+      }
+
+      return {
+        itens: await response.json(),
+        proximoCursor: response.headers.get('X-Proximo-Cursor'),
+      };
+    }
 }
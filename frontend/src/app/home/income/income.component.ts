@@ -35,6 +35,9 @@ export class IncomeComponent implements OnInit, OnDestroy {
   filteredIncomes: Income[] = [];
   filteredBarData: Income[] = [];
   filteredList: Income[] = []; // Lista para filtro de valor e data
+  nextCursor: string | null = null; // Próxima página da lista; null na última
+  filteredNextCursor: string | null = null;
+  loadingMore = false;
 
   // Propriedades para datas e gráficos
   startDate: string = '';
@@ -119,12 +122,28 @@ export class IncomeComponent implements OnInit, OnDestroy {
   async loadIncomes() {
     const response = await this.incomeService.getIncomes();
     if (response) {
-      this.incomes = response;
+      this.incomes = response.itens;
+      this.nextCursor = response.proximoCursor;
       this.filteredIncomes = [...this.incomes];
       this.filteredBarData = [...this.incomes];
     }
   }
 
+  // "Carregar mais": acrescenta a próxima página à lista
+  async loadMoreIncomes() {
+    if (!this.nextCursor || this.loadingMore) return;
+    this.loadingMore = true;
+    try {
+      const response = await this.incomeService.getIncomes(this.nextCursor);
+      if (response) {
+        this.incomes = [...this.incomes, ...response.itens];
+        this.nextCursor = response.proximoCursor;
+      }
+    } finally {
+      this.loadingMore = false;
+    }
+  }
+
   async loadCategories() {
     const response = await this.customCategoryService.getAllIncomeCategories();
     if (response) {
@@ -302,10 +321,12 @@ export class IncomeComponent implements OnInit, OnDestroy {
 
       try {
         const response = await this.incomeService.getIncomesByValueInterval(this.minValue, this.maxValue);
-        this.filteredList = response || [];
+        this.filteredList = response?.itens || [];
+        this.filteredNextCursor = response?.proximoCursor || null;
       } catch (error) {
         console.error("Erro ao filtrar por valores:", error);
         this.filteredList = [];
+        this.filteredNextCursor = null;
       }
     } else {
       alert('Por favor, informe os valores mínimo e máximo para filtrar.');
@@ -324,10 +345,12 @@ export class IncomeComponent implements OnInit, OnDestroy {
           this.filterStartDate,
           this.filterEndDate
         );
-        this.filteredList = response || [];
+        this.filteredList = response?.itens || [];
+        this.filteredNextCursor = response?.proximoCursor || null;
       } catch (error) {
         console.error("Erro ao filtrar por datas:", error);
         this.filteredList = [];
+        this.filteredNextCursor = null;
       }
     } else {
       alert('Por favor, informe as datas inicial e final para filtrar.');
@@ -342,6 +365,24 @@ export class IncomeComponent implements OnInit, OnDestroy {
     this.filterEndDate = '';
     this.filterType = null;
     this.filteredList = [];
+    this.filteredNextCursor = null;
+  }
+
+  // "Carregar mais" dos filtros avançados, com o mesmo filtro da primeira página
+  async loadMoreFiltered() {
+    if (!this.filteredNextCursor || this.loadingMore) return;
+    this.loadingMore = true;
+    try {
+      const response = this.filterType === 'date'
+        ? await this.incomeService.getIncomesByDateInterval(this.filterStartDate, this.filterEndDate, this.filteredNextCursor)
+        : await this.incomeService.getIncomesByValueInterval(this.minValue!, this.maxValue!, this.filteredNextCursor);
+      if (response) {
+        this.filteredList = [...this.filteredList, ...response.itens];
+        this.filteredNextCursor = response.proximoCursor;
+      }
+    } finally {
+      this.loadingMore = false;
+    }
   }
 
   // ---------------------- Métodos de Manipulação de Receitas ----------------------
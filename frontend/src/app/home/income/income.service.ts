@@ -3,6 +3,7 @@ import { AuthService } from '../../auth/auth.service';
 import { Income } from '../../entity/income';
 import { PizzaGraphic } from '../../entity/response/pizzaResponse';
 import { BarsGraphic } from '../../entity/response/barsResponse';
+import { Page } from '../../entity/response/pageResponse';
 import { environment } from '../../../../environments/environment';
 
 @Injectable({
@@ -78,17 +79,10 @@ export class IncomeService {
     }
   }
 
-  async getIncomes(): Promise<Income[] | null> {
+  // Uma página por chamada: o cursor devolvido em proximoCursor busca a seguinte ("Carregar mais")
+  async getIncomes(cursor: string | null = null): Promise<Page<Income> | null> {
     try {
-      const response = await fetch(`${this.apiUrl}`, {
-        method: 'GET',
-        headers: {
-          Authorization: `Bearer ${this.authService.getToken()}`,
-        },
-      });
-
-      if (!response.ok) throw new Error('Falha ao buscar receitas');
-      return await response.json();
+      return await this.fetchPage(`${this.apiUrl}`, cursor, 'Falha ao buscar receitas');
     } catch (error) {
       console.error('Erro ao buscar receitas:', error);
       return null;
@@ -149,24 +143,15 @@ export class IncomeService {
 
   async getIncomesByDateInterval(
     inicio: string,
-    fim: string
-  ): Promise<Income[] | null> {
+    fim: string,
+    cursor: string | null = null
+  ): Promise<Page<Income> | null> {
     try {
-      const response = await fetch(
+      return await this.fetchPage(
         `${this.apiUrl}/por-intervalo-de-datas?inicio=${inicio}&fim=${fim}`,
-        {
-          method: 'GET',
-          headers: {
-            Authorization: `Bearer ${this.authService.getToken()}`,
-          },
-        }
+        cursor,
+        'Falha ao buscar receitas por intervalo de datas'
       );
-
-      if (!response.ok) {
-        throw new Error('Falha ao buscar receitas por intervalo de datas');
-      }
-
-      return await response.json();
     } catch (error) {
       console.error('Erro ao buscar receitas por intervalo de datas:', error);
       return null;
@@ -175,27 +160,40 @@ export class IncomeService {
 
   async getIncomesByValueInterval(
     min: number,
-    max: number
-  ): Promise<Income[] | null> {
+    max: number,
+    cursor: string | null = null
+  ): Promise<Page<Income> | null> {
     try {
-      const response = await fetch(
+      return await this.fetchPage(
         `${this.apiUrl}/por-intervalo-de-valores?min=${min}&max=${max}`,
-        {
-          method: 'GET',
-          headers: {
-            Authorization: `Bearer ${this.authService.getToken()}`,
-          },
-        }
+        cursor,
+        'Falha ao buscar receitas por intervalo de valores'
       );
-
-      if (!response.ok) {
-        throw new Error('Falha ao buscar receitas por intervalo de valores');
-      }
-
-      return await response.json();
     } catch (error) {
       console.error('Erro ao buscar receitas por intervalo de valores:', error);
       return null;
     }
   }
+
+  // As listagens vêm paginadas: o cursor da próxima página vem no header X-Proximo-Cursor, ausente na última
+  private async fetchPage(url: string, cursor: string | null, errorMessage: string): Promise<Page<Income>> {
+    const pageUrl: string = cursor
+      ? `${url}${url.includes('?') ? '&' : '?'}cursor=${encodeURIComponent(cursor)}`
+      : url;
+    const response: Response = await fetch(pageUrl, {
+      method: 'GET',
+      headers: {
+        Authorization: `Bearer ${this.authService.getToken()}`,
+      },
+    });
+
+    if (!response.ok) {
+      throw new Error(errorMessage);
+    }
+
+    return {
+      itens: await response.json(),
+      proximoCursor: response.headers.get('X-Proximo-Cursor'),
+    };
+  }
 }